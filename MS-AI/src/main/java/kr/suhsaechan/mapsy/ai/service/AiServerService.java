@@ -1,6 +1,8 @@
 package kr.suhsaechan.mapsy.ai.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import kr.suhsaechan.mapsy.ai.dto.PlaceExtractionRequest;
 import kr.suhsaechan.mapsy.ai.dto.PlaceExtractionResponse;
 import kr.suhsaechan.mapsy.common.exception.CustomException;
@@ -19,15 +21,19 @@ import java.util.UUID;
 
 /**
  * AI 서버와의 통신을 담당하는 서비스
+ * - 요청 지연 시간/결과를 mapsy.ai.dispatch 타이머로 기록 (outcome: success, http_error, error)
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AiServerService {
 
+  private static final String DISPATCH_METRIC = "mapsy.ai.dispatch";
+
   private final OkHttpClient okHttpClient;
   private final ObjectMapper objectMapper;
   private final AiServerProperties aiServerProperties;
+  private final MeterRegistry meterRegistry;
 
   /**
    * AI 서버에 장소 추출 요청을 전송합니다.
@@ -48,6 +54,8 @@ public class AiServerService {
 
     log.info("Requesting place extraction to AI server: contentId={}, snsUrl={}", contentId, snsUrl);
 
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "error";
     try {
       // JSON 직렬화
       String jsonBody = objectMapper.writeValueAsString(aiContentRequest);
@@ -65,6 +73,7 @@ public class AiServerService {
       // OkHttp로 POST 요청 실행
       try (Response httpResponse = okHttpClient.newCall(request).execute()) {
         if (!httpResponse.isSuccessful()) {
+          outcome = "http_error";
           log.error("AI server HTTP error: code={}", httpResponse.code());
           throw new CustomException(ErrorCode.EXTERNAL_API_ERROR);
         }
@@ -83,6 +92,7 @@ public class AiServerService {
         log.info("AI server accepted the request: contentId={}, received={}, status={}",
             contentId, response.getReceived(), response.getStatus());
 
+        outcome = "success";
         return response;
       }
 
@@ -92,6 +102,8 @@ public class AiServerService {
     } catch (Exception e) {
       log.error("Unexpected error during AI server call: contentId={}", contentId, e);
       throw new CustomException(ErrorCode.EXTERNAL_API_ERROR);
+    } finally {
+      sample.stop(meterRegistry.timer(DISPATCH_METRIC, "outcome", outcome));
     }
   }
 }
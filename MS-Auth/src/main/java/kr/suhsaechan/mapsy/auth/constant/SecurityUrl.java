@@ -30,10 +30,23 @@ public class SecurityUrl {
           "/v3/api-docs/**", // Swagger API 문서
           "/docs/swagger", // Swagger UI HTML
 
-          // Actuator (선택사항)
-          "/actuator/**",
+          // Actuator (헬스 체크만 공개, 나머지 엔드포인트는 ACTUATOR_PATTERN 수집 토큰 인증)
+          "/actuator/health",
+          "/actuator/health/**",
 
           // 기타 정적 리소스
           "/favicon.ico",
           "/error");
+
+  /**
+   * 관리자(ROLE_ADMIN) 전용 URL 패턴 목록
+   */
+  public static final List<String> ADMIN_PATTERNS =
+      List.of(
+          "/api/admin/**");
+
+  /**
+   * Actuator URL 패턴 (메트릭 수집 토큰으로 인증하는 별도 Security 체인, 헬스 체크는 공개)
+   */
+  public static final String ACTUATOR_PATTERN = "/actuator/**";
 }
@@ -0,0 +1,46 @@
+package kr.suhsaechan.mapsy.auth.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Actuator 메트릭 수집 토큰 인증 필터
+ * - Authorization: Bearer {metrics.scrape.token} 이 일치하면 ROLE_METRICS로 인증
+ * - 앱 JWT와 별개의 수집 전용 자격 증명 (Prometheus scrape 설정의 authorization.credentials)
+ * - 토큰이 설정되지 않았거나 일치하지 않으면 인증하지 않음 (Security 설정에서 접근 거부)
+ */
+@RequiredArgsConstructor
+public class MetricsScrapeTokenFilter extends OncePerRequestFilter {
+
+  public static final String ROLE = "METRICS";
+
+  private static final String BEARER_PREFIX = "Bearer ";
+
+  private final String scrapeToken;
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    String authorization = request.getHeader("Authorization");
+    if (scrapeToken != null && !scrapeToken.isBlank()
+        && authorization != null && authorization.startsWith(BEARER_PREFIX)
+        && MessageDigest.isEqual(
+            authorization.substring(BEARER_PREFIX.length()).trim().getBytes(StandardCharsets.UTF_8),
+            scrapeToken.getBytes(StandardCharsets.UTF_8))) {
+      SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+          "metrics-scraper", null, List.of(new SimpleGrantedAuthority("ROLE_" + ROLE))));
+    }
+    filterChain.doFilter(request, response);
+  }
+}
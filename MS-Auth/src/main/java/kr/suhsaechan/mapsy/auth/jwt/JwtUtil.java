@@ -12,6 +12,8 @@ import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -33,6 +35,7 @@ public class JwtUtil {
 
   private final CustomUserDetailsService customUserDetailsService;
   private final RedisTemplate<String, Object> redisTemplate;
+  private final MeterRegistry meterRegistry;
 
   @Value("${jwt.secret-key}")
   private String secretKey;
@@ -51,6 +54,7 @@ public class JwtUtil {
   private static final String BLACKLIST_PREFIX = "BL:";
   private static final String BLACKLIST_VALUE = "blacklisted";
   public static final String REFRESH_KEY_PREFIX = "RT:";
+  private static final String VERIFY_METRIC = "mapsy.jwt.verify";
 
   // 토큰에서 memberId 파싱
   public UUID getMemberId(String token) {
@@ -142,20 +146,26 @@ public class JwtUtil {
 
   /**
    * JWT 토큰 유효성 검사
+   * - 서명 검증 + 블랙리스트 조회 시간을 mapsy.jwt.verify 타이머로 기록 (result: valid, expired, blacklisted, invalid)
    */
   public boolean validateToken(String token) throws ExpiredJwtException {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String result = "invalid";
     try {
       Jwts.parser()
           .verifyWith(getSignKey())
           .build()
           .parseSignedClaims(token);
       if (isTokenBlacklisted(token)) {
+        result = "blacklisted";
         log.error("액세스 토큰이 블랙리스트에 등록되어있습니다. 요청된 토큰: {}", token);
         throw new CustomException(ErrorCode.TOKEN_BLACKLISTED);
       }
       log.debug("JWT 토큰이 유효합니다.");
+      result = "valid";
       return true;
     } catch (ExpiredJwtException e) {
+      result = "expired";
       log.warn("JWT 토큰이 만료되었습니다: {}", e.getMessage());
       throw e; // 만료된 토큰 예외를 호출한 쪽으로 전달
     } catch (UnsupportedJwtException e) {
@@ -166,6 +176,8 @@ public class JwtUtil {
       log.warn("JWT 서명이 유효하지 않습니다: {}", e.getMessage());
     } catch (IllegalArgumentException e) {
       log.warn("JWT 토큰이 비어있거나 null입니다: {}", e.getMessage());
+    } finally {
+      sample.stop(meterRegistry.timer(VERIFY_METRIC, "result", result));
     }
     return false;
   }
@@ -0,0 +1,37 @@
+package kr.suhsaechan.mapsy.common.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "메소드 추적 설정 및 통계 응답")
+public class MethodTraceResponse {
+
+  @Schema(description = "응답한 서버 인스턴스 ID (통계는 인스턴스별로 누적)", example = "12345@mapsy-api:1a2b3c4d")
+  private String instanceId;
+
+  @Schema(description = "Controller 계층 추적 여부", example = "true")
+  private boolean controllerEnabled;
+
+  @Schema(description = "Service 계층 추적 여부", example = "true")
+  private boolean serviceEnabled;
+
+  @Schema(description = "Repository 계층 추적 여부", example = "true")
+  private boolean repositoryEnabled;
+
+  @Schema(description = "호출 트리 샘플링 비율 (0.0 ~ 1.0)", example = "0.01")
+  private double sampleRate;
+
+  @Schema(description = "느린 호출 트리 기준 (ms, 초과 시 항상 기록)", example = "500")
+  private long slowThresholdMillis;
+
+  @Schema(description = "메소드별 통계 (총 실행 시간 내림차순)")
+  private List<MethodTraceStatDto> methods;
+}
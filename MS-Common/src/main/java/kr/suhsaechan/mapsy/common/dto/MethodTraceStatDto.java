@@ -0,0 +1,46 @@
+package kr.suhsaechan.mapsy.common.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import kr.suhsaechan.mapsy.common.logging.TraceLayer;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "메소드별 누적 실행 통계")
+public class MethodTraceStatDto {
+
+  @Schema(description = "클래스.메소드", example = "PlaceService.getPlaceDetail")
+  private String method;
+
+  @Schema(description = "계층", example = "SERVICE")
+  private TraceLayer layer;
+
+  @Schema(description = "호출 수", example = "1520")
+  private long count;
+
+  @Schema(description = "예외로 끝난 호출 수", example = "3")
+  private long errorCount;
+
+  @Schema(description = "총 실행 시간 (ms)", example = "18240.5")
+  private double totalMillis;
+
+  @Schema(description = "평균 실행 시간 (ms)", example = "12.0")
+  private double avgMillis;
+
+  @Schema(description = "최대 실행 시간 (ms)", example = "812.34")
+  private double maxMillis;
+
+  @Schema(description = "p50 (히스토그램 버킷 상한, ms)", example = "10")
+  private double p50Millis;
+
+  @Schema(description = "p95 (히스토그램 버킷 상한, ms)", example = "50")
+  private double p95Millis;
+
+  @Schema(description = "p99 (히스토그램 버킷 상한, ms)", example = "200")
+  private double p99Millis;
+}
@@ -0,0 +1,36 @@
+package kr.suhsaechan.mapsy.common.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "메소드 추적 설정 변경 요청 (null인 항목은 유지)")
+public class UpdateMethodTraceRequest {
+
+  @Schema(description = "Controller 계층 추적 여부", example = "true")
+  private Boolean controllerEnabled;
+
+  @Schema(description = "Service 계층 추적 여부", example = "true")
+  private Boolean serviceEnabled;
+
+  @Schema(description = "Repository 계층 추적 여부", example = "false")
+  private Boolean repositoryEnabled;
+
+  @Schema(description = "호출 트리 샘플링 비율 (0.0 ~ 1.0)", example = "0.05")
+  @DecimalMin("0.0")
+  @DecimalMax("1.0")
+  private Double sampleRate;
+
+  @Schema(description = "느린 호출 트리 기준 (ms)", example = "300")
+  @PositiveOrZero
+  private Long slowThresholdMillis;
+}
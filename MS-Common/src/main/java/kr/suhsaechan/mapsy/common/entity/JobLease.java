@@ -0,0 +1,32 @@
+package kr.suhsaechan.mapsy.common.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스케줄 작업 리스(lease) 엔티티
+ * - 여러 인스턴스 중 하나만 작업을 실행하도록 작업 이름별 소유자와 만료 시각을 기록
+ * - 리스 획득/연장은 JobLeaseRepository의 단일 UPSERT로만 수행 (만료 시각은 DB 시계 기준)
+ */
+@Entity
+@Table(name = "job_lease")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobLease {
+
+  @Id
+  @Column(length = 100)
+  private String name;
+
+  @Column(nullable = false)
+  private String owner;
+
+  @Column(nullable = false)
+  private OffsetDateTime leaseUntil;
+}
@@ -25,6 +25,8 @@ public enum ErrorCode {
 
   DATABASE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "데이터베이스 오류가 발생했습니다."),
 
+  INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 페이지 커서입니다."),
+
   // Authentication
   UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "인증이 필요합니다."),
 
@@ -55,6 +57,11 @@ public enum ErrorCode {
 
   FIREBASE_TOKEN_VERIFICATION_FAILED(HttpStatus.UNAUTHORIZED, "Firebase 토큰 검증에 실패했습니다."),
 
+  // Push
+  PUSH_GATEWAY_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "푸시 알림을 전송할 수 없는 상태입니다."),
+
+  PUSH_SEND_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "푸시 알림 전송에 실패했습니다."),
+
   // Member
   MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "회원을 찾을 수 없습니다."),
 
@@ -107,6 +114,16 @@ public enum ErrorCode {
 
   GOOGLE_PLACE_API_ERROR(HttpStatus.BAD_GATEWAY, "Google Places API 호출 중 오류가 발생했습니다."),
 
+  KEYWORD_SEARCH_QUERY_REQUIRED(HttpStatus.BAD_REQUEST, "검색 키워드(all 또는 any)를 하나 이상 입력해야 합니다."),
+
+  KEYWORD_SEARCH_PAGE_OUT_OF_RANGE(HttpStatus.BAD_REQUEST, "키워드 검색 결과는 상위 1000건까지만 조회할 수 있습니다."),
+
+  KEYWORD_SEARCH_INDEX_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "키워드 검색 색인을 준비 중입니다. 잠시 후 다시 시도해주세요."),
+
+  INVALID_COORDINATE(HttpStatus.BAD_REQUEST, "유효하지 않은 위도/경도입니다."),
+
+  NEARBY_SEARCH_AREA_TOO_LARGE(HttpStatus.BAD_REQUEST, "검색 반경 또는 지도 영역이 너무 넓습니다."),
+
   // MemberPlace
   MEMBER_PLACE_NOT_FOUND(HttpStatus.NOT_FOUND, "회원의 장소 정보를 찾을 수 없습니다."),
 
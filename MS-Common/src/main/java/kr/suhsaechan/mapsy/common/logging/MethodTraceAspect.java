@@ -0,0 +1,131 @@
+package kr.suhsaechan.mapsy.common.logging;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import kr.suhsaechan.mapsy.common.exception.CustomException;
+import kr.suhsaechan.mapsy.common.properties.MethodTraceProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+/**
+ * Controller, Service, Repository 메소드 추적 (와일드카드 패턴으로 모든 모듈 자동 적용)
+ * - 모든 호출의 실행 시간을 메소드별 통계(MethodTraceStats)에 기록하고, 호출 트리는 스레드별 버퍼에만 저장
+ * - 최상위 호출이 끝나면 slowThresholdMillis 이상이거나 예상하지 못한 예외면 WARN, sampleRate 확률로 INFO 로그로 호출 트리 출력
+ * - 비즈니스 예외(CustomException, 4xx 등)로 끝난 호출은 정상 호출과 같이 샘플링
+ * - 계층별 추적 여부는 MethodTraceProperties로 운영 중 변경 (비활성 계층은 통계/트리에서 제외)
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MethodTraceAspect {
+
+  private final MethodTraceProperties properties;
+  private final MethodTraceRecorder recorder;
+
+  private final ThreadLocal<TraceContext> contexts = ThreadLocal.withInitial(TraceContext::new);
+
+  @Around("within(kr.suhsaechan.mapsy..*) && "
+      + "(execution(* *Controller.*(..)) || "
+      + " execution(* *Service.*(..)) || "
+      + " execution(* *Repository.*(..)))")
+  public Object traceMethods(ProceedingJoinPoint joinPoint) throws Throwable {
+    Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+    MethodTraceStats stats = recorder.statsOf(joinPoint.getTarget().getClass(), method);
+    if (!properties.isEnabled(stats.getLayer())) {
+      return joinPoint.proceed();
+    }
+
+    TraceContext context = contexts.get();
+    boolean root = context.isIdle();
+    if (root) {
+      context.begin(properties.getMaxSpans());
+    }
+    int span = context.enter(stats);
+    long startedAt = System.nanoTime();
+    Throwable error = null;
+
+    try {
+      return joinPoint.proceed();
+    } catch (Throwable e) {
+      error = e;
+      throw e;
+    } finally {
+      long elapsedNanos = System.nanoTime() - startedAt;
+      boolean failed = error != null;
+      stats.record(elapsedNanos, failed);
+      context.exit(span, elapsedNanos, failed);
+      if (root) {
+        completeTree(context, stats, elapsedNanos, error);
+      }
+    }
+  }
+
+  /**
+   * 최상위 호출 종료 시 호출 트리 출력 여부 결정 후 버퍼 비움
+   */
+  private void completeTree(TraceContext context, MethodTraceStats root, long elapsedNanos, Throwable error) {
+    try {
+      boolean slow = elapsedNanos >= TimeUnit.MILLISECONDS.toNanos(properties.getSlowThresholdMillis());
+      boolean unexpected = error != null && !(error instanceof CustomException);
+      if (slow || unexpected) {
+        if (log.isWarnEnabled()) {
+          log.warn("[Trace] {} {}ms{} spans={}{}", root.getName(), toMillis(elapsedNanos),
+              slow ? " SLOW" : " FAILED", context.size(), formatTree(context));
+        }
+      } else if (log.isInfoEnabled() && ThreadLocalRandom.current().nextDouble() < properties.getSampleRate()) {
+        log.info("[Trace] {} {}ms{} spans={}{}", root.getName(), toMillis(elapsedNanos),
+            error != null ? " FAILED" : "", context.size(), formatTree(context));
+      }
+    } finally {
+      context.clear();
+    }
+  }
+
+  private static String formatTree(TraceContext context) {
+    StringBuilder tree = new StringBuilder(context.size() * 64);
+    context.appendTree(tree);
+    return tree.toString();
+  }
+
+  private static double toMillis(long nanos) {
+    return Math.round(nanos / 10_000.0) / 100.0;
+  }
+
+  /**
+   * @LogExecutionTime 어노테이션 처리
+   */
+  @Around("@annotation(logExecutionTime)")
+  public Object logAnnotatedMethods(ProceedingJoinPoint joinPoint, LogExecutionTime logExecutionTime)
+      throws Throwable {
+    String description =
+        logExecutionTime.description().isEmpty() ?
+            joinPoint.getSignature().getName() : logExecutionTime.description();
+    long threshold = logExecutionTime.threshold();
+    long startedAt = System.nanoTime();
+
+    try {
+      Object result = joinPoint.proceed();
+
+      long executionTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+      if (executionTime > threshold) {
+        log.warn("{} 완료 [{}ms] (임계값: {}ms 초과)", description, executionTime, threshold);
+      } else {
+        log.debug("{} 완료 [{}ms]", description, executionTime);
+      }
+
+      return result;
+
+    } catch (Exception e) {
+      log.error("{} 실패 [{}ms]: {}", description,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), e.getMessage());
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,168 @@
+package kr.suhsaechan.mapsy.common.logging;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import kr.suhsaechan.mapsy.common.dto.MethodTraceResponse;
+import kr.suhsaechan.mapsy.common.dto.MethodTraceStatDto;
+import kr.suhsaechan.mapsy.common.dto.UpdateMethodTraceRequest;
+import kr.suhsaechan.mapsy.common.properties.MethodTraceProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 메소드별 실행 통계 저장소 및 추적 설정 변경
+ * - 통계는 (대상 클래스, 메소드)마다 1개 생성 후 재사용 (ClassValue + Method 키 조회, 조회 시 객체 생성 없음)
+ * - Repository 메소드는 JDK 프록시 대신 구현한 *Repository 인터페이스 이름으로 표시
+ * - 추적 설정은 Redis 공유 키(TRACE:SETTINGS Hash)에 저장하고 각 인스턴스가 10초 주기로 동기화
+ * - 통계는 인스턴스별 메모리에 누적되므로 응답에 인스턴스 ID를 포함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MethodTraceRecorder {
+
+  private static final int MAX_STATS_LIMIT = 500;
+  private static final String SETTINGS_KEY = "TRACE:SETTINGS";
+  private static final String INSTANCE_ID =
+      ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+
+  private final MethodTraceProperties properties;
+  private final StringRedisTemplate stringRedisTemplate;
+
+  private final Map<Class<?>, Map<Method, MethodTraceStats>> registry = new ConcurrentHashMap<>();
+
+  private final ClassValue<Map<Method, MethodTraceStats>> statsByClass = new ClassValue<>() {
+    @Override
+    protected Map<Method, MethodTraceStats> computeValue(Class<?> type) {
+      return registry.computeIfAbsent(type, ignored -> new ConcurrentHashMap<>());
+    }
+  };
+
+  /**
+   * 대상 클래스/메소드의 통계 조회 (없으면 생성)
+   */
+  MethodTraceStats statsOf(Class<?> targetClass, Method method) {
+    Map<Method, MethodTraceStats> methods = statsByClass.get(targetClass);
+    MethodTraceStats stats = methods.get(method);
+    if (stats == null) {
+      String className = displayName(targetClass);
+      stats = methods.computeIfAbsent(method,
+          ignored -> new MethodTraceStats(className + "." + method.getName(), TraceLayer.of(className)));
+    }
+    return stats;
+  }
+
+  /**
+   * 현재 추적 설정 및 메소드별 통계 (총 실행 시간 내림차순)
+   *
+   * @param limit 최대 메소드 수
+   */
+  public MethodTraceResponse getTrace(int limit) {
+    List<MethodTraceStatDto> methods = registry.values().stream()
+        .flatMap(stats -> stats.values().stream())
+        .sorted(Comparator.comparingLong(MethodTraceStats::totalNanos).reversed())
+        .limit(Math.clamp(limit, 1, MAX_STATS_LIMIT))
+        .map(MethodTraceStats::toDto)
+        .toList();
+    return toResponse(methods);
+  }
+
+  /**
+   * 추적 설정 변경 (재시작 없이 즉시 반영, null인 항목은 유지)
+   * - 요청을 받은 인스턴스에 즉시 반영 후 공유 키에 저장, 다른 인스턴스는 syncSettings 주기 내 반영
+   */
+  public MethodTraceResponse updateSettings(UpdateMethodTraceRequest request) {
+    if (request.getControllerEnabled() != null) {
+      properties.setControllerEnabled(request.getControllerEnabled());
+    }
+    if (request.getServiceEnabled() != null) {
+      properties.setServiceEnabled(request.getServiceEnabled());
+    }
+    if (request.getRepositoryEnabled() != null) {
+      properties.setRepositoryEnabled(request.getRepositoryEnabled());
+    }
+    if (request.getSampleRate() != null) {
+      properties.setSampleRate(request.getSampleRate());
+    }
+    if (request.getSlowThresholdMillis() != null) {
+      properties.setSlowThresholdMillis(request.getSlowThresholdMillis());
+    }
+
+    log.info("[Trace] 추적 설정 변경 - controller={}, service={}, repository={}, sampleRate={}, slowThreshold={}ms",
+        properties.isControllerEnabled(), properties.isServiceEnabled(), properties.isRepositoryEnabled(),
+        properties.getSampleRate(), properties.getSlowThresholdMillis());
+
+    try {
+      stringRedisTemplate.opsForHash().putAll(SETTINGS_KEY, Map.of(
+          "controllerEnabled", String.valueOf(properties.isControllerEnabled()),
+          "serviceEnabled", String.valueOf(properties.isServiceEnabled()),
+          "repositoryEnabled", String.valueOf(properties.isRepositoryEnabled()),
+          "sampleRate", String.valueOf(properties.getSampleRate()),
+          "slowThresholdMillis", String.valueOf(properties.getSlowThresholdMillis())));
+    } catch (RuntimeException e) {
+      log.warn("[Trace] 추적 설정 공유 실패 (이 인스턴스에만 적용) - error={}", e.getMessage());
+    }
+    return toResponse(List.of());
+  }
+
+  /**
+   * 다른 인스턴스에서 변경한 추적 설정 동기화 (10초 주기, 공유 키가 없으면 application.yml 설정 유지)
+   */
+  @Scheduled(fixedDelay = 10_000, initialDelay = 10_000)
+  public void syncSettings() {
+    try {
+      Map<Object, Object> shared = stringRedisTemplate.opsForHash().entries(SETTINGS_KEY);
+      if (shared.isEmpty()) {
+        return;
+      }
+      properties.setControllerEnabled(Boolean.parseBoolean((String) shared.get("controllerEnabled")));
+      properties.setServiceEnabled(Boolean.parseBoolean((String) shared.get("serviceEnabled")));
+      properties.setRepositoryEnabled(Boolean.parseBoolean((String) shared.get("repositoryEnabled")));
+      properties.setSampleRate(Double.parseDouble((String) shared.get("sampleRate")));
+      properties.setSlowThresholdMillis(Long.parseLong((String) shared.get("slowThresholdMillis")));
+    } catch (RuntimeException e) {
+      log.warn("[Trace] 추적 설정 동기화 실패 - error={}", e.getMessage());
+    }
+  }
+
+  /**
+   * 누적 통계 초기화 (이 인스턴스의 통계만)
+   */
+  public void reset() {
+    registry.values().forEach(stats -> stats.values().forEach(MethodTraceStats::reset));
+    log.info("[Trace] 메소드 통계 초기화 - instance={}", INSTANCE_ID);
+  }
+
+  private MethodTraceResponse toResponse(List<MethodTraceStatDto> methods) {
+    return MethodTraceResponse.builder()
+        .instanceId(INSTANCE_ID)
+        .controllerEnabled(properties.isControllerEnabled())
+        .serviceEnabled(properties.isServiceEnabled())
+        .repositoryEnabled(properties.isRepositoryEnabled())
+        .sampleRate(properties.getSampleRate())
+        .slowThresholdMillis(properties.getSlowThresholdMillis())
+        .methods(methods)
+        .build();
+  }
+
+  private static String displayName(Class<?> targetClass) {
+    if (Proxy.isProxyClass(targetClass)) {
+      for (Class<?> type : targetClass.getInterfaces()) {
+        if (type.getSimpleName().endsWith("Repository")) {
+          return type.getSimpleName();
+        }
+      }
+    }
+    return ClassUtils.getUserClass(targetClass).getSimpleName();
+  }
+}
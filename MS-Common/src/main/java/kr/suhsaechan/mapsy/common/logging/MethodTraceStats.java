@@ -0,0 +1,115 @@
+package kr.suhsaechan.mapsy.common.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import kr.suhsaechan.mapsy.common.dto.MethodTraceStatDto;
+import lombok.Getter;
+
+/**
+ * 메소드 1개의 누적 실행 통계 (호출 수, 실패 수, 총/최대 시간, 지연 히스토그램)
+ * - 기록 시 객체를 생성하지 않음 (LongAdder / 고정 크기 버킷 배열)
+ */
+public final class MethodTraceStats {
+
+  /**
+   * 히스토그램 버킷 상한 (ms, 마지막 버킷은 상한 없음)
+   */
+  private static final long[] BUCKET_UPPER_MILLIS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1_000, 2_000, 5_000};
+  private static final long[] BUCKET_UPPER_NANOS = new long[BUCKET_UPPER_MILLIS.length];
+
+  static {
+    for (int i = 0; i < BUCKET_UPPER_MILLIS.length; i++) {
+      BUCKET_UPPER_NANOS[i] = TimeUnit.MILLISECONDS.toNanos(BUCKET_UPPER_MILLIS[i]);
+    }
+  }
+
+  @Getter
+  private final String name;
+  @Getter
+  private final TraceLayer layer;
+
+  private final LongAdder count = new LongAdder();
+  private final LongAdder errorCount = new LongAdder();
+  private final LongAdder totalNanos = new LongAdder();
+  private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_UPPER_NANOS.length + 1);
+
+  MethodTraceStats(String name, TraceLayer layer) {
+    this.name = name;
+    this.layer = layer;
+  }
+
+  void record(long elapsedNanos, boolean failed) {
+    count.increment();
+    totalNanos.add(elapsedNanos);
+    maxNanos.accumulate(elapsedNanos);
+    if (failed) {
+      errorCount.increment();
+    }
+    buckets.incrementAndGet(bucketOf(elapsedNanos));
+  }
+
+  long totalNanos() {
+    return totalNanos.sum();
+  }
+
+  void reset() {
+    count.reset();
+    errorCount.reset();
+    totalNanos.reset();
+    maxNanos.reset();
+    for (int i = 0; i < buckets.length(); i++) {
+      buckets.set(i, 0);
+    }
+  }
+
+  MethodTraceStatDto toDto() {
+    long calls = count.sum();
+    long total = totalNanos.sum();
+    return MethodTraceStatDto.builder()
+        .method(name)
+        .layer(layer)
+        .count(calls)
+        .errorCount(errorCount.sum())
+        .totalMillis(toMillis(total))
+        .avgMillis(calls == 0 ? 0 : toMillis(total / calls))
+        .maxMillis(toMillis(maxNanos.get()))
+        .p50Millis(percentile(calls, 0.50))
+        .p95Millis(percentile(calls, 0.95))
+        .p99Millis(percentile(calls, 0.99))
+        .build();
+  }
+
+  /**
+   * 백분위가 속한 버킷의 상한 (마지막 버킷이면 최대값)
+   */
+  private double percentile(long calls, double quantile) {
+    if (calls == 0) {
+      return 0;
+    }
+    long rank = (long) Math.ceil(calls * quantile);
+    long seen = 0;
+    for (int i = 0; i < BUCKET_UPPER_MILLIS.length; i++) {
+      seen += buckets.get(i);
+      if (seen >= rank) {
+        return BUCKET_UPPER_MILLIS[i];
+      }
+    }
+    return toMillis(maxNanos.get());
+  }
+
+  private static int bucketOf(long elapsedNanos) {
+    for (int i = 0; i < BUCKET_UPPER_NANOS.length; i++) {
+      if (elapsedNanos <= BUCKET_UPPER_NANOS[i]) {
+        return i;
+      }
+    }
+    return BUCKET_UPPER_NANOS.length;
+  }
+
+  private static double toMillis(long nanos) {
+    return Math.round(nanos / 10_000.0) / 100.0;
+  }
+}
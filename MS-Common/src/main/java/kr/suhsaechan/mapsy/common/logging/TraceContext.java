@@ -0,0 +1,98 @@
+package kr.suhsaechan.mapsy.common.logging;
+
+/**
+ * 스레드별 호출 트리 버퍼 (스레드당 1개를 재사용, 기록 시 객체를 생성하지 않음)
+ * - span은 진입 순서대로 저장되며 depth로 트리 구조를 복원
+ * - 최상위 호출이 끝나면 clear()로 비우고 다음 요청에서 다시 사용
+ */
+final class TraceContext {
+
+  private MethodTraceStats[] methods = new MethodTraceStats[0];
+  private int[] depths = new int[0];
+  private long[] elapsedNanos = new long[0];
+  private boolean[] failed = new boolean[0];
+
+  private int size;
+  private int depth;
+  private int droppedSpans;
+
+  boolean isIdle() {
+    return depth == 0;
+  }
+
+  /**
+   * 최상위 호출 시작 (maxSpans가 바뀌었으면 버퍼를 다시 할당)
+   */
+  void begin(int maxSpans) {
+    if (methods.length != maxSpans) {
+      methods = new MethodTraceStats[maxSpans];
+      depths = new int[maxSpans];
+      elapsedNanos = new long[maxSpans];
+      failed = new boolean[maxSpans];
+    }
+    size = 0;
+    droppedSpans = 0;
+  }
+
+  /**
+   * @return span 번호 (버퍼가 가득 차면 -1)
+   */
+  int enter(MethodTraceStats method) {
+    int current = depth++;
+    if (size == methods.length) {
+      droppedSpans++;
+      return -1;
+    }
+    int span = size++;
+    methods[span] = method;
+    depths[span] = current;
+    return span;
+  }
+
+  void exit(int span, long nanos, boolean spanFailed) {
+    depth--;
+    if (span >= 0) {
+      elapsedNanos[span] = nanos;
+      failed[span] = spanFailed;
+    }
+  }
+
+  void clear() {
+    for (int i = 0; i < size; i++) {
+      methods[i] = null;
+    }
+    size = 0;
+    depth = 0;
+    droppedSpans = 0;
+  }
+
+  int size() {
+    return size;
+  }
+
+  int droppedSpans() {
+    return droppedSpans;
+  }
+
+  /**
+   * 호출 트리를 줄 단위로 기록 (로그 출력 시에만 호출)
+   */
+  void appendTree(StringBuilder target) {
+    for (int i = 0; i < size; i++) {
+      target.append('\n');
+      for (int indent = 0; indent <= depths[i]; indent++) {
+        target.append("  ");
+      }
+      target.append(methods[i].getName())
+          .append(' ')
+          .append(Math.round(elapsedNanos[i] / 10_000.0) / 100.0)
+          .append("ms");
+      if (failed[i]) {
+        target.append(" FAILED");
+      }
+    }
+    if (droppedSpans > 0) {
+      target.append("\n  ... ").append(droppedSpans).append(" spans dropped");
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package kr.suhsaechan.mapsy.common.logging;
+
+/**
+ * 메소드 추적 대상 계층
+ */
+public enum TraceLayer {
+  CONTROLLER,
+  SERVICE,
+  REPOSITORY;
+
+  /**
+   * 클래스명으로 계층 판단 (JDK 프록시 Repository는 Proxy로 표시됨)
+   */
+  public static TraceLayer of(String className) {
+    if (className.contains("Controller")) {
+      return CONTROLLER;
+    }
+    if (className.contains("Repository") || className.contains("Proxy")) {
+      return REPOSITORY;
+    }
+    return SERVICE;
+  }
+}
@@ -0,0 +1,18 @@
+package kr.suhsaechan.mapsy.common.metrics;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import java.sql.SQLException;
+import org.springframework.stereotype.Component;
+
+/**
+ * SQL 실행 수 집계 (P6Spy 이벤트 리스너, 배치 실행은 1회로 집계)
+ */
+@Component
+public class DbCallCountListener extends SimpleJdbcEventListener {
+
+  @Override
+  public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+    RequestCallCounter.incrementDbCalls();
+  }
+}
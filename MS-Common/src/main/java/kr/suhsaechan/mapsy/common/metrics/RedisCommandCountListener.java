@@ -0,0 +1,15 @@
+package kr.suhsaechan.mapsy.common.metrics;
+
+import io.lettuce.core.event.command.CommandListener;
+import io.lettuce.core.event.command.CommandStartedEvent;
+
+/**
+ * Redis 명령 수 집계 (Lettuce CommandListener, 명령을 보낸 호출 스레드에서 실행됨)
+ */
+public class RedisCommandCountListener implements CommandListener {
+
+  @Override
+  public void commandStarted(CommandStartedEvent event) {
+    RequestCallCounter.incrementRedisCalls();
+  }
+}
@@ -0,0 +1,55 @@
+package kr.suhsaechan.mapsy.common.metrics;
+
+/**
+ * 요청 스레드별 DB/Redis 호출 수 집계
+ * - RequestCallMetricsFilter가 요청 시작 시 begin(), 종료 시 end()를 호출
+ * - 요청 밖(스케줄러, 비동기 스레드)의 호출은 집계하지 않음
+ */
+public final class RequestCallCounter {
+
+  private static final ThreadLocal<Counts> COUNTS = ThreadLocal.withInitial(Counts::new);
+
+  private RequestCallCounter() {
+    throw new AssertionError();
+  }
+
+  public static void begin() {
+    Counts counts = COUNTS.get();
+    counts.active = true;
+    counts.dbCalls = 0;
+    counts.redisCalls = 0;
+  }
+
+  public static void incrementDbCalls() {
+    Counts counts = COUNTS.get();
+    if (counts.active) {
+      counts.dbCalls++;
+    }
+  }
+
+  public static void incrementRedisCalls() {
+    Counts counts = COUNTS.get();
+    if (counts.active) {
+      counts.redisCalls++;
+    }
+  }
+
+  public static int dbCalls() {
+    return COUNTS.get().dbCalls;
+  }
+
+  public static int redisCalls() {
+    return COUNTS.get().redisCalls;
+  }
+
+  public static void end() {
+    COUNTS.remove();
+  }
+
+  private static final class Counts {
+
+    private boolean active;
+    private int dbCalls;
+    private int redisCalls;
+  }
+}
@@ -0,0 +1,54 @@
+package kr.suhsaechan.mapsy.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청당 DB/Redis 호출 수 기록 (Security 필터 포함 전체 요청 처리 구간)
+ * - mapsy.http.db.calls / mapsy.http.redis.calls (uri 태그는 매핑된 URL 패턴)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class RequestCallMetricsFilter extends OncePerRequestFilter {
+
+  private static final String DB_CALLS_METRIC = "mapsy.http.db.calls";
+  private static final String REDIS_CALLS_METRIC = "mapsy.http.redis.calls";
+  private static final String UNKNOWN_URI = "UNKNOWN";
+
+  private final MeterRegistry meterRegistry;
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    RequestCallCounter.begin();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+      String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+      DistributionSummary.builder(DB_CALLS_METRIC)
+          .description("요청당 SQL 실행 수")
+          .tags("method", request.getMethod(), "uri", uri)
+          .register(meterRegistry)
+          .record(RequestCallCounter.dbCalls());
+      DistributionSummary.builder(REDIS_CALLS_METRIC)
+          .description("요청당 Redis 명령 수")
+          .tags("method", request.getMethod(), "uri", uri)
+          .register(meterRegistry)
+          .record(RequestCallCounter.redisCalls());
+      RequestCallCounter.end();
+    }
+  }
+}
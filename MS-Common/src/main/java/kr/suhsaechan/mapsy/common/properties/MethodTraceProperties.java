@@ -0,0 +1,60 @@
+package kr.suhsaechan.mapsy.common.properties;
+
+import kr.suhsaechan.mapsy.common.logging.TraceLayer;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Controller/Service/Repository 메소드 추적 설정
+ * application.yml의 trace.method 설정을 매핑합니다.
+ * 운영 중 /api/admin/trace 에서 변경할 수 있으므로 모든 필드는 volatile
+ */
+@Component
+@ConfigurationProperties(prefix = "trace.method")
+@Getter
+@Setter
+public class MethodTraceProperties {
+
+  /**
+   * Controller 계층 추적 여부
+   */
+  private volatile boolean controllerEnabled = true;
+
+  /**
+   * Service 계층 추적 여부
+   */
+  private volatile boolean serviceEnabled = true;
+
+  /**
+   * Repository 계층 추적 여부
+   */
+  private volatile boolean repositoryEnabled = true;
+
+  /**
+   * 호출 트리를 로그로 남길 확률 (0.0 ~ 1.0)
+   * 기본값: 0.01
+   */
+  private volatile double sampleRate = 0.01;
+
+  /**
+   * 최상위 호출이 이 시간(ms) 이상 걸리면 샘플링과 무관하게 호출 트리를 WARN 로그로 남김
+   * 기본값: 500
+   */
+  private volatile long slowThresholdMillis = 500;
+
+  /**
+   * 호출 트리 1개에 기록할 최대 span 수 (초과분은 통계에만 반영)
+   * 기본값: 256
+   */
+  private volatile int maxSpans = 256;
+
+  public boolean isEnabled(TraceLayer layer) {
+    return switch (layer) {
+      case CONTROLLER -> controllerEnabled;
+      case SERVICE -> serviceEnabled;
+      case REPOSITORY -> repositoryEnabled;
+    };
+  }
+}
@@ -0,0 +1,24 @@
+package kr.suhsaechan.mapsy.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Prometheus 메트릭 수집 인증 설정
+ * application.yml의 metrics.scrape 설정을 매핑합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "metrics.scrape")
+@Getter
+@Setter
+public class MetricsScrapeProperties {
+
+  /**
+   * Prometheus가 /actuator/prometheus 수집 시 전달할 토큰
+   * Header: Authorization: Bearer {token}
+   * 비어 있으면 헬스 체크 외 Actuator 엔드포인트 접근 차단
+   */
+  private String token;
+}
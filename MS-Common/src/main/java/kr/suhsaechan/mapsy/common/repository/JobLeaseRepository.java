@@ -0,0 +1,40 @@
+package kr.suhsaechan.mapsy.common.repository;
+
+import kr.suhsaechan.mapsy.common.entity.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+  /**
+   * 리스 획득 시도 (단일 UPSERT)
+   * - 리스가 없거나 만료되었거나 이미 내가 소유한 경우에만 owner/만료 시각 갱신
+   * - 다른 인스턴스가 유효한 리스를 보유 중이면 갱신되지 않음 (0 반환)
+   *
+   * @param name         작업 이름
+   * @param owner        인스턴스 식별자
+   * @param leaseSeconds 리스 유지 시간 (초)
+   * @return 획득 시 1, 실패 시 0
+   */
+  @Transactional
+  @Modifying
+  @Query(value = """
+    INSERT INTO job_lease (name, owner, lease_until)
+    VALUES (:name, :owner, now() + :leaseSeconds * INTERVAL '1 second')
+    ON CONFLICT (name) DO UPDATE
+      SET owner = EXCLUDED.owner,
+          lease_until = EXCLUDED.lease_until
+      WHERE job_lease.lease_until < now()
+        OR job_lease.owner = EXCLUDED.owner
+    """, nativeQuery = true)
+  int tryAcquire(
+      @Param("name") String name,
+      @Param("owner") String owner,
+      @Param("leaseSeconds") long leaseSeconds
+  );
+}
@@ -0,0 +1,259 @@
+package kr.suhsaechan.mapsy.common.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 영업시간 텍스트 파싱 및 주간 영업 비트맵 (7일 × 96개 15분 슬롯 = 672비트, 84바이트)
+ * - 비트 번호 = 요일 인덱스(월 0 ~ 일 6) * 96 + 자정부터의 15분 슬롯 번호
+ * - 바이트 배열의 비트 순서는 PostgreSQL get_bit(bytea, n)과 같음 (n / 8번째 바이트의 하위 n % 8번째 비트)
+ * - 지원 형식 : "월 11:30 - 24:00", "월~금 09:00-18:00", "매일/평일/주말 ...", "토 휴무", "15:00 - 17:00 브레이크타임", "24시간 영업"
+ * - 종료 시각이 시작 시각 이하이거나 24시 이후(예: 26:00)면 다음 날 새벽으로 이어서 표시 (일요일 → 월요일)
+ * - 요일이 없는 줄은 직전 줄의 요일에 적용하고, 첫 줄이면 매일로 간주
+ * - 휴무는 그 줄에 적힌 요일에만 적용 (예: "매주 월요일 휴무"), 요일이 없는 휴무 안내(예: "공휴일 휴무")는 무시
+ */
+public final class BusinessHoursUtil {
+
+  public static final int SLOTS_PER_DAY = 96;
+  public static final int WEEK_SLOTS = SLOTS_PER_DAY * 7;
+  public static final int BITMAP_BYTES = WEEK_SLOTS / 8;
+
+  // 파싱 규칙이 바뀌면 증가 (저장된 장소의 영업시간을 다시 파싱하는 기준)
+  public static final int PARSER_VERSION = 2;
+
+  private static final int MINUTES_PER_SLOT = 15;
+  private static final int MINUTES_PER_DAY = 1_440;
+
+  private static final Pattern DAY_PREFIX = Pattern.compile(
+      "^\\s*((?:(?:매일|평일|주말|[월화수목금토일])(?:요일)?\\s*[~\\-,·/]?\\s*)+)");
+  private static final Pattern DAY_TOKEN = Pattern.compile(
+      "(매일|평일|주말|[월화수목금토일])(?:요일)?\\s*([~\\-])?");
+  // 줄 중간의 요일 언급 (앞뒤가 한글이 아닌 한 글자 요일 또는 "~요일", "휴무일"의 "일"은 제외)
+  private static final Pattern DAY_MENTION = Pattern.compile(
+      "매일|평일|주말|[월화수목금토일]요일|(?<![가-힣])[월화수목금토일](?![가-힣])");
+  private static final Pattern TIME_RANGE = Pattern.compile(
+      "(\\d{1,2}):(\\d{2})\\s*[~\\-]\\s*(\\d{1,2}):(\\d{2})");
+  private static final String KOREAN_DAYS = "월화수목금토일";
+
+  private BusinessHoursUtil() {
+    throw new AssertionError();
+  }
+
+  /**
+   * 요일별 영업시간 텍스트 파싱
+   *
+   * @param lines 요일별 상세 영업시간 (예: ["월 11:30 - 24:00", "화 11:30 - 24:00"])
+   * @return 파싱 결과 (인식된 영업시간/휴무 정보가 없으면 null)
+   */
+  public static ParsedBusinessHours parse(List<String> lines) {
+    if (lines == null || lines.isEmpty()) {
+      return null;
+    }
+
+    List<TimeRange> ranges = new ArrayList<>();
+    Set<DayOfWeek> closedDays = EnumSet.noneOf(DayOfWeek.class);
+    Set<DayOfWeek> currentDays = EnumSet.allOf(DayOfWeek.class);
+
+    for (String rawLine : lines) {
+      if (rawLine == null || rawLine.isBlank()) {
+        continue;
+      }
+      String line = rawLine.replace('～', '~').replace('〜', '~').replace('–', '-').replace('—', '-');
+
+      Set<DayOfWeek> lineDays = null;
+      Matcher prefix = DAY_PREFIX.matcher(line);
+      if (prefix.find()) {
+        Set<DayOfWeek> days = parseDays(prefix.group(1));
+        if (!days.isEmpty()) {
+          currentDays = days;
+          lineDays = days;
+          line = line.substring(prefix.end());
+        }
+      }
+
+      if (line.contains("24시간")) {
+        for (DayOfWeek day : currentDays) {
+          ranges.add(new TimeRange(day, 0, MINUTES_PER_DAY, false));
+        }
+        continue;
+      }
+
+      boolean isBreak = line.contains("브레이크") || line.contains("휴게") || line.toLowerCase().contains("break");
+      Matcher range = TIME_RANGE.matcher(line);
+      boolean hasRange = false;
+      while (range.find()) {
+        int start = Integer.parseInt(range.group(1)) * 60 + Integer.parseInt(range.group(2));
+        int end = Integer.parseInt(range.group(3)) * 60 + Integer.parseInt(range.group(4));
+        if (start >= MINUTES_PER_DAY || end > 2 * MINUTES_PER_DAY) {
+          continue;
+        }
+        if (end <= start) {
+          end += MINUTES_PER_DAY;
+        }
+        for (DayOfWeek day : currentDays) {
+          ranges.add(new TimeRange(day, start, end, isBreak));
+        }
+        hasRange = true;
+      }
+
+      if (!hasRange && (line.contains("휴무") || line.contains("휴일"))) {
+        closedDays.addAll(lineDays != null ? lineDays : mentionedDays(line));
+      }
+    }
+
+    if (ranges.isEmpty() && closedDays.isEmpty()) {
+      return null;
+    }
+
+    // 휴무 요일의 구간은 제외 (전날 영업이 자정을 넘어 이어지는 시간은 유지)
+    BitSet open = new BitSet(WEEK_SLOTS);
+    BitSet breaks = new BitSet(WEEK_SLOTS);
+    int[] openMinutes = new int[7];
+    int[] closeMinutes = new int[7];
+    Arrays.fill(openMinutes, -1);
+    for (TimeRange range : ranges) {
+      if (closedDays.contains(range.day())) {
+        continue;
+      }
+      markRange(range.isBreak() ? breaks : open, range.day(), range.start(), range.end());
+      if (!range.isBreak()) {
+        updateSpan(openMinutes, closeMinutes, range.day(), range.start(), range.end());
+      }
+    }
+    open.andNot(breaks);
+
+    List<DailyHours> days = new ArrayList<>();
+    for (DayOfWeek day : DayOfWeek.values()) {
+      int index = day.getValue() - 1;
+      if (openMinutes[index] >= 0) {
+        days.add(new DailyHours(day, toLocalTime(openMinutes[index]), toLocalTime(closeMinutes[index])));
+      }
+    }
+
+    byte[] bitmap = new byte[BITMAP_BYTES];
+    for (int slot = open.nextSetBit(0); slot >= 0; slot = open.nextSetBit(slot + 1)) {
+      bitmap[slot >> 3] |= (byte) (1 << (slot & 7));
+    }
+    return new ParsedBusinessHours(bitmap, days);
+  }
+
+  /**
+   * 시각의 주간 슬롯 번호 (get_bit 조회용)
+   *
+   * @param dateTime 시각
+   * @return 0 ~ 671
+   */
+  public static int slotOf(LocalDateTime dateTime) {
+    int dayIndex = dateTime.getDayOfWeek().getValue() - 1;
+    int minuteOfDay = dateTime.getHour() * 60 + dateTime.getMinute();
+    return dayIndex * SLOTS_PER_DAY + minuteOfDay / MINUTES_PER_SLOT;
+  }
+
+  /**
+   * 비트맵 기준 영업 여부 (메모리 필터용)
+   *
+   * @param bitmap 주간 영업 비트맵 (null이면 영업시간 정보 없음)
+   * @param slot   slotOf 결과
+   * @return 영업 중이면 true
+   */
+  public static boolean isOpen(byte[] bitmap, int slot) {
+    return bitmap != null && bitmap.length == BITMAP_BYTES && (bitmap[slot >> 3] & (1 << (slot & 7))) != 0;
+  }
+
+  private static Set<DayOfWeek> parseDays(String prefix) {
+    Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+    Matcher token = DAY_TOKEN.matcher(prefix);
+    DayOfWeek rangeStart = null;
+    while (token.find()) {
+      String name = token.group(1);
+      switch (name) {
+        case "매일" -> days.addAll(EnumSet.allOf(DayOfWeek.class));
+        case "평일" -> days.addAll(EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY));
+        case "주말" -> days.addAll(EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY));
+        default -> {
+          DayOfWeek day = DayOfWeek.of(KOREAN_DAYS.indexOf(name) + 1);
+          if (rangeStart != null) {
+            // 월~금, 금~월(주말을 넘는 범위) 모두 시작 요일부터 순서대로 추가
+            for (DayOfWeek cursor = rangeStart; cursor != day; cursor = cursor.plus(1)) {
+              days.add(cursor);
+            }
+          }
+          days.add(day);
+          rangeStart = token.group(2) != null ? day : null;
+          continue;
+        }
+      }
+      rangeStart = null;
+    }
+    return days;
+  }
+
+  /**
+   * 줄 중간에 적힌 요일 (예: "매주 월요일 휴무", "정기휴무 (매주 월~화)")
+   * - 첫 요일 언급부터 요일 접두어로 해석, 요일이 없으면 빈 집합
+   */
+  private static Set<DayOfWeek> mentionedDays(String line) {
+    Matcher mention = DAY_MENTION.matcher(line);
+    if (!mention.find()) {
+      return EnumSet.noneOf(DayOfWeek.class);
+    }
+    Matcher prefix = DAY_PREFIX.matcher(line.substring(mention.start()));
+    return prefix.find() ? parseDays(prefix.group(1)) : EnumSet.noneOf(DayOfWeek.class);
+  }
+
+  /**
+   * [start, end) 분 구간을 슬롯으로 표시 (시작은 내림, 종료는 올림, 자정 이후는 다음 요일로)
+   */
+  private static void markRange(BitSet target, DayOfWeek day, int start, int end) {
+    int base = (day.getValue() - 1) * SLOTS_PER_DAY;
+    int startSlot = start / MINUTES_PER_SLOT;
+    int endSlot = (end + MINUTES_PER_SLOT - 1) / MINUTES_PER_SLOT;
+    for (int slot = startSlot; slot < endSlot; slot++) {
+      target.set((base + slot) % WEEK_SLOTS);
+    }
+  }
+
+  private static void updateSpan(int[] openMinutes, int[] closeMinutes, DayOfWeek day, int start, int end) {
+    int index = day.getValue() - 1;
+    if (openMinutes[index] < 0 || start < openMinutes[index]) {
+      openMinutes[index] = start;
+    }
+    closeMinutes[index] = Math.max(closeMinutes[index], end);
+  }
+
+  private static LocalTime toLocalTime(int minutes) {
+    int minuteOfDay = minutes % MINUTES_PER_DAY;
+    return LocalTime.of(minuteOfDay / 60, minuteOfDay % 60);
+  }
+
+  /**
+   * 요일별 영업/브레이크 구간 (분, 종료가 1440 이상이면 다음 날 새벽)
+   */
+  private record TimeRange(DayOfWeek day, int start, int end, boolean isBreak) {
+  }
+
+  /**
+   * 파싱 결과
+   *
+   * @param bitmap 주간 영업 비트맵 (BITMAP_BYTES 바이트, 브레이크타임/휴무 제외)
+   * @param days   요일별 첫 영업 시작 ~ 마지막 영업 종료 (휴무/정보 없는 요일 제외)
+   */
+  public record ParsedBusinessHours(byte[] bitmap, List<DailyHours> days) {
+  }
+
+  /**
+   * 요일별 영업시간
+   * - closeTime이 openTime 이하면 자정 이후 종료 (24:00 종료는 00:00, 24시간 영업은 00:00 ~ 00:00)
+   */
+  public record DailyHours(DayOfWeek dayOfWeek, LocalTime openTime, LocalTime closeTime) {
+  }
+}
@@ -0,0 +1,69 @@
+package kr.suhsaechan.mapsy.common.util;
+
+import java.util.List;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+/**
+ * Accept 헤더 기반 응답 형식 선택 (quality 값 반영)
+ * - 응답 형식별 quality는 그 형식을 포함하는 Accept 항목 중 가장 구체적인 항목의 q 값 (type/subtype > type/* > 전체 와일드카드)
+ * - q=0인 형식은 선택하지 않고, quality가 같으면 producible 목록에서 앞에 있는 형식을 선택 (와일드카드만으로는 기본 형식)
+ * - Accept 헤더가 없거나 형식이 잘못되었거나 받을 수 있는 형식이 없으면 기본 형식(producible 첫 번째)
+ */
+public final class ContentNegotiationUtil {
+
+  private ContentNegotiationUtil() {
+    throw new AssertionError();
+  }
+
+  /**
+   * 응답 형식 선택
+   *
+   * @param accept     Accept 헤더 값 (null 가능)
+   * @param producible 응답 가능한 형식 (첫 번째가 기본 형식)
+   * @return 선택된 응답 형식
+   */
+  public static MediaType select(String accept, List<MediaType> producible) {
+    MediaType fallback = producible.get(0);
+    if (accept == null || accept.isBlank()) {
+      return fallback;
+    }
+
+    List<MediaType> accepted;
+    try {
+      accepted = MediaType.parseMediaTypes(accept);
+    } catch (InvalidMediaTypeException e) {
+      return fallback;
+    }
+
+    MediaType selected = fallback;
+    double bestQuality = 0;
+    for (MediaType candidate : producible) {
+      double quality = qualityOf(candidate, accepted);
+      if (quality > bestQuality) {
+        bestQuality = quality;
+        selected = candidate;
+      }
+    }
+    return selected;
+  }
+
+  /**
+   * 형식을 포함하는 가장 구체적인 Accept 항목의 q 값 (포함하는 항목이 없으면 0)
+   */
+  private static double qualityOf(MediaType candidate, List<MediaType> accepted) {
+    int bestSpecificity = -1;
+    double quality = 0;
+    for (MediaType mediaType : accepted) {
+      if (!mediaType.includes(candidate)) {
+        continue;
+      }
+      int specificity = mediaType.isWildcardType() ? 0 : mediaType.isWildcardSubtype() ? 1 : 2;
+      if (specificity > bestSpecificity) {
+        bestSpecificity = specificity;
+        quality = mediaType.getQualityValue();
+      }
+    }
+    return quality;
+  }
+}
@@ -0,0 +1,89 @@
+package kr.suhsaechan.mapsy.common.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 위경도 격자 셀 유틸리티 (반경/영역 검색용)
+ * - 위도/경도를 CELL_DEGREES 간격으로 나눈 격자 셀 번호 = 위도 인덱스 * LONGITUDE_CELLS + 경도 인덱스
+ * - 같은 위도 행의 셀은 번호가 연속되어 B-tree 인덱스로 조회 가능
+ * - 셀 번호 계산은 DB 백필(V0.3.9)과 같은 결과가 나오도록 BigDecimal 내림 연산 사용
+ * - 경도 ±180° 경계를 넘는 검색은 고려하지 않음 (국내 장소 기준)
+ */
+public final class GeoGridUtil {
+
+  public static final BigDecimal CELL_DEGREES = new BigDecimal("0.005");
+  public static final long LONGITUDE_CELLS = 72_000;
+  public static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+  private static final int LATITUDE_CELLS = 36_000;
+  private static final BigDecimal LATITUDE_OFFSET = BigDecimal.valueOf(90);
+  private static final BigDecimal LONGITUDE_OFFSET = BigDecimal.valueOf(180);
+
+  // 위도 1도의 거리 (m)
+  public static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180;
+
+  private GeoGridUtil() {
+    throw new AssertionError();
+  }
+
+  /**
+   * 좌표의 격자 셀 번호
+   *
+   * @param latitude  위도
+   * @param longitude 경도
+   * @return 셀 번호 (좌표가 없으면 null)
+   */
+  public static Long cellOf(BigDecimal latitude, BigDecimal longitude) {
+    if (latitude == null || longitude == null) {
+      return null;
+    }
+    return cellOf(latitudeIndex(latitude), longitudeIndex(longitude));
+  }
+
+  public static long cellOf(int latitudeIndex, int longitudeIndex) {
+    return latitudeIndex * LONGITUDE_CELLS + longitudeIndex;
+  }
+
+  public static int latitudeIndex(BigDecimal latitude) {
+    int index = latitude.add(LATITUDE_OFFSET).divide(CELL_DEGREES, 0, RoundingMode.FLOOR).intValue();
+    return Math.clamp(index, 0, LATITUDE_CELLS - 1);
+  }
+
+  public static int longitudeIndex(BigDecimal longitude) {
+    int index = longitude.add(LONGITUDE_OFFSET).divide(CELL_DEGREES, 0, RoundingMode.FLOOR).intValue();
+    return Math.clamp(index, 0, (int) LONGITUDE_CELLS - 1);
+  }
+
+  public static int latitudeIndex(double latitude) {
+    return latitudeIndex(BigDecimal.valueOf(latitude));
+  }
+
+  public static int longitudeIndex(double longitude) {
+    return longitudeIndex(BigDecimal.valueOf(longitude));
+  }
+
+  /**
+   * 셀의 최소 변 길이 (m)
+   * - 경도 방향 길이는 위도가 높을수록 짧아지므로 범위 내 가장 높은 위도 기준
+   *
+   * @param maxAbsLatitude 검색 범위의 최대 |위도|
+   * @return 셀 높이/너비 중 작은 값
+   */
+  public static double minCellSizeMeters(double maxAbsLatitude) {
+    double height = CELL_DEGREES.doubleValue() * METERS_PER_DEGREE;
+    return Math.min(height, height * Math.cos(Math.toRadians(maxAbsLatitude)));
+  }
+
+  /**
+   * 두 좌표 사이의 거리 (haversine, m)
+   */
+  public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+    double dLat = Math.toRadians(lat2 - lat1);
+    double dLon = Math.toRadians(lon2 - lon1);
+    double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+        + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+        * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+    return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+  }
+}
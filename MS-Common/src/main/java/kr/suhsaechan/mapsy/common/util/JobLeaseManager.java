@@ -0,0 +1,45 @@
+package kr.suhsaechan.mapsy.common.util;
+
+import kr.suhsaechan.mapsy.common.repository.JobLeaseRepository;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다중 인스턴스 환경의 스케줄 작업 중복 실행 방지 (DB 리스 기반)
+ * - 리스는 명시적으로 해제하지 않고 만료 시각까지 유지 (같은 주기에 다른 인스턴스가 재실행하지 않도록)
+ * - 리스 보유 인스턴스가 종료되면 만료 후 다른 인스턴스가 획득
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobLeaseManager {
+
+  private static final String INSTANCE_ID =
+      ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+
+  private final JobLeaseRepository jobLeaseRepository;
+
+  /**
+   * 리스 획득 시도
+   *
+   * @param jobName  작업 이름
+   * @param duration 리스 유지 시간 (작업 주기보다 짧게 설정)
+   * @return 획득 여부 (DB 오류 시 false)
+   */
+  public boolean tryAcquire(String jobName, Duration duration) {
+    try {
+      boolean acquired = jobLeaseRepository.tryAcquire(jobName, INSTANCE_ID, duration.toSeconds()) > 0;
+      if (!acquired) {
+        log.debug("[JobLease] 다른 인스턴스가 리스 보유 중 - job={}", jobName);
+      }
+      return acquired;
+    } catch (RuntimeException e) {
+      log.warn("[JobLease] 리스 획득 실패 - job={}, error={}", jobName, e.getMessage());
+      return false;
+    }
+  }
+}
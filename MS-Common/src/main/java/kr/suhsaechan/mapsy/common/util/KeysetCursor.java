@@ -0,0 +1,60 @@
+package kr.suhsaechan.mapsy.common.util;
+
+import kr.suhsaechan.mapsy.common.exception.CustomException;
+import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * (createdAt, id) 기반 Keyset 페이지네이션 커서
+ * - 클라이언트에는 Base64URL로 인코딩된 불투명 문자열로 전달
+ * - 마지막으로 조회한 행의 createdAt, id를 담아 다음 페이지 조회 조건으로 사용
+ *
+ * @param createdAt 마지막 행의 생성 시각
+ * @param id        마지막 행의 ID (createdAt 동률 시 tie-breaker)
+ */
+public record KeysetCursor(LocalDateTime createdAt, UUID id) {
+
+  private static final String DELIMITER = "|";
+
+  /**
+   * 커서를 불투명 문자열로 인코딩
+   *
+   * @return Base64URL 인코딩된 커서
+   */
+  public String encode() {
+    String raw = createdAt.toString() + DELIMITER + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 불투명 문자열을 커서로 디코딩
+   * - null 또는 빈 문자열이면 null 반환 (첫 페이지)
+   *
+   * @param cursor Base64URL 인코딩된 커서
+   * @return KeysetCursor (첫 페이지면 null)
+   * @throws CustomException 커서 형식이 올바르지 않은 경우
+   */
+  public static KeysetCursor decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int index = raw.indexOf(DELIMITER);
+      if (index < 0) {
+        throw new CustomException(ErrorCode.INVALID_CURSOR);
+      }
+      return new KeysetCursor(
+          LocalDateTime.parse(raw.substring(0, index)),
+          UUID.fromString(raw.substring(index + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new CustomException(ErrorCode.INVALID_CURSOR);
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package kr.suhsaechan.mapsy.common.util;
+
+import java.util.Map;
+
+/**
+ * 한글 자모 분해 유틸리티 (자동완성 색인용)
+ * - 완성형 음절을 호환 자모로 분해하며, 겹받침/이중모음은 입력 순서대로 다시 분해 (ㄺ → ㄹㄱ, ㅘ → ㅗㅏ)
+ * - 입력 중인 글자("강나")도 완성 단어("강남")의 자모 분해 접두어가 되도록 하기 위함
+ * - 한글 이외 문자는 그대로 유지
+ */
+public final class KoreanJamoUtil {
+
+  private static final char SYLLABLE_BEGIN = '가';
+  private static final char SYLLABLE_END = '힣';
+  private static final char COMPAT_CONSONANT_BEGIN = 'ㄱ';
+  private static final char COMPAT_CONSONANT_END = 'ㅎ';
+  private static final int JUNGSUNG_COUNT = 21;
+  private static final int JONGSUNG_COUNT = 28;
+
+  private static final char[] CHOSUNG = {
+      'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+      'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+  };
+
+  private static final String[] JUNGSUNG = {
+      "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+      "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ",
+      "ㅣ"
+  };
+
+  private static final String[] JONGSUNG = {
+      "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+      "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+      "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+  };
+
+  // 단독 입력된 겹자모 분해
+  private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+      Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+      Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+      Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+      Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"),
+      Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+      Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"),
+      Map.entry('ㅢ', "ㅡㅣ")
+  );
+
+  private KoreanJamoUtil() {
+    throw new AssertionError();
+  }
+
+  /**
+   * 자모 분해 ("강남카페" → "ㄱㅏㅇㄴㅏㅁㅋㅏㅍㅔ")
+   *
+   * @param text 원본 문자열
+   * @return 자모 분해 문자열
+   */
+  public static String decompose(String text) {
+    StringBuilder builder = new StringBuilder(text.length() * 3);
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (isSyllable(c)) {
+        int offset = c - SYLLABLE_BEGIN;
+        builder.append(CHOSUNG[offset / (JUNGSUNG_COUNT * JONGSUNG_COUNT)])
+            .append(JUNGSUNG[(offset / JONGSUNG_COUNT) % JUNGSUNG_COUNT])
+            .append(JONGSUNG[offset % JONGSUNG_COUNT]);
+      } else {
+        builder.append(COMPOUND_JAMO.getOrDefault(c, String.valueOf(c)));
+      }
+    }
+    return builder.toString();
+  }
+
+  /**
+   * 초성 추출 ("강남카페" → "ㄱㄴㅋㅍ")
+   *
+   * @param text 원본 문자열
+   * @return 초성 문자열 (한글 음절 이외 문자는 그대로)
+   */
+  public static String chosung(String text) {
+    StringBuilder builder = new StringBuilder(text.length());
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      builder.append(isSyllable(c)
+          ? CHOSUNG[(c - SYLLABLE_BEGIN) / (JUNGSUNG_COUNT * JONGSUNG_COUNT)]
+          : c);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * 초성으로만 이루어진 검색어인지 확인 ("ㄱㄴㅋㅍ" → true)
+   *
+   * @param text 검색어
+   * @return 초성 검색어 여부
+   */
+  public static boolean isChosungOnly(String text) {
+    if (text.isEmpty()) {
+      return false;
+    }
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c < COMPAT_CONSONANT_BEGIN || c > COMPAT_CONSONANT_END) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isSyllable(char c) {
+    return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+  }
+}
@@ -0,0 +1,84 @@
+package kr.suhsaechan.mapsy.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Protocol Buffers wire format 직접 인코딩 (코드 생성 없이 고정 스키마 응답 작성용)
+ * - varint(0), length-delimited(2) 필드만 지원
+ * - packed repeated 필드는 별도 ProtobufWriter에 값을 쓴 뒤 writeMessage로 감싸서 기록
+ */
+public final class ProtobufWriter {
+
+  private static final int WIRE_TYPE_VARINT = 0;
+  private static final int WIRE_TYPE_LENGTH_DELIMITED = 2;
+
+  private byte[] buffer;
+  private int size;
+
+  public ProtobufWriter(int initialCapacity) {
+    this.buffer = new byte[Math.max(initialCapacity, 16)];
+  }
+
+  /**
+   * ZigZag 인코딩 (sint32/sint64, 음수도 작은 varint로 기록)
+   */
+  public static long zigZag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  /**
+   * 태그 없이 varint 값만 기록 (packed repeated 필드 값용)
+   */
+  public void writeRawVarint(long value) {
+    ensureCapacity(10);
+    while ((value & ~0x7FL) != 0) {
+      buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    buffer[size++] = (byte) value;
+  }
+
+  public void writeVarint(int fieldNumber, long value) {
+    writeTag(fieldNumber, WIRE_TYPE_VARINT);
+    writeRawVarint(value);
+  }
+
+  public void writeBytes(int fieldNumber, byte[] value, int length) {
+    writeTag(fieldNumber, WIRE_TYPE_LENGTH_DELIMITED);
+    writeRawVarint(length);
+    ensureCapacity(length);
+    System.arraycopy(value, 0, buffer, size, length);
+    size += length;
+  }
+
+  public void writeString(int fieldNumber, String value) {
+    byte[] bytes = (value != null ? value : "").getBytes(StandardCharsets.UTF_8);
+    writeBytes(fieldNumber, bytes, bytes.length);
+  }
+
+  /**
+   * 다른 writer의 내용을 length-delimited 필드로 기록 (중첩 메시지, packed repeated)
+   */
+  public void writeMessage(int fieldNumber, ProtobufWriter message) {
+    writeBytes(fieldNumber, message.buffer, message.size);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public byte[] toByteArray() {
+    return Arrays.copyOf(buffer, size);
+  }
+
+  private void writeTag(int fieldNumber, int wireType) {
+    writeRawVarint(((long) fieldNumber << 3) | wireType);
+  }
+
+  private void ensureCapacity(int additional) {
+    if (size + additional > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package kr.suhsaechan.mapsy.common.util;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.StringJoiner;
+
+/**
+ * HTTP 조건부 요청(If-None-Match / If-Modified-Since) 검증자
+ * - 응답 본문을 만들기 전에 가벼운 타임스탬프/버전 조회만으로 계산
+ * - 버전을 알 수 없으면 ETag 없이 Last-Modified로만 검증
+ *
+ * @param etag         강한 ETag (따옴표 포함, 버전을 알 수 없으면 null)
+ * @param lastModified 마지막 수정 시각
+ */
+public record ResourceValidator(String etag, Instant lastModified) {
+
+  /**
+   * 수정 시각과 버전 구성요소로 검증자 생성
+   *
+   * @param prefix       리소스 구분자 (예: "place")
+   * @param lastModified 마지막 수정 시각
+   * @param versionParts ETag에 포함할 추가 버전 구성요소
+   * @return ResourceValidator
+   */
+  public static ResourceValidator of(String prefix, LocalDateTime lastModified, Object... versionParts) {
+    Instant instant = lastModified.atZone(ZoneId.systemDefault()).toInstant();
+
+    StringJoiner joiner = new StringJoiner("-", "\"", "\"");
+    joiner.add(prefix);
+    joiner.add(Long.toString(instant.toEpochMilli()));
+    for (Object part : versionParts) {
+      joiner.add(String.valueOf(part));
+    }
+    return new ResourceValidator(joiner.toString(), instant);
+  }
+
+  /**
+   * 수정 시각만으로 검증자 생성 (ETag 없음)
+   *
+   * @param lastModified 마지막 수정 시각
+   * @return ResourceValidator
+   */
+  public static ResourceValidator ofLastModified(LocalDateTime lastModified) {
+    return new ResourceValidator(null, lastModified.atZone(ZoneId.systemDefault()).toInstant());
+  }
+
+  public boolean hasEtag() {
+    return etag != null;
+  }
+
+  public long lastModifiedMillis() {
+    return lastModified.toEpochMilli();
+  }
+}
@@ -0,0 +1,30 @@
+package kr.suhsaechan.mapsy.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionUtil {
+
+  private TransactionUtil() {
+    throw new AssertionError();
+  }
+
+  /**
+   * 트랜잭션 내부면 커밋 후 실행, 아니면 즉시 실행
+   * - 롤백된 변경이 캐시 등 외부 저장소에 반영되지 않도록 함
+   *
+   * @param task 실행할 작업
+   */
+  public static void runAfterCommit(Runnable task) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          task.run();
+        }
+      });
+    } else {
+      task.run();
+    }
+  }
+}
@@ -0,0 +1,20 @@
+package kr.suhsaechan.mapsy.member.constant;
+
+/**
+ * 토큰별 푸시 전송 실패 사유 (Firebase MessagingErrorCode 대응)
+ */
+public enum PushFailureReason {
+  INVALID_ARGUMENT,
+  UNREGISTERED,
+  QUOTA_EXCEEDED,
+  UNAVAILABLE,
+  INTERNAL,
+  UNKNOWN;
+
+  /**
+   * 다시 보내도 전달될 수 없는 토큰인지 여부 (토큰 삭제 대상)
+   */
+  public boolean isInvalidToken() {
+    return this == INVALID_ARGUMENT || this == UNREGISTERED;
+  }
+}
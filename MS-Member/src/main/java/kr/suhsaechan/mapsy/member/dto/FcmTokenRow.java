@@ -0,0 +1,15 @@
+package kr.suhsaechan.mapsy.member.dto;
+
+import java.util.UUID;
+
+/**
+ * 알림 일괄 전송용 FCM 토큰 Projection
+ * - Member 엔티티 로딩 없이 토큰과 소유 회원 ID만 조회
+ */
+public record FcmTokenRow(
+    UUID id,
+    UUID memberId,
+    String fcmToken
+) {
+
+}
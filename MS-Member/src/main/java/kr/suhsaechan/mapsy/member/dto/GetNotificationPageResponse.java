@@ -0,0 +1,25 @@
+package kr.suhsaechan.mapsy.member.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "알림함 조회 응답")
+public class GetNotificationPageResponse {
+
+  @Schema(description = "알림 목록 (최신순)")
+  private List<NotificationDto> notifications;
+
+  @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MjAyNS0xMS0yM1QxMDozMDowMHw1NTBlODQwMC1lMjliLTQxZDQtYTcxNi00NDY2NTU0NDAwMDA")
+  private String nextCursor;
+
+  @Schema(description = "다음 페이지 존재 여부", example = "true")
+  private boolean hasNext;
+}
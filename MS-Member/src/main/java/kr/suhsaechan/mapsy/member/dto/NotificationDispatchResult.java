@@ -0,0 +1,25 @@
+package kr.suhsaechan.mapsy.member.dto;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 여러 회원 대상 알림 일괄 전송 결과 (토큰별 결과를 회원 단위로 집계)
+ *
+ * @param deliveredMemberIds 1개 이상의 기기에 전송 성공한 회원
+ * @param noTokenMemberIds   등록된 FCM 토큰이 없는 회원
+ * @param failedMemberIds    토큰이 있지만 한 기기에도 전송하지 못했거나 전송 요청이 실패한 배치에 포함된 회원 (재시도 대상)
+ * @param successCount       전송 성공 토큰 수
+ * @param failureCount       전송 실패 토큰 수 (유효하지 않은 토큰 포함)
+ * @param invalidTokenCount  유효하지 않아 삭제한 토큰 수
+ */
+public record NotificationDispatchResult(
+    Set<UUID> deliveredMemberIds,
+    Set<UUID> noTokenMemberIds,
+    Set<UUID> failedMemberIds,
+    int successCount,
+    int failureCount,
+    int invalidTokenCount
+) {
+
+}
@@ -0,0 +1,45 @@
+package kr.suhsaechan.mapsy.member.dto;
+
+import kr.suhsaechan.mapsy.member.constant.TargetType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "알림 정보 DTO")
+public class NotificationDto {
+
+  @Schema(description = "알림 ID", example = "550e8400-e29b-41d4-a716-446655440000")
+  private UUID notificationId;
+
+  @Schema(description = "알림 유형", example = "CONTENT_COMPLETE")
+  private String type;
+
+  @Schema(description = "알림 제목", example = "콘텐츠 분석 완료")
+  private String title;
+
+  @Schema(description = "알림 본문", example = "5개의 장소가 발견되었습니다.")
+  private String body;
+
+  @Schema(description = "이동 대상 유형", example = "CONTENT")
+  private TargetType targetType;
+
+  @Schema(description = "이동 대상 ID", example = "550e8400-e29b-41d4-a716-446655440000")
+  private UUID targetId;
+
+  @Schema(description = "읽음 여부", example = "false")
+  private boolean read;
+
+  @Schema(description = "읽은 시각 (읽지 않았으면 null)")
+  private LocalDateTime readAt;
+
+  @Schema(description = "알림 생성 시각")
+  private LocalDateTime createdAt;
+}
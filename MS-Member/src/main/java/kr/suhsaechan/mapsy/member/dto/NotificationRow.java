@@ -0,0 +1,40 @@
+package kr.suhsaechan.mapsy.member.dto;
+
+import kr.suhsaechan.mapsy.common.util.KeysetCursor;
+import kr.suhsaechan.mapsy.member.constant.TargetType;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 알림함 조회용 Projection
+ * - Member 엔티티를 로딩하지 않고 NotificationDto 컬럼과 keyset 컬럼(createdAt, id)만 조회
+ */
+public record NotificationRow(
+    UUID id,
+    String type,
+    String title,
+    String body,
+    TargetType targetType,
+    UUID targetId,
+    LocalDateTime readAt,
+    LocalDateTime createdAt
+) {
+
+  public NotificationDto toDto() {
+    return NotificationDto.builder()
+        .notificationId(id)
+        .type(type)
+        .title(title)
+        .body(body)
+        .targetType(targetType)
+        .targetId(targetId)
+        .read(readAt != null)
+        .readAt(readAt)
+        .createdAt(createdAt)
+        .build();
+  }
+
+  public KeysetCursor toCursor() {
+    return new KeysetCursor(createdAt, id);
+  }
+}
@@ -0,0 +1,18 @@
+package kr.suhsaechan.mapsy.member.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "읽지 않은 알림 수 응답")
+public class NotificationUnreadCountResponse {
+
+  @Schema(description = "읽지 않은 알림 수", example = "3")
+  private long unreadCount;
+}
@@ -0,0 +1,20 @@
+package kr.suhsaechan.mapsy.member.dto;
+
+import java.util.Map;
+
+/**
+ * 푸시 알림 내용 (전송 대상 토큰과 무관한 부분)
+ *
+ * @param title    알림 제목
+ * @param body     알림 본문
+ * @param data     추가 데이터 (선택)
+ * @param imageUrl 이미지 URL (선택)
+ */
+public record PushMessage(
+    String title,
+    String body,
+    Map<String, String> data,
+    String imageUrl
+) {
+
+}
@@ -0,0 +1,29 @@
+package kr.suhsaechan.mapsy.member.dto;
+
+import kr.suhsaechan.mapsy.member.constant.PushFailureReason;
+
+/**
+ * 토큰 1개의 푸시 전송 결과
+ *
+ * @param successful    전송 성공 여부
+ * @param messageId     전송된 메시지 ID (실패 시 null)
+ * @param failureReason 실패 사유 (성공 시 null)
+ */
+public record PushSendResult(
+    boolean successful,
+    String messageId,
+    PushFailureReason failureReason
+) {
+
+  public static PushSendResult success(String messageId) {
+    return new PushSendResult(true, messageId, null);
+  }
+
+  public static PushSendResult failure(PushFailureReason failureReason) {
+    return new PushSendResult(false, null, failureReason);
+  }
+
+  public boolean isInvalidToken() {
+    return !successful && failureReason != null && failureReason.isInvalidToken();
+  }
+}
@@ -0,0 +1,24 @@
+package kr.suhsaechan.mapsy.member.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "알림 읽음 처리 요청")
+public class ReadNotificationsRequest {
+
+  @Schema(description = "읽음 처리할 알림 ID 목록 (최대 100개)")
+  @NotEmpty
+  @Size(max = 100)
+  private List<UUID> notificationIds;
+}
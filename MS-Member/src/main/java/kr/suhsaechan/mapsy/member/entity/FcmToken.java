@@ -23,7 +23,8 @@ import java.util.UUID;
     },
     indexes = {
         @Index(name = "idx_member_id", columnList = "member_id"),
-        @Index(name = "idx_device_id", columnList = "device_id")
+        @Index(name = "idx_device_id", columnList = "device_id"),
+        @Index(name = "idx_fcm_token_last_used_at", columnList = "last_used_at")
     }
 )
 public class FcmToken extends BaseEntity {
@@ -10,7 +10,9 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.AccessLevel;
@@ -20,6 +22,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(
+    indexes = {
+        @Index(name = "idx_notification_recipient_created", columnList = "recipient_member_id, created_at DESC, id DESC")
+    }
+)
 @Builder
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -40,6 +47,9 @@ public class Notification extends BaseEntity {
   @Column(nullable = false, length = 200)
   private String title;
 
+  @Column(length = 500)
+  private String body;
+
   @Enumerated(EnumType.STRING)
   @Column(nullable = false)
   private TargetType targetType;
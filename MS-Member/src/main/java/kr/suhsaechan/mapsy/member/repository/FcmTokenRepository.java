@@ -1,10 +1,16 @@
 package kr.suhsaechan.mapsy.member.repository;
 
+import kr.suhsaechan.mapsy.member.dto.FcmTokenRow;
 import kr.suhsaechan.mapsy.member.entity.FcmToken;
 import kr.suhsaechan.mapsy.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,10 +25,72 @@ public interface FcmTokenRepository extends JpaRepository<FcmToken, UUID> {
 
   List<FcmToken> findByMemberId(UUID memberId);
 
+  /**
+   * 여러 회원의 FCM 토큰 일괄 조회 (알림 일괄 전송용, 회원 ID 순)
+   *
+   * @param memberIds 회원 ID 목록
+   * @return FcmTokenRow 목록
+   */
+  @Query("""
+    SELECT new kr.suhsaechan.mapsy.member.dto.FcmTokenRow(t.id, t.member.id, t.fcmToken)
+    FROM FcmToken t
+    WHERE t.member.id IN :memberIds
+    ORDER BY t.member.id
+    """)
+  List<FcmTokenRow> findTokenRowsByMemberIdIn(@Param("memberIds") Collection<UUID> memberIds);
+
   Optional<FcmToken> findByFcmToken(String fcmToken);
 
   List<FcmToken> findByLastUsedAtBefore(LocalDateTime dateTime);
 
+  /**
+   * FCM 토큰 문자열 목록으로 일괄 삭제 (유효하지 않은 토큰 정리, 단일 DELETE)
+   *
+   * @param fcmTokens FCM 토큰 문자열 목록
+   * @return 삭제된 토큰 수
+   */
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM FcmToken t WHERE t.fcmToken IN :fcmTokens")
+  int deleteByFcmTokenIn(@Param("fcmTokens") Collection<String> fcmTokens);
+
+  /**
+   * 전송에 성공한 FCM 토큰의 마지막 사용 시각 일괄 갱신 (단일 UPDATE, 오래된 토큰 정리 기준)
+   *
+   * @param ids    전송 성공한 토큰 ID 목록
+   * @param usedAt 마지막 사용 시각
+   * @return 갱신된 토큰 수
+   */
+  @Transactional
+  @Modifying
+  @Query(value = """
+    UPDATE fcm_token t
+    SET last_used_at = :usedAt
+    FROM unnest(CAST(:ids AS uuid[])) AS u(id)
+    WHERE t.id = u.id
+    """, nativeQuery = true)
+  int updateLastUsedAt(@Param("ids") UUID[] ids, @Param("usedAt") LocalDateTime usedAt);
+
+  /**
+   * 오래 사용되지 않은 FCM 토큰을 최대 batchSize개 삭제 (idx_fcm_token_last_used_at)
+   * - lastUsedAt이 없는 기존 토큰은 수정 시각 기준
+   *
+   * @param cutoff    이 시각 이전에 마지막으로 사용된 토큰 삭제
+   * @param batchSize 한 번에 삭제할 최대 개수
+   * @return 삭제된 토큰 수 (batchSize보다 작으면 남은 대상 없음)
+   */
+  @Transactional
+  @Modifying
+  @Query(value = """
+    DELETE FROM fcm_token
+    WHERE id IN (
+        SELECT id FROM fcm_token
+        WHERE last_used_at < :cutoff
+           OR (last_used_at IS NULL AND updated_at < :cutoff)
+        LIMIT :batchSize)
+    """, nativeQuery = true)
+  int deleteStaleTokens(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+
   void deleteByMemberAndDeviceId(Member member, String deviceId);
 
   void deleteByMember(Member member);
@@ -0,0 +1,136 @@
+package kr.suhsaechan.mapsy.member.repository;
+
+import kr.suhsaechan.mapsy.member.dto.NotificationRow;
+import kr.suhsaechan.mapsy.member.entity.Notification;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Notification 엔티티에 대한 Repository
+ */
+public interface NotificationRepository extends JpaRepository<Notification, UUID> {
+
+  /**
+   * 여러 회원에게 같은 알림 일괄 저장 (단일 INSERT ... SELECT)
+   *
+   * @param memberIds  수신 회원 ID 배열
+   * @param type       알림 유형
+   * @param title      알림 제목
+   * @param body       알림 본문
+   * @param targetType 이동 대상 유형 (TargetType 이름)
+   * @param targetId   이동 대상 ID
+   * @param createdAt  생성 시각
+   * @return 저장된 알림 수
+   */
+  @Modifying
+  @Query(value = """
+    INSERT INTO notification (id, recipient_member_id, type, title, body, target_type, target_id, created_at, updated_at)
+    SELECT gen_random_uuid(), m.id, :type, :title, :body, :targetType, CAST(:targetId AS uuid), :createdAt, :createdAt
+    FROM unnest(CAST(:memberIds AS uuid[])) AS m(id)
+    """, nativeQuery = true)
+  int insertForMembers(
+      @Param("memberIds") UUID[] memberIds,
+      @Param("type") String type,
+      @Param("title") String title,
+      @Param("body") String body,
+      @Param("targetType") String targetType,
+      @Param("targetId") UUID targetId,
+      @Param("createdAt") LocalDateTime createdAt
+  );
+
+  /**
+   * 회원 알림함 첫 페이지 조회 (idx_notification_recipient_created)
+   *
+   * @param memberId 회원 ID
+   * @param limit    조회 개수
+   * @return NotificationRow 목록 (createdAt, id 내림차순)
+   */
+  @Query("""
+    SELECT new kr.suhsaechan.mapsy.member.dto.NotificationRow(
+      n.id, n.type, n.title, n.body, n.targetType, n.targetId, n.readAt, n.createdAt)
+    FROM Notification n
+    WHERE n.recipientMember.id = :memberId
+    ORDER BY n.createdAt DESC, n.id DESC
+    """)
+  List<NotificationRow> findNotificationRows(
+      @Param("memberId") UUID memberId,
+      Limit limit
+  );
+
+  /**
+   * 회원 알림함 다음 페이지 조회 (Keyset 페이지네이션)
+   *
+   * @param memberId        회원 ID
+   * @param cursorCreatedAt 이전 페이지 마지막 알림의 createdAt
+   * @param cursorId        이전 페이지 마지막 알림의 id
+   * @param limit           조회 개수
+   * @return NotificationRow 목록 (createdAt, id 내림차순)
+   */
+  @Query("""
+    SELECT new kr.suhsaechan.mapsy.member.dto.NotificationRow(
+      n.id, n.type, n.title, n.body, n.targetType, n.targetId, n.readAt, n.createdAt)
+    FROM Notification n
+    WHERE n.recipientMember.id = :memberId
+    AND (n.createdAt < :cursorCreatedAt
+      OR (n.createdAt = :cursorCreatedAt AND n.id < :cursorId))
+    ORDER BY n.createdAt DESC, n.id DESC
+    """)
+  List<NotificationRow> findNotificationRowsAfter(
+      @Param("memberId") UUID memberId,
+      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+      @Param("cursorId") UUID cursorId,
+      Limit limit
+  );
+
+  /**
+   * 회원의 읽지 않은 알림 중 지정한 알림 읽음 처리
+   *
+   * @param memberId        회원 ID
+   * @param notificationIds 알림 ID 목록
+   * @param readAt          읽은 시각
+   * @return 새로 읽음 처리된 알림 수
+   */
+  @Modifying
+  @Query("""
+    UPDATE Notification n SET n.readAt = :readAt
+    WHERE n.recipientMember.id = :memberId
+    AND n.id IN :notificationIds
+    AND n.readAt IS NULL
+    """)
+  int markRead(
+      @Param("memberId") UUID memberId,
+      @Param("notificationIds") Collection<UUID> notificationIds,
+      @Param("readAt") LocalDateTime readAt
+  );
+
+  /**
+   * 회원의 읽지 않은 알림 전체 읽음 처리
+   *
+   * @param memberId 회원 ID
+   * @param readAt   읽은 시각
+   * @return 새로 읽음 처리된 알림 수
+   */
+  @Modifying
+  @Query("""
+    UPDATE Notification n SET n.readAt = :readAt
+    WHERE n.recipientMember.id = :memberId
+    AND n.readAt IS NULL
+    """)
+  int markAllRead(@Param("memberId") UUID memberId, @Param("readAt") LocalDateTime readAt);
+
+  /**
+   * 회원의 읽지 않은 알림 수 (idx_notification_recipient_unread, Redis 카운터 미스 시에만 사용)
+   *
+   * @param memberId 회원 ID
+   * @return 읽지 않은 알림 수
+   */
+  @Query("SELECT COUNT(n) FROM Notification n WHERE n.recipientMember.id = :memberId AND n.readAt IS NULL")
+  long countUnread(@Param("memberId") UUID memberId);
+}
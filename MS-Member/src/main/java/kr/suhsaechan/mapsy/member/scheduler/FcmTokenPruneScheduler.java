@@ -0,0 +1,45 @@
+package kr.suhsaechan.mapsy.member.scheduler;
+
+import kr.suhsaechan.mapsy.common.util.JobLeaseManager;
+import kr.suhsaechan.mapsy.member.service.FcmService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 오래 사용되지 않은 FCM 토큰 정리 스케줄러 (매일 04:30)
+ * - fcm.token.stale-days(기본 60일) 동안 사용되지 않은 토큰을 BATCH_SIZE개씩 삭제
+ * - 여러 인스턴스가 동시에 실행되어도 리스를 획득한 하나의 인스턴스만 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FcmTokenPruneScheduler {
+
+  private static final String JOB_NAME = "fcm-token-prune";
+  private static final Duration LEASE_DURATION = Duration.ofHours(20);
+  private static final int BATCH_SIZE = 1_000;
+
+  private final JobLeaseManager jobLeaseManager;
+  private final FcmService fcmService;
+
+  @Value("${fcm.token.stale-days:60}")
+  private int staleDays;
+
+  @Scheduled(cron = "0 30 4 * * *")
+  public void pruneStaleTokens() {
+    if (!jobLeaseManager.tryAcquire(JOB_NAME, LEASE_DURATION)) {
+      return;
+    }
+
+    try {
+      fcmService.pruneStaleTokens(LocalDateTime.now().minusDays(staleDays), BATCH_SIZE);
+    } catch (RuntimeException e) {
+      log.error("[FcmTokenPrune] FCM 토큰 정리 실패 - error={}", e.getMessage(), e);
+    }
+  }
+}
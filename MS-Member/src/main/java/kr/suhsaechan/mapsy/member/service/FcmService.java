@@ -1,25 +1,26 @@
 package kr.suhsaechan.mapsy.member.service;
 
-import com.google.firebase.FirebaseApp;
-import com.google.firebase.messaging.*;
 import kr.suhsaechan.mapsy.common.exception.CustomException;
 import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
 import kr.suhsaechan.mapsy.member.dto.FcmNotificationRequest;
+import kr.suhsaechan.mapsy.member.dto.PushMessage;
+import kr.suhsaechan.mapsy.member.dto.PushSendResult;
 import kr.suhsaechan.mapsy.member.entity.FcmToken;
 import kr.suhsaechan.mapsy.member.entity.Member;
 import kr.suhsaechan.mapsy.member.repository.FcmTokenRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Firebase Cloud Messaging 알림 전송 서비스
+ * - 실제 전송은 PushGateway에 위임 (push.gateway 설정으로 Firebase / 인메모리 선택)
  */
 @Service
 @Slf4j
@@ -27,6 +28,8 @@ import java.util.stream.Collectors;
 public class FcmService {
 
   private final FcmTokenRepository fcmTokenRepository;
+  private final PushGateway pushGateway;
+  private final PushMetrics pushMetrics;
 
   /**
    * 단일 기기로 푸시 알림 전송
@@ -43,52 +46,22 @@ public class FcmService {
       String body,
       Map<String, String> data,
       String imageUrl) {
-    try {
-      // Firebase App이 초기화되어 있는지 확인
-      if (FirebaseApp.getApps().isEmpty()) {
-        log.error("Firebase App이 초기화되지 않았습니다. FCM 알림을 전송할 수 없습니다.");
-        throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
-      }
-
-      // 알림 메시지 빌더 생성
-      Notification.Builder notificationBuilder = Notification.builder()
-          .setTitle(title)
-          .setBody(body);
-
-      // 이미지 URL이 있으면 추가
-      if (imageUrl != null && !imageUrl.isBlank()) {
-        notificationBuilder.setImage(imageUrl);
-      }
-
-      Notification notification = notificationBuilder.build();
-
-      // 메시지 빌더 생성
-      Message.Builder messageBuilder = Message.builder()
-          .setToken(fcmToken)
-          .setNotification(notification);
-
-      // 추가 데이터가 있으면 추가
-      if (data != null && !data.isEmpty()) {
-        messageBuilder.putAllData(data);
-      }
-
-      Message message = messageBuilder.build();
-
-      // 메시지 전송
-      String response = FirebaseMessaging.getInstance().send(message);
-      log.info("FCM 알림 전송 성공: {}", response);
+    PushSendResult result = send(new PushMessage(title, body, data, imageUrl), List.of(fcmToken)).get(0);
 
-    } catch (FirebaseMessagingException e) {
-      log.error("FCM 알림 전송 실패: {}", e.getMessage(), e);
+    if (result.successful()) {
+      log.info("FCM 알림 전송 성공: {}", result.messageId());
+      return;
+    }
 
-      // 토큰이 유효하지 않은 경우 처리
-      if (isInvalidTokenError(e)) {
-        log.warn("유효하지 않은 FCM 토큰: {}", fcmToken);
-        deleteInvalidToken(fcmToken);
-      }
+    log.error("FCM 알림 전송 실패: {}", result.failureReason());
 
-      throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+    // 토큰이 유효하지 않은 경우 처리
+    if (result.isInvalidToken()) {
+      log.warn("유효하지 않은 FCM 토큰: {}", fcmToken);
+      deleteInvalidToken(fcmToken);
     }
+
+    throw new CustomException(ErrorCode.PUSH_SEND_FAILED);
   }
 
   /**
@@ -100,7 +73,6 @@ public class FcmService {
    * @param data     추가 데이터
    * @param imageUrl 이미지 URL (선택)
    */
-  @Transactional(readOnly = true)
   public void sendNotificationToMember(UUID memberId, String title, String body, Map<String, String> data, String imageUrl) {
     // 회원의 모든 FCM 토큰 조회
     List<FcmToken> tokens = fcmTokenRepository.findByMemberId(memberId);
@@ -125,7 +97,6 @@ public class FcmService {
    * @param data     추가 데이터
    * @param imageUrl 이미지 URL (선택)
    */
-  @Transactional(readOnly = true)
   public void sendNotificationToAllDevices(Member member, String title, String body, Map<String, String> data, String imageUrl) {
     // 회원의 모든 FCM 토큰 조회
     List<FcmToken> tokens = fcmTokenRepository.findByMember(member);
@@ -151,107 +122,98 @@ public class FcmService {
    * @param imageUrl 이미지 URL (선택)
    */
   private void sendNotificationToMultipleDevices(List<FcmToken> tokens, String title, String body, Map<String, String> data, String imageUrl) {
-    try {
-      // Firebase App이 초기화되어 있는지 확인
-      if (FirebaseApp.getApps().isEmpty()) {
-        log.error("Firebase App이 초기화되지 않았습니다. FCM 알림을 전송할 수 없습니다.");
-        throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
-      }
-
-      // FCM 토큰 문자열 리스트 추출
-      List<String> fcmTokens = tokens.stream()
-          .map(FcmToken::getFcmToken)
-          .collect(Collectors.toList());
-
-      // 알림 메시지 빌더 생성
-      Notification.Builder notificationBuilder = Notification.builder()
-          .setTitle(title)
-          .setBody(body);
-
-      // 이미지 URL이 있으면 추가
-      if (imageUrl != null && !imageUrl.isBlank()) {
-        notificationBuilder.setImage(imageUrl);
-      }
-
-      Notification notification = notificationBuilder.build();
-
-      // 멀티캐스트 메시지 빌더 생성
-      MulticastMessage.Builder messageBuilder = MulticastMessage.builder()
-          .addAllTokens(fcmTokens)
-          .setNotification(notification);
-
-      // 추가 데이터가 있으면 추가
-      if (data != null && !data.isEmpty()) {
-        messageBuilder.putAllData(data);
+    // FCM 토큰 문자열 리스트 추출
+    List<String> fcmTokens = tokens.stream()
+        .map(FcmToken::getFcmToken)
+        .toList();
+
+    // 메시지 전송 (최대 500개까지 한 번에 전송 가능)
+    List<PushSendResult> results = send(new PushMessage(title, body, data, imageUrl), fcmTokens);
+
+    long successCount = results.stream().filter(PushSendResult::successful).count();
+    log.info("FCM 멀티캐스트 알림 전송 완료: 성공 {}, 실패 {}", successCount, results.size() - successCount);
+
+    // 전송 성공한 토큰의 마지막 사용 시각 갱신 (오래된 토큰 정리 기준)
+    if (successCount > 0) {
+      UUID[] deliveredTokenIds = new UUID[(int) successCount];
+      for (int i = 0, index = 0; i < results.size(); i++) {
+        if (results.get(i).successful()) {
+          deliveredTokenIds[index++] = tokens.get(i).getId();
+        }
       }
+      fcmTokenRepository.updateLastUsedAt(deliveredTokenIds, LocalDateTime.now());
+    }
 
-      MulticastMessage message = messageBuilder.build();
-
-      // 메시지 전송 (최대 500개까지 한 번에 전송 가능)
-      BatchResponse response = FirebaseMessaging.getInstance().sendEachForMulticast(message);
-
-      log.info("FCM 멀티캐스트 알림 전송 완료: 성공 {}, 실패 {}", response.getSuccessCount(), response.getFailureCount());
-
-      // 실패한 토큰 처리
-      if (response.getFailureCount() > 0) {
-        handleFailedTokens(tokens, response);
-      }
+    // 실패한 토큰 처리
+    if (successCount < results.size()) {
+      handleFailedTokens(tokens, results);
+    }
+  }
 
-    } catch (FirebaseMessagingException e) {
-      log.error("FCM 멀티캐스트 알림 전송 실패: {}", e.getMessage(), e);
-      throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+  /**
+   * 푸시 게이트웨이로 전송 후 결과 카운터 기록
+   */
+  private List<PushSendResult> send(PushMessage message, List<String> tokens) {
+    try {
+      List<PushSendResult> results = pushGateway.sendMulticast(message, tokens);
+      pushMetrics.recordResults(results);
+      return results;
+    } catch (CustomException e) {
+      pushMetrics.recordRequestFailure(tokens.size());
+      throw e;
     }
   }
 
   /**
    * 전송 실패한 토큰 처리
+   * - 유효하지 않은 토큰을 모아 DELETE 1회로 삭제
    *
-   * @param tokens   FCM 토큰 엔티티 리스트
-   * @param response 배치 응답
+   * @param tokens  FCM 토큰 엔티티 리스트
+   * @param results 토큰별 전송 결과 (tokens와 같은 순서)
    */
-  @Transactional
-  protected void handleFailedTokens(List<FcmToken> tokens, BatchResponse response) {
-    List<SendResponse> responses = response.getResponses();
-
-    for (int i = 0; i < responses.size(); i++) {
-      SendResponse sendResponse = responses.get(i);
-
-      // 전송 실패한 경우
-      if (!sendResponse.isSuccessful()) {
-        FirebaseMessagingException exception = sendResponse.getException();
-
-        if (exception != null && isInvalidTokenError(exception)) {
-          // 유효하지 않은 토큰인 경우 DB에서 삭제
-          FcmToken token = tokens.get(i);
-          log.warn("유효하지 않은 FCM 토큰 삭제: memberId={}, deviceId={}", token.getMember().getId(), token.getDeviceId());
-          fcmTokenRepository.delete(token);
-        }
+  private void handleFailedTokens(List<FcmToken> tokens, List<PushSendResult> results) {
+    List<UUID> invalidTokenIds = new ArrayList<>();
+
+    for (int i = 0; i < results.size(); i++) {
+      if (results.get(i).isInvalidToken()) {
+        FcmToken token = tokens.get(i);
+        log.warn("유효하지 않은 FCM 토큰 삭제: memberId={}, deviceId={}", token.getMember().getId(), token.getDeviceId());
+        invalidTokenIds.add(token.getId());
       }
     }
+
+    if (!invalidTokenIds.isEmpty()) {
+      fcmTokenRepository.deleteAllByIdInBatch(invalidTokenIds);
+    }
   }
 
   /**
-   * FCM 토큰이 유효하지 않은 에러인지 확인
+   * 오래 사용되지 않은 FCM 토큰 정리 (batchSize개씩 나누어 삭제)
+   * - 배치마다 별도 트랜잭션으로 삭제하므로 대량 삭제 중에도 락을 오래 잡지 않음
    *
-   * @param exception FirebaseMessagingException
-   * @return 유효하지 않은 토큰 에러 여부
+   * @param cutoff    이 시각 이전에 마지막으로 사용된 토큰 삭제
+   * @param batchSize 한 번에 삭제할 최대 개수
+   * @return 삭제된 토큰 수
    */
-  private boolean isInvalidTokenError(FirebaseMessagingException exception) {
-    MessagingErrorCode errorCode = exception.getMessagingErrorCode();
-    return errorCode == MessagingErrorCode.INVALID_ARGUMENT
-        || errorCode == MessagingErrorCode.UNREGISTERED;
+  public int pruneStaleTokens(LocalDateTime cutoff, int batchSize) {
+    int total = 0;
+    int deleted;
+    do {
+      deleted = fcmTokenRepository.deleteStaleTokens(cutoff, batchSize);
+      total += deleted;
+    } while (deleted == batchSize);
+
+    log.info("오래 사용되지 않은 FCM 토큰 정리 완료: cutoff={}, 삭제 {}", cutoff, total);
+    return total;
   }
 
   /**
-   * 유효하지 않은 FCM 토큰 삭제
+   * 유효하지 않은 FCM 토큰 삭제 (조회 없이 DELETE 1회)
    *
    * @param fcmToken FCM 토큰 문자열
    */
-  @Transactional
-  protected void deleteInvalidToken(String fcmToken) {
-    fcmTokenRepository.findByFcmToken(fcmToken).ifPresent(token -> {
-      log.info("유효하지 않은 FCM 토큰 삭제: memberId={}, deviceId={}", token.getMember().getId(), token.getDeviceId());
-      fcmTokenRepository.delete(token);
-    });
+  private void deleteInvalidToken(String fcmToken) {
+    int deleted = fcmTokenRepository.deleteByFcmTokenIn(List.of(fcmToken));
+    log.info("유효하지 않은 FCM 토큰 삭제: {}개", deleted);
   }
 }
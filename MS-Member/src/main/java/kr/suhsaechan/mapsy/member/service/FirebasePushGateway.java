@@ -0,0 +1,95 @@
+package kr.suhsaechan.mapsy.member.service;
+
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import kr.suhsaechan.mapsy.common.exception.CustomException;
+import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
+import kr.suhsaechan.mapsy.member.constant.PushFailureReason;
+import kr.suhsaechan.mapsy.member.dto.PushMessage;
+import kr.suhsaechan.mapsy.member.dto.PushSendResult;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Firebase Cloud Messaging 푸시 게이트웨이
+ */
+@Component
+@ConditionalOnProperty(name = "push.gateway", havingValue = "firebase", matchIfMissing = true)
+@Slf4j
+public class FirebasePushGateway implements PushGateway {
+
+  @Override
+  public boolean isAvailable() {
+    return !FirebaseApp.getApps().isEmpty();
+  }
+
+  @Override
+  public List<PushSendResult> sendMulticast(PushMessage message, List<String> tokens) {
+    if (!isAvailable()) {
+      log.error("Firebase App이 초기화되지 않았습니다. FCM 알림을 전송할 수 없습니다.");
+      throw new CustomException(ErrorCode.PUSH_GATEWAY_UNAVAILABLE);
+    }
+
+    try {
+      BatchResponse response = FirebaseMessaging.getInstance().sendEachForMulticast(toMulticastMessage(message, tokens));
+      return response.getResponses().stream()
+          .map(FirebasePushGateway::toResult)
+          .toList();
+    } catch (FirebaseMessagingException e) {
+      log.error("FCM 멀티캐스트 알림 전송 실패: {}", e.getMessage(), e);
+      throw new CustomException(ErrorCode.PUSH_SEND_FAILED);
+    }
+  }
+
+  private static MulticastMessage toMulticastMessage(PushMessage message, List<String> tokens) {
+    Notification.Builder notificationBuilder = Notification.builder()
+        .setTitle(message.title())
+        .setBody(message.body());
+
+    // 이미지 URL이 있으면 추가
+    if (message.imageUrl() != null && !message.imageUrl().isBlank()) {
+      notificationBuilder.setImage(message.imageUrl());
+    }
+
+    MulticastMessage.Builder messageBuilder = MulticastMessage.builder()
+        .addAllTokens(tokens)
+        .setNotification(notificationBuilder.build());
+
+    // 추가 데이터가 있으면 추가
+    if (message.data() != null && !message.data().isEmpty()) {
+      messageBuilder.putAllData(message.data());
+    }
+    return messageBuilder.build();
+  }
+
+  private static PushSendResult toResult(SendResponse response) {
+    if (response.isSuccessful()) {
+      return PushSendResult.success(response.getMessageId());
+    }
+    FirebaseMessagingException exception = response.getException();
+    MessagingErrorCode errorCode = exception != null ? exception.getMessagingErrorCode() : null;
+    return PushSendResult.failure(toFailureReason(errorCode));
+  }
+
+  private static PushFailureReason toFailureReason(MessagingErrorCode errorCode) {
+    if (errorCode == null) {
+      return PushFailureReason.UNKNOWN;
+    }
+    return switch (errorCode) {
+      case INVALID_ARGUMENT -> PushFailureReason.INVALID_ARGUMENT;
+      case UNREGISTERED -> PushFailureReason.UNREGISTERED;
+      case QUOTA_EXCEEDED -> PushFailureReason.QUOTA_EXCEEDED;
+      case UNAVAILABLE -> PushFailureReason.UNAVAILABLE;
+      case INTERNAL -> PushFailureReason.INTERNAL;
+      default -> PushFailureReason.UNKNOWN;
+    };
+  }
+}
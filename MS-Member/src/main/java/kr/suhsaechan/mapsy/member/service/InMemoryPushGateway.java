@@ -0,0 +1,117 @@
+package kr.suhsaechan.mapsy.member.service;
+
+import kr.suhsaechan.mapsy.common.exception.CustomException;
+import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
+import kr.suhsaechan.mapsy.member.constant.PushFailureReason;
+import kr.suhsaechan.mapsy.member.dto.PushMessage;
+import kr.suhsaechan.mapsy.member.dto.PushSendResult;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실제 전송 없이 FCM 응답을 흉내 내는 푸시 게이트웨이 (로컬 부하 테스트용)
+ * - 멀티캐스트 1회마다 latency-ms만큼 대기 (FCM 왕복 시간 모사)
+ * - request-failure-rate 확률로 요청 전체 실패 (PUSH_SEND_FAILED)
+ * - UNREGISTERED_TOKEN_PREFIX로 시작하는 토큰은 항상 UNREGISTERED, 그 외는 unregistered-rate/failure-rate 확률로 실패
+ */
+@Component
+@ConditionalOnProperty(name = "push.gateway", havingValue = "in-memory")
+@Slf4j
+public class InMemoryPushGateway implements PushGateway {
+
+  public static final String UNREGISTERED_TOKEN_PREFIX = "unregistered-";
+
+  private final long latencyMillis;
+  private final double failureRate;
+  private final double unregisteredRate;
+  private final double requestFailureRate;
+
+  private final AtomicLong requestCount = new AtomicLong();
+  private final AtomicLong successCount = new AtomicLong();
+  private final AtomicLong failureCount = new AtomicLong();
+
+  public InMemoryPushGateway(
+      @Value("${push.in-memory.latency-ms:50}") long latencyMillis,
+      @Value("${push.in-memory.failure-rate:0.0}") double failureRate,
+      @Value("${push.in-memory.unregistered-rate:0.0}") double unregisteredRate,
+      @Value("${push.in-memory.request-failure-rate:0.0}") double requestFailureRate) {
+    this.latencyMillis = latencyMillis;
+    this.failureRate = failureRate;
+    this.unregisteredRate = unregisteredRate;
+    this.requestFailureRate = requestFailureRate;
+    log.warn("[Push] InMemoryPushGateway 사용 중 - 실제 푸시 알림이 전송되지 않습니다. latency={}ms, failureRate={}, unregisteredRate={}, requestFailureRate={}",
+        latencyMillis, failureRate, unregisteredRate, requestFailureRate);
+  }
+
+  @Override
+  public boolean isAvailable() {
+    return true;
+  }
+
+  @Override
+  public List<PushSendResult> sendMulticast(PushMessage message, List<String> tokens) {
+    requestCount.incrementAndGet();
+    simulateLatency();
+
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    if (random.nextDouble() < requestFailureRate) {
+      failureCount.addAndGet(tokens.size());
+      throw new CustomException(ErrorCode.PUSH_SEND_FAILED);
+    }
+
+    List<PushSendResult> results = new ArrayList<>(tokens.size());
+    for (String token : tokens) {
+      PushSendResult result;
+      if (token.startsWith(UNREGISTERED_TOKEN_PREFIX) || random.nextDouble() < unregisteredRate) {
+        result = PushSendResult.failure(PushFailureReason.UNREGISTERED);
+      } else if (random.nextDouble() < failureRate) {
+        result = PushSendResult.failure(PushFailureReason.UNAVAILABLE);
+      } else {
+        result = PushSendResult.success("in-memory/" + UUID.randomUUID());
+      }
+      (result.successful() ? successCount : failureCount).incrementAndGet();
+      results.add(result);
+    }
+    return results;
+  }
+
+  /**
+   * 지금까지 처리한 멀티캐스트 요청 수
+   */
+  public long getRequestCount() {
+    return requestCount.get();
+  }
+
+  /**
+   * 지금까지 성공 처리한 토큰 수
+   */
+  public long getSuccessCount() {
+    return successCount.get();
+  }
+
+  /**
+   * 지금까지 실패 처리한 토큰 수 (요청 실패 포함)
+   */
+  public long getFailureCount() {
+    return failureCount.get();
+  }
+
+  private void simulateLatency() {
+    if (latencyMillis <= 0) {
+      return;
+    }
+    try {
+      Thread.sleep(latencyMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CustomException(ErrorCode.PUSH_SEND_FAILED);
+    }
+  }
+}
@@ -0,0 +1,191 @@
+package kr.suhsaechan.mapsy.member.service;
+
+import jakarta.annotation.PreDestroy;
+import kr.suhsaechan.mapsy.common.exception.CustomException;
+import kr.suhsaechan.mapsy.member.dto.FcmTokenRow;
+import kr.suhsaechan.mapsy.member.dto.NotificationDispatchResult;
+import kr.suhsaechan.mapsy.member.dto.PushMessage;
+import kr.suhsaechan.mapsy.member.dto.PushSendResult;
+import kr.suhsaechan.mapsy.member.repository.FcmTokenRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 여러 회원 대상 FCM 알림 일괄 전송
+ * - 수신 회원 전체의 토큰을 쿼리 1회로 조회하고 PushGateway.MAX_MULTICAST_TOKENS(FCM 멀티캐스트 최대 500)개씩 묶어 전송
+ * - 배치는 전용 스레드 풀(최대 MAX_PARALLEL_BATCHES개 동시 전송)에서 전송하므로 호출 스레드는 대기하지 않음
+ * - 토큰별 결과를 회원 단위로 집계하고, 유효하지 않은 토큰은 일괄 삭제, 전송 성공한 토큰은 마지막 사용 시각 일괄 갱신
+ * - 토큰이 있지만 한 기기에도 전송하지 못한 회원은 재시도 대상(failedMemberIds)으로 분류
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationDispatcher {
+
+  private static final int MAX_PARALLEL_BATCHES = 4;
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+  private final FcmTokenRepository fcmTokenRepository;
+  private final PushGateway pushGateway;
+  private final PushMetrics pushMetrics;
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(
+      MAX_PARALLEL_BATCHES, Thread.ofPlatform().name("fcm-dispatch-", 0).daemon().factory());
+
+  /**
+   * 여러 회원의 모든 기기에 같은 알림 전송 (비동기)
+   *
+   * @param memberIds 수신 회원 ID 목록
+   * @param title     알림 제목
+   * @param body      알림 본문
+   * @param data      추가 데이터
+   * @param imageUrl  이미지 URL (선택)
+   * @return 회원 단위 전송 결과 (모든 배치 전송 완료 시 완료)
+   */
+  public CompletableFuture<NotificationDispatchResult> dispatch(
+      Collection<UUID> memberIds, String title, String body, Map<String, String> data, String imageUrl) {
+    Set<UUID> recipients = new LinkedHashSet<>(memberIds);
+    if (recipients.isEmpty()) {
+      return CompletableFuture.completedFuture(
+          new NotificationDispatchResult(Set.of(), Set.of(), Set.of(), 0, 0, 0));
+    }
+
+    return CompletableFuture
+        .supplyAsync(() -> fcmTokenRepository.findTokenRowsByMemberIdIn(recipients), executor)
+        .thenCompose(tokens -> sendInBatches(recipients, tokens, new PushMessage(title, body, data, imageUrl)))
+        .exceptionally(e -> {
+          log.error("[Notification] 알림 일괄 전송 실패 - recipients={}: {}", recipients.size(), e.getMessage(), e);
+          return new NotificationDispatchResult(Set.of(), Set.of(), recipients, 0, 0, 0);
+        });
+  }
+
+  @PreDestroy
+  void shutdown() throws InterruptedException {
+    executor.shutdown();
+    if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+      log.warn("[Notification] 종료 대기 시간 초과, 전송 중인 배치 중단");
+      executor.shutdownNow();
+    }
+  }
+
+  private CompletableFuture<NotificationDispatchResult> sendInBatches(
+      Set<UUID> recipients, List<FcmTokenRow> tokens, PushMessage message) {
+    Set<UUID> noTokenMemberIds = new HashSet<>(recipients);
+    tokens.forEach(token -> noTokenMemberIds.remove(token.memberId()));
+
+    if (tokens.isEmpty()) {
+      return CompletableFuture.completedFuture(
+          new NotificationDispatchResult(Set.of(), noTokenMemberIds, Set.of(), 0, 0, 0));
+    }
+    if (!pushGateway.isAvailable()) {
+      log.error("[Notification] 푸시 게이트웨이를 사용할 수 없어 알림을 전송할 수 없습니다.");
+      Set<UUID> failedMemberIds = new HashSet<>(recipients);
+      failedMemberIds.removeAll(noTokenMemberIds);
+      return CompletableFuture.completedFuture(
+          new NotificationDispatchResult(Set.of(), noTokenMemberIds, failedMemberIds, 0, 0, 0));
+    }
+
+    List<CompletableFuture<BatchOutcome>> batches = new ArrayList<>();
+    for (int from = 0; from < tokens.size(); from += PushGateway.MAX_MULTICAST_TOKENS) {
+      List<FcmTokenRow> batch = tokens.subList(from, Math.min(from + PushGateway.MAX_MULTICAST_TOKENS, tokens.size()));
+      batches.add(CompletableFuture.supplyAsync(() -> sendBatch(batch, message), executor));
+    }
+
+    return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+        .thenApply(ignored -> aggregate(noTokenMemberIds, batches.stream().map(CompletableFuture::join).toList()));
+  }
+
+  /**
+   * 멀티캐스트 1회 전송 (토큰 최대 PushGateway.MAX_MULTICAST_TOKENS개)
+   */
+  private BatchOutcome sendBatch(List<FcmTokenRow> batch, PushMessage message) {
+    try {
+      List<PushSendResult> results = pushGateway.sendMulticast(
+          message, batch.stream().map(FcmTokenRow::fcmToken).toList());
+      pushMetrics.recordResults(results);
+      return new BatchOutcome(batch, results, false);
+    } catch (CustomException e) {
+      pushMetrics.recordRequestFailure(batch.size());
+      log.error("[Notification] 멀티캐스트 배치 전송 실패 - tokens={}: {}", batch.size(), e.getMessage(), e);
+      return new BatchOutcome(batch, List.of(), true);
+    }
+  }
+
+  private NotificationDispatchResult aggregate(Set<UUID> noTokenMemberIds, List<BatchOutcome> outcomes) {
+    Set<UUID> attempted = new HashSet<>();
+    Set<UUID> delivered = new HashSet<>();
+    Set<UUID> failed = new HashSet<>();
+    List<UUID> invalidTokenIds = new ArrayList<>();
+    List<UUID> deliveredTokenIds = new ArrayList<>();
+    int successCount = 0;
+    int failureCount = 0;
+
+    for (BatchOutcome outcome : outcomes) {
+      outcome.tokens().forEach(token -> attempted.add(token.memberId()));
+      if (outcome.requestFailed()) {
+        outcome.tokens().forEach(token -> failed.add(token.memberId()));
+        failureCount += outcome.tokens().size();
+        continue;
+      }
+      // 전송 결과는 요청 토큰 순서와 같음
+      for (int i = 0; i < outcome.results().size(); i++) {
+        FcmTokenRow token = outcome.tokens().get(i);
+        PushSendResult result = outcome.results().get(i);
+        if (result.successful()) {
+          delivered.add(token.memberId());
+          deliveredTokenIds.add(token.id());
+          successCount++;
+        } else {
+          failureCount++;
+          if (result.isInvalidToken()) {
+            invalidTokenIds.add(token.id());
+          }
+        }
+      }
+    }
+    // 여러 배치에 걸친 회원은 한 배치라도 전송 요청이 실패하면 재시도 대상
+    delivered.removeAll(failed);
+    // 토큰은 있지만 어느 기기에도 전송하지 못한 회원도 재시도 대상
+    attempted.removeAll(delivered);
+    failed.addAll(attempted);
+
+    if (!invalidTokenIds.isEmpty()) {
+      fcmTokenRepository.deleteAllByIdInBatch(invalidTokenIds);
+      log.warn("[Notification] 유효하지 않은 FCM 토큰 {}개 삭제", invalidTokenIds.size());
+    }
+    if (!deliveredTokenIds.isEmpty()) {
+      // 갱신 실패가 전송 결과를 바꾸지 않도록 로그만 남김 (다음 전송에서 다시 갱신)
+      try {
+        fcmTokenRepository.updateLastUsedAt(deliveredTokenIds.toArray(UUID[]::new), LocalDateTime.now());
+      } catch (RuntimeException e) {
+        log.warn("[Notification] FCM 토큰 마지막 사용 시각 갱신 실패 - tokens={}: {}",
+            deliveredTokenIds.size(), e.getMessage());
+      }
+    }
+
+    log.info("[Notification] 알림 일괄 전송 완료 - batches={}, 성공 {}, 실패 {}, 전송 회원 {}, 토큰 없는 회원 {}, 재시도 대상 회원 {}",
+        outcomes.size(), successCount, failureCount, delivered.size(), noTokenMemberIds.size(), failed.size());
+    return new NotificationDispatchResult(
+        delivered, noTokenMemberIds, failed, successCount, failureCount, invalidTokenIds.size());
+  }
+
+  /**
+   * 배치 전송 결과 (results는 tokens와 같은 순서)
+   */
+  private record BatchOutcome(List<FcmTokenRow> tokens, List<PushSendResult> results, boolean requestFailed) {
+  }
+}
@@ -0,0 +1,169 @@
+package kr.suhsaechan.mapsy.member.service;
+
+import kr.suhsaechan.mapsy.common.util.KeysetCursor;
+import kr.suhsaechan.mapsy.common.util.TransactionUtil;
+import kr.suhsaechan.mapsy.member.constant.TargetType;
+import kr.suhsaechan.mapsy.member.dto.GetNotificationPageResponse;
+import kr.suhsaechan.mapsy.member.dto.NotificationDto;
+import kr.suhsaechan.mapsy.member.dto.NotificationRow;
+import kr.suhsaechan.mapsy.member.dto.NotificationUnreadCountResponse;
+import kr.suhsaechan.mapsy.member.repository.NotificationRepository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 알림함 (발송된 푸시 알림 이력)
+ * - 푸시 발송 시 수신 회원 전체의 알림을 INSERT 1회로 저장
+ * - 읽지 않은 알림 수는 NotificationUnreadCounter(Redis)에서 조회하고, 저장/읽음 처리 커밋 후 증감
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationService {
+
+  private static final int MAX_PAGE_SIZE = 50;
+  private static final int MAX_TITLE_LENGTH = 200;
+  private static final int MAX_BODY_LENGTH = 500;
+
+  private final NotificationRepository notificationRepository;
+  private final NotificationUnreadCounter notificationUnreadCounter;
+
+  /**
+   * 여러 회원에게 같은 알림 저장
+   *
+   * @param memberIds  수신 회원 ID 목록
+   * @param type       알림 유형 (예: CONTENT_COMPLETE)
+   * @param title      알림 제목
+   * @param body       알림 본문
+   * @param targetType 이동 대상 유형
+   * @param targetId   이동 대상 ID
+   * @return 저장된 알림 수
+   */
+  @Transactional
+  public int recordNotifications(
+      Collection<UUID> memberIds, String type, String title, String body, TargetType targetType, UUID targetId) {
+    Set<UUID> recipients = new LinkedHashSet<>(memberIds);
+    if (recipients.isEmpty()) {
+      return 0;
+    }
+
+    int inserted = notificationRepository.insertForMembers(
+        recipients.toArray(UUID[]::new),
+        type,
+        truncate(title, MAX_TITLE_LENGTH),
+        truncate(body, MAX_BODY_LENGTH),
+        targetType.name(),
+        targetId,
+        LocalDateTime.now());
+    TransactionUtil.runAfterCommit(() -> notificationUnreadCounter.incrementAll(recipients));
+
+    log.debug("[Notification] 알림 저장 - type={}, targetId={}, recipients={}", type, targetId, inserted);
+    return inserted;
+  }
+
+  /**
+   * 회원 알림함 조회 (최신순, Keyset 페이지네이션)
+   *
+   * @param memberId 회원 ID
+   * @param cursor   이전 응답의 nextCursor (첫 페이지면 null)
+   * @param pageSize 페이지 크기 (최대 MAX_PAGE_SIZE)
+   * @return 알림 목록 및 다음 페이지 커서
+   */
+  @Transactional(readOnly = true)
+  public GetNotificationPageResponse getNotifications(UUID memberId, String cursor, int pageSize) {
+    int size = Math.clamp(pageSize, 1, MAX_PAGE_SIZE);
+    KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+    Limit limit = Limit.of(size + 1);
+
+    List<NotificationRow> rows = keysetCursor == null
+        ? notificationRepository.findNotificationRows(memberId, limit)
+        : notificationRepository.findNotificationRowsAfter(
+            memberId, keysetCursor.createdAt(), keysetCursor.id(), limit);
+
+    boolean hasNext = rows.size() > size;
+    List<NotificationRow> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+    List<NotificationDto> notifications = pageRows.stream()
+        .map(NotificationRow::toDto)
+        .toList();
+
+    String nextCursor = hasNext
+        ? pageRows.get(pageRows.size() - 1).toCursor().encode()
+        : null;
+
+    return GetNotificationPageResponse.builder()
+        .notifications(notifications)
+        .nextCursor(nextCursor)
+        .hasNext(hasNext)
+        .build();
+  }
+
+  /**
+   * 지정한 알림 읽음 처리 (본인 알림 중 읽지 않은 알림만)
+   *
+   * @param memberId        회원 ID
+   * @param notificationIds 알림 ID 목록
+   * @return 새로 읽음 처리된 알림 수
+   */
+  @Transactional
+  public int markAsRead(UUID memberId, List<UUID> notificationIds) {
+    int updated = notificationRepository.markRead(memberId, Set.copyOf(notificationIds), LocalDateTime.now());
+    TransactionUtil.runAfterCommit(() -> notificationUnreadCounter.decrement(memberId, updated));
+
+    log.debug("[Notification] 알림 읽음 처리 - memberId={}, requested={}, updated={}",
+        memberId, notificationIds.size(), updated);
+    return updated;
+  }
+
+  /**
+   * 읽지 않은 알림 전체 읽음 처리
+   *
+   * @param memberId 회원 ID
+   * @return 새로 읽음 처리된 알림 수
+   */
+  @Transactional
+  public int markAllAsRead(UUID memberId) {
+    int updated = notificationRepository.markAllRead(memberId, LocalDateTime.now());
+    TransactionUtil.runAfterCommit(() -> notificationUnreadCounter.reset(memberId));
+
+    log.debug("[Notification] 알림 전체 읽음 처리 - memberId={}, updated={}", memberId, updated);
+    return updated;
+  }
+
+  /**
+   * 읽지 않은 알림 수 조회 (Redis 카운터, 없으면 DB COUNT 후 초기화)
+   *
+   * @param memberId 회원 ID
+   * @return 읽지 않은 알림 수
+   */
+  public NotificationUnreadCountResponse getUnreadCount(UUID memberId) {
+    Long cached = notificationUnreadCounter.get(memberId);
+    long unreadCount;
+    if (cached != null) {
+      unreadCount = cached;
+    } else {
+      unreadCount = notificationRepository.countUnread(memberId);
+      notificationUnreadCounter.initialize(memberId, unreadCount);
+    }
+
+    return NotificationUnreadCountResponse.builder()
+        .unreadCount(unreadCount)
+        .build();
+  }
+
+  private static String truncate(String value, int maxLength) {
+    if (value == null || value.length() <= maxLength) {
+      return value;
+    }
+    return value.substring(0, maxLength);
+  }
+}
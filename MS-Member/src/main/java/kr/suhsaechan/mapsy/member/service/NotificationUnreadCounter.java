@@ -0,0 +1,138 @@
+package kr.suhsaechan.mapsy.member.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 읽지 않은 알림 수 카운터 (Redis)
+ * - NU:{memberId} : 읽지 않은 알림 수
+ * - 카운터가 있을 때만 증감 (없으면 다음 조회 시 DB COUNT로 초기화)
+ * - TTL은 초기화 시에만 설정하고 증감은 TTL을 연장하지 않음 (초기화와 증감이 겹쳐 생기는 오차는 TTL 만료 후 재계산으로 보정)
+ * - 전체 읽음 처리는 카운터를 삭제하여 다음 조회 시 DB COUNT로 다시 초기화
+ * - Redis 장애 시 예외를 전파하지 않음 (조회는 DB COUNT로 대체)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationUnreadCounter {
+
+  private static final String KEY_PREFIX = "NU:";
+  private static final Duration COUNTER_TTL = Duration.ofDays(1);
+
+  /**
+   * 카운터가 있을 때만 증감 (INCRBY는 기존 TTL을 유지, 음수가 되면 어긋난 값이므로 삭제)
+   */
+  private static final String ADJUST_IF_EXISTS_SOURCE =
+      "if redis.call('EXISTS', KEYS[1]) == 1 then "
+          + "local count = redis.call('INCRBY', KEYS[1], ARGV[1]); "
+          + "if count < 0 then redis.call('DEL', KEYS[1]); return -1 end "
+          + "return count end "
+          + "return -1";
+  private static final RedisScript<Long> ADJUST_IF_EXISTS_SCRIPT =
+      new DefaultRedisScript<>(ADJUST_IF_EXISTS_SOURCE, Long.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+
+  /**
+   * 카운터 조회
+   *
+   * @param memberId 회원 ID
+   * @return 읽지 않은 알림 수 (카운터가 없거나 Redis 오류면 null)
+   */
+  public Long get(UUID memberId) {
+    try {
+      String value = stringRedisTemplate.opsForValue().get(key(memberId));
+      return value != null ? Long.valueOf(value) : null;
+    } catch (RuntimeException e) {
+      log.warn("[NotificationCounter] 카운터 조회 실패 - memberId={}, error={}", memberId, e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * DB에서 계산한 값으로 카운터 초기화 (이미 있으면 유지)
+   *
+   * @param memberId 회원 ID
+   * @param count    읽지 않은 알림 수
+   */
+  public void initialize(UUID memberId, long count) {
+    try {
+      stringRedisTemplate.opsForValue().setIfAbsent(key(memberId), String.valueOf(count), COUNTER_TTL);
+    } catch (RuntimeException e) {
+      log.warn("[NotificationCounter] 카운터 초기화 실패 - memberId={}, error={}", memberId, e.getMessage());
+    }
+  }
+
+  /**
+   * 여러 회원의 카운터를 1씩 증가 (파이프라인 1회)
+   *
+   * @param memberIds 회원 ID 목록
+   */
+  public void incrementAll(Collection<UUID> memberIds) {
+    if (memberIds.isEmpty()) {
+      return;
+    }
+    byte[] script = ADJUST_IF_EXISTS_SOURCE.getBytes(StandardCharsets.UTF_8);
+    byte[] delta = "1".getBytes(StandardCharsets.UTF_8);
+    try {
+      stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+        for (UUID memberId : memberIds) {
+          connection.scriptingCommands().eval(
+              script, ReturnType.INTEGER, 1, key(memberId).getBytes(StandardCharsets.UTF_8), delta);
+        }
+        return null;
+      });
+    } catch (RuntimeException e) {
+      log.warn("[NotificationCounter] 카운터 일괄 증가 실패 - members={}, error={}", memberIds.size(), e.getMessage());
+    }
+  }
+
+  /**
+   * 카운터 감소 (읽음 처리)
+   *
+   * @param memberId 회원 ID
+   * @param count    읽음 처리된 알림 수
+   */
+  public void decrement(UUID memberId, int count) {
+    if (count <= 0) {
+      return;
+    }
+    try {
+      stringRedisTemplate.execute(
+          ADJUST_IF_EXISTS_SCRIPT,
+          List.of(key(memberId)),
+          String.valueOf(-count));
+    } catch (RuntimeException e) {
+      log.warn("[NotificationCounter] 카운터 감소 실패 - memberId={}, error={}", memberId, e.getMessage());
+    }
+  }
+
+  /**
+   * 카운터 삭제 (전체 읽음 처리)
+   * - 0으로 덮어쓰면 처리 중에 생성된 알림의 증가분이 사라지므로 삭제 후 다음 조회 시 DB COUNT로 다시 초기화
+   *
+   * @param memberId 회원 ID
+   */
+  public void reset(UUID memberId) {
+    try {
+      stringRedisTemplate.delete(key(memberId));
+    } catch (RuntimeException e) {
+      log.warn("[NotificationCounter] 카운터 삭제 실패 - memberId={}, error={}", memberId, e.getMessage());
+    }
+  }
+
+  private static String key(UUID memberId) {
+    return KEY_PREFIX + memberId;
+  }
+}
@@ -0,0 +1,33 @@
+package kr.suhsaechan.mapsy.member.service;
+
+import kr.suhsaechan.mapsy.member.dto.PushMessage;
+import kr.suhsaechan.mapsy.member.dto.PushSendResult;
+import java.util.List;
+
+/**
+ * 푸시 알림 전송 게이트웨이
+ * - push.gateway=firebase(기본) : FirebasePushGateway
+ * - push.gateway=in-memory : InMemoryPushGateway (로컬 부하 테스트용, 실제 전송 없음)
+ */
+public interface PushGateway {
+
+  /**
+   * 멀티캐스트 1회에 보낼 수 있는 최대 토큰 수
+   */
+  int MAX_MULTICAST_TOKENS = 500;
+
+  /**
+   * 전송 가능 여부 (Firebase 미초기화 등)
+   */
+  boolean isAvailable();
+
+  /**
+   * 같은 알림을 여러 토큰에 전송
+   *
+   * @param message 알림 내용
+   * @param tokens  FCM 토큰 목록 (최대 MAX_MULTICAST_TOKENS개)
+   * @return 토큰별 전송 결과 (tokens와 같은 순서)
+   * @throws kr.suhsaechan.mapsy.common.exception.CustomException 전송 불가(PUSH_GATEWAY_UNAVAILABLE) 또는 요청 자체 실패(PUSH_SEND_FAILED)
+   */
+  List<PushSendResult> sendMulticast(PushMessage message, List<String> tokens);
+}
@@ -0,0 +1,59 @@
+package kr.suhsaechan.mapsy.member.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.suhsaechan.mapsy.member.dto.PushSendResult;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * 푸시 전송 결과 카운터
+ * - mapsy.push.tokens : 토큰별 전송 결과 (result: success, failure, invalid_token)
+ * - mapsy.push.requests.failed : 요청 자체가 실패한 멀티캐스트 수 (해당 토큰은 failure로도 집계)
+ */
+@Component
+public class PushMetrics {
+
+  private static final String TOKENS_METRIC = "mapsy.push.tokens";
+  private static final String FAILED_REQUESTS_METRIC = "mapsy.push.requests.failed";
+
+  private final Counter successCounter;
+  private final Counter failureCounter;
+  private final Counter invalidTokenCounter;
+  private final Counter failedRequestCounter;
+
+  public PushMetrics(MeterRegistry meterRegistry) {
+    this.successCounter = meterRegistry.counter(TOKENS_METRIC, "result", "success");
+    this.failureCounter = meterRegistry.counter(TOKENS_METRIC, "result", "failure");
+    this.invalidTokenCounter = meterRegistry.counter(TOKENS_METRIC, "result", "invalid_token");
+    this.failedRequestCounter = meterRegistry.counter(FAILED_REQUESTS_METRIC);
+  }
+
+  /**
+   * 멀티캐스트 1회의 토큰별 결과 기록 (invalid_token은 failure와 별도로 집계하지 않음)
+   */
+  public void recordResults(List<PushSendResult> results) {
+    int success = 0;
+    int invalid = 0;
+    for (PushSendResult result : results) {
+      if (result.successful()) {
+        success++;
+      } else if (result.isInvalidToken()) {
+        invalid++;
+      }
+    }
+    successCounter.increment(success);
+    invalidTokenCounter.increment(invalid);
+    failureCounter.increment(results.size() - success - invalid);
+  }
+
+  /**
+   * 요청 자체가 실패한 멀티캐스트 기록
+   *
+   * @param tokenCount 요청에 포함된 토큰 수
+   */
+  public void recordRequestFailure(int tokenCount) {
+    failedRequestCounter.increment();
+    failureCounter.increment(tokenCount);
+  }
+}
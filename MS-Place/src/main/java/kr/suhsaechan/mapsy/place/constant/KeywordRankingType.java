@@ -0,0 +1,22 @@
+package kr.suhsaechan.mapsy.place.constant;
+
+/**
+ * 키워드 순위 종류
+ * - TRENDING: 트렌드 점수(24시간 급상승률) 기준
+ * - POPULAR: 누적 사용 횟수 기준
+ */
+public enum KeywordRankingType {
+  /**
+   * 트렌드 키워드
+   * - 트렌드 점수 내림차순, 동점이면 사용 횟수 내림차순
+   * - 매시 트렌드 점수 갱신 직후 스냅샷 교체
+   */
+  TRENDING,
+
+  /**
+   * 인기 키워드
+   * - 사용 횟수 내림차순
+   * - 5분 주기 스냅샷 교체
+   */
+  POPULAR
+}
@@ -0,0 +1,18 @@
+package kr.suhsaechan.mapsy.place.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "키워드 검색 결과 응답")
+public class GetKeywordSuggestionsResponse {
+  @Schema(description = "키워드 목록 (사용 횟수 내림차순)")
+  private List<KeywordSuggestionDto> keywords;
+}
@@ -0,0 +1,21 @@
+package kr.suhsaechan.mapsy.place.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "주변 장소 목록 응답")
+public class GetNearbyPlacesResponse {
+  @Schema(description = "장소 목록 (검색 중심점에서 가까운 순)")
+  private List<NearbyPlaceDto> places;
+
+  @Schema(description = "결과가 limit개로 잘렸는지 여부 (true면 범위 내 장소가 더 있을 수 있음)")
+  private boolean truncated;
+}
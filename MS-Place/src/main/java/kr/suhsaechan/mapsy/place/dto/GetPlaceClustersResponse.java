@@ -0,0 +1,21 @@
+package kr.suhsaechan.mapsy.place.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "장소 마커 클러스터 목록 응답")
+public class GetPlaceClustersResponse {
+  @Schema(description = "클러스터링에 적용된 줌 레벨", example = "12")
+  private int zoom;
+
+  @Schema(description = "지도 영역과 겹치는 클러스터 목록 (장소 수 내림차순)")
+  private List<PlaceClusterDto> clusters;
+}
@@ -0,0 +1,18 @@
+package kr.suhsaechan.mapsy.place.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "지도 마커 목록 응답 (JSON)")
+public class GetPlaceMarkersResponse {
+  @Schema(description = "회원의 임시/저장 장소 마커 목록")
+  private List<PlaceMarkerDto> markers;
+}
@@ -15,4 +15,10 @@ import lombok.NoArgsConstructor;
 public class GetSavedPlacesResponse {
   @Schema(description = "장소 목록")
   private List<PlaceDto> places;
+
+  @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)")
+  private String nextCursor;
+
+  @Schema(description = "다음 페이지 존재 여부")
+  private boolean hasNext;
 }
@@ -0,0 +1,20 @@
+package kr.suhsaechan.mapsy.place.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 키워드 자동완성 색인 적재용 Projection
+ * - 색인에 필요한 키워드 문자열과 사용 횟수만 조회
+ */
+public record KeywordCountRow(
+    UUID id,
+    String keyword,
+    Integer count,
+    LocalDateTime updatedAt
+) {
+
+  public KeywordSuggestionDto toSuggestion() {
+    return new KeywordSuggestionDto(keyword, count != null ? count : 0);
+  }
+}
@@ -0,0 +1,27 @@
+package kr.suhsaechan.mapsy.place.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "키워드 순위 DTO")
+public class KeywordRankingDto {
+  @Schema(description = "순위 (1부터 시작)", example = "1")
+  private int rank;
+
+  @Schema(description = "키워드", example = "강남카페")
+  private String keyword;
+
+  @Schema(description = "사용 횟수", example = "152")
+  private int count;
+
+  @Schema(description = "트렌드 점수 (24시간 급상승률)", example = "1.25")
+  private BigDecimal trendScore;
+}
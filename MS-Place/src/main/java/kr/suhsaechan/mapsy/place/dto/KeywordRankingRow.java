@@ -0,0 +1,23 @@
+package kr.suhsaechan.mapsy.place.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 키워드 순위 스냅샷 생성용 Projection
+ * - 순위 표시에 필요한 키워드 문자열, 사용 횟수, 트렌드 점수만 조회
+ */
+public record KeywordRankingRow(
+    String keyword,
+    Integer count,
+    BigDecimal trendScore
+) {
+
+  public KeywordRankingDto toDto(int rank) {
+    return KeywordRankingDto.builder()
+        .rank(rank)
+        .keyword(keyword)
+        .count(count != null ? count : 0)
+        .trendScore(trendScore != null ? trendScore : BigDecimal.ZERO)
+        .build();
+  }
+}
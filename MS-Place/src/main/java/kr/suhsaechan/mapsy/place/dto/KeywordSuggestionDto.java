@@ -0,0 +1,13 @@
+package kr.suhsaechan.mapsy.place.dto;
+
+/**
+ * 키워드 자동완성 결과
+ *
+ * @param keyword 키워드 문자열
+ * @param count   키워드 사용 횟수
+ */
+public record KeywordSuggestionDto(
+    String keyword,
+    int count
+) {
+}
@@ -0,0 +1,22 @@
+package kr.suhsaechan.mapsy.place.dto;
+
+import kr.suhsaechan.mapsy.place.constant.PlaceSavedStatus;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 회원 장소 클러스터 색인 적재용 Projection
+ * - 마커 클러스터링에 필요한 장소 필드와 저장 상태만 조회
+ * - photoUrls는 DB에서 array_slice로 대표 사진 1개만 조회
+ */
+public record MemberPlaceClusterRow(
+    UUID placeId,
+    PlaceSavedStatus savedStatus,
+    String name,
+    BigDecimal latitude,
+    BigDecimal longitude,
+    BigDecimal rating,
+    List<String> photoUrls
+) {
+}
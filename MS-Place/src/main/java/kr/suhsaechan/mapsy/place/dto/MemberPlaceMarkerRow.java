@@ -0,0 +1,30 @@
+package kr.suhsaechan.mapsy.place.dto;
+
+import kr.suhsaechan.mapsy.place.constant.PlaceSavedStatus;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * 지도 마커 조회용 Projection
+ * - 마커 표시에 필요한 장소 필드와 저장 상태만 조회 (사진/설명 등 상세 컬럼 제외)
+ */
+public record MemberPlaceMarkerRow(
+    UUID placeId,
+    PlaceSavedStatus savedStatus,
+    String name,
+    BigDecimal latitude,
+    BigDecimal longitude,
+    String businessType
+) {
+
+  public PlaceMarkerDto toDto() {
+    return PlaceMarkerDto.builder()
+        .placeId(placeId)
+        .name(name)
+        .latitude(latitude)
+        .longitude(longitude)
+        .businessType(businessType)
+        .savedStatus(savedStatus)
+        .build();
+  }
+}
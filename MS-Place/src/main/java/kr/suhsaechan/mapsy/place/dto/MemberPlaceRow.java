@@ -0,0 +1,43 @@
+package kr.suhsaechan.mapsy.place.dto;
+
+import kr.suhsaechan.mapsy.common.util.KeysetCursor;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 임시/저장 장소 목록 조회용 Projection
+ * - MemberPlace의 keyset 컬럼(createdAt, id)과 목록 화면에 필요한 Place 컬럼만 조회
+ * - description 외 상세 컬럼(directionsText, 배열 컬럼 등)은 조회하지 않음
+ * - photoUrls는 DB에서 array_slice로 잘라서 조회
+ */
+public record MemberPlaceRow(
+    UUID memberPlaceId,
+    LocalDateTime memberPlaceCreatedAt,
+    UUID placeId,
+    String name,
+    String address,
+    BigDecimal rating,
+    Integer userRatingsTotal,
+    List<String> photoUrls,
+    String description
+) {
+
+  public PlaceDto toPlaceDto() {
+    return PlaceDto.builder()
+        .placeId(placeId)
+        .name(name)
+        .address(address)
+        .rating(rating)
+        .userRatingsTotal(userRatingsTotal)
+        .photoUrls(photoUrls != null ? photoUrls : Collections.emptyList())
+        .description(description)
+        .build();
+  }
+
+  public KeysetCursor toCursor() {
+    return new KeysetCursor(memberPlaceCreatedAt, memberPlaceId);
+  }
+}
@@ -0,0 +1,37 @@
+package kr.suhsaechan.mapsy.place.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 반경/영역 검색용 Projection
+ * - 지도 표시에 필요한 장소 필드만 조회
+ */
+public record NearbyPlaceRow(
+    UUID id,
+    String name,
+    String address,
+    BigDecimal latitude,
+    BigDecimal longitude,
+    String businessType,
+    BigDecimal rating,
+    Integer userRatingsTotal,
+    List<String> photoUrls
+) {
+
+  public NearbyPlaceDto toDto(double distanceMeters) {
+    return NearbyPlaceDto.builder()
+        .placeId(id)
+        .name(name)
+        .address(address)
+        .latitude(latitude)
+        .longitude(longitude)
+        .businessType(businessType)
+        .rating(rating)
+        .userRatingsTotal(userRatingsTotal)
+        .photoUrls(photoUrls)
+        .distanceMeters((int) Math.round(distanceMeters))
+        .build();
+  }
+}
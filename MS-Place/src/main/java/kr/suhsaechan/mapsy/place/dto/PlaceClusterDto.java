@@ -0,0 +1,33 @@
+package kr.suhsaechan.mapsy.place.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "장소 마커 클러스터 DTO")
+public class PlaceClusterDto {
+  @Schema(description = "클러스터에 포함된 장소 수", example = "37")
+  private int count;
+
+  @Schema(description = "클러스터 중심 위도 (포함된 장소 좌표 평균)", example = "37.5546788")
+  private double latitude;
+
+  @Schema(description = "클러스터 중심 경도 (포함된 장소 좌표 평균)", example = "126.9706069")
+  private double longitude;
+
+  @Schema(description = "대표 장소 ID (별점이 가장 높은 장소)", example = "550e8400-e29b-41d4-a716-446655440000")
+  private UUID placeId;
+
+  @Schema(description = "대표 장소명", example = "스타벅스 서울역점")
+  private String name;
+
+  @Schema(description = "대표 장소 사진 URL", example = "https://example.com/photo.jpg")
+  private String photoUrl;
+}
@@ -0,0 +1,15 @@
+package kr.suhsaechan.mapsy.place.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * 장소 공간 색인 적재용 Projection
+ * - 장소 ID와 좌표만 조회
+ */
+public record PlaceCoordinateRow(
+    UUID id,
+    BigDecimal latitude,
+    BigDecimal longitude
+) {
+}
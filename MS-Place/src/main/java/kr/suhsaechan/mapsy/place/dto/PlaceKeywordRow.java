@@ -0,0 +1,13 @@
+package kr.suhsaechan.mapsy.place.dto;
+
+import java.util.UUID;
+
+/**
+ * 키워드 역색인 적재용 Projection
+ * - 장소 ID와 연결된 키워드 문자열만 조회
+ */
+public record PlaceKeywordRow(
+    UUID placeId,
+    String keyword
+) {
+}
@@ -0,0 +1,35 @@
+package kr.suhsaechan.mapsy.place.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import kr.suhsaechan.mapsy.place.constant.PlaceSavedStatus;
+import java.math.BigDecimal;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "지도 마커 DTO")
+public class PlaceMarkerDto {
+  @Schema(description = "장소 ID", example = "550e8400-e29b-41d4-a716-446655440000")
+  private UUID placeId;
+
+  @Schema(description = "장소명", example = "스타벅스 서울역점")
+  private String name;
+
+  @Schema(description = "위도", example = "37.5546788")
+  private BigDecimal latitude;
+
+  @Schema(description = "경도", example = "126.9706069")
+  private BigDecimal longitude;
+
+  @Schema(description = "업종", example = "카페")
+  private String businessType;
+
+  @Schema(description = "저장 상태", example = "SAVED")
+  private PlaceSavedStatus savedStatus;
+}
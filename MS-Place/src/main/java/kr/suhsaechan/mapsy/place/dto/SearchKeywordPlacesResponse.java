@@ -0,0 +1,27 @@
+package kr.suhsaechan.mapsy.place.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "키워드 조합 장소 검색 응답")
+public class SearchKeywordPlacesResponse {
+  @Schema(description = "검색된 장소 목록 (관련도 내림차순)")
+  private List<PlaceDto> places;
+
+  @Schema(description = "조건에 일치하는 전체 장소 수", example = "128")
+  private long totalCount;
+
+  @Schema(description = "현재 페이지 번호 (0부터 시작)", example = "0")
+  private int page;
+
+  @Schema(description = "다음 페이지 존재 여부")
+  private boolean hasNext;
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
@@ -25,7 +26,12 @@ import lombok.NoArgsConstructor;
  * - Place와 다대다 관계 (PlaceKeyword 중간 테이블)
  */
 @Entity
-@Table(name = "keywords")
+@Table(
+    name = "keywords",
+    indexes = {
+        @Index(name = "idx_keywords_updated_at", columnList = "updated_at")
+    }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -47,7 +53,7 @@ public class Keyword extends BaseEntity {
 
   /**
    * 키워드 사용 횟수
-   * - 장소에 연결될 때마다 증가
+   * - 장소에 연결될 때마다 증가 (KeywordCountAccumulator가 주기적으로 일괄 반영)
    * - 트렌드 점수 계산에 사용
    */
   @Column(nullable = false)
@@ -56,8 +62,8 @@ public class Keyword extends BaseEntity {
 
   /**
    * 트렌드 점수
-   * - 급상승률 기반 계산: (현재 count - 이전 count) / 이전 count
-   * - 배치 작업으로 주기적 업데이트 (예: 매시간)
+   * - 급상승률 기반 계산: (현재 count - 24시간 전 count) / 24시간 전 count
+   * - KeywordTrendScheduler가 매시간 keyword_count_buckets 스냅샷으로 일괄 갱신
    * - 높을수록 최근 급상승 중인 키워드
    */
   @Column(precision = 10, scale = 2)
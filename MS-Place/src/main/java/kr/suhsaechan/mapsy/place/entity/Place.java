@@ -1,13 +1,18 @@
 package kr.suhsaechan.mapsy.place.entity;
 
 import kr.suhsaechan.mapsy.common.entity.SoftDeletableBaseEntity;
+import kr.suhsaechan.mapsy.common.util.GeoGridUtil;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
 import lombok.AccessLevel;
@@ -28,6 +33,13 @@ import org.hibernate.type.SqlTypes;
 
 @Check(constraints = "latitude BETWEEN -90 AND 90 AND longitude BETWEEN -180 AND 180")
 @Entity
+@Table(
+    name = "place",
+    indexes = {
+        @Index(name = "idx_place_grid_cell", columnList = "grid_cell"),
+        @Index(name = "idx_place_deleted_at", columnList = "deleted_at")
+    }
+)
 @Builder
 @Getter
 @Setter
@@ -60,6 +72,9 @@ public class Place extends SoftDeletableBaseEntity {
   @DecimalMax("180.0")
   private BigDecimal longitude;     // 경도
 
+  @Column
+  private Long gridCell;            // 격자 셀 번호 (GeoGridUtil, 반경/영역 검색용, 좌표 변경 시 자동 갱신)
+
   @Column(length = 100)
   private String businessType;      // 업종 (category 매핑)
 
@@ -116,6 +131,12 @@ public class Place extends SoftDeletableBaseEntity {
   @Column(length = 200)
   private String holidayInfo;           // 휴무일 정보
 
+  @Column(name = "open_hours_bitmap", columnDefinition = "bytea")
+  private byte[] openHoursBitmap;       // 주간 영업 비트맵 (BusinessHoursUtil, 7일 × 96개 15분 슬롯)
+
+  @Column(name = "open_hours_parser_version")
+  private Integer openHoursParserVersion; // 영업시간을 마지막으로 파싱한 BusinessHoursUtil.PARSER_VERSION
+
   @Column(length = 500)
   private String homepageUrl;           // 홈페이지 URL
 
@@ -154,6 +175,16 @@ public class Place extends SoftDeletableBaseEntity {
   @Builder.Default
   private List<PlaceKeyword> placeKeywords = new ArrayList<>();
 
+  /**
+   * 격자 셀 번호 갱신
+   * - 저장/수정 시 위도/경도로 다시 계산
+   */
+  @PrePersist
+  @PreUpdate
+  void updateGridCell() {
+    this.gridCell = GeoGridUtil.cellOf(latitude, longitude);
+  }
+
   /**
    * 키워드 추가
    * - PlaceKeyword 연결 생성 및 양방향 관계 설정
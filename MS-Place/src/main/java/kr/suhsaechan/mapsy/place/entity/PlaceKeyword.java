@@ -7,7 +7,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.MapsId;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.io.Serializable;
 import java.util.Objects;
 import java.util.UUID;
@@ -16,11 +19,13 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 /**
  * PlaceKeyword 엔티티
  * - Place와 Keyword 간의 M:N 관계를 표현하는 중간 테이블
  * - 복합키(Composite Key) 사용
+ * - 복합키를 직접 할당하므로 Persistable로 신규 여부를 판단 (save 시 merge 전 SELECT 방지)
  */
 @Entity
 @Table(name = "place_keywords")
@@ -28,7 +33,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-public class PlaceKeyword {
+public class PlaceKeyword implements Persistable<PlaceKeywordId> {
 
   @EmbeddedId
   private PlaceKeywordId id;
@@ -43,6 +48,11 @@ public class PlaceKeyword {
   @JoinColumn(name = "keyword_id")
   private Keyword keyword;
 
+  @Transient
+  @Builder.Default
+  @Getter(AccessLevel.NONE)
+  private boolean newEntity = true;
+
   /**
    * PlaceKeyword 생성 편의 메서드
    *
@@ -59,6 +69,17 @@ public class PlaceKeyword {
         .build();
   }
 
+  @Override
+  public boolean isNew() {
+    return newEntity;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markNotNew() {
+    this.newEntity = false;
+  }
+
   /**
    * PlaceKeyword 복합키
    * - placeId, keywordId 조합으로 유일성 보장
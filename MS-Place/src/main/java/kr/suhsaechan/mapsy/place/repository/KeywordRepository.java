@@ -1,13 +1,18 @@
 package kr.suhsaechan.mapsy.place.repository;
 
+import kr.suhsaechan.mapsy.place.dto.KeywordCountRow;
+import kr.suhsaechan.mapsy.place.dto.KeywordRankingRow;
 import kr.suhsaechan.mapsy.place.entity.Keyword;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -27,26 +32,30 @@ public interface KeywordRepository extends JpaRepository<Keyword, UUID> {
   Optional<Keyword> findByKeyword(String keyword);
 
   /**
-   * 트렌드 점수 기준 상위 키워드 조회
-   * - 트렌드 점수가 높은 순서대로 정렬
+   * 트렌드 키워드 순위 스냅샷 생성용 조회 (COUNT 쿼리 없음)
    *
-   * @param pageable 페이징 정보
-   * @return Page<Keyword>
+   * @param limit 조회 개수
+   * @return KeywordRankingRow 목록 (트렌드 점수 내림차순)
    */
   @Query("""
-    SELECT k FROM Keyword k
-    ORDER BY k.trendScore DESC, k.count DESC
+    SELECT new kr.suhsaechan.mapsy.place.dto.KeywordRankingRow(k.keyword, k.count, k.trendScore)
+    FROM Keyword k
+    ORDER BY k.trendScore DESC, k.count DESC, k.keyword ASC
     """)
-  Page<Keyword> findTopByTrendScore(Pageable pageable);
+  List<KeywordRankingRow> findTrendingRankingRows(Limit limit);
 
   /**
-   * 사용 횟수 기준 상위 키워드 조회
-   * - count가 높은 순서대로 정렬
+   * 인기 키워드 순위 스냅샷 생성용 조회 (COUNT 쿼리 없음)
    *
-   * @param pageable 페이징 정보
-   * @return Page<Keyword>
+   * @param limit 조회 개수
+   * @return KeywordRankingRow 목록 (사용 횟수 내림차순)
    */
-  Page<Keyword> findAllByOrderByCountDesc(Pageable pageable);
+  @Query("""
+    SELECT new kr.suhsaechan.mapsy.place.dto.KeywordRankingRow(k.keyword, k.count, k.trendScore)
+    FROM Keyword k
+    ORDER BY k.count DESC, k.keyword ASC
+    """)
+  List<KeywordRankingRow> findPopularRankingRows(Limit limit);
 
   /**
    * 키워드 검색 (자동완성용)
@@ -71,21 +80,40 @@ public interface KeywordRepository extends JpaRepository<Keyword, UUID> {
    * 키워드 포함 검색 (자동완성용)
    * - 키워드에 특정 문자열이 포함된 경우
    * - 사용 횟수가 높은 순서대로 정렬
+   * - idx_keywords_keyword_trgm (pg_trgm GIN) 인덱스 사용 (검색어 3자 이상일 때 효과적)
    *
-   * @param term     검색어
+   * @param term     LIKE 와일드카드(%, _, \)가 이스케이프된 검색어
    * @param pageable 페이징 정보
    * @return List<Keyword>
    */
-  @Query("""
-    SELECT k FROM Keyword k
-    WHERE k.keyword LIKE %:term%
+  @Query(value = """
+    SELECT k.*
+    FROM keywords k
+    WHERE k.keyword LIKE '%' || :term || '%' ESCAPE '\\'
     ORDER BY k.count DESC
-    """)
+    """, nativeQuery = true)
   List<Keyword> findByKeywordContainingOrderByCountDesc(
       @Param("term") String term,
       Pageable pageable
   );
 
+  /**
+   * 유사 키워드 검색 (오타 허용)
+   * - pg_trgm 유사도 연산자(%)로 후보를 찾고 유사도 → 사용 횟수 순으로 정렬
+   * - idx_keywords_keyword_trgm (pg_trgm GIN) 인덱스 사용
+   *
+   * @param term  검색어
+   * @param limit 조회 개수
+   * @return List<Keyword>
+   */
+  @Query(value = """
+    SELECT k.*
+    FROM keywords k
+    WHERE k.keyword % :term
+    ORDER BY similarity(k.keyword, :term) DESC, k.count DESC
+    """, nativeQuery = true)
+  List<Keyword> findSimilarKeywords(@Param("term") String term, Limit limit);
+
   /**
    * 특정 키워드 목록 조회 (배치 조회)
    *
@@ -93,4 +121,131 @@ public interface KeywordRepository extends JpaRepository<Keyword, UUID> {
    * @return List<Keyword>
    */
   List<Keyword> findByKeywordIn(List<String> keywords);
+
+  /**
+   * 자동완성 색인 적재용 키워드 조회 (id 기준 Keyset 페이지네이션)
+   *
+   * @param cursorId 이전 페이지 마지막 키워드 ID
+   * @param limit    조회 개수
+   * @return KeywordCountRow 목록 (id 오름차순)
+   */
+  @Query("""
+    SELECT new kr.suhsaechan.mapsy.place.dto.KeywordCountRow(k.id, k.keyword, k.count, k.updatedAt)
+    FROM Keyword k
+    WHERE k.id > :cursorId
+    ORDER BY k.id ASC
+    """)
+  List<KeywordCountRow> findCountRowsAfter(@Param("cursorId") UUID cursorId, Limit limit);
+
+  /**
+   * 특정 시각 이후 변경된 키워드 조회 (자동완성 색인 증분 동기화용)
+   *
+   * @param updatedAt 기준 시각
+   * @return KeywordCountRow 목록
+   */
+  @Query("""
+    SELECT new kr.suhsaechan.mapsy.place.dto.KeywordCountRow(k.id, k.keyword, k.count, k.updatedAt)
+    FROM Keyword k
+    WHERE k.updatedAt > :updatedAt
+    """)
+  List<KeywordCountRow> findCountRowsUpdatedAfter(@Param("updatedAt") LocalDateTime updatedAt);
+
+  /**
+   * 키워드 사용 횟수 일괄 증가 (단일 UPDATE)
+   * - KeywordCountAccumulator의 누적분 반영용
+   * - updated_at을 갱신하여 자동완성 색인 증분 동기화 대상이 되도록 함
+   *
+   * @param ids    키워드 ID 배열
+   * @param deltas 키워드별 증가량 배열 (ids와 같은 순서)
+   * @return 갱신된 키워드 수
+   */
+  @Transactional
+  @Modifying
+  @Query(value = """
+    UPDATE keywords k
+    SET count = k.count + d.delta,
+        updated_at = now()
+    FROM unnest(CAST(:ids AS uuid[]), CAST(:deltas AS integer[])) AS d(id, delta)
+    WHERE k.id = d.id
+    """, nativeQuery = true)
+  int incrementCounts(@Param("ids") UUID[] ids, @Param("deltas") Integer[] deltas);
+
+  /**
+   * 현재 시간 버킷에 키워드 사용 횟수 스냅샷 저장 (단일 INSERT ... SELECT)
+   * - 직전 스냅샷 이후 count가 변경된 키워드만 저장 (변경 없는 키워드는 행을 만들지 않음)
+   * - 같은 시간 버킷에 재실행되면 count만 갱신
+   *
+   * @return 저장된 스냅샷 행 수
+   */
+  @Modifying
+  @Query(value = """
+    INSERT INTO keyword_count_buckets (keyword_id, bucket_start, count)
+    SELECT k.id, date_trunc('hour', now()), k.count
+    FROM keywords k
+    LEFT JOIN LATERAL (
+      SELECT b.count
+      FROM keyword_count_buckets b
+      WHERE b.keyword_id = k.id
+      ORDER BY b.bucket_start DESC
+      LIMIT 1
+    ) last ON TRUE
+    WHERE last.count IS DISTINCT FROM k.count
+    ON CONFLICT (keyword_id, bucket_start) DO UPDATE
+      SET count = EXCLUDED.count
+    """, nativeQuery = true)
+  int snapshotKeywordCounts();
+
+  /**
+   * 트렌드 점수 일괄 계산 (단일 UPDATE)
+   * - 급상승률: (현재 count - 기준 시점 count) / 기준 시점 count
+   * - 기준 시점 count: windowHours 이전 시각 이하의 가장 최근 스냅샷 (없으면 0)
+   * - 점수가 변하지 않은 키워드는 갱신하지 않음
+   *
+   * @param windowHours 비교 기간 (시간)
+   * @return 갱신된 키워드 수
+   */
+  @Modifying
+  @Query(value = """
+    UPDATE keywords k
+    SET trend_score = s.score
+    FROM (
+      SELECT k2.id,
+        LEAST(
+          ROUND(CAST(k2.count - COALESCE(base.count, 0) AS numeric) / GREATEST(COALESCE(base.count, 0), 1), 2),
+          99999999.99) AS score
+      FROM keywords k2
+      LEFT JOIN LATERAL (
+        SELECT b.count
+        FROM keyword_count_buckets b
+        WHERE b.keyword_id = k2.id
+          AND b.bucket_start <= date_trunc('hour', now()) - :windowHours * INTERVAL '1 hour'
+        ORDER BY b.bucket_start DESC
+        LIMIT 1
+      ) base ON TRUE
+    ) s
+    WHERE k.id = s.id
+      AND k.trend_score IS DISTINCT FROM s.score
+    """, nativeQuery = true)
+  int updateTrendScores(@Param("windowHours") int windowHours);
+
+  /**
+   * 보관 기간이 지난 스냅샷 삭제
+   * - 키워드별로 보관 기간 이전의 가장 최근 스냅샷 1개는 기준값으로 유지
+   *
+   * @param retentionHours 보관 기간 (시간)
+   * @return 삭제된 스냅샷 행 수
+   */
+  @Modifying
+  @Query(value = """
+    DELETE FROM keyword_count_buckets b
+    WHERE b.bucket_start < date_trunc('hour', now()) - :retentionHours * INTERVAL '1 hour'
+      AND EXISTS (
+        SELECT 1
+        FROM keyword_count_buckets newer
+        WHERE newer.keyword_id = b.keyword_id
+          AND newer.bucket_start > b.bucket_start
+          AND newer.bucket_start <= date_trunc('hour', now()) - :retentionHours * INTERVAL '1 hour'
+      )
+    """, nativeQuery = true)
+  int purgeKeywordCountBuckets(@Param("retentionHours") int retentionHours);
 }
@@ -2,11 +2,16 @@ package kr.suhsaechan.mapsy.place.repository;
 
 import kr.suhsaechan.mapsy.member.entity.Member;
 import kr.suhsaechan.mapsy.place.constant.PlaceSavedStatus;
+import kr.suhsaechan.mapsy.place.dto.MemberPlaceClusterRow;
+import kr.suhsaechan.mapsy.place.dto.MemberPlaceMarkerRow;
+import kr.suhsaechan.mapsy.place.dto.MemberPlaceRow;
 import kr.suhsaechan.mapsy.place.entity.MemberPlace;
 import kr.suhsaechan.mapsy.place.entity.Place;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -70,4 +75,110 @@ public interface MemberPlaceRepository extends JpaRepository<MemberPlace, UUID>
       @Param("member") Member member,
       @Param("savedStatus") PlaceSavedStatus savedStatus
   );
+
+  /**
+   * 회원과 저장 상태로 장소 목록 Projection 조회 (첫 페이지)
+   * - 목록 화면 컬럼만 조회 (Place 전체 Fetch Join 대체)
+   * - MemberPlace (createdAt, id) 내림차순
+   *
+   * @param memberId 회원 ID
+   * @param savedStatus 저장 상태
+   * @param maxPhotoUrls 사진 URL 최대 개수
+   * @param limit 조회 개수
+   * @return 장소 목록 Projection
+   */
+  @Query("""
+      SELECT new kr.suhsaechan.mapsy.place.dto.MemberPlaceRow(
+          mp.id, mp.createdAt, p.id, p.name, p.address, p.rating, p.userRatingsTotal,
+          array_slice(p.photoUrls, 1, :maxPhotoUrls), p.description)
+      FROM MemberPlace mp
+      JOIN mp.place p
+      WHERE mp.member.id = :memberId
+        AND mp.savedStatus = :savedStatus
+        AND mp.deletedAt IS NULL
+      ORDER BY mp.createdAt DESC, mp.id DESC
+      """)
+  List<MemberPlaceRow> findPlaceRows(
+      @Param("memberId") UUID memberId,
+      @Param("savedStatus") PlaceSavedStatus savedStatus,
+      @Param("maxPhotoUrls") int maxPhotoUrls,
+      Limit limit
+  );
+
+  /**
+   * 회원과 저장 상태로 장소 목록 Projection 조회 (커서 이후 페이지)
+   *
+   * @param memberId 회원 ID
+   * @param savedStatus 저장 상태
+   * @param cursorCreatedAt 이전 페이지 마지막 행의 createdAt
+   * @param cursorId 이전 페이지 마지막 행의 ID
+   * @param maxPhotoUrls 사진 URL 최대 개수
+   * @param limit 조회 개수
+   * @return 장소 목록 Projection
+   */
+  @Query("""
+      SELECT new kr.suhsaechan.mapsy.place.dto.MemberPlaceRow(
+          mp.id, mp.createdAt, p.id, p.name, p.address, p.rating, p.userRatingsTotal,
+          array_slice(p.photoUrls, 1, :maxPhotoUrls), p.description)
+      FROM MemberPlace mp
+      JOIN mp.place p
+      WHERE mp.member.id = :memberId
+        AND mp.savedStatus = :savedStatus
+        AND mp.deletedAt IS NULL
+        AND (mp.createdAt < :cursorCreatedAt
+             OR (mp.createdAt = :cursorCreatedAt AND mp.id < :cursorId))
+      ORDER BY mp.createdAt DESC, mp.id DESC
+      """)
+  List<MemberPlaceRow> findPlaceRowsAfter(
+      @Param("memberId") UUID memberId,
+      @Param("savedStatus") PlaceSavedStatus savedStatus,
+      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+      @Param("cursorId") UUID cursorId,
+      @Param("maxPhotoUrls") int maxPhotoUrls,
+      Limit limit
+  );
+
+  /**
+   * 회원의 임시/저장 장소 전체 Projection 조회 (마커 클러스터 색인 적재용)
+   * - 좌표가 없는 장소는 제외
+   *
+   * @param memberId 회원 ID
+   * @return 클러스터 색인 Projection 목록
+   */
+  @Query("""
+      SELECT new kr.suhsaechan.mapsy.place.dto.MemberPlaceClusterRow(
+          p.id, mp.savedStatus, p.name, p.latitude, p.longitude, p.rating,
+          array_slice(p.photoUrls, 1, 1))
+      FROM MemberPlace mp
+      JOIN mp.place p
+      WHERE mp.member.id = :memberId
+        AND mp.deletedAt IS NULL
+        AND p.latitude IS NOT NULL
+        AND p.longitude IS NOT NULL
+      """)
+  List<MemberPlaceClusterRow> findClusterRows(@Param("memberId") UUID memberId);
+
+  /**
+   * 회원의 임시/저장 장소 마커 Projection 조회 (지도 마커 응답용)
+   * - 좌표가 없는 장소는 제외
+   *
+   * @param memberId 회원 ID
+   * @param savedStatus 저장 상태 (null이면 전체)
+   * @return 마커 Projection 목록
+   */
+  @Query("""
+      SELECT new kr.suhsaechan.mapsy.place.dto.MemberPlaceMarkerRow(
+          p.id, mp.savedStatus, p.name, p.latitude, p.longitude, p.businessType)
+      FROM MemberPlace mp
+      JOIN mp.place p
+      WHERE mp.member.id = :memberId
+        AND (:savedStatus IS NULL OR mp.savedStatus = :savedStatus)
+        AND mp.deletedAt IS NULL
+        AND p.latitude IS NOT NULL
+        AND p.longitude IS NOT NULL
+      """)
+  List<MemberPlaceMarkerRow> findMarkerRows(
+      @Param("memberId") UUID memberId,
+      @Param("savedStatus") PlaceSavedStatus savedStatus
+  );
 }
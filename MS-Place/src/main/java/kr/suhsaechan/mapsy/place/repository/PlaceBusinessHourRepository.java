@@ -2,6 +2,7 @@ package kr.suhsaechan.mapsy.place.repository;
 
 import kr.suhsaechan.mapsy.place.entity.PlaceBusinessHour;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -23,4 +24,14 @@ public interface PlaceBusinessHourRepository extends JpaRepository<PlaceBusiness
    */
   @Query("SELECT pbh FROM PlaceBusinessHour pbh WHERE pbh.place.id = :placeId ORDER BY pbh.weekday ASC")
   List<PlaceBusinessHour> findByPlaceIdOrderByWeekday(@Param("placeId") UUID placeId);
+
+  /**
+   * Place ID로 영업시간 전체 삭제 (재파싱 시 교체용)
+   *
+   * @param placeId 장소 ID
+   * @return 삭제된 행 수
+   */
+  @Modifying
+  @Query("DELETE FROM PlaceBusinessHour pbh WHERE pbh.place.id = :placeId")
+  int deleteByPlaceId(@Param("placeId") UUID placeId);
 }
@@ -1,5 +1,6 @@
 package kr.suhsaechan.mapsy.place.repository;
 
+import kr.suhsaechan.mapsy.place.dto.PlaceKeywordRow;
 import kr.suhsaechan.mapsy.place.entity.Keyword;
 import kr.suhsaechan.mapsy.place.entity.Place;
 import kr.suhsaechan.mapsy.place.entity.PlaceKeyword;
@@ -9,7 +10,10 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * PlaceKeyword 엔티티에 대한 Repository
@@ -51,6 +55,30 @@ public interface PlaceKeywordRepository extends JpaRepository<PlaceKeyword, Plac
    */
   boolean existsByPlaceAndKeyword(Place place, Keyword keyword);
 
+  /**
+   * 특정 장소에 연결된 키워드 ID 목록 조회
+   * - 키워드 일괄 연결 시 중복 체크용 (키워드별 exists 쿼리 대신 1회 조회)
+   *
+   * @param placeId 장소 ID
+   * @return 키워드 ID 목록
+   */
+  @Query("SELECT pk.id.keywordId FROM PlaceKeyword pk WHERE pk.id.placeId = :placeId")
+  Set<UUID> findKeywordIdsByPlaceId(@Param("placeId") UUID placeId);
+
+  /**
+   * 장소 목록의 연결 키워드 문자열 조회 (키워드 역색인 적재용 Projection)
+   *
+   * @param placeIds 장소 ID 목록
+   * @return 장소 ID와 키워드 문자열 목록
+   */
+  @Query("""
+    SELECT new kr.suhsaechan.mapsy.place.dto.PlaceKeywordRow(pk.id.placeId, k.keyword)
+    FROM PlaceKeyword pk
+    JOIN pk.keyword k
+    WHERE pk.id.placeId IN :placeIds
+    """)
+  List<PlaceKeywordRow> findKeywordRowsByPlaceIdIn(@Param("placeIds") Collection<UUID> placeIds);
+
   /**
    * 특정 키워드로 장소 검색 (Place 직접 조회)
    *
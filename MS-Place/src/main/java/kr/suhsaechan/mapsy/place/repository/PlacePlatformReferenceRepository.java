@@ -3,9 +3,11 @@ package kr.suhsaechan.mapsy.place.repository;
 import kr.suhsaechan.mapsy.place.constant.PlacePlatform;
 import kr.suhsaechan.mapsy.place.entity.Place;
 import kr.suhsaechan.mapsy.place.entity.PlacePlatformReference;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -45,4 +47,18 @@ public interface PlacePlatformReferenceRepository extends JpaRepository<PlacePla
       PlacePlatform placePlatform,
       String placePlatformId
   );
+
+  /**
+   * 플랫폼과 플랫폼 ID 목록으로 PlacePlatformReference 일괄 조회 (Place EntityGraph로 N+1 방지)
+   * - AI 콜백에서 장소 목록의 네이버 placeId를 한 번에 중복 체크 시 사용
+   *
+   * @param placePlatform    플랫폼 (NAVER, GOOGLE, KAKAO)
+   * @param placePlatformIds 플랫폼별 장소 ID 목록
+   * @return PlacePlatformReference 리스트 (Place 포함)
+   */
+  @EntityGraph(attributePaths = "place")
+  List<PlacePlatformReference> findAllByPlacePlatformAndPlacePlatformIdIn(
+      PlacePlatform placePlatform,
+      Collection<String> placePlatformIds
+  );
 }
@@ -1,12 +1,18 @@
 package kr.suhsaechan.mapsy.place.repository;
 
+import kr.suhsaechan.mapsy.place.dto.NearbyPlaceRow;
+import kr.suhsaechan.mapsy.place.dto.PlaceCoordinateRow;
 import kr.suhsaechan.mapsy.place.entity.Place;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -46,4 +52,199 @@ public interface PlaceRepository extends JpaRepository<Place, UUID> {
           @Param("name") String name,
           @Param("address") String address
   );
+
+  /**
+   * 삭제되지 않은 장소 ID를 ID 순으로 조회 (키워드 역색인 적재용 keyset 페이지네이션)
+   *
+   * @param cursorId 직전 배치의 마지막 장소 ID
+   * @param limit    배치 크기
+   * @return 장소 ID 목록
+   */
+  @Query("""
+    SELECT p.id FROM Place p
+    WHERE p.isDeleted = false
+    AND p.id > :cursorId
+    ORDER BY p.id ASC
+    """)
+  List<UUID> findActiveIdsAfter(@Param("cursorId") UUID cursorId, Limit limit);
+
+  /**
+   * 지정 시각 이후 삭제된 장소 ID 조회 (키워드 역색인 삭제 동기화용, idx_place_deleted_at)
+   *
+   * @param since 조회 시작 시각
+   * @return 장소 ID 목록
+   */
+  @Query("""
+    SELECT p.id FROM Place p
+    WHERE p.isDeleted = true
+    AND p.deletedAt >= :since
+    """)
+  List<UUID> findIdsDeletedSince(@Param("since") LocalDateTime since);
+
+  /**
+   * 격자 셀 목록의 장소 조회 (반경/영역 검색용, idx_place_grid_cell)
+   * - 셀 경계에 걸친 검색 범위 밖 장소는 제외
+   * - 중심점과의 근사 거리(등장방형 투영) 순으로 limit개만 조회
+   *
+   * @param cells          격자 셀 번호 목록
+   * @param minLatitude    검색 범위 남쪽 위도
+   * @param maxLatitude    검색 범위 북쪽 위도
+   * @param minLongitude   검색 범위 서쪽 경도
+   * @param maxLongitude   검색 범위 동쪽 경도
+   * @param latitude       중심 위도
+   * @param longitude      중심 경도
+   * @param longitudeScale 경도 차 보정 계수 (cos²(중심 위도))
+   * @param businessType   업종 (null이면 전체)
+   * @param minRating      최소 별점 (null이면 전체)
+   * @param openSlot       영업 중 필터 주간 슬롯 (BusinessHoursUtil.slotOf, 음수면 전체)
+   * @param limit          조회 개수
+   * @return NearbyPlaceRow 목록
+   */
+  @Query("""
+    SELECT new kr.suhsaechan.mapsy.place.dto.NearbyPlaceRow(
+        p.id, p.name, p.address, p.latitude, p.longitude,
+        p.businessType, p.rating, p.userRatingsTotal, p.photoUrls)
+    FROM Place p
+    WHERE p.gridCell IN :cells
+    AND p.latitude BETWEEN :minLatitude AND :maxLatitude
+    AND p.longitude BETWEEN :minLongitude AND :maxLongitude
+    AND p.isDeleted = false
+    AND (:businessType IS NULL OR p.businessType = :businessType)
+    AND (:minRating IS NULL OR p.rating >= :minRating)
+    AND (CASE WHEN :openSlot < 0 THEN 1 ELSE get_bit(p.openHoursBitmap, :openSlot) END) = 1
+    ORDER BY (p.latitude - :latitude) * (p.latitude - :latitude)
+        + (p.longitude - :longitude) * (p.longitude - :longitude) * :longitudeScale
+    """)
+  List<NearbyPlaceRow> findNearbyRowsInCells(
+      @Param("cells") Collection<Long> cells,
+      @Param("minLatitude") BigDecimal minLatitude,
+      @Param("maxLatitude") BigDecimal maxLatitude,
+      @Param("minLongitude") BigDecimal minLongitude,
+      @Param("maxLongitude") BigDecimal maxLongitude,
+      @Param("latitude") BigDecimal latitude,
+      @Param("longitude") BigDecimal longitude,
+      @Param("longitudeScale") BigDecimal longitudeScale,
+      @Param("businessType") String businessType,
+      @Param("minRating") BigDecimal minRating,
+      @Param("openSlot") int openSlot,
+      Limit limit
+  );
+
+  /**
+   * 장소 ID 목록의 반경 검색용 Projection 조회 (공간 색인 검색 결과 채우기용)
+   *
+   * @param ids 장소 ID 목록
+   * @return NearbyPlaceRow 목록 (삭제된 장소 제외, 순서 보장 없음)
+   */
+  @Query("""
+    SELECT new kr.suhsaechan.mapsy.place.dto.NearbyPlaceRow(
+        p.id, p.name, p.address, p.latitude, p.longitude,
+        p.businessType, p.rating, p.userRatingsTotal, p.photoUrls)
+    FROM Place p
+    WHERE p.id IN :ids
+    AND p.isDeleted = false
+    """)
+  List<NearbyPlaceRow> findNearbyRowsByIdIn(@Param("ids") Collection<UUID> ids);
+
+  /**
+   * 삭제되지 않은 장소 좌표를 ID 순으로 조회 (공간 색인 적재용 keyset 페이지네이션)
+   *
+   * @param cursorId 직전 배치의 마지막 장소 ID
+   * @param limit    배치 크기
+   * @return PlaceCoordinateRow 목록 (좌표가 없는 장소 제외)
+   */
+  @Query("""
+    SELECT new kr.suhsaechan.mapsy.place.dto.PlaceCoordinateRow(p.id, p.latitude, p.longitude)
+    FROM Place p
+    WHERE p.isDeleted = false
+    AND p.id > :cursorId
+    AND p.latitude IS NOT NULL
+    AND p.longitude IS NOT NULL
+    ORDER BY p.id ASC
+    """)
+  List<PlaceCoordinateRow> findCoordinateRowsAfter(@Param("cursorId") UUID cursorId, Limit limit);
+
+  /**
+   * 상세 영업시간을 현재 파서 버전으로 파싱하지 않은 장소를 ID 순으로 조회 (영업시간 백필 keyset 페이지네이션)
+   *
+   * @param cursorId      직전 배치의 마지막 장소 ID
+   * @param parserVersion 현재 파서 버전 (BusinessHoursUtil.PARSER_VERSION)
+   * @param limit         배치 크기
+   * @return 장소 목록
+   */
+  @Query("""
+    SELECT p
+    FROM Place p
+    WHERE p.isDeleted = false
+    AND p.id > :cursorId
+    AND p.openHoursDetail IS NOT NULL
+    AND (p.openHoursParserVersion IS NULL OR p.openHoursParserVersion < :parserVersion)
+    ORDER BY p.id ASC
+    """)
+  List<Place> findOpenHoursBackfillTargets(
+      @Param("cursorId") UUID cursorId, @Param("parserVersion") int parserVersion, Limit limit);
+
+  /**
+   * 장소 수정 시각 조회 (조건부 요청 검증용, PK 인덱스 조회)
+   *
+   * @param placeId 장소 ID
+   * @return 수정 시각 (장소가 없으면 empty)
+   */
+  @Query("SELECT COALESCE(p.updatedAt, p.createdAt) FROM Place p WHERE p.id = :placeId")
+  Optional<LocalDateTime> findUpdatedAtById(@Param("placeId") UUID placeId);
+
+  /**
+   * 장소 상세 정보 JSON 단일 조회
+   * - Place + PlacePlatformReference + PlaceBusinessHour + PlaceMedia를 한 번의 SQL로 집계
+   * - PlaceDetailDto 필드명과 동일한 키의 JSON 문자열 반환
+   * - 영업시간은 요일 순서(MON~SUN), 미디어는 position 순서
+   *
+   * @param placeId 장소 ID
+   * @return PlaceDetailDto JSON (장소가 없으면 empty)
+   */
+  @Query(value = """
+    SELECT CAST(json_build_object(
+        'id', p.id,
+        'name', p.name,
+        'address', p.address,
+        'country', p.country,
+        'latitude', p.latitude,
+        'longitude', p.longitude,
+        'businessType', p.business_type,
+        'phone', p.phone,
+        'description', p.description,
+        'types', p.types,
+        'businessStatus', p.business_status,
+        'iconUrl', p.icon_url,
+        'rating', p.rating,
+        'userRatingsTotal', p.user_ratings_total,
+        'photoUrls', p.photo_urls,
+        'platformReferences', COALESCE((
+            SELECT json_agg(json_build_object(
+                'placePlatform', r.place_platform,
+                'placePlatformId', r.place_platform_id))
+            FROM place_platform_reference r
+            WHERE r.place_id = p.id), CAST('[]' AS json)),
+        'businessHours', COALESCE((
+            SELECT json_agg(json_build_object(
+                'weekday', h.weekday,
+                'openTime', h.open_time,
+                'closeTime', h.close_time)
+                ORDER BY array_position(ARRAY['MON', 'TUE', 'WED', 'THU', 'FRI', 'SAT', 'SUN'], CAST(h.weekday AS text)))
+            FROM place_business_hour h
+            WHERE h.place_id = p.id), CAST('[]' AS json)),
+        'medias', COALESCE((
+            SELECT json_agg(json_build_object(
+                'id', m.id,
+                'url', m.url,
+                'mimeType', m.mime_type,
+                'position', m.position)
+                ORDER BY m.position)
+            FROM place_media m
+            WHERE m.place_id = p.id), CAST('[]' AS json))
+    ) AS text)
+    FROM place p
+    WHERE p.id = :placeId
+    """, nativeQuery = true)
+  Optional<String> findPlaceDetailJson(@Param("placeId") UUID placeId);
 }
@@ -0,0 +1,42 @@
+package kr.suhsaechan.mapsy.place.scheduler;
+
+import kr.suhsaechan.mapsy.common.util.JobLeaseManager;
+import kr.suhsaechan.mapsy.place.service.KeywordCountAccumulator;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 키워드 사용 횟수 저널 복구 스케줄러 (5분 주기)
+ * - 비정상 종료된 인스턴스가 Redis에 남긴 미반영 저널을 DB에 반영
+ * - 여러 인스턴스가 동시에 실행되어도 리스를 획득한 하나의 인스턴스만 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KeywordCountJournalRecoveryScheduler {
+
+  private static final String JOB_NAME = "keyword-count-journal-recovery";
+  private static final Duration LEASE_DURATION = Duration.ofMinutes(4);
+
+  private final JobLeaseManager jobLeaseManager;
+  private final KeywordCountAccumulator keywordCountAccumulator;
+
+  @Scheduled(fixedDelay = 300_000, initialDelay = 120_000)
+  public void recoverOrphanJournals() {
+    if (!jobLeaseManager.tryAcquire(JOB_NAME, LEASE_DURATION)) {
+      return;
+    }
+
+    try {
+      int recovered = keywordCountAccumulator.recoverOrphanJournals();
+      if (recovered > 0) {
+        log.info("[KeywordCount] 미반영 저널 복구 완료 - journals={}", recovered);
+      }
+    } catch (RuntimeException e) {
+      log.error("[KeywordCount] 미반영 저널 복구 실패 - error={}", e.getMessage(), e);
+    }
+  }
+}
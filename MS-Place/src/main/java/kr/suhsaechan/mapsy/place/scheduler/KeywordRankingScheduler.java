@@ -0,0 +1,41 @@
+package kr.suhsaechan.mapsy.place.scheduler;
+
+import kr.suhsaechan.mapsy.common.util.JobLeaseManager;
+import kr.suhsaechan.mapsy.place.constant.KeywordRankingType;
+import kr.suhsaechan.mapsy.place.service.KeywordRankingSnapshotService;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인기 키워드 순위 스냅샷 갱신 스케줄러 (5분 주기)
+ * - 사용 횟수는 KeywordCountAccumulator가 수 초 단위로 반영하므로 주기적으로 스냅샷을 다시 생성
+ * - 트렌드 키워드 스냅샷은 KeywordTrendScheduler가 트렌드 점수 갱신 직후 게시
+ * - 여러 인스턴스가 동시에 실행되어도 리스를 획득한 하나의 인스턴스만 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KeywordRankingScheduler {
+
+  private static final String JOB_NAME = "keyword-ranking-popular";
+  private static final Duration LEASE_DURATION = Duration.ofMinutes(4);
+
+  private final JobLeaseManager jobLeaseManager;
+  private final KeywordRankingSnapshotService keywordRankingSnapshotService;
+
+  @Scheduled(fixedDelay = 300_000, initialDelay = 60_000)
+  public void publishPopularRanking() {
+    if (!jobLeaseManager.tryAcquire(JOB_NAME, LEASE_DURATION)) {
+      return;
+    }
+
+    try {
+      keywordRankingSnapshotService.publish(KeywordRankingType.POPULAR);
+    } catch (RuntimeException e) {
+      log.error("[KeywordRanking] 인기 키워드 스냅샷 갱신 실패 - error={}", e.getMessage(), e);
+    }
+  }
+}
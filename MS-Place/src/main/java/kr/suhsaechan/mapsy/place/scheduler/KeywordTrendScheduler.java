@@ -0,0 +1,43 @@
+package kr.suhsaechan.mapsy.place.scheduler;
+
+import kr.suhsaechan.mapsy.common.util.JobLeaseManager;
+import kr.suhsaechan.mapsy.place.constant.KeywordRankingType;
+import kr.suhsaechan.mapsy.place.service.KeywordRankingSnapshotService;
+import kr.suhsaechan.mapsy.place.service.KeywordTrendService;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 키워드 트렌드 점수 갱신 스케줄러 (매시 5분)
+ * - 여러 인스턴스가 동시에 실행되어도 리스를 획득한 하나의 인스턴스만 실행
+ * - 갱신 직후 트렌드 키워드 순위 스냅샷 게시
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KeywordTrendScheduler {
+
+  private static final String JOB_NAME = "keyword-trend";
+  private static final Duration LEASE_DURATION = Duration.ofMinutes(50);
+
+  private final JobLeaseManager jobLeaseManager;
+  private final KeywordTrendService keywordTrendService;
+  private final KeywordRankingSnapshotService keywordRankingSnapshotService;
+
+  @Scheduled(cron = "0 5 * * * *")
+  public void refreshTrendScores() {
+    if (!jobLeaseManager.tryAcquire(JOB_NAME, LEASE_DURATION)) {
+      return;
+    }
+
+    try {
+      keywordTrendService.refreshTrendScores();
+      keywordRankingSnapshotService.publish(KeywordRankingType.TRENDING);
+    } catch (RuntimeException e) {
+      log.error("[KeywordTrend] 트렌드 점수 갱신 실패 - error={}", e.getMessage(), e);
+    }
+  }
+}
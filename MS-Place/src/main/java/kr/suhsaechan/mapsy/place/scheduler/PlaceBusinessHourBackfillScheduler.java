@@ -0,0 +1,55 @@
+package kr.suhsaechan.mapsy.place.scheduler;
+
+import kr.suhsaechan.mapsy.common.util.JobLeaseManager;
+import kr.suhsaechan.mapsy.place.service.PlaceBusinessHourService;
+import java.time.Duration;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 장소 영업시간 백필 스케줄러 (1시간 주기)
+ * - 현재 파서 버전으로 파싱하지 않은 장소(마이그레이션 이전 장소, 파서 변경 이전 장소)의 상세 영업시간을 다시 파싱
+ * - 배치마다 트랜잭션을 나누고, 리스 만료 전에 멈춘 뒤 다음 실행에서 남은 장소를 이어서 처리
+ * - 여러 인스턴스가 동시에 실행되어도 리스를 획득한 하나의 인스턴스만 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceBusinessHourBackfillScheduler {
+
+  private static final String JOB_NAME = "place-business-hour-backfill";
+  private static final Duration LEASE_DURATION = Duration.ofMinutes(20);
+  private static final Duration TIME_BUDGET = Duration.ofMinutes(15);
+  private static final int BATCH_SIZE = 300;
+
+  private final JobLeaseManager jobLeaseManager;
+  private final PlaceBusinessHourService placeBusinessHourService;
+
+  @Scheduled(fixedDelay = 3_600_000, initialDelay = 180_000)
+  public void backfillBusinessHours() {
+    if (!jobLeaseManager.tryAcquire(JOB_NAME, LEASE_DURATION)) {
+      return;
+    }
+
+    long deadline = System.nanoTime() + TIME_BUDGET.toNanos();
+    int batches = 0;
+    try {
+      UUID cursor = null;
+      do {
+        cursor = placeBusinessHourService.backfillBusinessHours(cursor, BATCH_SIZE);
+        batches++;
+      } while (cursor != null && System.nanoTime() < deadline);
+
+      if (cursor != null) {
+        log.info("[BusinessHour] 영업시간 백필 시간 초과로 중단 - batches={}, cursor={}", batches, cursor);
+      } else {
+        log.debug("[BusinessHour] 영업시간 백필 완료 - batches={}", batches);
+      }
+    } catch (RuntimeException e) {
+      log.error("[BusinessHour] 영업시간 백필 실패 - batches={}, error={}", batches, e.getMessage(), e);
+    }
+  }
+}
@@ -0,0 +1,268 @@
+package kr.suhsaechan.mapsy.place.service;
+
+import kr.suhsaechan.mapsy.common.util.KoreanJamoUtil;
+import kr.suhsaechan.mapsy.place.dto.KeywordCountRow;
+import kr.suhsaechan.mapsy.place.dto.KeywordSuggestionDto;
+import kr.suhsaechan.mapsy.place.repository.KeywordRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 키워드 자동완성 로컬 색인 (인스턴스별 메모리)
+ * - 자모 분해 Trie : "강나" → "강남카페" (입력 중인 글자 포함 접두어 검색)
+ * - 초성 Trie : "ㄱㄴㅋㅍ" → "강남카페"
+ * - 각 노드에 사용 횟수 상위 TOP_K 키워드를 저장하여 조회 시 하위 노드 탐색 없이 O(검색어 길이)
+ * - 시작 시 전체 적재, 같은 인스턴스에서 생성한 키워드는 커밋 후 즉시 반영
+ * - 사용 횟수 변경(Write-behind 반영 포함)과 다른 인스턴스 변경은 1분 주기 증분 동기화로 DB 값을 반영
+ * - 키워드 사용 횟수는 증가만 하므로 변경된 키워드를 경로상 노드에 다시 제안하는 것으로 상위 목록이 유지됨
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class KeywordAutocompleteIndex {
+
+  public static final int TOP_K = 10;
+
+  private static final int LOAD_BATCH_SIZE = 10_000;
+  private static final long SYNC_OVERLAP_SECONDS = 60;
+  private static final UUID FIRST_CURSOR = new UUID(0L, 0L);
+
+  private final KeywordRepository keywordRepository;
+
+  // 전체 재적재 시 새 인스턴스로 교체
+  private volatile Tries tries;
+  private volatile LocalDateTime syncedAt;
+
+  /**
+   * 자동완성 검색
+   *
+   * @param query 정규화된 검색어
+   * @param limit 최대 결과 수 (TOP_K 이하)
+   * @return 사용 횟수 내림차순 키워드 목록 (색인 준비 전이면 null)
+   */
+  public List<KeywordSuggestionDto> search(String query, int limit) {
+    Tries current = tries;
+    if (current == null) {
+      return null;
+    }
+    if (query.isEmpty()) {
+      return List.of();
+    }
+
+    Node node = KoreanJamoUtil.isChosungOnly(query)
+        ? current.chosung().find(query)
+        : current.jamo().find(KoreanJamoUtil.decompose(query));
+    if (node == null) {
+      return List.of();
+    }
+
+    KeywordSuggestionDto[] top = node.top;
+    return Arrays.asList(top).subList(0, Math.min(limit, top.length));
+  }
+
+  /**
+   * 키워드 변경 반영 (생성 또는 사용 횟수 증가)
+   *
+   * @param suggestions 변경된 키워드와 현재 사용 횟수
+   */
+  public void apply(Collection<KeywordSuggestionDto> suggestions) {
+    Tries current = tries;
+    if (current == null) {
+      return;
+    }
+    synchronized (this) {
+      for (KeywordSuggestionDto suggestion : suggestions) {
+        current.add(suggestion);
+      }
+    }
+  }
+
+  /**
+   * 애플리케이션 시작 시 전체 적재
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    long startedAt = System.currentTimeMillis();
+    LocalDateTime loadStartedAt = LocalDateTime.now();
+    Tries rebuilt = new Tries(new Trie(), new Trie());
+
+    try {
+      int loaded = 0;
+      UUID cursor = FIRST_CURSOR;
+      List<KeywordCountRow> rows;
+      do {
+        rows = keywordRepository.findCountRowsAfter(cursor, Limit.of(LOAD_BATCH_SIZE));
+        for (KeywordCountRow row : rows) {
+          rebuilt.add(row.toSuggestion());
+        }
+        loaded += rows.size();
+        if (!rows.isEmpty()) {
+          cursor = rows.get(rows.size() - 1).id();
+        }
+      } while (rows.size() == LOAD_BATCH_SIZE);
+
+      synchronized (this) {
+        tries = rebuilt;
+        // 적재 중 변경된 키워드는 다음 동기화에서 반영
+        syncedAt = loadStartedAt;
+      }
+      log.info("[KeywordAutocomplete] 색인 적재 완료 - keywords={}, elapsedMs={}",
+          loaded, System.currentTimeMillis() - startedAt);
+    } catch (RuntimeException e) {
+      log.error("[KeywordAutocomplete] 색인 적재 실패 - error={}", e.getMessage(), e);
+    }
+  }
+
+  /**
+   * 다른 인스턴스에서 변경된 키워드 증분 동기화 (1분 주기)
+   * - 인스턴스 간 시계 차이를 고려하여 직전 동기화 시각보다 SYNC_OVERLAP_SECONDS 이전부터 조회 (중복 반영은 무해)
+   */
+  @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+  public void syncChanges() {
+    LocalDateTime since = syncedAt;
+    if (since == null) {
+      rebuild();
+      return;
+    }
+
+    try {
+      LocalDateTime syncStartedAt = LocalDateTime.now();
+      List<KeywordSuggestionDto> changed = keywordRepository
+          .findCountRowsUpdatedAfter(since.minusSeconds(SYNC_OVERLAP_SECONDS))
+          .stream()
+          .map(KeywordCountRow::toSuggestion)
+          .toList();
+      apply(changed);
+      syncedAt = syncStartedAt;
+      log.debug("[KeywordAutocomplete] 증분 동기화 - changed={}", changed.size());
+    } catch (RuntimeException e) {
+      log.warn("[KeywordAutocomplete] 증분 동기화 실패 - error={}", e.getMessage());
+    }
+  }
+
+  private record Tries(Trie jamo, Trie chosung) {
+
+    void add(KeywordSuggestionDto suggestion) {
+      jamo.add(KoreanJamoUtil.decompose(suggestion.keyword()), suggestion);
+      chosung.add(KoreanJamoUtil.chosung(suggestion.keyword()), suggestion);
+    }
+  }
+
+  private static final class Trie {
+
+    private final Node root = new Node();
+
+    void add(String key, KeywordSuggestionDto suggestion) {
+      Node node = root;
+      node.offer(suggestion);
+      for (int i = 0; i < key.length(); i++) {
+        node = node.getOrCreateChild(key.charAt(i));
+        node.offer(suggestion);
+      }
+    }
+
+    Node find(String prefix) {
+      Node node = root;
+      for (int i = 0; i < prefix.length() && node != null; i++) {
+        node = node.child(prefix.charAt(i));
+      }
+      return node;
+    }
+  }
+
+  /**
+   * Trie 노드
+   * - 자식/상위 목록은 불변 배열을 통째로 교체 (쓰기는 단일 스레드, 읽기는 잠금 없이 수행)
+   */
+  private static final class Node {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final KeywordSuggestionDto[] NO_SUGGESTIONS = new KeywordSuggestionDto[0];
+
+    private volatile Children children = new Children(NO_KEYS, NO_CHILDREN);
+    private volatile KeywordSuggestionDto[] top = NO_SUGGESTIONS;
+
+    Node child(char key) {
+      Children current = children;
+      int index = Arrays.binarySearch(current.keys(), key);
+      return index >= 0 ? current.nodes()[index] : null;
+    }
+
+    Node getOrCreateChild(char key) {
+      Children current = children;
+      int index = Arrays.binarySearch(current.keys(), key);
+      if (index >= 0) {
+        return current.nodes()[index];
+      }
+
+      int insertAt = -index - 1;
+      int size = current.keys().length;
+      char[] keys = new char[size + 1];
+      Node[] nodes = new Node[size + 1];
+      System.arraycopy(current.keys(), 0, keys, 0, insertAt);
+      System.arraycopy(current.nodes(), 0, nodes, 0, insertAt);
+      System.arraycopy(current.keys(), insertAt, keys, insertAt + 1, size - insertAt);
+      System.arraycopy(current.nodes(), insertAt, nodes, insertAt + 1, size - insertAt);
+
+      Node child = new Node();
+      keys[insertAt] = key;
+      nodes[insertAt] = child;
+      children = new Children(keys, nodes);
+      return child;
+    }
+
+    /**
+     * 상위 목록 갱신 (같은 키워드는 교체, 사용 횟수 내림차순 → 키워드 오름차순, TOP_K 유지)
+     */
+    void offer(KeywordSuggestionDto suggestion) {
+      KeywordSuggestionDto[] current = top;
+      if (current.length == TOP_K
+          && !ranksBefore(suggestion, current[TOP_K - 1])
+          && !current[TOP_K - 1].keyword().equals(suggestion.keyword())) {
+        // 상위 목록 최하위보다 낮으면 변경 없음 (기존 항목이면 사용 횟수 증가로 순위가 내려가지 않음)
+        return;
+      }
+      List<KeywordSuggestionDto> merged = new ArrayList<>(current.length + 1);
+      boolean inserted = false;
+      for (KeywordSuggestionDto existing : current) {
+        if (existing.keyword().equals(suggestion.keyword())) {
+          continue;
+        }
+        if (!inserted && ranksBefore(suggestion, existing)) {
+          merged.add(suggestion);
+          inserted = true;
+        }
+        merged.add(existing);
+      }
+      if (!inserted) {
+        merged.add(suggestion);
+      }
+      if (merged.size() > TOP_K) {
+        merged = merged.subList(0, TOP_K);
+      }
+      top = merged.toArray(NO_SUGGESTIONS);
+    }
+
+    private static boolean ranksBefore(KeywordSuggestionDto a, KeywordSuggestionDto b) {
+      if (a.count() != b.count()) {
+        return a.count() > b.count();
+      }
+      return a.keyword().compareTo(b.keyword()) < 0;
+    }
+  }
+
+  private record Children(char[] keys, Node[] nodes) {
+  }
+}
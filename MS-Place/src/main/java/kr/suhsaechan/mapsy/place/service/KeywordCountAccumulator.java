@@ -0,0 +1,311 @@
+package kr.suhsaechan.mapsy.place.service;
+
+import kr.suhsaechan.mapsy.common.util.TransactionUtil;
+import kr.suhsaechan.mapsy.place.repository.KeywordRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 키워드 사용 횟수 Write-behind 누적기
+ * - 인기 키워드(#맛집 등) 행을 콜백마다 UPDATE하면 행 잠금 경합이 발생하므로 메모리(LongAdder)에 누적 (콜백 스레드는 Redis/DB 접근 없음)
+ * - FLUSH_INTERVAL_MS 주기로 누적 구간(window)을 닫고, 한 주기 전에 닫힌 구간을 단일 UPDATE (count = count + delta)로 일괄 반영
+ *   (닫힌 직후 구간에 늦게 들어오는 증가분을 기다리기 위해 한 주기 늦게 반영)
+ * - 비정상 종료 대비: 닫힌 구간의 누적분을 Redis 저널(KC:{instanceId}:{window} Hash)에 파이프라인 1회로 기록
+ * - KCO:{instanceId} : 인스턴스 생존 표시 (OWNER_REFRESH_INTERVAL마다 TTL 갱신), 만료된 인스턴스의 저널은 recoverOrphanJournals로 반영
+ * - 반영과 생존 표시 갱신은 전용 스레드에서 실행 (다른 스케줄 작업이 길어져도 생존 표시가 만료되지 않음)
+ * - 구간별 반영 권한은 저널 키 삭제로 확정 (소유 인스턴스는 DEL, 복구 측은 HGETALL + DEL 스크립트)
+ *   생존 표시가 만료되어 복구 측이 먼저 가져간 구간은 소유 인스턴스가 저널 기록 이후 증가분만 반영하므로 중복 반영되지 않음
+ * - 반영 실패 시 구간을 유지하고 저널을 다시 기록하여 다음 주기에 재시도, 종료 시 남은 구간 모두 반영
+ * - 저널 기록 전(최대 한 주기)에 비정상 종료되거나 반영 권한 확정 후 DB 커밋 전에 종료되면 해당 증가분은 유실 (인기도 지표이므로 중복보다 유실을 허용)
+ * - Redis 장애 시 메모리 누적만으로 동작 (비정상 종료 시 마지막 반영 이후 증가분 유실)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class KeywordCountAccumulator {
+
+  private static final long FLUSH_INTERVAL_MS = 5_000;
+  private static final String JOURNAL_KEY_PREFIX = "KC:";
+  private static final String OWNER_KEY_PREFIX = "KCO:";
+  private static final Duration OWNER_TTL = Duration.ofMinutes(5);
+  private static final Duration OWNER_REFRESH_INTERVAL = Duration.ofSeconds(30);
+  private static final Duration JOURNAL_TTL = Duration.ofDays(7);
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+  private static final String INSTANCE_ID = UUID.randomUUID().toString();
+
+  /**
+   * 저널을 읽고 삭제 (복구 측 반영 권한 확정, 소유 인스턴스의 DEL과 동시에 성공할 수 없음)
+   */
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> CLAIM_JOURNAL_SCRIPT = new DefaultRedisScript<>(
+      "local entries = redis.call('HGETALL', KEYS[1]); "
+          + "redis.call('DEL', KEYS[1]); "
+          + "return entries",
+      List.class);
+
+  private final KeywordRepository keywordRepository;
+  private final StringRedisTemplate stringRedisTemplate;
+
+  // 반영(flush)과 생존 표시 갱신 전용 (공용 스케줄러 스레드와 분리)
+  private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(
+      2, Thread.ofPlatform().name("keyword-count-", 0).daemon().factory());
+
+  private volatile Window current = new Window(0);
+
+  // 닫혔지만 아직 DB에 반영되지 않은 구간 (flush 내부에서만 접근)
+  private final List<Window> closed = new ArrayList<>();
+
+  /**
+   * 키워드 사용 횟수 증가 (트랜잭션 커밋 후 메모리에 누적)
+   *
+   * @param keywordId 키워드 ID
+   */
+  public void increment(UUID keywordId) {
+    TransactionUtil.runAfterCommit(
+        () -> current.adders.computeIfAbsent(keywordId, id -> new LongAdder()).increment());
+  }
+
+  /**
+   * 한 주기 이상 지난 구간의 누적분을 DB 반영하고, 현재 구간을 닫아 저널 기록
+   */
+  public synchronized void flush() {
+    List<Window> ready = new ArrayList<>(closed);
+    rotate();
+    apply(ready);
+    journal(closed.stream().filter(window -> window.journaled == null).toList());
+  }
+
+  @PostConstruct
+  public void start() {
+    refreshOwner();
+    scheduler.scheduleWithFixedDelay(this::flushSafely, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    scheduler.scheduleAtFixedRate(this::refreshOwner,
+        OWNER_REFRESH_INTERVAL.toMillis(), OWNER_REFRESH_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() throws InterruptedException {
+    scheduler.shutdown();
+    if (!scheduler.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+      log.warn("[KeywordCount] 종료 대기 시간 초과, 진행 중인 반영 중단");
+      scheduler.shutdownNow();
+    }
+    synchronized (this) {
+      rotate();
+      apply(new ArrayList<>(closed));
+    }
+  }
+
+  /**
+   * 종료된 인스턴스가 남긴 저널 반영
+   * - 생존 표시(KCO)가 만료된 인스턴스의 저널만 대상, 여러 인스턴스 중 하나만 실행하도록 호출 측에서 리스 획득
+   * - 저널마다 읽기와 삭제를 원자적으로 수행하여 소유 인스턴스가 살아 있어도 같은 구간을 두 번 반영하지 않음
+   *
+   * @return 반영한 저널 수
+   */
+  public int recoverOrphanJournals() {
+    Map<String, List<String>> journalKeysByInstance = new HashMap<>();
+    ScanOptions options = ScanOptions.scanOptions().match(JOURNAL_KEY_PREFIX + "*").count(1_000).build();
+    try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+      cursor.forEachRemaining(key -> {
+        String instanceId = key.substring(JOURNAL_KEY_PREFIX.length(), key.lastIndexOf(':'));
+        journalKeysByInstance.computeIfAbsent(instanceId, id -> new ArrayList<>()).add(key);
+      });
+    }
+
+    int recovered = 0;
+    for (Map.Entry<String, List<String>> entry : journalKeysByInstance.entrySet()) {
+      String instanceId = entry.getKey();
+      if (instanceId.equals(INSTANCE_ID) || Boolean.TRUE.equals(stringRedisTemplate.hasKey(OWNER_KEY_PREFIX + instanceId))) {
+        continue;
+      }
+      for (String key : entry.getValue()) {
+        List<?> entries = stringRedisTemplate.execute(CLAIM_JOURNAL_SCRIPT, List.of(key));
+        if (entries == null || entries.isEmpty()) {
+          continue;
+        }
+        Map<UUID, Long> sums = new TreeMap<>();
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+          sums.merge(UUID.fromString(String.valueOf(entries.get(i))),
+              Long.parseLong(String.valueOf(entries.get(i + 1))), Long::sum);
+        }
+        incrementCounts(sums);
+        recovered++;
+        log.info("[KeywordCount] 종료된 인스턴스의 저널 반영 - instance={}, keywords={}", instanceId, sums.size());
+      }
+    }
+    return recovered;
+  }
+
+  private void flushSafely() {
+    try {
+      flush();
+    } catch (RuntimeException e) {
+      log.error("[KeywordCount] 사용 횟수 반영 주기 실패 - error={}", e.getMessage(), e);
+    }
+  }
+
+  /**
+   * 새 구간을 열고 현재 구간을 닫힌 구간에 추가
+   */
+  private void rotate() {
+    Window previous = current;
+    current = new Window(previous.sequence + 1);
+    closed.add(previous);
+  }
+
+  /**
+   * 구간 반영 권한 확정(저널 삭제) 후 누적분을 합산하여 DB 반영
+   * - 복구 측이 먼저 가져간 저널의 값은 제외하고 반영
+   * - id 순으로 정렬하여 인스턴스 간 UPDATE 잠금 순서를 맞춤
+   */
+  private void apply(List<Window> windows) {
+    if (windows.isEmpty()) {
+      return;
+    }
+
+    windows.forEach(this::claim);
+
+    Map<UUID, Long> sums = new TreeMap<>();
+    windows.forEach(window -> window.pending().forEach((id, delta) -> sums.merge(id, delta, Long::sum)));
+    sums.values().removeIf(sum -> sum <= 0);
+
+    if (!sums.isEmpty()) {
+      try {
+        int updated = incrementCounts(sums);
+        log.debug("[KeywordCount] 사용 횟수 반영 - keywords={}, updated={}", sums.size(), updated);
+      } catch (RuntimeException e) {
+        log.warn("[KeywordCount] 사용 횟수 반영 실패, 다음 주기에 재시도 - keywords={}, error={}",
+            sums.size(), e.getMessage());
+        return;
+      }
+    }
+
+    closed.removeAll(windows);
+  }
+
+  /**
+   * 저널을 삭제하여 구간 반영 권한 확정
+   * - 저널이 이미 없으면 복구 측이 가져간 것이므로 기록했던 값을 반영 대상에서 제외
+   * - Redis 오류 시 복구 측도 저널을 가져갈 수 없으므로 메모리 누적분으로 반영
+   */
+  private void claim(Window window) {
+    Map<UUID, Long> journaled = window.journaled;
+    if (journaled == null) {
+      return;
+    }
+    window.journaled = null;
+    try {
+      if (!Boolean.TRUE.equals(stringRedisTemplate.delete(journalKey(window)))) {
+        journaled.forEach((id, delta) -> window.appliedElsewhere.merge(id, delta, Long::sum));
+        log.warn("[KeywordCount] 복구 측이 먼저 반영한 구간 - window={}, keywords={}", window.sequence, journaled.size());
+      }
+    } catch (RuntimeException e) {
+      log.warn("[KeywordCount] 저널 삭제 실패 - window={}, error={}", window.sequence, e.getMessage());
+    }
+  }
+
+  private int incrementCounts(Map<UUID, Long> sums) {
+    UUID[] ids = sums.keySet().toArray(new UUID[0]);
+    Integer[] counts = sums.values().stream().map(Math::toIntExact).toArray(Integer[]::new);
+    return keywordRepository.incrementCounts(ids, counts);
+  }
+
+  /**
+   * 닫힌 구간의 누적분을 저널에 기록 (구간마다 HSET + EXPIRE, 파이프라인 1회)
+   */
+  private void journal(List<Window> windows) {
+    Map<Window, Map<UUID, Long>> snapshots = new HashMap<>();
+    for (Window window : windows) {
+      Map<UUID, Long> pending = window.pending();
+      pending.values().removeIf(delta -> delta <= 0);
+      if (!pending.isEmpty()) {
+        snapshots.put(window, pending);
+      }
+    }
+    if (snapshots.isEmpty()) {
+      return;
+    }
+
+    try {
+      stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+        snapshots.forEach((window, pending) -> {
+          byte[] key = journalKey(window).getBytes(StandardCharsets.UTF_8);
+          Map<byte[], byte[]> fields = new HashMap<>();
+          pending.forEach((id, delta) -> fields.put(
+              id.toString().getBytes(StandardCharsets.UTF_8),
+              String.valueOf(delta).getBytes(StandardCharsets.UTF_8)));
+          connection.hashCommands().hMSet(key, fields);
+          connection.keyCommands().expire(key, JOURNAL_TTL.toSeconds());
+        });
+        return null;
+      });
+      snapshots.forEach((window, pending) -> window.journaled = pending);
+    } catch (RuntimeException e) {
+      log.debug("[KeywordCount] 저널 기록 실패 (메모리 누적만 유지) - windows={}, error={}",
+          snapshots.size(), e.getMessage());
+    }
+  }
+
+  private void refreshOwner() {
+    try {
+      stringRedisTemplate.opsForValue().set(OWNER_KEY_PREFIX + INSTANCE_ID, "1", OWNER_TTL);
+    } catch (RuntimeException e) {
+      log.debug("[KeywordCount] 생존 표시 갱신 실패 - error={}", e.getMessage());
+    }
+  }
+
+  private static String journalKey(Window window) {
+    return JOURNAL_KEY_PREFIX + INSTANCE_ID + ":" + window.sequence;
+  }
+
+  /**
+   * 누적 구간 (메모리 누적분과 Redis 저널이 같은 구간 단위로 반영/삭제됨)
+   */
+  private static final class Window {
+
+    private final long sequence;
+    private final ConcurrentHashMap<UUID, LongAdder> adders = new ConcurrentHashMap<>();
+
+    // 저널에 기록한 값 (기록 전이거나 반영 권한 확정 후면 null, flush 내부에서만 접근)
+    private Map<UUID, Long> journaled;
+
+    // 복구 측이 저널로 먼저 반영한 값 (flush 내부에서만 접근)
+    private final Map<UUID, Long> appliedElsewhere = new HashMap<>();
+
+    private Window(long sequence) {
+      this.sequence = sequence;
+    }
+
+    /**
+     * 이 인스턴스가 반영해야 할 누적분 (메모리 누적분 - 복구 측 반영분)
+     */
+    private Map<UUID, Long> pending() {
+      Map<UUID, Long> pending = new HashMap<>();
+      adders.forEach((id, adder) -> pending.put(id, adder.sum() - appliedElsewhere.getOrDefault(id, 0L)));
+      return pending;
+    }
+  }
+}
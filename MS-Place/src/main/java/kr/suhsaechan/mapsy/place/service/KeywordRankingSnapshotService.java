@@ -0,0 +1,284 @@
+package kr.suhsaechan.mapsy.place.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.suhsaechan.mapsy.common.exception.CustomException;
+import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
+import kr.suhsaechan.mapsy.place.constant.KeywordRankingType;
+import kr.suhsaechan.mapsy.place.dto.GetKeywordRankingResponse;
+import kr.suhsaechan.mapsy.place.dto.KeywordRankingDto;
+import kr.suhsaechan.mapsy.place.dto.KeywordRankingRow;
+import kr.suhsaechan.mapsy.place.repository.KeywordRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 트렌드/인기 키워드 순위 스냅샷 (로컬 메모리 + Redis)
+ * - 순위는 트렌드 점수 갱신 또는 사용 횟수 반영 시에만 바뀌므로 요청마다 정렬/COUNT 쿼리를 수행하지 않음
+ * - 상위 SNAPSHOT_SIZE개를 PAGE_SIZE 단위 응답 JSON으로 미리 직렬화하여 보관
+ * - KR:{type} : 현재 스냅샷 버전, KR:{type}:{version} : 페이지 번호 → 응답 JSON (Hash)
+ * - 갱신: 새 버전 Hash 저장 후 버전 키 교체 (이전 버전은 TTL로 만료), 각 인스턴스는 30초 주기로 버전을 확인하여 로컬 스냅샷 교체
+ * - 게시(publish)는 리스를 획득한 스케줄러만 수행하며, 게시된 스냅샷이 없는 인스턴스는 로컬 전용 스냅샷으로 응답
+ * - 요청은 로컬 메모리에서만 응답하며, 커서에 버전이 포함되어 페이지 이동 중 교체되어도 직전 버전으로 이어서 조회
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class KeywordRankingSnapshotService {
+
+  public static final int PAGE_SIZE = 20;
+
+  private static final int SNAPSHOT_SIZE = 500;
+  private static final String CACHE_KEY_PREFIX = "KR:";
+  private static final Duration REMOTE_TTL = Duration.ofHours(3);
+  private static final char CURSOR_DELIMITER = '|';
+
+  private final KeywordRepository keywordRepository;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final ObjectMapper objectMapper;
+
+  private final Map<KeywordRankingType, Snapshots> snapshots = new ConcurrentHashMap<>();
+
+  /**
+   * 직렬화된 키워드 순위 페이지 조회
+   *
+   * @param type   순위 종류
+   * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+   * @return GetKeywordRankingResponse UTF-8 JSON 바이트
+   */
+  public byte[] getSerializedPage(KeywordRankingType type, String cursor) {
+    RankingCursor rankingCursor = RankingCursor.decode(cursor);
+
+    Snapshots held = snapshots.get(type);
+    if (held == null) {
+      held = loadInitial(type);
+    }
+
+    if (rankingCursor == null) {
+      return held.current().pages().get(0);
+    }
+    // 커서의 버전이 더 이상 보관되지 않으면 현재 버전의 같은 페이지로 이어서 조회
+    Snapshot snapshot = held.find(rankingCursor.version());
+    List<byte[]> pages = (snapshot != null ? snapshot : held.current()).pages();
+    if (rankingCursor.page() >= pages.size()) {
+      throw new CustomException(ErrorCode.INVALID_CURSOR);
+    }
+    return pages.get(rankingCursor.page());
+  }
+
+  /**
+   * DB에서 스냅샷 생성 후 Redis 게시 및 로컬 교체
+   * - 트렌드 점수 갱신 직후, 인기 키워드 주기 갱신 시 리스를 획득한 인스턴스에서 호출
+   *
+   * @param type 순위 종류
+   */
+  public void publish(KeywordRankingType type) {
+    long startedAt = System.currentTimeMillis();
+    Snapshot snapshot = build(type);
+
+    try {
+      Map<String, String> fields = new HashMap<>();
+      for (int page = 0; page < snapshot.pages().size(); page++) {
+        fields.put(String.valueOf(page), new String(snapshot.pages().get(page), StandardCharsets.UTF_8));
+      }
+      String pagesKey = pagesKey(type, snapshot.version());
+      stringRedisTemplate.opsForHash().putAll(pagesKey, fields);
+      stringRedisTemplate.expire(pagesKey, REMOTE_TTL);
+      stringRedisTemplate.opsForValue().set(versionKey(type), String.valueOf(snapshot.version()), REMOTE_TTL);
+    } catch (RuntimeException e) {
+      log.warn("[KeywordRanking] Redis 게시 실패 - type={}, error={}", type, e.getMessage());
+    }
+
+    swap(type, snapshot);
+    log.info("[KeywordRanking] 스냅샷 게시 - type={}, version={}, pages={}, elapsedMs={}",
+        type, snapshot.version(), snapshot.pages().size(), System.currentTimeMillis() - startedAt);
+  }
+
+  /**
+   * 다른 인스턴스가 게시한 스냅샷 동기화 (30초 주기)
+   * - 버전 키만 조회하고, 버전이 바뀐 경우에만 페이지를 가져와 교체
+   */
+  @Scheduled(fixedDelay = 30_000, initialDelay = 30_000)
+  public void syncFromRemote() {
+    for (KeywordRankingType type : KeywordRankingType.values()) {
+      Snapshots held = snapshots.get(type);
+      if (held == null) {
+        // 조회된 적 없는 순위는 첫 요청 시 적재
+        continue;
+      }
+      try {
+        Snapshot remote = readRemote(type, held.current().version());
+        if (remote != null) {
+          swap(type, remote);
+          log.debug("[KeywordRanking] 스냅샷 동기화 - type={}, version={}", type, remote.version());
+        }
+      } catch (RuntimeException e) {
+        log.warn("[KeywordRanking] 스냅샷 동기화 실패 - type={}, error={}", type, e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * 로컬 스냅샷이 없을 때 적재 (Redis → DB 순)
+   * - Redis에 게시된 스냅샷이 없으면 이 인스턴스에서만 사용할 스냅샷을 생성 (게시는 리스를 획득한 스케줄러만 수행)
+   * - 다음 게시 이후 syncFromRemote가 게시된 스냅샷으로 교체
+   */
+  private synchronized Snapshots loadInitial(KeywordRankingType type) {
+    Snapshots held = snapshots.get(type);
+    if (held != null) {
+      return held;
+    }
+
+    Snapshot remote = null;
+    try {
+      remote = readRemote(type, null);
+    } catch (RuntimeException e) {
+      log.warn("[KeywordRanking] Redis 조회 실패 - type={}, error={}", type, e.getMessage());
+    }
+    if (remote != null) {
+      return swap(type, remote);
+    }
+
+    Snapshot local = build(type);
+    log.info("[KeywordRanking] 게시된 스냅샷이 없어 로컬 스냅샷 생성 - type={}, version={}", type, local.version());
+    return swap(type, local);
+  }
+
+  /**
+   * Redis 스냅샷 조회
+   *
+   * @param knownVersion 로컬 버전 (같으면 페이지를 가져오지 않음)
+   * @return 새 버전 스냅샷 (변경 없거나 게시된 스냅샷이 없으면 null)
+   */
+  private Snapshot readRemote(KeywordRankingType type, Long knownVersion) {
+    String version = stringRedisTemplate.opsForValue().get(versionKey(type));
+    if (version == null || String.valueOf(knownVersion).equals(version)) {
+      return null;
+    }
+
+    Map<Object, Object> fields = stringRedisTemplate.opsForHash().entries(pagesKey(type, Long.parseLong(version)));
+    if (fields.isEmpty()) {
+      return null;
+    }
+    byte[][] pages = new byte[fields.size()][];
+    fields.forEach((page, json) ->
+        pages[Integer.parseInt((String) page)] = ((String) json).getBytes(StandardCharsets.UTF_8));
+    return new Snapshot(Long.parseLong(version), List.of(pages));
+  }
+
+  private Snapshot build(KeywordRankingType type) {
+    List<KeywordRankingRow> rows = switch (type) {
+      case TRENDING -> keywordRepository.findTrendingRankingRows(Limit.of(SNAPSHOT_SIZE));
+      case POPULAR -> keywordRepository.findPopularRankingRows(Limit.of(SNAPSHOT_SIZE));
+    };
+
+    long version = System.currentTimeMillis();
+    int pageCount = Math.max(1, (rows.size() + PAGE_SIZE - 1) / PAGE_SIZE);
+    List<byte[]> pages = new ArrayList<>(pageCount);
+    for (int page = 0; page < pageCount; page++) {
+      int from = page * PAGE_SIZE;
+      int to = Math.min(from + PAGE_SIZE, rows.size());
+      List<KeywordRankingDto> keywords = new ArrayList<>(to - from);
+      for (int i = from; i < to; i++) {
+        keywords.add(rows.get(i).toDto(i + 1));
+      }
+
+      boolean hasNext = page + 1 < pageCount;
+      pages.add(serialize(GetKeywordRankingResponse.builder()
+          .keywords(keywords)
+          .nextCursor(hasNext ? new RankingCursor(version, page + 1).encode() : null)
+          .hasNext(hasNext)
+          .build()));
+    }
+    return new Snapshot(version, List.copyOf(pages));
+  }
+
+  /**
+   * 로컬 스냅샷 교체 (직전 버전은 페이지 이동 중인 커서를 위해 하나만 보관)
+   * - 마지막으로 게시된 스냅샷이 기준이므로 버전 대소가 아닌 일치 여부만 비교 (인스턴스 간 시계 차이 무관)
+   */
+  private Snapshots swap(KeywordRankingType type, Snapshot snapshot) {
+    return snapshots.compute(type, (key, held) -> {
+      if (held != null && held.current().version() == snapshot.version()) {
+        return held;
+      }
+      return new Snapshots(snapshot, held != null ? held.current() : null);
+    });
+  }
+
+  private byte[] serialize(GetKeywordRankingResponse response) {
+    try {
+      return objectMapper.writeValueAsBytes(response);
+    } catch (JsonProcessingException e) {
+      log.error("Failed to serialize keyword ranking response", e);
+      throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  private static String versionKey(KeywordRankingType type) {
+    return CACHE_KEY_PREFIX + type.name();
+  }
+
+  private static String pagesKey(KeywordRankingType type, long version) {
+    return CACHE_KEY_PREFIX + type.name() + ":" + version;
+  }
+
+  private record Snapshot(long version, List<byte[]> pages) {
+  }
+
+  private record Snapshots(Snapshot current, Snapshot previous) {
+
+    Snapshot find(long version) {
+      if (current.version() == version) {
+        return current;
+      }
+      return previous != null && previous.version() == version ? previous : null;
+    }
+  }
+
+  /**
+   * (스냅샷 버전, 페이지 번호) 커서
+   * - 클라이언트에는 Base64URL로 인코딩된 불투명 문자열로 전달
+   */
+  private record RankingCursor(long version, int page) {
+
+    String encode() {
+      String raw = version + String.valueOf(CURSOR_DELIMITER) + page;
+      return Base64.getUrlEncoder().withoutPadding()
+          .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static RankingCursor decode(String cursor) {
+      if (cursor == null || cursor.isBlank()) {
+        return null;
+      }
+
+      try {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int index = raw.indexOf(CURSOR_DELIMITER);
+        if (index < 0) {
+          throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+        int page = Integer.parseInt(raw.substring(index + 1));
+        if (page < 0) {
+          throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+        return new RankingCursor(Long.parseLong(raw.substring(0, index)), page);
+      } catch (IllegalArgumentException e) {
+        throw new CustomException(ErrorCode.INVALID_CURSOR);
+      }
+    }
+  }
+}
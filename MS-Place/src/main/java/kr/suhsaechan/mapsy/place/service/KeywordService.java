@@ -1,19 +1,35 @@
 package kr.suhsaechan.mapsy.place.service;
 
+import kr.suhsaechan.mapsy.common.exception.CustomException;
+import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
+import kr.suhsaechan.mapsy.common.util.TransactionUtil;
+import kr.suhsaechan.mapsy.place.dto.KeywordSuggestionDto;
+import kr.suhsaechan.mapsy.place.dto.PlaceDto;
+import kr.suhsaechan.mapsy.place.dto.SearchKeywordPlacesResponse;
 import kr.suhsaechan.mapsy.place.entity.Keyword;
 import kr.suhsaechan.mapsy.place.entity.Place;
 import kr.suhsaechan.mapsy.place.entity.PlaceKeyword;
 import kr.suhsaechan.mapsy.place.repository.KeywordRepository;
 import kr.suhsaechan.mapsy.place.repository.PlaceKeywordRepository;
+import kr.suhsaechan.mapsy.place.repository.PlaceRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Keyword 비즈니스 로직 서비스
@@ -23,12 +39,20 @@ import java.util.List;
 @Slf4j
 public class KeywordService {
 
+  private static final int MAX_PAGE_SIZE = 100;
+  private static final int MAX_RESULT_WINDOW = 1_000;
+  private static final int MAX_QUERY_KEYWORDS = 20;
+
   private final KeywordRepository keywordRepository;
   private final PlaceKeywordRepository placeKeywordRepository;
+  private final PlaceRepository placeRepository;
+  private final KeywordAutocompleteIndex keywordAutocompleteIndex;
+  private final KeywordCountAccumulator keywordCountAccumulator;
+  private final PlaceKeywordIndex placeKeywordIndex;
 
   /**
    * 키워드 생성 또는 조회
-   * - 이미 존재하는 키워드면 조회 후 사용 횟수 증가
+   * - 이미 존재하는 키워드면 조회 후 사용 횟수 증가 (KeywordCountAccumulator로 커밋 후 누적, 행 잠금 없음)
    * - 존재하지 않으면 새로 생성
    *
    * @param keywordText 키워드 문자열
@@ -42,9 +66,8 @@ public class KeywordService {
     return keywordRepository.findByKeyword(keywordText)
         .map(existingKeyword -> {
           // 기존 키워드 사용 횟수 증가
-          existingKeyword.incrementCount();
-          log.info("Incremented count for keyword: {}, new count: {}",
-              keywordText, existingKeyword.getCount());
+          keywordCountAccumulator.increment(existingKeyword.getId());
+          log.info("Incremented count for keyword: {}", keywordText);
           return existingKeyword;
         })
         .orElseGet(() -> {
@@ -62,6 +85,10 @@ public class KeywordService {
    * 장소에 키워드 목록 연결
    * - 기존 연결된 키워드는 건너뛰기
    * - 새 키워드는 생성 후 연결
+   * - 키워드 조회 및 연결 여부 확인을 각각 1회 쿼리로 일괄 처리 (키워드 수만큼 쿼리 발생 방지)
+   * - 기존 키워드 사용 횟수는 KeywordCountAccumulator로 커밋 후 누적 (인기 키워드 행 잠금 경합 방지)
+   * - 커밋 후 키워드 역색인(PlaceKeywordIndex)에 연결 반영, 자동완성 색인에는 새 키워드만 추가
+   *   (기존 키워드 사용 횟수는 누적분이 DB에 반영된 뒤 KeywordAutocompleteIndex 증분 동기화가 갱신)
    *
    * @param place    장소
    * @param keywords 키워드 문자열 목록
@@ -76,27 +103,54 @@ public class KeywordService {
     log.info("Linking {} keywords to place: placeId={}, placeName={}",
         keywords.size(), place.getId(), place.getName());
 
-    for (String keywordText : keywords) {
-      // 해시태그 정규화 (# 제거, 소문자 변환)
-      String normalized = normalizeKeyword(keywordText);
+    // 해시태그 정규화 (# 제거, 소문자 변환) 및 중복 제거
+    List<String> normalizedKeywords = keywords.stream()
+        .map(this::normalizeKeyword)
+        .distinct()
+        .toList();
+
+    // 기존 키워드 일괄 조회
+    Map<String, Keyword> keywordMap = new HashMap<>();
+    for (Keyword keyword : keywordRepository.findByKeywordIn(normalizedKeywords)) {
+      keywordMap.put(keyword.getKeyword(), keyword);
+    }
 
-      // 키워드 생성 또는 조회
-      Keyword keyword = createOrGet(normalized);
+    // 이미 연결된 키워드 ID 일괄 조회
+    Set<UUID> linkedKeywordIds = placeKeywordRepository.findKeywordIdsByPlaceId(place.getId());
 
-      // 이미 연결되어 있는지 확인
-      boolean alreadyLinked = placeKeywordRepository.existsByPlaceAndKeyword(place, keyword);
+    List<PlaceKeyword> placeKeywords = new ArrayList<>();
+    List<KeywordSuggestionDto> createdKeywords = new ArrayList<>();
+    for (String normalized : normalizedKeywords) {
+      // 키워드 생성 또는 사용 횟수 증가
+      Keyword keyword = keywordMap.get(normalized);
+      if (keyword != null) {
+        keywordCountAccumulator.increment(keyword.getId());
+      } else {
+        keyword = keywordRepository.save(Keyword.builder()
+            .keyword(normalized)
+            .build());
+        keywordMap.put(normalized, keyword);
+        createdKeywords.add(new KeywordSuggestionDto(keyword.getKeyword(), keyword.getCount()));
+        log.info("Created new keyword: {}", normalized);
+      }
 
-      if (!alreadyLinked) {
+      if (linkedKeywordIds.add(keyword.getId())) {
         // PlaceKeyword 생성 및 연결
-        PlaceKeyword placeKeyword = PlaceKeyword.of(place, keyword);
-        placeKeywordRepository.save(placeKeyword);
-        log.info("Linked keyword '{}' to place '{}'", normalized, place.getName());
+        placeKeywords.add(PlaceKeyword.of(place, keyword));
+        log.debug("Linked keyword '{}' to place '{}'", normalized, place.getName());
       } else {
         log.debug("Keyword '{}' already linked to place '{}'", normalized, place.getName());
       }
     }
+    placeKeywordRepository.saveAll(placeKeywords);
+
+    // 자동완성 색인에 새 키워드 추가 (커밋 후)
+    if (!createdKeywords.isEmpty()) {
+      TransactionUtil.runAfterCommit(() -> keywordAutocompleteIndex.apply(createdKeywords));
+    }
+    TransactionUtil.runAfterCommit(() -> placeKeywordIndex.addKeywords(place.getId(), normalizedKeywords));
 
-    log.info("Successfully linked all keywords to place: placeId={}", place.getId());
+    log.info("Successfully linked {} keywords to place: placeId={}", placeKeywords.size(), place.getId());
   }
 
   /**
@@ -118,50 +172,88 @@ public class KeywordService {
   }
 
   /**
-   * 트렌드 키워드 조회
-   * - 트렌드 점수 기준 내림차순 정렬
-   *
-   * @param pageable 페이징 정보
-   * @return Page<Keyword>
+   * LIKE 와일드카드 이스케이프 (%, _, \ 를 문자 그대로 검색)
    */
-  @Transactional(readOnly = true)
-  public Page<Keyword> getTrendingKeywords(Pageable pageable) {
-    log.info("Fetching trending keywords: page={}, size={}",
-        pageable.getPageNumber(), pageable.getPageSize());
-
-    return keywordRepository.findTopByTrendScore(pageable);
+  private String escapeLikePattern(String value) {
+    return value.replace("\\", "\\\\")
+        .replace("%", "\\%")
+        .replace("_", "\\_");
   }
 
   /**
-   * 인기 키워드 조회 (사용 횟수 기준)
-   * - count 기준 내림차순 정렬
+   * 키워드 자동완성 검색
+   * - 자모 분해 접두어 검색 ("강나" → "강남카페") 및 초성 검색 ("ㄱㄴㅋㅍ" → "강남카페")
+   * - 로컬 색인(KeywordAutocompleteIndex)에서 DB 조회 없이 응답 (트랜잭션 없음, 색인 적중 시 커넥션을 사용하지 않음)
+   * - 색인 준비 전이거나 색인 범위를 벗어난 페이지 요청이면 DB 접두어 검색으로 대체
    *
-   * @param pageable 페이징 정보
-   * @return Page<Keyword>
+   * @param prefix   검색어 시작 문자열
+   * @param page     페이지 번호 (0부터 시작)
+   * @param pageSize 페이지 크기
+   * @return 사용 횟수 내림차순 키워드 목록
    */
-  @Transactional(readOnly = true)
-  public Page<Keyword> getPopularKeywords(Pageable pageable) {
-    log.info("Fetching popular keywords: page={}, size={}",
-        pageable.getPageNumber(), pageable.getPageSize());
+  public List<KeywordSuggestionDto> searchKeywords(String prefix, int page, int pageSize) {
+    String normalized = normalizeKeyword(prefix);
+    if (normalized.isEmpty()) {
+      return new ArrayList<>();
+    }
+    Pageable pageable = keywordPageable(page, pageSize);
+
+    if (pageable.getOffset() + pageable.getPageSize() <= KeywordAutocompleteIndex.TOP_K) {
+      List<KeywordSuggestionDto> suggestions = keywordAutocompleteIndex.search(
+          normalized, (int) pageable.getOffset() + pageable.getPageSize());
+      if (suggestions != null) {
+        return suggestions.subList(Math.min((int) pageable.getOffset(), suggestions.size()), suggestions.size());
+      }
+    }
+
+    log.info("Searching keywords with prefix from database: {}", normalized);
 
-    return keywordRepository.findAllByOrderByCountDesc(pageable);
+    return keywordRepository.findByKeywordStartingWithOrderByCountDesc(normalized, pageable).stream()
+        .map(keyword -> new KeywordSuggestionDto(keyword.getKeyword(), keyword.getCount()))
+        .toList();
   }
 
   /**
-   * 키워드 자동완성 검색
-   * - 키워드가 prefix로 시작하는 경우
+   * 키워드 검색 페이지 (페이지 크기는 1 ~ MAX_PAGE_SIZE, 조회 범위는 상위 MAX_RESULT_WINDOW건)
+   */
+  private Pageable keywordPageable(int page, int pageSize) {
+    int size = Math.clamp(pageSize, 1, MAX_PAGE_SIZE);
+    long requestedOffset = (long) Math.max(page, 0) * size;
+    if (requestedOffset >= MAX_RESULT_WINDOW) {
+      throw new CustomException(ErrorCode.KEYWORD_SEARCH_PAGE_OUT_OF_RANGE);
+    }
+    return PageRequest.of(Math.max(page, 0), size);
+  }
+
+  /**
+   * 키워드 포함 검색 (오타 허용)
+   * - 검색어가 포함된 키워드를 사용 횟수 순으로 조회 (pg_trgm GIN 인덱스)
+   * - 첫 페이지 결과가 없으면 유사도 기반 검색으로 대체 ("강남카폐" → "강남카페")
    *
-   * @param prefix   검색어 시작 문자열
-   * @param pageable 페이징 정보
-   * @return List<Keyword>
+   * @param term     검색어
+   * @param page     페이지 번호 (0부터 시작)
+   * @param pageSize 페이지 크기
+   * @return 키워드 목록
    */
   @Transactional(readOnly = true)
-  public List<Keyword> searchKeywords(String prefix, Pageable pageable) {
-    String normalized = normalizeKeyword(prefix);
+  public List<KeywordSuggestionDto> searchKeywordsContaining(String term, int page, int pageSize) {
+    String normalized = normalizeKeyword(term);
+    if (normalized.isEmpty()) {
+      return new ArrayList<>();
+    }
+    Pageable pageable = keywordPageable(page, pageSize);
+
+    List<Keyword> keywords = keywordRepository.findByKeywordContainingOrderByCountDesc(
+        escapeLikePattern(normalized), pageable);
 
-    log.info("Searching keywords with prefix: {}", normalized);
+    if (keywords.isEmpty() && pageable.getOffset() == 0) {
+      log.info("No keywords containing '{}'. Falling back to similarity search", normalized);
+      keywords = keywordRepository.findSimilarKeywords(normalized, Limit.of(pageable.getPageSize()));
+    }
 
-    return keywordRepository.findByKeywordStartingWithOrderByCountDesc(normalized, pageable);
+    return keywords.stream()
+        .map(keyword -> new KeywordSuggestionDto(keyword.getKeyword(), keyword.getCount()))
+        .toList();
   }
 
   /**
@@ -226,6 +318,93 @@ public class KeywordService {
     return places;
   }
 
+  /**
+   * 키워드 조합 장소 검색 (관련도 순)
+   * - 키워드 역색인(PlaceKeywordIndex)에서 all(AND) / any(OR) / not(NOT) 조합으로 후보를 계산
+   * - 일치한 키워드가 많고 드문 키워드일수록 상위 (희소도 가중 합)
+   * - 요청 페이지까지의 상위 k개만 선택하여 정렬 (전체 정렬 없음, 최대 MAX_RESULT_WINDOW건)
+   * - 현재 페이지 장소만 DB에서 조회하며, 삭제된 장소는 결과와 색인에서 제외 (색인은 1분 주기로 삭제 동기화)
+   *
+   * @param all      모두 포함해야 하는 키워드
+   * @param any      하나 이상 포함해야 하는 키워드 (all이 있으면 순위에만 반영)
+   * @param not      포함하면 안 되는 키워드
+   * @param page     페이지 번호 (0부터 시작)
+   * @param pageSize 페이지 크기
+   * @return 검색 결과
+   */
+  @Transactional(readOnly = true)
+  public SearchKeywordPlacesResponse searchPlacesByKeywords(
+      List<String> all, List<String> any, List<String> not, int page, int pageSize) {
+    Set<String> allKeywords = normalizeKeywords(all);
+    Set<String> anyKeywords = normalizeKeywords(any);
+    Set<String> notKeywords = normalizeKeywords(not);
+
+    if (allKeywords.isEmpty() && anyKeywords.isEmpty()) {
+      throw new CustomException(ErrorCode.KEYWORD_SEARCH_QUERY_REQUIRED);
+    }
+    if (allKeywords.size() + anyKeywords.size() + notKeywords.size() > MAX_QUERY_KEYWORDS) {
+      throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    int size = Math.clamp(pageSize, 1, MAX_PAGE_SIZE);
+    // page * size가 int 범위를 넘지 않도록 long으로 계산 (음수 offset으로 범위 검사를 통과하지 않도록)
+    long requestedOffset = (long) Math.max(page, 0) * size;
+    if (requestedOffset >= MAX_RESULT_WINDOW) {
+      throw new CustomException(ErrorCode.KEYWORD_SEARCH_PAGE_OUT_OF_RANGE);
+    }
+    int offset = (int) requestedOffset;
+    int topK = Math.min(offset + size, MAX_RESULT_WINDOW);
+
+    PlaceKeywordIndex.Hits hits = placeKeywordIndex.search(allKeywords, anyKeywords, notKeywords, topK);
+    if (hits == null) {
+      throw new CustomException(ErrorCode.KEYWORD_SEARCH_INDEX_NOT_READY);
+    }
+
+    List<UUID> pagePlaceIds = hits.placeIds().subList(Math.min(offset, hits.placeIds().size()), hits.placeIds().size());
+    Map<UUID, Place> placeMap = placeRepository.findAllById(pagePlaceIds).stream()
+        .collect(Collectors.toMap(Place::getId, Function.identity()));
+
+    List<PlaceDto> places = new ArrayList<>(pagePlaceIds.size());
+    List<UUID> deletedPlaceIds = new ArrayList<>();
+    for (UUID placeId : pagePlaceIds) {
+      Place place = placeMap.get(placeId);
+      if (place == null || place.isDeleted()) {
+        deletedPlaceIds.add(placeId);
+        continue;
+      }
+      places.add(PlaceDto.from(place));
+    }
+    // 삭제 동기화 전에 삭제된 장소는 색인에서 제외하고 전체 일치 수에서도 차감
+    int totalCount = hits.totalCount();
+    if (!deletedPlaceIds.isEmpty()) {
+      placeKeywordIndex.removePlaces(deletedPlaceIds);
+      totalCount -= deletedPlaceIds.size();
+    }
+
+    log.info("Searched places by keywords: all={}, any={}, not={}, total={}, page={}",
+        allKeywords, anyKeywords, notKeywords, totalCount, page);
+
+    return SearchKeywordPlacesResponse.builder()
+        .places(places)
+        .totalCount(totalCount)
+        .page(Math.max(page, 0))
+        .hasNext(offset + size < Math.min(totalCount, MAX_RESULT_WINDOW))
+        .build();
+  }
+
+  /**
+   * 키워드 목록 정규화 (빈 값 제거, 중복 제거)
+   */
+  private Set<String> normalizeKeywords(Collection<String> keywords) {
+    if (keywords == null) {
+      return Set.of();
+    }
+    return keywords.stream()
+        .map(this::normalizeKeyword)
+        .filter(keyword -> !keyword.isEmpty())
+        .collect(Collectors.toCollection(LinkedHashSet::new));
+  }
+
   /**
    * 장소의 키워드 목록 조회
    *
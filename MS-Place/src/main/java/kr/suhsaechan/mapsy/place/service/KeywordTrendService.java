@@ -0,0 +1,41 @@
+package kr.suhsaechan.mapsy.place.service;
+
+import kr.suhsaechan.mapsy.place.repository.KeywordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 키워드 트렌드 점수 계산
+ * - keyword_count_buckets : 시간 단위 키워드 사용 횟수 스냅샷 (변경된 키워드만 저장)
+ * - 모든 단계가 DB 내부의 집합 연산으로 수행되어 키워드를 JVM으로 로딩하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class KeywordTrendService {
+
+  // 트렌드 비교 기간 (현재 count와 24시간 전 count 비교)
+  public static final int TREND_WINDOW_HOURS = 24;
+
+  // 스냅샷 보관 기간 (비교 기간보다 길어야 함)
+  private static final int BUCKET_RETENTION_HOURS = 7 * 24;
+
+  private final KeywordRepository keywordRepository;
+
+  /**
+   * 스냅샷 저장 → 트렌드 점수 갱신 → 오래된 스냅샷 삭제
+   */
+  @Transactional
+  public void refreshTrendScores() {
+    long startedAt = System.currentTimeMillis();
+
+    int snapshotCount = keywordRepository.snapshotKeywordCounts();
+    int updatedCount = keywordRepository.updateTrendScores(TREND_WINDOW_HOURS);
+    int purgedCount = keywordRepository.purgeKeywordCountBuckets(BUCKET_RETENTION_HOURS);
+
+    log.info("[KeywordTrend] 트렌드 점수 갱신 완료 - snapshots={}, updated={}, purged={}, elapsedMs={}",
+        snapshotCount, updatedCount, purgedCount, System.currentTimeMillis() - startedAt);
+  }
+}
@@ -0,0 +1,401 @@
+package kr.suhsaechan.mapsy.place.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kr.suhsaechan.mapsy.common.util.TransactionUtil;
+import kr.suhsaechan.mapsy.place.constant.PlaceSavedStatus;
+import kr.suhsaechan.mapsy.place.dto.MemberPlaceClusterRow;
+import kr.suhsaechan.mapsy.place.dto.PlaceClusterDto;
+import kr.suhsaechan.mapsy.place.entity.Place;
+import kr.suhsaechan.mapsy.place.repository.MemberPlaceRepository;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 회원 장소 마커 클러스터 색인 (인스턴스별 메모리)
+ * - 회원별 임시/저장 장소를 줌 레벨(0 ~ MAX_CLUSTER_ZOOM)마다 격자 셀로 집계 (장소 수, 좌표 합, 대표 장소)
+ * - 격자 : Web Mercator 화면 좌표 기준 64px 셀, 줌 z의 셀 인덱스 = 최대 줌 셀 인덱스 >> (MAX_CLUSTER_ZOOM - z)
+ * - 조회 시 지도 영역과 겹치는 셀만 반환 (장소 전체 목록 대신 화면의 클러스터 수만큼만 전송)
+ * - 첫 조회 시 DB에서 적재, 같은 인스턴스의 저장/삭제(MemberPlaceService)는 커밋 후 적재된 색인에만 반영
+ * - 다른 인스턴스의 변경과 새로 생성된 회원 장소는 적재 후 RELOAD_INTERVAL이 지난 조회에서 재적재로 반영
+ *   (현재 MemberPlace를 생성하는 활성 경로가 없어 addPlace는 AiCallbackService.createMemberPlaces에서만 호출됨)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MemberPlaceClusterIndex {
+
+  public static final int MAX_CLUSTER_ZOOM = 16;
+
+  // 줌 z의 축당 셀 수 = 2^(z + CELL_BITS_OFFSET) (타일 256px / 셀 64px = 2^2)
+  private static final int CELL_BITS_OFFSET = 2;
+  private static final int MAX_CELL_BITS = MAX_CLUSTER_ZOOM + CELL_BITS_OFFSET;
+  private static final double MAX_MERCATOR_LATITUDE = 85.05112878;
+  private static final long MAX_MEMBERS = 5_000;
+  private static final Duration IDLE_TTL = Duration.ofMinutes(30);
+  private static final Duration RELOAD_INTERVAL = Duration.ofMinutes(5);
+
+  private final MemberPlaceRepository memberPlaceRepository;
+
+  private final Cache<UUID, MemberClusters> indexes = Caffeine.newBuilder()
+      .maximumSize(MAX_MEMBERS)
+      .expireAfterAccess(IDLE_TTL)
+      .build();
+
+  /**
+   * 지도 영역의 클러스터 조회
+   * - zoom이 MAX_CLUSTER_ZOOM보다 크면 장소마다 개별 클러스터(count 1)로 반환
+   *
+   * @param memberId     회원 ID
+   * @param zoom         지도 줌 레벨
+   * @param minLatitude  남쪽 위도
+   * @param minLongitude 서쪽 경도
+   * @param maxLatitude  북쪽 위도
+   * @param maxLongitude 동쪽 경도
+   * @param savedStatus  저장 상태 (null이면 임시/저장 전체)
+   * @return 장소 수 내림차순 클러스터 목록
+   */
+  public List<PlaceClusterDto> findClusters(UUID memberId, int zoom, double minLatitude, double minLongitude,
+      double maxLatitude, double maxLongitude, PlaceSavedStatus savedStatus) {
+    MemberClusters clusters = indexes.get(memberId, this::load);
+    if (System.currentTimeMillis() - clusters.loadedAt > RELOAD_INTERVAL.toMillis()) {
+      indexes.asMap().remove(memberId, clusters);
+      clusters = indexes.get(memberId, this::load);
+    }
+
+    List<Cluster> found = zoom > MAX_CLUSTER_ZOOM
+        ? clusters.collectPoints(minLatitude, minLongitude, maxLatitude, maxLongitude, savedStatus)
+        : clusters.collectCells(zoom, new CellRange(
+            cellX(minLongitude, zoom), cellX(maxLongitude, zoom),
+            cellY(maxLatitude, zoom), cellY(minLatitude, zoom)), savedStatus);
+
+    return found.stream()
+        .sorted(Comparator.comparingInt((Cluster cluster) -> cluster.count).reversed())
+        .map(Cluster::toDto)
+        .toList();
+  }
+
+  /**
+   * 회원 장소 추가/갱신 (트랜잭션 커밋 후 반영)
+   *
+   * @param memberId    회원 ID
+   * @param place       장소
+   * @param savedStatus 저장 상태
+   */
+  public void addPlace(UUID memberId, Place place, PlaceSavedStatus savedStatus) {
+    if (place.getLatitude() == null || place.getLongitude() == null) {
+      return;
+    }
+    Point point = Point.of(place.getId(), savedStatus, place.getName(), place.getLatitude(), place.getLongitude(),
+        place.getRating(), place.getPhotoUrls());
+    applyAfterCommit(memberId, clusters -> clusters.put(point));
+  }
+
+  /**
+   * 회원 장소 저장 상태 변경 (트랜잭션 커밋 후 반영)
+   *
+   * @param memberId    회원 ID
+   * @param placeId     장소 ID
+   * @param savedStatus 변경된 저장 상태
+   */
+  public void updateStatus(UUID memberId, UUID placeId, PlaceSavedStatus savedStatus) {
+    applyAfterCommit(memberId, clusters -> clusters.updateStatus(placeId, savedStatus));
+  }
+
+  /**
+   * 회원 장소 제거 (트랜잭션 커밋 후 반영)
+   *
+   * @param memberId 회원 ID
+   * @param placeId  장소 ID
+   */
+  public void removePlace(UUID memberId, UUID placeId) {
+    applyAfterCommit(memberId, clusters -> clusters.remove(placeId));
+  }
+
+  /**
+   * 적재된 색인에만 변경 반영
+   * - 적재 중인 회원은 적재가 끝난 뒤 반영되며, 변경은 멱등이므로 적재 결과에 이미 포함되어도 무방
+   */
+  private void applyAfterCommit(UUID memberId, Consumer<MemberClusters> change) {
+    TransactionUtil.runAfterCommit(() -> indexes.asMap().computeIfPresent(memberId, (id, clusters) -> {
+      change.accept(clusters);
+      return clusters;
+    }));
+  }
+
+  private MemberClusters load(UUID memberId) {
+    long startedAt = System.currentTimeMillis();
+    List<MemberPlaceClusterRow> rows = memberPlaceRepository.findClusterRows(memberId);
+
+    MemberClusters clusters = new MemberClusters();
+    for (MemberPlaceClusterRow row : rows) {
+      clusters.put(Point.of(row.placeId(), row.savedStatus(), row.name(), row.latitude(), row.longitude(),
+          row.rating(), row.photoUrls()));
+    }
+
+    log.debug("[PlaceCluster] 회원 클러스터 색인 적재 - memberId={}, places={}, elapsedMs={}",
+        memberId, rows.size(), System.currentTimeMillis() - startedAt);
+    return clusters;
+  }
+
+  private static int cellX(double longitude, int zoom) {
+    return cellIndex((longitude + 180) / 360, zoom + CELL_BITS_OFFSET);
+  }
+
+  private static int cellY(double latitude, int zoom) {
+    return cellIndex(mercatorY(latitude), zoom + CELL_BITS_OFFSET);
+  }
+
+  private static int cellIndex(double normalized, int bits) {
+    int cells = 1 << bits;
+    return Math.clamp((long) Math.floor(normalized * cells), 0, cells - 1);
+  }
+
+  /**
+   * Web Mercator y (북쪽 끝 0 ~ 남쪽 끝 1)
+   */
+  private static double mercatorY(double latitude) {
+    double radians = Math.toRadians(Math.clamp(latitude, -MAX_MERCATOR_LATITUDE, MAX_MERCATOR_LATITUDE));
+    return (1 - Math.log(Math.tan(radians) + 1 / Math.cos(radians)) / Math.PI) / 2;
+  }
+
+  private static long cellKey(int x, int y) {
+    return ((long) y << 32) | x;
+  }
+
+  /**
+   * 줌 레벨의 셀 인덱스 범위 (양 끝 포함)
+   */
+  private record CellRange(int minX, int maxX, int minY, int maxY) {
+
+    boolean contains(long cellKey) {
+      int x = (int) cellKey;
+      int y = (int) (cellKey >>> 32);
+      return x >= minX && x <= maxX && y >= minY && y <= maxY;
+    }
+  }
+
+  /**
+   * 색인된 장소 (최대 줌 레벨 셀 인덱스 포함)
+   */
+  private record Point(
+      UUID placeId,
+      PlaceSavedStatus savedStatus,
+      String name,
+      double latitude,
+      double longitude,
+      double rating,
+      String photoUrl,
+      int x,
+      int y
+  ) {
+
+    static Point of(UUID placeId, PlaceSavedStatus savedStatus, String name, BigDecimal latitude,
+        BigDecimal longitude, BigDecimal rating, List<String> photoUrls) {
+      double lat = latitude.doubleValue();
+      double lon = longitude.doubleValue();
+      return new Point(
+          placeId,
+          savedStatus,
+          name,
+          lat,
+          lon,
+          rating != null ? rating.doubleValue() : -1,
+          photoUrls != null && !photoUrls.isEmpty() ? photoUrls.get(0) : null,
+          cellIndex((lon + 180) / 360, MAX_CELL_BITS),
+          cellIndex(mercatorY(lat), MAX_CELL_BITS));
+    }
+
+    Point withSavedStatus(PlaceSavedStatus newSavedStatus) {
+      return new Point(placeId, newSavedStatus, name, latitude, longitude, rating, photoUrl, x, y);
+    }
+
+    long cellKeyAt(int zoom) {
+      int shift = MAX_CLUSTER_ZOOM - zoom;
+      return cellKey(x >> shift, y >> shift);
+    }
+
+    /**
+     * 대표 장소 우선순위 (별점 높은 순, 동점이면 장소 ID 순)
+     */
+    boolean isPreferredOver(Point other) {
+      int compared = Double.compare(rating, other.rating);
+      return compared != 0 ? compared > 0 : placeId.compareTo(other.placeId) < 0;
+    }
+  }
+
+  /**
+   * 셀 집계 (장소 수, 좌표 합, 대표 장소)
+   */
+  private static final class Cluster {
+
+    private int count;
+    private double latitudeSum;
+    private double longitudeSum;
+    private Point representative;
+
+    void add(Point point) {
+      count++;
+      latitudeSum += point.latitude();
+      longitudeSum += point.longitude();
+      offerRepresentative(point);
+    }
+
+    void merge(Cluster other) {
+      count += other.count;
+      latitudeSum += other.latitudeSum;
+      longitudeSum += other.longitudeSum;
+      offerRepresentative(other.representative);
+    }
+
+    /**
+     * @return 장소를 제거한 뒤 대표 장소를 다시 골라야 하면 true
+     */
+    boolean subtract(Point point) {
+      count--;
+      latitudeSum -= point.latitude();
+      longitudeSum -= point.longitude();
+      if (representative != null && representative.placeId().equals(point.placeId())) {
+        representative = null;
+        return count > 0;
+      }
+      return false;
+    }
+
+    void offerRepresentative(Point point) {
+      if (representative == null || point.isPreferredOver(representative)) {
+        representative = point;
+      }
+    }
+
+    PlaceClusterDto toDto() {
+      return PlaceClusterDto.builder()
+          .count(count)
+          .latitude(latitudeSum / count)
+          .longitude(longitudeSum / count)
+          .placeId(representative.placeId())
+          .name(representative.name())
+          .photoUrl(representative.photoUrl())
+          .build();
+    }
+  }
+
+  /**
+   * 회원 한 명의 클러스터 색인
+   * - 변경과 조회는 회원 단위 synchronized (회원 간 경합 없음)
+   */
+  private static final class MemberClusters {
+
+    private final long loadedAt = System.currentTimeMillis();
+    private final Map<UUID, Point> points = new HashMap<>();
+    // 저장 상태 → 줌 레벨별 (셀 키 → 집계)
+    private final Map<PlaceSavedStatus, List<Map<Long, Cluster>>> levels = new EnumMap<>(PlaceSavedStatus.class);
+
+    synchronized void put(Point point) {
+      Point previous = points.remove(point.placeId());
+      if (previous != null) {
+        detach(previous);
+      }
+      points.put(point.placeId(), point);
+      attach(point);
+    }
+
+    synchronized void updateStatus(UUID placeId, PlaceSavedStatus savedStatus) {
+      Point point = points.get(placeId);
+      if (point != null && point.savedStatus() != savedStatus) {
+        put(point.withSavedStatus(savedStatus));
+      }
+    }
+
+    synchronized void remove(UUID placeId) {
+      Point previous = points.remove(placeId);
+      if (previous != null) {
+        detach(previous);
+      }
+    }
+
+    synchronized List<Cluster> collectCells(int zoom, CellRange range, PlaceSavedStatus savedStatus) {
+      Map<Long, Cluster> merged = new HashMap<>();
+      for (PlaceSavedStatus status : statuses(savedStatus)) {
+        List<Map<Long, Cluster>> byZoom = levels.get(status);
+        if (byZoom == null) {
+          continue;
+        }
+        byZoom.get(zoom).forEach((cellKey, cluster) -> {
+          if (range.contains(cellKey)) {
+            merged.computeIfAbsent(cellKey, key -> new Cluster()).merge(cluster);
+          }
+        });
+      }
+      return new ArrayList<>(merged.values());
+    }
+
+    synchronized List<Cluster> collectPoints(double minLatitude, double minLongitude, double maxLatitude,
+        double maxLongitude, PlaceSavedStatus savedStatus) {
+      List<Cluster> found = new ArrayList<>();
+      for (Point point : points.values()) {
+        if ((savedStatus == null || point.savedStatus() == savedStatus)
+            && point.latitude() >= minLatitude && point.latitude() <= maxLatitude
+            && point.longitude() >= minLongitude && point.longitude() <= maxLongitude) {
+          Cluster cluster = new Cluster();
+          cluster.add(point);
+          found.add(cluster);
+        }
+      }
+      return found;
+    }
+
+    private void attach(Point point) {
+      List<Map<Long, Cluster>> byZoom = levels.computeIfAbsent(point.savedStatus(), status -> {
+        List<Map<Long, Cluster>> created = new ArrayList<>(MAX_CLUSTER_ZOOM + 1);
+        for (int zoom = 0; zoom <= MAX_CLUSTER_ZOOM; zoom++) {
+          created.add(new HashMap<>());
+        }
+        return created;
+      });
+      for (int zoom = 0; zoom <= MAX_CLUSTER_ZOOM; zoom++) {
+        byZoom.get(zoom).computeIfAbsent(point.cellKeyAt(zoom), key -> new Cluster()).add(point);
+      }
+    }
+
+    private void detach(Point point) {
+      List<Map<Long, Cluster>> byZoom = levels.get(point.savedStatus());
+      for (int zoom = 0; zoom <= MAX_CLUSTER_ZOOM; zoom++) {
+        long cellKey = point.cellKeyAt(zoom);
+        Cluster cluster = byZoom.get(zoom).get(cellKey);
+        if (cluster.subtract(point)) {
+          reelectRepresentative(cluster, point.savedStatus(), zoom, cellKey);
+        }
+        if (cluster.count == 0) {
+          byZoom.get(zoom).remove(cellKey);
+        }
+      }
+    }
+
+    /**
+     * 대표 장소가 제거된 셀의 대표 장소 재선정 (같은 상태/셀의 장소 순회)
+     */
+    private void reelectRepresentative(Cluster cluster, PlaceSavedStatus savedStatus, int zoom, long cellKey) {
+      for (Point candidate : points.values()) {
+        if (candidate.savedStatus() == savedStatus && candidate.cellKeyAt(zoom) == cellKey) {
+          cluster.offerRepresentative(candidate);
+        }
+      }
+    }
+
+    private static PlaceSavedStatus[] statuses(PlaceSavedStatus savedStatus) {
+      return savedStatus != null ? new PlaceSavedStatus[]{savedStatus} : PlaceSavedStatus.values();
+    }
+  }
+}
@@ -0,0 +1,174 @@
+package kr.suhsaechan.mapsy.place.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.suhsaechan.mapsy.common.exception.CustomException;
+import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
+import kr.suhsaechan.mapsy.common.util.ProtobufWriter;
+import kr.suhsaechan.mapsy.place.constant.PlaceSavedStatus;
+import kr.suhsaechan.mapsy.place.dto.GetPlaceMarkersResponse;
+import kr.suhsaechan.mapsy.place.dto.MemberPlaceMarkerRow;
+import kr.suhsaechan.mapsy.place.repository.MemberPlaceRepository;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 회원 장소 지도 마커 응답 직렬화 (JSON / Protobuf)
+ * - Protobuf 응답은 코드 생성 없이 아래 스키마의 wire format으로 직접 기록
+ * - 좌표 : 1e-6도 고정소수점 정수, Z-order(Morton) 순으로 정렬 후 직전 마커와의 차분을 sint64(ZigZag)로 기록
+ * - 업종 : 응답 내 사전(categories)의 인덱스로 기록
+ * - 장소 ID : 16바이트(big-endian)씩 이어 붙인 bytes 한 필드로 기록
+ *
+ * <pre>
+ * message PlaceMarkers {
+ *   repeated string categories = 1;                // 업종 사전
+ *   bytes place_ids = 2;                           // 장소 ID (16바이트 × 마커 수)
+ *   repeated sint64 latitude_deltas = 3 [packed];  // 위도 × 1e6, 직전 마커와의 차이 (첫 마커는 0 기준)
+ *   repeated sint64 longitude_deltas = 4 [packed]; // 경도 × 1e6, 직전 마커와의 차이 (첫 마커는 0 기준)
+ *   repeated uint32 category_indexes = 5 [packed]; // categories 인덱스 + 1 (0 = 업종 없음)
+ *   repeated uint32 saved_statuses = 6 [packed];   // 0 = TEMPORARY, 1 = SAVED
+ *   repeated string names = 7;                     // 장소명
+ * }
+ * </pre>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MemberPlaceMarkerService {
+
+  public static final String PROTOBUF_MEDIA_TYPE = "application/x-protobuf";
+
+  private static final int COORDINATE_SCALE = 6;
+  private static final long LATITUDE_OFFSET = 90_000_000L;
+  private static final long LONGITUDE_OFFSET = 180_000_000L;
+  private static final int UUID_BYTES = 16;
+
+  private final MemberPlaceRepository memberPlaceRepository;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 회원의 임시/저장 장소 마커 직렬화
+   *
+   * @param memberId    회원 ID
+   * @param savedStatus 저장 상태 (null이면 전체)
+   * @param protobuf    true면 Protobuf, false면 JSON(GetPlaceMarkersResponse)
+   * @return 직렬화된 응답 본문
+   */
+  @Transactional(readOnly = true)
+  public byte[] getSerializedMarkers(UUID memberId, PlaceSavedStatus savedStatus, boolean protobuf) {
+    List<MemberPlaceMarkerRow> rows = memberPlaceRepository.findMarkerRows(memberId, savedStatus);
+
+    byte[] body = protobuf ? encodeProtobuf(rows) : encodeJson(rows);
+    log.debug("[PlaceMarker] 마커 직렬화 - memberId={}, markers={}, protobuf={}, bytes={}",
+        memberId, rows.size(), protobuf, body.length);
+    return body;
+  }
+
+  private byte[] encodeJson(List<MemberPlaceMarkerRow> rows) {
+    GetPlaceMarkersResponse response = GetPlaceMarkersResponse.builder()
+        .markers(rows.stream().map(MemberPlaceMarkerRow::toDto).toList())
+        .build();
+    try {
+      return objectMapper.writeValueAsBytes(response);
+    } catch (JsonProcessingException e) {
+      log.error("Failed to serialize place markers response", e);
+      throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  private byte[] encodeProtobuf(List<MemberPlaceMarkerRow> rows) {
+    int count = rows.size();
+    long[] latitudes = new long[count];
+    long[] longitudes = new long[count];
+    Integer[] order = new Integer[count];
+    long[] mortonCodes = new long[count];
+    for (int i = 0; i < count; i++) {
+      latitudes[i] = toFixedPoint(rows.get(i).latitude());
+      longitudes[i] = toFixedPoint(rows.get(i).longitude());
+      mortonCodes[i] = interleave(latitudes[i] + LATITUDE_OFFSET) | (interleave(longitudes[i] + LONGITUDE_OFFSET) << 1);
+      order[i] = i;
+    }
+    Arrays.sort(order, Comparator.comparingLong(i -> mortonCodes[i]));
+
+    ProtobufWriter message = new ProtobufWriter(count * 48);
+    ProtobufWriter latitudeDeltas = new ProtobufWriter(count * 2);
+    ProtobufWriter longitudeDeltas = new ProtobufWriter(count * 2);
+    ProtobufWriter categoryIndexes = new ProtobufWriter(count);
+    ProtobufWriter savedStatuses = new ProtobufWriter(count);
+    byte[] placeIds = new byte[count * UUID_BYTES];
+    Map<String, Integer> categories = new HashMap<>();
+
+    long previousLatitude = 0;
+    long previousLongitude = 0;
+    for (int position = 0; position < count; position++) {
+      int i = order[position];
+      MemberPlaceMarkerRow row = rows.get(i);
+
+      writeUuid(placeIds, position * UUID_BYTES, row.placeId());
+      latitudeDeltas.writeRawVarint(ProtobufWriter.zigZag(latitudes[i] - previousLatitude));
+      longitudeDeltas.writeRawVarint(ProtobufWriter.zigZag(longitudes[i] - previousLongitude));
+      previousLatitude = latitudes[i];
+      previousLongitude = longitudes[i];
+
+      String businessType = row.businessType();
+      int categoryIndex = 0;
+      if (businessType != null && !businessType.isBlank()) {
+        Integer existing = categories.get(businessType);
+        if (existing == null) {
+          existing = categories.size();
+          categories.put(businessType, existing);
+          message.writeString(1, businessType);
+        }
+        categoryIndex = existing + 1;
+      }
+      categoryIndexes.writeRawVarint(categoryIndex);
+      savedStatuses.writeRawVarint(row.savedStatus() == PlaceSavedStatus.SAVED ? 1 : 0);
+    }
+
+    if (count > 0) {
+      message.writeBytes(2, placeIds, placeIds.length);
+      message.writeMessage(3, latitudeDeltas);
+      message.writeMessage(4, longitudeDeltas);
+      message.writeMessage(5, categoryIndexes);
+      message.writeMessage(6, savedStatuses);
+      for (int position = 0; position < count; position++) {
+        message.writeString(7, rows.get(order[position]).name());
+      }
+    }
+    return message.toByteArray();
+  }
+
+  private static long toFixedPoint(BigDecimal degrees) {
+    return degrees.movePointRight(COORDINATE_SCALE).setScale(0, RoundingMode.HALF_UP).longValue();
+  }
+
+  /**
+   * 하위 29비트를 한 칸씩 띄워 배치 (Morton 코드용)
+   */
+  private static long interleave(long value) {
+    long spread = 0;
+    for (int bit = 0; bit < 29; bit++) {
+      spread |= ((value >>> bit) & 1L) << (2 * bit);
+    }
+    return spread;
+  }
+
+  private static void writeUuid(byte[] target, int offset, UUID uuid) {
+    long high = uuid.getMostSignificantBits();
+    long low = uuid.getLeastSignificantBits();
+    for (int i = 0; i < 8; i++) {
+      target[offset + i] = (byte) (high >>> (56 - 8 * i));
+      target[offset + 8 + i] = (byte) (low >>> (56 - 8 * i));
+    }
+  }
+}
@@ -2,11 +2,14 @@ package kr.suhsaechan.mapsy.place.service;
 
 import kr.suhsaechan.mapsy.common.exception.CustomException;
 import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
+import kr.suhsaechan.mapsy.common.util.KeysetCursor;
 import kr.suhsaechan.mapsy.member.entity.Member;
 import kr.suhsaechan.mapsy.member.repository.MemberRepository;
 import kr.suhsaechan.mapsy.place.constant.PlaceSavedStatus;
+import kr.suhsaechan.mapsy.place.dto.GetPlaceClustersResponse;
 import kr.suhsaechan.mapsy.place.dto.GetSavedPlacesResponse;
 import kr.suhsaechan.mapsy.place.dto.GetTemporaryPlacesResponse;
+import kr.suhsaechan.mapsy.place.dto.MemberPlaceRow;
 import kr.suhsaechan.mapsy.place.dto.PlaceDto;
 import kr.suhsaechan.mapsy.place.dto.SavePlaceResponse;
 import kr.suhsaechan.mapsy.place.entity.MemberPlace;
@@ -15,9 +18,9 @@ import kr.suhsaechan.mapsy.place.repository.MemberPlaceRepository;
 import kr.suhsaechan.mapsy.place.repository.PlaceRepository;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,58 +30,61 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class MemberPlaceService {
 
+  private static final int MAX_PAGE_SIZE = 100;
+  private static final int MAX_PHOTO_URLS_PER_PLACE = 10;
+  private static final int MAX_MAP_ZOOM = 22;
+
   private final MemberPlaceRepository memberPlaceRepository;
   private final PlaceRepository placeRepository;
   private final MemberRepository memberRepository;
+  private final MemberPlaceClusterIndex memberPlaceClusterIndex;
 
   /**
-   * 회원의 임시 저장 장소 목록 조회
+   * 회원의 임시 저장 장소 목록 조회 (Keyset 페이지네이션)
    * - AI 분석 결과로 자동 생성된 장소들
    * - 아직 사용자가 저장 여부를 결정하지 않은 상태
    *
    * @param member 조회할 회원
+   * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+   * @param pageSize 페이지 크기
    * @return 임시 저장 장소 목록 응답
    */
-  public GetTemporaryPlacesResponse getTemporaryPlaces(Member member) {
+  public GetTemporaryPlacesResponse getTemporaryPlaces(Member member, String cursor, int pageSize) {
     log.info("Getting temporary places for member: {}", member.getId());
 
-    List<MemberPlace> memberPlaces = memberPlaceRepository
-        .findByMemberAndSavedStatusWithPlace(member, PlaceSavedStatus.TEMPORARY);
-
-    List<PlaceDto> places = memberPlaces.stream()
-        .map(MemberPlace::getPlace)
-        .map(PlaceDto::from)
-        .collect(Collectors.toList());
+    PlaceRowPage page = findPlaceRowPage(member.getId(), PlaceSavedStatus.TEMPORARY, cursor, pageSize);
 
-    log.info("Found {} temporary places for member: {}", places.size(), member.getId());
+    log.info("Found {} temporary places for member: {}, hasNext={}",
+        page.places().size(), member.getId(), page.hasNext());
 
     return GetTemporaryPlacesResponse.builder()
-        .places(places)
+        .places(page.places())
+        .nextCursor(page.nextCursor())
+        .hasNext(page.hasNext())
         .build();
   }
 
   /**
-   * 회원의 저장한 장소 목록 조회
+   * 회원의 저장한 장소 목록 조회 (Keyset 페이지네이션)
    * - 사용자가 명시적으로 저장한 장소들
    *
    * @param member 조회할 회원
+   * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+   * @param pageSize 페이지 크기
    * @return 저장한 장소 목록 응답
    */
-  public GetSavedPlacesResponse getSavedPlaces(Member member) {
+  public GetSavedPlacesResponse getSavedPlaces(Member member, String cursor, int pageSize) {
     log.info("Getting saved places for member: {}", member.getId());
 
-    List<MemberPlace> memberPlaces = memberPlaceRepository
-        .findByMemberAndSavedStatusWithPlace(member, PlaceSavedStatus.SAVED);
-
-    List<PlaceDto> places = memberPlaces.stream()
-        .map(MemberPlace::getPlace)
-        .map(PlaceDto::from)
-        .collect(Collectors.toList());
+    PlaceRowPage page = findPlaceRowPage(member.getId(), PlaceSavedStatus.SAVED, cursor, pageSize);
 
-    log.info("Found {} saved places for member: {}", places.size(), member.getId());
+    log.info("Found {} saved places for member: {}, hasNext={}",
+        page.places().size(), member.getId(), page.hasNext());
 
     return GetSavedPlacesResponse.builder()
-        .places(places)
+        .places(page.places())
+        .nextCursor(page.nextCursor())
+        .hasNext(page.hasNext())
         .build();
   }
 
@@ -113,6 +119,7 @@ public class MemberPlaceService {
     // 3. 상태 변경 (TEMPORARY → SAVED)
     memberPlace.markAsSaved();
     MemberPlace savedMemberPlace = memberPlaceRepository.save(memberPlace);
+    memberPlaceClusterIndex.updateStatus(member.getId(), placeId, PlaceSavedStatus.SAVED);
 
     log.info("Place saved successfully: memberPlaceId={}", savedMemberPlace.getId());
 
@@ -161,26 +168,58 @@ public class MemberPlaceService {
     // 4. Soft Delete 수행
     memberPlace.softDelete(member.getId().toString());
     memberPlaceRepository.save(memberPlace);
+    memberPlaceClusterIndex.removePlace(member.getId(), placeId);
 
     log.info("Temporary place deleted successfully: memberPlaceId={}", memberPlace.getId());
   }
 
+  /**
+   * 회원 장소 마커 클러스터 조회
+   * - 지도 영역과 줌 레벨에 맞춰 격자 셀 단위로 집계된 클러스터 반환 (장소 전체 목록 대신 사용)
+   * - 회원별 메모리 색인(MemberPlaceClusterIndex)에서 계산
+   *
+   * @param memberId 회원 ID
+   * @param minLatitude 남쪽 위도
+   * @param minLongitude 서쪽 경도
+   * @param maxLatitude 북쪽 위도
+   * @param maxLongitude 동쪽 경도
+   * @param zoom 지도 줌 레벨 (0 ~ 22)
+   * @param savedStatus 저장 상태 (null이면 임시/저장 전체)
+   * @return 클러스터 목록 응답
+   */
+  public GetPlaceClustersResponse getPlaceClusters(UUID memberId, double minLatitude, double minLongitude,
+      double maxLatitude, double maxLongitude, int zoom, PlaceSavedStatus savedStatus) {
+    if (!(minLatitude >= -90 && maxLatitude <= 90 && minLongitude >= -180 && maxLongitude <= 180)
+        || minLatitude > maxLatitude || minLongitude > maxLongitude) {
+      throw new CustomException(ErrorCode.INVALID_COORDINATE);
+    }
+    if (zoom < 0 || zoom > MAX_MAP_ZOOM) {
+      throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    return GetPlaceClustersResponse.builder()
+        .zoom(zoom)
+        .clusters(memberPlaceClusterIndex.findClusters(
+            memberId, zoom, minLatitude, minLongitude, maxLatitude, maxLongitude, savedStatus))
+        .build();
+  }
+
   // ========== Controller용 오버로드 메서드 (UUID memberId 파라미터) ==========
 
   /**
    * 회원의 임시 저장 장소 목록 조회 (UUID memberId 버전)
    */
-  public GetTemporaryPlacesResponse getTemporaryPlaces(UUID memberId) {
+  public GetTemporaryPlacesResponse getTemporaryPlaces(UUID memberId, String cursor, int pageSize) {
     Member member = getMemberById(memberId);
-    return getTemporaryPlaces(member);
+    return getTemporaryPlaces(member, cursor, pageSize);
   }
 
   /**
    * 회원의 저장한 장소 목록 조회 (UUID memberId 버전)
    */
-  public GetSavedPlacesResponse getSavedPlaces(UUID memberId) {
+  public GetSavedPlacesResponse getSavedPlaces(UUID memberId, String cursor, int pageSize) {
     Member member = getMemberById(memberId);
-    return getSavedPlaces(member);
+    return getSavedPlaces(member, cursor, pageSize);
   }
 
   /**
@@ -203,6 +242,39 @@ public class MemberPlaceService {
 
   // ========== Private Helper Methods ==========
 
+  /**
+   * 저장 상태별 장소 목록 Projection 조회
+   * - MemberPlace (createdAt, id) 기준 pageSize + 1개를 조회하여 다음 페이지 존재 여부 판단
+   */
+  private PlaceRowPage findPlaceRowPage(
+      UUID memberId, PlaceSavedStatus savedStatus, String cursor, int pageSize) {
+    int size = Math.clamp(pageSize, 1, MAX_PAGE_SIZE);
+    KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+    Limit limit = Limit.of(size + 1);
+
+    List<MemberPlaceRow> rows = keysetCursor == null
+        ? memberPlaceRepository.findPlaceRows(memberId, savedStatus, MAX_PHOTO_URLS_PER_PLACE, limit)
+        : memberPlaceRepository.findPlaceRowsAfter(
+            memberId, savedStatus, keysetCursor.createdAt(), keysetCursor.id(),
+            MAX_PHOTO_URLS_PER_PLACE, limit);
+
+    boolean hasNext = rows.size() > size;
+    List<MemberPlaceRow> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+    List<PlaceDto> places = pageRows.stream()
+        .map(MemberPlaceRow::toPlaceDto)
+        .toList();
+
+    String nextCursor = hasNext
+        ? pageRows.get(pageRows.size() - 1).toCursor().encode()
+        : null;
+
+    return new PlaceRowPage(places, nextCursor, hasNext);
+  }
+
+  private record PlaceRowPage(List<PlaceDto> places, String nextCursor, boolean hasNext) {
+  }
+
   /**
    * Member ID로 Member 엔티티 조회
    */
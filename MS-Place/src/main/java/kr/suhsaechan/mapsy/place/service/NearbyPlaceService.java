@@ -0,0 +1,299 @@
+package kr.suhsaechan.mapsy.place.service;
+
+import kr.suhsaechan.mapsy.common.exception.CustomException;
+import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
+import kr.suhsaechan.mapsy.common.util.BusinessHoursUtil;
+import kr.suhsaechan.mapsy.common.util.GeoGridUtil;
+import kr.suhsaechan.mapsy.place.dto.GetNearbyPlacesResponse;
+import kr.suhsaechan.mapsy.place.dto.NearbyPlaceDto;
+import kr.suhsaechan.mapsy.place.dto.NearbyPlaceRow;
+import kr.suhsaechan.mapsy.place.repository.PlaceRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 반경/영역 장소 검색 (격자 셀 기반, PostGIS 미사용)
+ * - place.grid_cell : 0.005° 격자 셀 번호 (GeoGridUtil), idx_place_grid_cell B-tree 인덱스로 조회
+ * - 중심 셀부터 바깥 고리(ring) 순서로 셀을 BATCH_CELLS개 단위로 묶어 조회하고, 정확한 거리(haversine)/영역으로 필터링
+ * - 배치마다 검색 범위 안의 장소를 근사 거리순 상위 limit개만 조회 (전체 상위 limit개는 배치별 상위 limit개의 합집합에 포함됨)
+ * - 다음 고리의 최소 거리가 이미 찾은 limit번째 장소보다 멀면 조회 중단 (밀집 지역은 중심 몇 개 고리만 조회)
+ * - 영업 중 필터는 place.open_hours_bitmap의 해당 15분 슬롯 비트 1개만 조회 조건으로 검사 (영업시간 정보 없는 장소 제외)
+ * - 필터 없는 반경 검색은 메모리 공간 색인(PlaceSpatialIndex)으로 장소 ID를 찾고 PK 조회로 필드만 채움 (색인 준비 전에는 격자 조회)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NearbyPlaceService {
+
+  private static final int MAX_RADIUS_METERS = 10_000;
+  private static final double MAX_VIEWPORT_DEGREES = 0.2;
+  private static final int MAX_LIMIT = 200;
+  private static final int BATCH_CELLS = 256;
+
+  private final PlaceRepository placeRepository;
+  private final PlaceSpatialIndex placeSpatialIndex;
+
+  /**
+   * 반경 내 장소 조회
+   *
+   * @param latitude     중심 위도
+   * @param longitude    중심 경도
+   * @param radiusMeters 반경 (m, 최대 MAX_RADIUS_METERS)
+   * @param businessType 업종 (null이면 전체)
+   * @param minRating    최소 별점 (null이면 전체)
+   * @param openAt       해당 시각에 영업 중인 장소만 (null이면 전체)
+   * @param limit        최대 결과 수
+   * @return 가까운 순 장소 목록
+   */
+  @Transactional(readOnly = true)
+  public GetNearbyPlacesResponse getPlacesWithinRadius(
+      double latitude, double longitude, int radiusMeters, String businessType, BigDecimal minRating,
+      LocalDateTime openAt, int limit) {
+    validateCoordinate(latitude, longitude);
+    if (radiusMeters <= 0) {
+      throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+    if (radiusMeters > MAX_RADIUS_METERS) {
+      throw new CustomException(ErrorCode.NEARBY_SEARCH_AREA_TOO_LARGE);
+    }
+
+    if (businessType == null && minRating == null && openAt == null) {
+      GetNearbyPlacesResponse indexed = findWithSpatialIndex(latitude, longitude, radiusMeters, limit);
+      if (indexed != null) {
+        return indexed;
+      }
+    }
+
+    double latitudeDelta = radiusMeters / GeoGridUtil.METERS_PER_DEGREE;
+    double longitudeDelta = latitudeDelta / Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+    CellRange range = CellRange.of(
+        latitude - latitudeDelta, longitude - longitudeDelta,
+        latitude + latitudeDelta, longitude + longitudeDelta);
+
+    return scan(latitude, longitude, range, businessType, minRating, openAt, limit, row -> {
+      double distance = GeoGridUtil.distanceMeters(
+          latitude, longitude, row.latitude().doubleValue(), row.longitude().doubleValue());
+      return distance <= radiusMeters ? distance : -1;
+    });
+  }
+
+  /**
+   * 지도 영역 내 장소 조회
+   * - 영역 중심에서 가까운 순으로 최대 limit개
+   *
+   * @param minLatitude  남쪽 위도
+   * @param minLongitude 서쪽 경도
+   * @param maxLatitude  북쪽 위도
+   * @param maxLongitude 동쪽 경도
+   * @param businessType 업종 (null이면 전체)
+   * @param minRating    최소 별점 (null이면 전체)
+   * @param openAt       해당 시각에 영업 중인 장소만 (null이면 전체)
+   * @param limit        최대 결과 수
+   * @return 영역 중심에서 가까운 순 장소 목록
+   */
+  @Transactional(readOnly = true)
+  public GetNearbyPlacesResponse getPlacesInViewport(
+      double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+      String businessType, BigDecimal minRating, LocalDateTime openAt, int limit) {
+    validateCoordinate(minLatitude, minLongitude);
+    validateCoordinate(maxLatitude, maxLongitude);
+    if (minLatitude > maxLatitude || minLongitude > maxLongitude) {
+      throw new CustomException(ErrorCode.INVALID_COORDINATE);
+    }
+    if (maxLatitude - minLatitude > MAX_VIEWPORT_DEGREES || maxLongitude - minLongitude > MAX_VIEWPORT_DEGREES) {
+      throw new CustomException(ErrorCode.NEARBY_SEARCH_AREA_TOO_LARGE);
+    }
+
+    double centerLatitude = (minLatitude + maxLatitude) / 2;
+    double centerLongitude = (minLongitude + maxLongitude) / 2;
+    CellRange range = CellRange.of(minLatitude, minLongitude, maxLatitude, maxLongitude);
+
+    // 영역 밖 장소는 조회 조건(위도/경도 범위)에서 제외됨
+    return scan(centerLatitude, centerLongitude, range, businessType, minRating, openAt, limit,
+        row -> GeoGridUtil.distanceMeters(
+            centerLatitude, centerLongitude, row.latitude().doubleValue(), row.longitude().doubleValue()));
+  }
+
+  /**
+   * 공간 색인으로 반경 내 가까운 장소 조회
+   * - 색인에는 있지만 그사이 삭제된 장소는 PK 조회에서 제외되고 색인에서도 제거
+   *
+   * @return 가까운 순 장소 목록 (색인 준비 전이면 null)
+   */
+  private GetNearbyPlacesResponse findWithSpatialIndex(double latitude, double longitude, int radiusMeters, int limit) {
+    int size = Math.clamp(limit, 1, MAX_LIMIT);
+    List<PlaceSpatialIndex.Neighbor> neighbors = placeSpatialIndex.nearest(latitude, longitude, radiusMeters, size);
+    if (neighbors == null) {
+      return null;
+    }
+
+    Map<UUID, NearbyPlaceRow> rows = neighbors.isEmpty()
+        ? Map.of()
+        : placeRepository.findNearbyRowsByIdIn(neighbors.stream().map(PlaceSpatialIndex.Neighbor::placeId).toList())
+            .stream()
+            .collect(Collectors.toMap(NearbyPlaceRow::id, Function.identity()));
+
+    List<NearbyPlaceDto> places = new ArrayList<>(rows.size());
+    for (PlaceSpatialIndex.Neighbor neighbor : neighbors) {
+      NearbyPlaceRow row = rows.get(neighbor.placeId());
+      if (row == null) {
+        placeSpatialIndex.removePlace(neighbor.placeId());
+        continue;
+      }
+      places.add(row.toDto(neighbor.distanceMeters()));
+    }
+    log.debug("[NearbyPlace] 공간 색인 검색 - candidates={}, results={}", neighbors.size(), places.size());
+
+    return GetNearbyPlacesResponse.builder()
+        .places(places)
+        .truncated(neighbors.size() == size)
+        .build();
+  }
+
+  /**
+   * 중심 셀부터 고리 순서로 셀 조회
+   *
+   * @param distanceFilter 조건을 만족하면 중심점과의 거리(m), 아니면 음수
+   */
+  private GetNearbyPlacesResponse scan(double latitude, double longitude, CellRange range,
+      String businessType, BigDecimal minRating, LocalDateTime openAt, int limit,
+      ToDoubleFunction<NearbyPlaceRow> distanceFilter) {
+    int size = Math.clamp(limit, 1, MAX_LIMIT);
+    int openSlot = openAt != null ? BusinessHoursUtil.slotOf(openAt) : -1;
+    int centerLatitudeIndex = Math.clamp(GeoGridUtil.latitudeIndex(latitude), range.minLatitudeIndex(), range.maxLatitudeIndex());
+    int centerLongitudeIndex = Math.clamp(GeoGridUtil.longitudeIndex(longitude), range.minLongitudeIndex(), range.maxLongitudeIndex());
+    int maxRing = Math.max(
+        Math.max(centerLatitudeIndex - range.minLatitudeIndex(), range.maxLatitudeIndex() - centerLatitudeIndex),
+        Math.max(centerLongitudeIndex - range.minLongitudeIndex(), range.maxLongitudeIndex() - centerLongitudeIndex));
+    double ringStepMeters = GeoGridUtil.minCellSizeMeters(range.maxAbsLatitude());
+
+    BigDecimal centerLatitude = BigDecimal.valueOf(latitude);
+    BigDecimal centerLongitude = BigDecimal.valueOf(longitude);
+    double cos = Math.cos(Math.toRadians(latitude));
+    BigDecimal longitudeScale = BigDecimal.valueOf(cos * cos);
+
+    // 가장 먼 장소가 head인 크기 size의 힙
+    PriorityQueue<NearbyPlaceDto> nearest = new PriorityQueue<>(
+        size + 1, Comparator.comparingInt(NearbyPlaceDto::getDistanceMeters).reversed());
+    List<Long> cells = new ArrayList<>(BATCH_CELLS);
+    int queries = 0;
+
+    for (int ring = 0; ring <= maxRing; ring++) {
+      addRingCells(cells, ring, centerLatitudeIndex, centerLongitudeIndex, range);
+      if (cells.size() < BATCH_CELLS && ring < maxRing) {
+        continue;
+      }
+
+      if (!cells.isEmpty()) {
+        List<NearbyPlaceRow> rows = placeRepository.findNearbyRowsInCells(
+            cells,
+            BigDecimal.valueOf(range.minLatitude()), BigDecimal.valueOf(range.maxLatitude()),
+            BigDecimal.valueOf(range.minLongitude()), BigDecimal.valueOf(range.maxLongitude()),
+            centerLatitude, centerLongitude, longitudeScale,
+            businessType, minRating, openSlot, Limit.of(size));
+        queries++;
+        for (NearbyPlaceRow row : rows) {
+          double distance = distanceFilter.applyAsDouble(row);
+          if (distance >= 0) {
+            nearest.offer(row.toDto(distance));
+            if (nearest.size() > size) {
+              nearest.poll();
+            }
+          }
+        }
+        cells.clear();
+      }
+
+      // 다음 고리(ring + 1)의 셀은 중심점에서 최소 ring * ringStepMeters 떨어져 있음
+      if (nearest.size() == size && nearest.peek().getDistanceMeters() < ring * ringStepMeters) {
+        break;
+      }
+    }
+
+    List<NearbyPlaceDto> places = new ArrayList<>(nearest);
+    places.sort(Comparator.comparingInt(NearbyPlaceDto::getDistanceMeters));
+    log.debug("[NearbyPlace] 격자 검색 - results={}, queries={}, maxRing={}", places.size(), queries, maxRing);
+
+    return GetNearbyPlacesResponse.builder()
+        .places(places)
+        .truncated(places.size() == size)
+        .build();
+  }
+
+  /**
+   * 중심 셀 기준 Chebyshev 거리가 ring인 셀 중 검색 범위 안의 셀 추가
+   */
+  private void addRingCells(List<Long> cells, int ring, int centerLatitudeIndex, int centerLongitudeIndex,
+      CellRange range) {
+    if (ring == 0) {
+      cells.add(GeoGridUtil.cellOf(centerLatitudeIndex, centerLongitudeIndex));
+      return;
+    }
+    for (int dLat = -ring; dLat <= ring; dLat++) {
+      int latitudeIndex = centerLatitudeIndex + dLat;
+      if (latitudeIndex < range.minLatitudeIndex() || latitudeIndex > range.maxLatitudeIndex()) {
+        continue;
+      }
+      // 위/아래 변은 전체, 나머지 행은 좌우 끝 셀만
+      int step = Math.abs(dLat) == ring ? 1 : 2 * ring;
+      for (int dLon = -ring; dLon <= ring; dLon += step) {
+        int longitudeIndex = centerLongitudeIndex + dLon;
+        if (longitudeIndex >= range.minLongitudeIndex() && longitudeIndex <= range.maxLongitudeIndex()) {
+          cells.add(GeoGridUtil.cellOf(latitudeIndex, longitudeIndex));
+        }
+      }
+    }
+  }
+
+  private void validateCoordinate(double latitude, double longitude) {
+    if (!(latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180)) {
+      throw new CustomException(ErrorCode.INVALID_COORDINATE);
+    }
+  }
+
+  /**
+   * 검색 범위 (좌표 범위와 이를 덮는 격자 셀 인덱스 범위)
+   */
+  private record CellRange(
+      double minLatitude,
+      double minLongitude,
+      double maxLatitude,
+      double maxLongitude,
+      int minLatitudeIndex,
+      int maxLatitudeIndex,
+      int minLongitudeIndex,
+      int maxLongitudeIndex
+  ) {
+
+    static CellRange of(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+      double clampedMinLatitude = Math.max(minLatitude, -90);
+      double clampedMinLongitude = Math.max(minLongitude, -180);
+      double clampedMaxLatitude = Math.min(maxLatitude, 90);
+      double clampedMaxLongitude = Math.min(maxLongitude, 180);
+      return new CellRange(
+          clampedMinLatitude, clampedMinLongitude, clampedMaxLatitude, clampedMaxLongitude,
+          GeoGridUtil.latitudeIndex(clampedMinLatitude),
+          GeoGridUtil.latitudeIndex(clampedMaxLatitude),
+          GeoGridUtil.longitudeIndex(clampedMinLongitude),
+          GeoGridUtil.longitudeIndex(clampedMaxLongitude));
+    }
+
+    double maxAbsLatitude() {
+      return Math.max(Math.abs(minLatitude), Math.abs(maxLatitude));
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package kr.suhsaechan.mapsy.place.service;
+
+import kr.suhsaechan.mapsy.common.util.BusinessHoursUtil;
+import kr.suhsaechan.mapsy.common.util.BusinessHoursUtil.ParsedBusinessHours;
+import kr.suhsaechan.mapsy.place.constant.PlaceWeekday;
+import kr.suhsaechan.mapsy.place.entity.Place;
+import kr.suhsaechan.mapsy.place.entity.PlaceBusinessHour;
+import kr.suhsaechan.mapsy.place.repository.PlaceBusinessHourRepository;
+import kr.suhsaechan.mapsy.place.repository.PlaceRepository;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 장소 영업시간 구조화
+ * - AI 콜백의 요일별 상세 영업시간(openHoursDetail) 텍스트를 PlaceBusinessHour 행과 주간 영업 비트맵으로 변환
+ * - PlaceBusinessHour는 요일당 1행이므로 첫 영업 시작 ~ 마지막 영업 종료만 저장 (브레이크타임은 비트맵에만 반영)
+ * - 상세 정보 캐시 버전은 호출자가 커밋 후 증가 (AI 콜백은 갱신한 장소 전체를 한 번에 증가)
+ * - 파싱한 파서 버전을 장소에 기록하여, 파서가 바뀌면 기존 장소를 배치로 다시 파싱 (PlaceBusinessHourBackfillScheduler)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceBusinessHourService {
+
+  private static final UUID FIRST_CURSOR = new UUID(0L, 0L);
+
+  private final PlaceBusinessHourRepository placeBusinessHourRepository;
+  private final PlaceRepository placeRepository;
+  private final PlaceDetailCacheService placeDetailCacheService;
+
+  /**
+   * 장소의 상세 영업시간을 파싱하여 영업시간 행과 비트맵 교체
+   * - 인식 가능한 영업시간이 없으면 기존 값을 유지
+   * - 어느 경우든 현재 파서 버전을 기록 (백필 대상에서 제외)
+   *
+   * @param place 영속 상태의 장소 (openHoursDetail 반영 후)
+   */
+  @Transactional
+  public void replaceBusinessHours(Place place) {
+    ParsedBusinessHours parsed = BusinessHoursUtil.parse(place.getOpenHoursDetail());
+    place.setOpenHoursParserVersion(BusinessHoursUtil.PARSER_VERSION);
+    if (parsed == null) {
+      log.debug("[BusinessHour] 인식 가능한 영업시간 없음 - placeId={}, detail={}",
+          place.getId(), place.getOpenHoursDetail());
+      return;
+    }
+
+    placeBusinessHourRepository.deleteByPlaceId(place.getId());
+    List<PlaceBusinessHour> rows = parsed.days().stream()
+        .map(day -> PlaceBusinessHour.builder()
+            .place(place)
+            .weekday(PlaceWeekday.values()[day.dayOfWeek().getValue() - 1])
+            .openTime(day.openTime())
+            .closeTime(day.closeTime())
+            .build())
+        .toList();
+    placeBusinessHourRepository.saveAll(rows);
+    place.setOpenHoursBitmap(parsed.bitmap());
+
+    log.debug("[BusinessHour] 영업시간 갱신 - placeId={}, days={}", place.getId(), rows.size());
+  }
+
+  /**
+   * 현재 파서 버전으로 파싱하지 않은 장소의 영업시간을 한 배치 다시 파싱 (keyset 페이지네이션)
+   * - 커밋 후 처리한 장소의 상세 정보 캐시 버전 증가 (캐시된 businessHours 응답과 ETag 무효화)
+   *
+   * @param cursorId  직전 배치의 마지막 장소 ID (null이면 처음부터)
+   * @param batchSize 배치 크기
+   * @return 이번 배치의 마지막 장소 ID (더 처리할 장소가 없으면 null)
+   */
+  @Transactional
+  public UUID backfillBusinessHours(UUID cursorId, int batchSize) {
+    List<Place> places = placeRepository.findOpenHoursBackfillTargets(
+        cursorId != null ? cursorId : FIRST_CURSOR, BusinessHoursUtil.PARSER_VERSION, Limit.of(batchSize));
+    for (Place place : places) {
+      replaceBusinessHours(place);
+    }
+    placeDetailCacheService.bumpVersions(places.stream().map(Place::getId).toList());
+    return places.size() < batchSize ? null : places.get(places.size() - 1).getId();
+  }
+}
@@ -0,0 +1,139 @@
+package kr.suhsaechan.mapsy.place.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kr.suhsaechan.mapsy.common.util.TransactionUtil;
+import kr.suhsaechan.mapsy.place.dto.PlaceDetailDto;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 장소 상세 정보 버전 캐시 (로컬 Caffeine + Redis)
+ * - PV:{placeId} : 장소 버전 (AI 콜백 등으로 장소가 갱신될 때 INCR)
+ * - PD:{placeId}:{version} : PlaceDetailDto JSON
+ * - 캐시 키에 버전이 포함되므로 버전 증가 즉시 모든 인스턴스에서 이전 캐시가 무효화됨
+ * - Redis 장애 시 버전을 확인할 수 없으므로 캐시를 사용하지 않고 DB 조회
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceDetailCacheService {
+
+  private static final String VERSION_KEY_PREFIX = "PV:";
+  private static final String DETAIL_KEY_PREFIX = "PD:";
+  private static final Duration DETAIL_TTL = Duration.ofHours(1);
+  private static final Duration LOCAL_TTL = Duration.ofMinutes(10);
+  private static final long LOCAL_MAX_SIZE = 10_000;
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final ObjectMapper objectMapper;
+
+  private final Cache<String, PlaceDetailDto> localCache = Caffeine.newBuilder()
+      .maximumSize(LOCAL_MAX_SIZE)
+      .expireAfterWrite(LOCAL_TTL)
+      .build();
+
+  /**
+   * 장소 상세 정보 조회 (로컬 → Redis → loader 순)
+   *
+   * @param placeId 장소 ID
+   * @param loader  캐시 미스 시 DB 조회
+   * @return 장소 상세 정보 (장소가 없으면 empty)
+   */
+  public Optional<PlaceDetailDto> get(UUID placeId, Supplier<Optional<PlaceDetailDto>> loader) {
+    String version = currentVersion(placeId);
+    if (version == null) {
+      return loader.get();
+    }
+
+    String cacheKey = detailKey(placeId, version);
+
+    PlaceDetailDto local = localCache.getIfPresent(cacheKey);
+    if (local != null) {
+      return Optional.of(local);
+    }
+
+    PlaceDetailDto remote = readRemote(cacheKey);
+    if (remote != null) {
+      localCache.put(cacheKey, remote);
+      return Optional.of(remote);
+    }
+
+    Optional<PlaceDetailDto> loaded = loader.get();
+    loaded.ifPresent(detail -> {
+      localCache.put(cacheKey, detail);
+      writeRemote(cacheKey, detail);
+    });
+    return loaded;
+  }
+
+  /**
+   * 장소 버전 증가 (트랜잭션 커밋 후 반영)
+   * - 장소 정보가 변경되었을 때 호출
+   *
+   * @param placeIds 변경된 장소 ID 목록
+   */
+  public void bumpVersions(Collection<UUID> placeIds) {
+    if (placeIds.isEmpty()) {
+      return;
+    }
+
+    TransactionUtil.runAfterCommit(() -> {
+      for (UUID placeId : placeIds) {
+        try {
+          stringRedisTemplate.opsForValue().increment(VERSION_KEY_PREFIX + placeId);
+        } catch (RuntimeException e) {
+          log.warn("[PlaceDetailCache] 버전 증가 실패 - placeId={}, error={}", placeId, e.getMessage());
+        }
+      }
+    });
+  }
+
+  /**
+   * 현재 장소 버전 조회
+   *
+   * @param placeId 장소 ID
+   * @return 버전 문자열 (버전 키가 없으면 "0", Redis 오류 시 null)
+   */
+  public String currentVersion(UUID placeId) {
+    try {
+      String version = stringRedisTemplate.opsForValue().get(VERSION_KEY_PREFIX + placeId);
+      return version != null ? version : "0";
+    } catch (RuntimeException e) {
+      log.warn("[PlaceDetailCache] 버전 조회 실패 - placeId={}, error={}", placeId, e.getMessage());
+      return null;
+    }
+  }
+
+  private PlaceDetailDto readRemote(String cacheKey) {
+    try {
+      String payload = stringRedisTemplate.opsForValue().get(cacheKey);
+      return payload != null ? objectMapper.readValue(payload, PlaceDetailDto.class) : null;
+    } catch (JsonProcessingException | RuntimeException e) {
+      log.warn("[PlaceDetailCache] Redis 조회 실패 - key={}, error={}", cacheKey, e.getMessage());
+      return null;
+    }
+  }
+
+  private void writeRemote(String cacheKey, PlaceDetailDto detail) {
+    try {
+      stringRedisTemplate.opsForValue().set(
+          cacheKey, objectMapper.writeValueAsString(detail), DETAIL_TTL);
+    } catch (JsonProcessingException | RuntimeException e) {
+      log.warn("[PlaceDetailCache] Redis 저장 실패 - key={}, error={}", cacheKey, e.getMessage());
+    }
+  }
+
+  private static String detailKey(UUID placeId, String version) {
+    return DETAIL_KEY_PREFIX + placeId + ":" + version;
+  }
+}
@@ -0,0 +1,355 @@
+package kr.suhsaechan.mapsy.place.service;
+
+import kr.suhsaechan.mapsy.place.dto.PlaceKeywordRow;
+import kr.suhsaechan.mapsy.place.repository.PlaceKeywordRepository;
+import kr.suhsaechan.mapsy.place.repository.PlaceRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 키워드 → 장소 역색인 (인스턴스별 메모리)
+ * - 장소마다 색인 내부 순번(int)을 부여하고 키워드별 장소 순번 집합을 RoaringBitmap으로 압축 보관
+ * - all(AND) / any(OR) / not(NOT) 조합을 비트맵 연산으로 계산 (DB 조회 없음)
+ * - 점수 : 일치한 키워드의 희소도 합 (idf = ln(1 + 전체 장소 수 / 키워드 장소 수)), 상위 k개만 힙으로 선택
+ * - 시작 시 전체 적재, 같은 인스턴스의 키워드 연결은 커밋 후 즉시 반영, 다른 인스턴스 변경은 10분 주기 재적재로 반영
+ * - 삭제(soft delete)된 장소는 1분 주기 삭제 동기화로 제외 (전체 일치 수가 삭제된 장소를 포함하지 않도록)
+ * - 게시된 비트맵은 변경하지 않고 복사 후 교체 (쓰기는 synchronized, 읽기는 잠금 없이 수행)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceKeywordIndex {
+
+  private static final int LOAD_BATCH_SIZE = 5_000;
+  private static final long REBUILD_INTERVAL_MS = 600_000;
+  private static final long DELETION_SYNC_INTERVAL_MS = 60_000;
+  // 커밋 지연/서버 간 시각 차이로 누락되지 않도록 직전 동기화 시각보다 앞선 구간부터 조회
+  private static final Duration DELETION_SYNC_OVERLAP = Duration.ofMinutes(2);
+  private static final UUID FIRST_CURSOR = new UUID(0L, 0L);
+
+  private final PlaceRepository placeRepository;
+  private final PlaceKeywordRepository placeKeywordRepository;
+
+  private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+  // 전체 재적재 시 새 인스턴스로 교체
+  private volatile Postings postings;
+
+  // 재적재 중 발생한 변경 (재적재 완료 후 새 색인에 다시 반영)
+  private List<Consumer<Postings>> pendingChanges;
+
+  // 마지막 삭제 동기화 시각 (첫 적재 시작 시각으로 초기화)
+  private volatile LocalDateTime deletionSyncedAt;
+
+  /**
+   * 키워드 조합으로 장소 검색
+   * - all이 있으면 all 키워드를 모두 가진 장소, 없으면 any 키워드 중 하나 이상을 가진 장소가 후보
+   * - 후보에서 not 키워드를 가진 장소 제외
+   * - all + any 키워드 중 일치한 키워드의 희소도 합으로 순위 결정 (동점이면 먼저 색인된 장소 우선)
+   *
+   * @param all   모두 포함해야 하는 키워드 (정규화된 값)
+   * @param any   하나 이상 포함해야 하는 키워드 (정규화된 값)
+   * @param none  포함하면 안 되는 키워드 (정규화된 값)
+   * @param limit 반환할 상위 결과 수
+   * @return 점수 내림차순 장소 ID 목록과 전체 일치 수 (색인 준비 전이면 null)
+   */
+  public Hits search(Collection<String> all, Collection<String> any, Collection<String> none, int limit) {
+    Postings current = postings;
+    if (current == null) {
+      return null;
+    }
+
+    RoaringBitmap candidates = current.live.clone();
+    if (!all.isEmpty()) {
+      for (String keyword : all) {
+        candidates.and(current.posting(keyword));
+      }
+    } else {
+      candidates.and(RoaringBitmap.or(any.stream().map(current::posting).iterator()));
+    }
+    for (String keyword : none) {
+      candidates.andNot(current.posting(keyword));
+    }
+
+    int totalCount = candidates.getCardinality();
+    if (totalCount == 0 || limit <= 0) {
+      return new Hits(List.of(), totalCount);
+    }
+
+    int[] ordinals = candidates.toArray();
+    float[] scores = score(current, candidates, ordinals, all, any);
+
+    // 최하위 후보가 head인 크기 limit의 힙
+    PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1, (a, b) -> {
+      int compared = Float.compare(scores[a], scores[b]);
+      return compared != 0 ? compared : Integer.compare(ordinals[b], ordinals[a]);
+    });
+    for (int i = 0; i < ordinals.length; i++) {
+      heap.offer(i);
+      if (heap.size() > limit) {
+        heap.poll();
+      }
+    }
+
+    UUID[] placeIds = current.placeIds;
+    UUID[] ranked = new UUID[heap.size()];
+    for (int i = ranked.length - 1; i >= 0; i--) {
+      ranked[i] = placeIds[ordinals[heap.poll()]];
+    }
+    return new Hits(Arrays.asList(ranked), totalCount);
+  }
+
+  /**
+   * 장소 키워드 연결 반영
+   *
+   * @param placeId  장소 ID
+   * @param keywords 연결된 키워드 (정규화된 값)
+   */
+  public synchronized void addKeywords(UUID placeId, Collection<String> keywords) {
+    apply(index -> index.add(placeId, keywords));
+  }
+
+  /**
+   * 장소 제외 (삭제된 장소가 검색 결과에 포함된 경우)
+   *
+   * @param placeId 장소 ID
+   */
+  public synchronized void removePlace(UUID placeId) {
+    removePlaces(List.of(placeId));
+  }
+
+  /**
+   * 여러 장소 제외 (live 비트맵은 1회만 복사)
+   *
+   * @param placeIds 장소 ID 목록
+   */
+  public synchronized void removePlaces(Collection<UUID> placeIds) {
+    List<UUID> removed = List.copyOf(placeIds);
+    apply(index -> index.remove(removed));
+  }
+
+  /**
+   * 삭제된 장소 동기화 (1분 주기)
+   * - 직전 동기화 이후 삭제된 장소 ID만 조회하여 색인에서 제외 (다른 인스턴스/운영 도구에서 삭제한 장소 포함)
+   */
+  @Scheduled(fixedDelay = DELETION_SYNC_INTERVAL_MS, initialDelay = DELETION_SYNC_INTERVAL_MS)
+  public void syncDeletions() {
+    LocalDateTime since = deletionSyncedAt;
+    if (since == null) {
+      return;
+    }
+    LocalDateTime startedAt = LocalDateTime.now();
+    try {
+      List<UUID> deletedIds = placeRepository.findIdsDeletedSince(since.minus(DELETION_SYNC_OVERLAP));
+      if (!deletedIds.isEmpty()) {
+        removePlaces(deletedIds);
+        log.debug("[PlaceKeywordIndex] 삭제된 장소 제외 - places={}", deletedIds.size());
+      }
+      deletionSyncedAt = startedAt;
+    } catch (RuntimeException e) {
+      log.warn("[PlaceKeywordIndex] 삭제 동기화 실패 - error={}", e.getMessage());
+    }
+  }
+
+  /**
+   * 전체 재적재 (애플리케이션 시작 시, 이후 10분 주기)
+   * - 삭제되지 않은 장소를 ID keyset으로 나누어 장소별 키워드를 조회
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(fixedDelay = REBUILD_INTERVAL_MS, initialDelay = REBUILD_INTERVAL_MS)
+  public void rebuild() {
+    if (!rebuilding.compareAndSet(false, true)) {
+      return;
+    }
+    long startedAt = System.currentTimeMillis();
+    LocalDateTime loadStartedAt = LocalDateTime.now();
+    synchronized (this) {
+      pendingChanges = new ArrayList<>();
+    }
+
+    try {
+      Postings rebuilt = new Postings();
+      int links = 0;
+      UUID cursor = FIRST_CURSOR;
+      List<UUID> placeIds;
+      do {
+        placeIds = placeRepository.findActiveIdsAfter(cursor, Limit.of(LOAD_BATCH_SIZE));
+        if (placeIds.isEmpty()) {
+          break;
+        }
+        for (PlaceKeywordRow row : placeKeywordRepository.findKeywordRowsByPlaceIdIn(placeIds)) {
+          rebuilt.load(row.placeId(), row.keyword());
+          links++;
+        }
+        cursor = placeIds.get(placeIds.size() - 1);
+      } while (placeIds.size() == LOAD_BATCH_SIZE);
+      rebuilt.optimize();
+
+      synchronized (this) {
+        pendingChanges.forEach(change -> change.accept(rebuilt));
+        postings = rebuilt;
+        pendingChanges = null;
+      }
+      if (deletionSyncedAt == null) {
+        deletionSyncedAt = loadStartedAt;
+      }
+      log.info("[PlaceKeywordIndex] 색인 적재 완료 - places={}, keywords={}, links={}, elapsedMs={}",
+          rebuilt.live.getCardinality(), rebuilt.byKeyword.size(), links,
+          System.currentTimeMillis() - startedAt);
+    } catch (RuntimeException e) {
+      synchronized (this) {
+        pendingChanges = null;
+      }
+      log.error("[PlaceKeywordIndex] 색인 적재 실패 - error={}", e.getMessage(), e);
+    } finally {
+      rebuilding.set(false);
+    }
+  }
+
+  private void apply(Consumer<Postings> change) {
+    Postings current = postings;
+    if (current != null) {
+      change.accept(current);
+    }
+    if (pendingChanges != null) {
+      pendingChanges.add(change);
+    }
+  }
+
+  /**
+   * 후보별 점수 계산 (키워드별로 후보와 교집합인 장소에만 희소도 가산)
+   */
+  private float[] score(Postings current, RoaringBitmap candidates, int[] ordinals,
+      Collection<String> all, Collection<String> any) {
+    float[] scores = new float[ordinals.length];
+    double placeCount = current.live.getCardinality();
+
+    Set<String> terms = new LinkedHashSet<>(all);
+    terms.addAll(any);
+    for (String term : terms) {
+      RoaringBitmap posting = current.posting(term);
+      int documentFrequency = posting.getCardinality();
+      if (documentFrequency == 0) {
+        continue;
+      }
+      float idf = (float) Math.log1p(placeCount / documentFrequency);
+      RoaringBitmap.and(candidates, posting)
+          .forEach((int ordinal) -> scores[Arrays.binarySearch(ordinals, ordinal)] += idf);
+    }
+    return scores;
+  }
+
+  /**
+   * 검색 결과
+   *
+   * @param placeIds   점수 내림차순 장소 ID (최대 limit개)
+   * @param totalCount 조건에 일치하는 전체 장소 수
+   */
+  public record Hits(List<UUID> placeIds, int totalCount) {
+  }
+
+  /**
+   * 키워드별 장소 순번 비트맵
+   * - 적재(load)는 게시 전 단일 스레드에서 비트맵을 직접 변경
+   * - 게시 후 변경(add/remove)은 비트맵을 복사해 교체하므로 검색 중인 비트맵은 변하지 않음
+   */
+  private static final class Postings {
+
+    private static final RoaringBitmap EMPTY = new RoaringBitmap();
+    private static final int INITIAL_CAPACITY = 1_024;
+
+    private final Map<String, RoaringBitmap> byKeyword = new ConcurrentHashMap<>();
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+
+    // 순번 → 장소 ID (배열에 먼저 기록한 뒤 비트맵을 게시하므로 검색 시 항상 조회 가능)
+    private volatile UUID[] placeIds = new UUID[INITIAL_CAPACITY];
+
+    // 색인된 삭제되지 않은 장소 전체
+    private volatile RoaringBitmap live = new RoaringBitmap();
+
+    RoaringBitmap posting(String keyword) {
+      return byKeyword.getOrDefault(keyword, EMPTY);
+    }
+
+    void load(UUID placeId, String keyword) {
+      int ordinal = ordinalOf(placeId);
+      byKeyword.computeIfAbsent(keyword, key -> new RoaringBitmap()).add(ordinal);
+      live.add(ordinal);
+    }
+
+    void optimize() {
+      byKeyword.values().forEach(RoaringBitmap::runOptimize);
+      live.runOptimize();
+    }
+
+    void add(UUID placeId, Collection<String> keywords) {
+      int ordinal = ordinalOf(placeId);
+      for (String keyword : keywords) {
+        RoaringBitmap posting = posting(keyword);
+        if (!posting.contains(ordinal)) {
+          RoaringBitmap copy = posting.clone();
+          copy.add(ordinal);
+          byKeyword.put(keyword, copy);
+        }
+      }
+      if (!live.contains(ordinal)) {
+        RoaringBitmap copy = live.clone();
+        copy.add(ordinal);
+        live = copy;
+      }
+    }
+
+    void remove(Collection<UUID> placeIds) {
+      RoaringBitmap copy = null;
+      for (UUID placeId : placeIds) {
+        Integer ordinal = ordinals.get(placeId);
+        if (ordinal != null && live.contains(ordinal)) {
+          if (copy == null) {
+            copy = live.clone();
+          }
+          copy.remove(ordinal);
+        }
+      }
+      if (copy != null) {
+        live = copy;
+      }
+    }
+
+    private int ordinalOf(UUID placeId) {
+      Integer existing = ordinals.get(placeId);
+      if (existing != null) {
+        return existing;
+      }
+      int ordinal = ordinals.size();
+      UUID[] ids = placeIds;
+      if (ordinal == ids.length) {
+        ids = Arrays.copyOf(ids, ids.length * 2);
+      }
+      ids[ordinal] = placeId;
+      placeIds = ids;
+      ordinals.put(placeId, ordinal);
+      return ordinal;
+    }
+  }
+}
@@ -1,22 +1,18 @@
 package kr.suhsaechan.mapsy.place.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.suhsaechan.mapsy.common.exception.CustomException;
 import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
+import kr.suhsaechan.mapsy.common.util.ResourceValidator;
 import kr.suhsaechan.mapsy.place.dto.PlaceDetailDto;
-import kr.suhsaechan.mapsy.place.entity.Place;
-import kr.suhsaechan.mapsy.place.entity.PlaceBusinessHour;
-import kr.suhsaechan.mapsy.place.entity.PlaceMedia;
-import kr.suhsaechan.mapsy.place.entity.PlacePlatformReference;
-import kr.suhsaechan.mapsy.place.repository.PlaceBusinessHourRepository;
-import kr.suhsaechan.mapsy.place.repository.PlaceMediaRepository;
-import kr.suhsaechan.mapsy.place.repository.PlacePlatformReferenceRepository;
 import kr.suhsaechan.mapsy.place.repository.PlaceRepository;
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -24,9 +20,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class PlaceService {
 
   private final PlaceRepository placeRepository;
-  private final PlacePlatformReferenceRepository placePlatformReferenceRepository;
-  private final PlaceBusinessHourRepository placeBusinessHourRepository;
-  private final PlaceMediaRepository placeMediaRepository;
+  private final PlaceDetailCacheService placeDetailCacheService;
+  private final ObjectMapper objectMapper;
 
   /**
    * 장소 상세 정보 조회
@@ -34,37 +29,59 @@ public class PlaceService {
    * - 플랫폼별 참조 정보 (Google Place ID 등)
    * - 영업시간
    * - 추가 미디어
+   * - 버전 캐시(로컬 + Redis) 미스 시 단일 SQL(json_agg)로 집계 조회
    *
    * @param placeId 조회할 장소 ID
    * @return 장소 상세 정보 DTO
    */
-  @Transactional(readOnly = true)
   public PlaceDetailDto getPlaceDetail(UUID placeId) {
-    // 1. Place 조회
-    Place place = placeRepository.findById(placeId)
+    return placeDetailCacheService.get(placeId, () -> loadPlaceDetail(placeId))
         .orElseThrow(() -> {
           log.error("Place not found: placeId={}", placeId);
           return new CustomException(ErrorCode.PLACE_NOT_FOUND);
         });
+  }
 
-    log.info("Place found: placeId={}, name={}", placeId, place.getName());
-
-    // 2. PlacePlatformReference 조회 (Google Place ID 등)
-    List<PlacePlatformReference> platformReferences =
-        placePlatformReferenceRepository.findByPlace(place);
-
-    // 3. PlaceBusinessHour 조회 (요일 순서)
-    List<PlaceBusinessHour> businessHours =
-        placeBusinessHourRepository.findByPlaceIdOrderByWeekday(placeId);
+  /**
+   * 장소 상세 정보 조건부 요청 검증자 조회
+   * - Place 수정 시각(PK 조회) + 상세 캐시 버전으로 계산
+   * - Redis 오류로 버전을 알 수 없으면 ETag 없이 Last-Modified로만 검증 (요청마다 다른 ETag 발급 방지)
+   *
+   * @param placeId 장소 ID
+   * @return ETag / Last-Modified 검증자
+   */
+  public ResourceValidator getPlaceDetailValidator(UUID placeId) {
+    LocalDateTime updatedAt = placeRepository.findUpdatedAtById(placeId)
+        .orElseThrow(() -> {
+          log.error("Place not found: placeId={}", placeId);
+          return new CustomException(ErrorCode.PLACE_NOT_FOUND);
+        });
 
-    // 4. PlaceMedia 조회 (position 순서)
-    List<PlaceMedia> medias =
-        placeMediaRepository.findByPlaceIdOrderByPosition(placeId);
+    String version = placeDetailCacheService.currentVersion(placeId);
+    if (version == null) {
+      return ResourceValidator.ofLastModified(updatedAt);
+    }
+    return ResourceValidator.of("place", updatedAt, version);
+  }
 
-    log.info("Found {} platform references, {} business hours, {} medias for placeId={}",
-        platformReferences.size(), businessHours.size(), medias.size(), placeId);
+  /**
+   * 장소 상세 정보 DB 조회 (1 round-trip)
+   */
+  private Optional<PlaceDetailDto> loadPlaceDetail(UUID placeId) {
+    Optional<String> json = placeRepository.findPlaceDetailJson(placeId);
+    if (json.isEmpty()) {
+      return Optional.empty();
+    }
 
-    // 5. DTO 변환 후 반환
-    return PlaceDetailDto.from(place, platformReferences, businessHours, medias);
+    try {
+      PlaceDetailDto placeDetail = objectMapper.readValue(json.get(), PlaceDetailDto.class);
+      log.info("Place detail loaded: placeId={}, platformReferences={}, businessHours={}, medias={}",
+          placeId, placeDetail.getPlatformReferences().size(),
+          placeDetail.getBusinessHours().size(), placeDetail.getMedias().size());
+      return Optional.of(placeDetail);
+    } catch (JsonProcessingException e) {
+      log.error("Failed to parse place detail json: placeId={}", placeId, e);
+      throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
   }
 }
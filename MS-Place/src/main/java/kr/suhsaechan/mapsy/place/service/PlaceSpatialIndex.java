@@ -0,0 +1,668 @@
+package kr.suhsaechan.mapsy.place.service;
+
+import kr.suhsaechan.mapsy.common.util.GeoGridUtil;
+import kr.suhsaechan.mapsy.common.util.TransactionUtil;
+import kr.suhsaechan.mapsy.place.dto.PlaceCoordinateRow;
+import kr.suhsaechan.mapsy.place.entity.Place;
+import kr.suhsaechan.mapsy.place.repository.PlaceRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 장소 좌표 공간 색인 (인스턴스별 메모리, KD-tree)
+ * - 좌표를 단위 구면 위 3차원 벡터로 바꿔 원시 배열(double[], long[])에 보관 (장소별 객체 없음)
+ * - 벡터 간 직선 거리(현 길이)는 구면 거리와 단조 관계이므로 k-최근접/반경 검색 결과가 구면 거리 기준과 같음
+ * - 트리 : 배열 구간 [lo, hi)의 중앙 원소가 분할 노드인 암묵적 KD-tree (분할 축은 구간에서 폭이 가장 넓은 축)
+ * - 변경 : 변경분 버퍼(추가/수정된 장소)와 트리 위치 삭제 표시로 반영
+ * - 압축 : 버퍼나 삭제 표시가 MAX_DELTA를 넘으면 전용 스레드에서 트리 재구성 (재구성 중에는 버퍼가 커진 스냅샷으로 계속 응답)
+ * - 시작 시 place 좌표를 ID keyset 배치로 적재, 같은 인스턴스의 장소 생성/수정은 커밋 후 즉시, 다른 인스턴스 변경은 10분 주기 재적재로 반영
+ * - 게시된 스냅샷은 변경하지 않고 교체 (쓰기는 synchronized, 읽기는 잠금 없이 수행)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceSpatialIndex {
+
+  private static final int LOAD_BATCH_SIZE = 10_000;
+  private static final long REBUILD_INTERVAL_MS = 600_000;
+  private static final int MAX_DELTA = 4_096;
+  private static final UUID FIRST_CURSOR = new UUID(0L, 0L);
+
+  private final PlaceRepository placeRepository;
+
+  // 재적재와 압축은 동시에 하나만 실행
+  private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+  private final ExecutorService compactor = Executors.newSingleThreadExecutor(
+      Thread.ofPlatform().name("place-spatial-compact").daemon().factory());
+
+  // 재적재 또는 변경 시 새 인스턴스로 교체
+  private volatile Snapshot snapshot;
+
+  // 재적재/압축 중 발생한 변경 (완료 후 새 색인에 다시 반영)
+  private List<UnaryOperator<Snapshot>> pendingChanges;
+
+  /**
+   * 중심 좌표에서 가까운 장소 조회 (k-최근접 + 반경 제한)
+   *
+   * @param latitude          중심 위도
+   * @param longitude         중심 경도
+   * @param maxDistanceMeters 최대 거리 (m)
+   * @param limit             최대 결과 수
+   * @return 거리 오름차순 장소 목록 (색인 준비 전이면 null)
+   */
+  public List<Neighbor> nearest(double latitude, double longitude, double maxDistanceMeters, int limit) {
+    Snapshot current = snapshot;
+    if (current == null) {
+      return null;
+    }
+    if (limit <= 0) {
+      return List.of();
+    }
+
+    double angle = Math.min(maxDistanceMeters / GeoGridUtil.EARTH_RADIUS_METERS, Math.PI);
+    double maxChord = 2 * Math.sin(angle / 2);
+
+    double phi = Math.toRadians(latitude);
+    double lambda = Math.toRadians(longitude);
+    double x = Math.cos(phi) * Math.cos(lambda);
+    double y = Math.cos(phi) * Math.sin(lambda);
+    double z = Math.sin(phi);
+
+    NeighborHeap heap = new NeighborHeap(limit, maxChord * maxChord);
+    current.search(x, y, z, heap);
+    return heap.toSortedList();
+  }
+
+  /**
+   * 장소 생성/수정 반영 (트랜잭션 커밋 후)
+   * - 좌표가 없거나 삭제된 장소는 색인에서 제외
+   *
+   * @param places 생성/수정된 장소
+   */
+  public void upsertPlaces(Collection<Place> places) {
+    List<PointChange> changes = places.stream()
+        .map(place -> place.isDeleted() || place.getLatitude() == null || place.getLongitude() == null
+            ? PointChange.removal(place.getId())
+            : PointChange.upsert(place.getId(), place.getLatitude().doubleValue(), place.getLongitude().doubleValue()))
+        .toList();
+    if (!changes.isEmpty()) {
+      TransactionUtil.runAfterCommit(() -> apply(current -> current.with(changes)));
+    }
+  }
+
+  /**
+   * 장소 제외 (트랜잭션 커밋 후)
+   *
+   * @param placeId 장소 ID
+   */
+  public void removePlace(UUID placeId) {
+    List<PointChange> changes = List.of(PointChange.removal(placeId));
+    TransactionUtil.runAfterCommit(() -> apply(current -> current.with(changes)));
+  }
+
+  /**
+   * 전체 재적재 (애플리케이션 시작 시, 이후 10분 주기)
+   * - 삭제되지 않은 장소 좌표를 ID keyset으로 나누어 조회
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(fixedDelay = REBUILD_INTERVAL_MS, initialDelay = REBUILD_INTERVAL_MS)
+  public void rebuild() {
+    if (!rebuilding.compareAndSet(false, true)) {
+      return;
+    }
+    long startedAt = System.currentTimeMillis();
+    synchronized (this) {
+      pendingChanges = new ArrayList<>();
+    }
+
+    try {
+      PackedPoints points = new PackedPoints(LOAD_BATCH_SIZE);
+      UUID cursor = FIRST_CURSOR;
+      List<PlaceCoordinateRow> rows;
+      do {
+        rows = placeRepository.findCoordinateRowsAfter(cursor, Limit.of(LOAD_BATCH_SIZE));
+        for (PlaceCoordinateRow row : rows) {
+          points.addCoordinate(row.id().getMostSignificantBits(), row.id().getLeastSignificantBits(),
+              row.latitude().doubleValue(), row.longitude().doubleValue());
+        }
+        if (!rows.isEmpty()) {
+          cursor = rows.get(rows.size() - 1).id();
+        }
+      } while (rows.size() == LOAD_BATCH_SIZE);
+      Snapshot rebuilt = Snapshot.of(KdTree.build(points));
+
+      publish(rebuilt);
+      log.info("[PlaceSpatialIndex] 색인 적재 완료 - places={}, elapsedMs={}",
+          rebuilt.tree.size, System.currentTimeMillis() - startedAt);
+    } catch (RuntimeException e) {
+      synchronized (this) {
+        pendingChanges = null;
+      }
+      log.error("[PlaceSpatialIndex] 색인 적재 실패 - error={}", e.getMessage(), e);
+    } finally {
+      rebuilding.set(false);
+    }
+    compactIfNeeded();
+  }
+
+  /**
+   * 재적재 또는 압축 진행 여부
+   */
+  public boolean isRebuilding() {
+    return rebuilding.get();
+  }
+
+  @PreDestroy
+  void shutdown() {
+    compactor.shutdownNow();
+  }
+
+  private synchronized void apply(UnaryOperator<Snapshot> change) {
+    Snapshot current = snapshot;
+    if (current != null) {
+      snapshot = change.apply(current);
+    }
+    if (pendingChanges != null) {
+      pendingChanges.add(change);
+    }
+    compactIfNeeded();
+  }
+
+  /**
+   * 버퍼나 삭제 표시가 MAX_DELTA를 넘으면 압축 예약 (재적재/압축 중이면 완료 후 다시 확인)
+   */
+  private void compactIfNeeded() {
+    Snapshot current = snapshot;
+    if (current == null || !current.needsCompaction() || !rebuilding.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      compactor.execute(this::compact);
+    } catch (RejectedExecutionException e) {
+      rebuilding.set(false);
+    }
+  }
+
+  /**
+   * 현재 스냅샷의 트리 재구성 (압축 스레드)
+   * - 재구성 중에는 기존 스냅샷에 변경을 계속 반영하여 응답하고, 완료 후 그사이 변경을 새 트리에 다시 반영하여 교체
+   */
+  private void compact() {
+    long startedAt = System.currentTimeMillis();
+    Snapshot base;
+    synchronized (this) {
+      base = snapshot;
+      pendingChanges = new ArrayList<>();
+    }
+
+    try {
+      Snapshot compacted = base.compact();
+      publish(compacted);
+      log.debug("[PlaceSpatialIndex] 색인 압축 완료 - places={}, elapsedMs={}",
+          compacted.tree.size, System.currentTimeMillis() - startedAt);
+    } catch (RuntimeException e) {
+      synchronized (this) {
+        pendingChanges = null;
+      }
+      log.error("[PlaceSpatialIndex] 색인 압축 실패 - error={}", e.getMessage(), e);
+    } finally {
+      rebuilding.set(false);
+    }
+    compactIfNeeded();
+  }
+
+  /**
+   * 새로 만든 스냅샷에 재적재/압축 중 발생한 변경을 반영하여 교체
+   */
+  private synchronized void publish(Snapshot rebuilt) {
+    Snapshot applied = rebuilt;
+    for (UnaryOperator<Snapshot> change : pendingChanges) {
+      applied = change.apply(applied);
+    }
+    snapshot = applied;
+    pendingChanges = null;
+  }
+
+  /**
+   * 검색 결과
+   *
+   * @param placeId        장소 ID
+   * @param distanceMeters 중심 좌표로부터의 구면 거리 (m)
+   */
+  public record Neighbor(UUID placeId, double distanceMeters) {
+  }
+
+  /**
+   * 장소 좌표 변경 (removed면 색인에서 제외)
+   */
+  private record PointChange(long high, long low, boolean removed, double latitude, double longitude) {
+
+    static PointChange upsert(UUID placeId, double latitude, double longitude) {
+      return new PointChange(placeId.getMostSignificantBits(), placeId.getLeastSignificantBits(),
+          false, latitude, longitude);
+    }
+
+    static PointChange removal(UUID placeId) {
+      return new PointChange(placeId.getMostSignificantBits(), placeId.getLeastSignificantBits(), true, 0, 0);
+    }
+  }
+
+  /**
+   * 트리 + 삭제 표시(트리 위치, 오름차순) + 변경분 버퍼
+   */
+  private static final class Snapshot {
+
+    private static final int[] NONE = new int[0];
+
+    private final KdTree tree;
+    private final int[] removed;
+    private final PackedPoints delta;
+
+    private Snapshot(KdTree tree, int[] removed, PackedPoints delta) {
+      this.tree = tree;
+      this.removed = removed;
+      this.delta = delta;
+    }
+
+    static Snapshot of(KdTree tree) {
+      return new Snapshot(tree, NONE, new PackedPoints(0));
+    }
+
+    void search(double x, double y, double z, NeighborHeap heap) {
+      tree.search(0, tree.size, x, y, z, heap, removed);
+      double[] coords = delta.coords;
+      for (int i = 0; i < delta.size; i++) {
+        double dx = coords[i * 3] - x;
+        double dy = coords[i * 3 + 1] - y;
+        double dz = coords[i * 3 + 2] - z;
+        heap.offer(dx * dx + dy * dy + dz * dz, delta.high[i], delta.low[i]);
+      }
+    }
+
+    /**
+     * 변경을 반영한 새 스냅샷 (트리는 그대로 공유)
+     */
+    Snapshot with(List<PointChange> changes) {
+      PackedPoints nextDelta = delta.copy();
+      int[] nextRemoved = Arrays.copyOf(removed, removed.length + changes.size());
+      int removedCount = removed.length;
+      for (PointChange change : changes) {
+        nextDelta.remove(change.high(), change.low());
+        int position = tree.positionOf(change.high(), change.low());
+        if (position >= 0) {
+          nextRemoved[removedCount++] = position;
+        }
+        if (!change.removed()) {
+          nextDelta.addCoordinate(change.high(), change.low(), change.latitude(), change.longitude());
+        }
+      }
+      nextRemoved = Arrays.stream(nextRemoved, 0, removedCount).sorted().distinct().toArray();
+
+      return new Snapshot(tree, nextRemoved, nextDelta);
+    }
+
+    boolean needsCompaction() {
+      return delta.size > MAX_DELTA || removed.length > MAX_DELTA;
+    }
+
+    /**
+     * 삭제 표시를 제외한 트리 장소와 버퍼를 합쳐 트리 재구성
+     */
+    Snapshot compact() {
+      PackedPoints live = new PackedPoints(tree.size - removed.length + delta.size);
+      for (int position = 0; position < tree.size; position++) {
+        if (Arrays.binarySearch(removed, position) < 0) {
+          live.add(tree.high[position], tree.low[position],
+              tree.coords[position * 3], tree.coords[position * 3 + 1], tree.coords[position * 3 + 2]);
+        }
+      }
+      for (int i = 0; i < delta.size; i++) {
+        live.add(delta.high[i], delta.low[i],
+            delta.coords[i * 3], delta.coords[i * 3 + 1], delta.coords[i * 3 + 2]);
+      }
+      return Snapshot.of(KdTree.build(live));
+    }
+  }
+
+  /**
+   * 단위 벡터와 장소 ID(상위/하위 64비트)를 나란히 담는 배열
+   */
+  private static final class PackedPoints {
+
+    private double[] coords;
+    private long[] high;
+    private long[] low;
+    private int size;
+
+    PackedPoints(int capacity) {
+      coords = new double[capacity * 3];
+      high = new long[capacity];
+      low = new long[capacity];
+    }
+
+    void addCoordinate(long placeHigh, long placeLow, double latitude, double longitude) {
+      double phi = Math.toRadians(latitude);
+      double lambda = Math.toRadians(longitude);
+      add(placeHigh, placeLow,
+          Math.cos(phi) * Math.cos(lambda), Math.cos(phi) * Math.sin(lambda), Math.sin(phi));
+    }
+
+    void add(long placeHigh, long placeLow, double x, double y, double z) {
+      if (size == high.length) {
+        int capacity = Math.max(16, size * 2);
+        coords = Arrays.copyOf(coords, capacity * 3);
+        high = Arrays.copyOf(high, capacity);
+        low = Arrays.copyOf(low, capacity);
+      }
+      coords[size * 3] = x;
+      coords[size * 3 + 1] = y;
+      coords[size * 3 + 2] = z;
+      high[size] = placeHigh;
+      low[size] = placeLow;
+      size++;
+    }
+
+    /**
+     * 장소 제거 (마지막 원소를 빈 자리로 이동, 버퍼 전용 선형 탐색)
+     */
+    void remove(long placeHigh, long placeLow) {
+      for (int i = 0; i < size; i++) {
+        if (high[i] == placeHigh && low[i] == placeLow) {
+          int last = --size;
+          System.arraycopy(coords, last * 3, coords, i * 3, 3);
+          high[i] = high[last];
+          low[i] = low[last];
+          return;
+        }
+      }
+    }
+
+    PackedPoints copy() {
+      PackedPoints copied = new PackedPoints(0);
+      copied.coords = Arrays.copyOf(coords, coords.length);
+      copied.high = Arrays.copyOf(high, high.length);
+      copied.low = Arrays.copyOf(low, low.length);
+      copied.size = size;
+      return copied;
+    }
+  }
+
+  /**
+   * 암묵적 KD-tree (구간 [lo, hi)의 중앙 위치가 노드, 왼쪽 구간은 분할 축 값 이하, 오른쪽 구간은 이상)
+   */
+  private static final class KdTree {
+
+    private final double[] coords;
+    private final long[] high;
+    private final long[] low;
+    private final byte[] axes;
+    private final int size;
+
+    // 장소 ID 오름차순으로 정렬한 트리 위치 (변경 시 위치 조회용)
+    private final int[] byId;
+
+    private KdTree(PackedPoints points) {
+      this.size = points.size;
+      this.coords = Arrays.copyOf(points.coords, size * 3);
+      this.high = Arrays.copyOf(points.high, size);
+      this.low = Arrays.copyOf(points.low, size);
+      this.axes = new byte[size];
+      this.byId = null;
+    }
+
+    private KdTree(KdTree built, int[] byId) {
+      this.size = built.size;
+      this.coords = built.coords;
+      this.high = built.high;
+      this.low = built.low;
+      this.axes = built.axes;
+      this.byId = byId;
+    }
+
+    static KdTree build(PackedPoints points) {
+      KdTree tree = new KdTree(points);
+      tree.split(0, tree.size);
+      int[] byId = IntStream.range(0, tree.size).boxed()
+          .sorted(Comparator.<Integer>comparingLong(position -> tree.high[position])
+              .thenComparingLong(position -> tree.low[position]))
+          .mapToInt(Integer::intValue)
+          .toArray();
+      return new KdTree(tree, byId);
+    }
+
+    /**
+     * 장소 ID의 트리 위치 (없으면 -1)
+     */
+    int positionOf(long placeHigh, long placeLow) {
+      int lo = 0;
+      int hi = size - 1;
+      while (lo <= hi) {
+        int mid = (lo + hi) >>> 1;
+        int position = byId[mid];
+        int compared = high[position] != placeHigh
+            ? Long.compare(high[position], placeHigh)
+            : Long.compare(low[position], placeLow);
+        if (compared == 0) {
+          return position;
+        }
+        if (compared < 0) {
+          lo = mid + 1;
+        } else {
+          hi = mid - 1;
+        }
+      }
+      return -1;
+    }
+
+    /**
+     * 구간 [lo, hi)에서 질의 벡터와 가까운 장소를 힙에 추가 (가까운 쪽 하위 구간부터, 분할면까지 거리로 가지치기)
+     */
+    void search(int lo, int hi, double x, double y, double z, NeighborHeap heap, int[] removed) {
+      while (lo < hi) {
+        int mid = (lo + hi) >>> 1;
+        int base = mid * 3;
+        double dx = coords[base] - x;
+        double dy = coords[base + 1] - y;
+        double dz = coords[base + 2] - z;
+        double distance = dx * dx + dy * dy + dz * dz;
+        if (distance <= heap.bound() && (removed.length == 0 || Arrays.binarySearch(removed, mid) < 0)) {
+          heap.offer(distance, high[mid], low[mid]);
+        }
+
+        int axis = axes[mid];
+        double diff = (axis == 0 ? x : axis == 1 ? y : z) - coords[base + axis];
+        if (diff < 0) {
+          search(lo, mid, x, y, z, heap, removed);
+          lo = mid + 1;
+        } else {
+          search(mid + 1, hi, x, y, z, heap, removed);
+          hi = mid;
+        }
+        if (diff * diff > heap.bound()) {
+          return;
+        }
+      }
+    }
+
+    private void split(int lo, int hi) {
+      if (hi - lo <= 1) {
+        return;
+      }
+      int mid = (lo + hi) >>> 1;
+      int axis = widestAxis(lo, hi);
+      axes[mid] = (byte) axis;
+      select(lo, hi - 1, mid, axis);
+      split(lo, mid);
+      split(mid + 1, hi);
+    }
+
+    private int widestAxis(int lo, int hi) {
+      int widest = 0;
+      double widestSpread = -1;
+      for (int axis = 0; axis < 3; axis++) {
+        double min = Double.MAX_VALUE;
+        double max = -Double.MAX_VALUE;
+        for (int i = lo; i < hi; i++) {
+          double value = coords[i * 3 + axis];
+          min = Math.min(min, value);
+          max = Math.max(max, value);
+        }
+        if (max - min > widestSpread) {
+          widestSpread = max - min;
+          widest = axis;
+        }
+      }
+      return widest;
+    }
+
+    /**
+     * 구간 [lo, hi]에서 k번째 위치에 축 값 기준 k번째 원소를 배치 (3-way 분할 quickselect, 중복 좌표에도 선형 시간)
+     */
+    private void select(int lo, int hi, int k, int axis) {
+      while (lo < hi) {
+        double pivot = coords[((lo + hi) >>> 1) * 3 + axis];
+        int lt = lo;
+        int gt = hi;
+        int i = lo;
+        while (i <= gt) {
+          double value = coords[i * 3 + axis];
+          if (value < pivot) {
+            swap(lt++, i++);
+          } else if (value > pivot) {
+            swap(i, gt--);
+          } else {
+            i++;
+          }
+        }
+        if (k < lt) {
+          hi = lt - 1;
+        } else if (k > gt) {
+          lo = gt + 1;
+        } else {
+          return;
+        }
+      }
+    }
+
+    private void swap(int a, int b) {
+      for (int axis = 0; axis < 3; axis++) {
+        double value = coords[a * 3 + axis];
+        coords[a * 3 + axis] = coords[b * 3 + axis];
+        coords[b * 3 + axis] = value;
+      }
+      long placeHigh = high[a];
+      high[a] = high[b];
+      high[b] = placeHigh;
+      long placeLow = low[a];
+      low[a] = low[b];
+      low[b] = placeLow;
+    }
+  }
+
+  /**
+   * 크기 제한 최대 힙 (현 길이 제곱 기준, 가장 먼 장소가 루트)
+   */
+  private static final class NeighborHeap {
+
+    private final int capacity;
+    private final double maxDistance;
+    private final double[] distances;
+    private final long[] high;
+    private final long[] low;
+    private int size;
+
+    NeighborHeap(int capacity, double maxDistance) {
+      this.capacity = capacity;
+      this.maxDistance = maxDistance;
+      this.distances = new double[capacity];
+      this.high = new long[capacity];
+      this.low = new long[capacity];
+    }
+
+    /**
+     * 힙에 들어갈 수 있는 최대 거리 (가득 차면 현재 가장 먼 장소의 거리)
+     */
+    double bound() {
+      return size == capacity ? distances[0] : maxDistance;
+    }
+
+    void offer(double distance, long placeHigh, long placeLow) {
+      if (distance > maxDistance) {
+        return;
+      }
+      if (size < capacity) {
+        int i = size++;
+        while (i > 0) {
+          int parent = (i - 1) >>> 1;
+          if (distances[parent] >= distance) {
+            break;
+          }
+          set(i, distances[parent], high[parent], low[parent]);
+          i = parent;
+        }
+        set(i, distance, placeHigh, placeLow);
+        return;
+      }
+      if (distance >= distances[0]) {
+        return;
+      }
+      int i = 0;
+      while (true) {
+        int child = 2 * i + 1;
+        if (child >= size) {
+          break;
+        }
+        if (child + 1 < size && distances[child + 1] > distances[child]) {
+          child++;
+        }
+        if (distances[child] <= distance) {
+          break;
+        }
+        set(i, distances[child], high[child], low[child]);
+        i = child;
+      }
+      set(i, distance, placeHigh, placeLow);
+    }
+
+    List<Neighbor> toSortedList() {
+      Integer[] order = new Integer[size];
+      for (int i = 0; i < size; i++) {
+        order[i] = i;
+      }
+      Arrays.sort(order, Comparator.comparingDouble(i -> distances[i]));
+
+      List<Neighbor> neighbors = new ArrayList<>(size);
+      for (int i : order) {
+        double halfChord = Math.min(1, Math.sqrt(distances[i]) / 2);
+        neighbors.add(new Neighbor(new UUID(high[i], low[i]),
+            2 * GeoGridUtil.EARTH_RADIUS_METERS * Math.asin(halfChord)));
+      }
+      return neighbors;
+    }
+
+    private void set(int i, double distance, long placeHigh, long placeLow) {
+      distances[i] = distance;
+      high[i] = placeHigh;
+      low[i] = placeLow;
+    }
+  }
+}
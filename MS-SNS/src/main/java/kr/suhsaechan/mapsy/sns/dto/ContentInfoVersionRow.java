@@ -0,0 +1,22 @@
+package kr.suhsaechan.mapsy.sns.dto;
+
+import kr.suhsaechan.mapsy.common.util.ResourceValidator;
+import java.time.LocalDateTime;
+
+/**
+ * Content 상세 조회 조건부 요청용 버전 Projection
+ * - Content 수정 시각, 연결된 Place 중 가장 최근 수정 시각, 연결된 Place 수
+ */
+public record ContentInfoVersionRow(
+    LocalDateTime contentUpdatedAt,
+    LocalDateTime placesUpdatedAt,
+    Long placeCount
+) {
+
+  public ResourceValidator toValidator() {
+    LocalDateTime lastModified = placesUpdatedAt != null && placesUpdatedAt.isAfter(contentUpdatedAt)
+        ? placesUpdatedAt
+        : contentUpdatedAt;
+    return ResourceValidator.of("content", lastModified, placeCount);
+  }
+}
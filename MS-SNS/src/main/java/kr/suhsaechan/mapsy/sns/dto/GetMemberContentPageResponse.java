@@ -1,11 +1,11 @@
 package kr.suhsaechan.mapsy.sns.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.springframework.data.domain.Page;
 
 @Getter
 @Builder
@@ -14,6 +14,12 @@ import org.springframework.data.domain.Page;
 @Schema(description = "회원 콘텐츠 목록 조회 응답")
 public class GetMemberContentPageResponse {
 
-  @Schema(description = "콘텐츠 페이지 정보 (최신순)")
-  private Page<ContentDto> contentPage;
+  @Schema(description = "콘텐츠 목록 (최신순)")
+  private List<ContentDto> contents;
+
+  @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MjAyNS0xMS0yM1QxMDozMDowMHw1NTBlODQwMC1lMjliLTQxZDQtYTcxNi00NDY2NTU0NDAwMDA")
+  private String nextCursor;
+
+  @Schema(description = "다음 페이지 존재 여부", example = "true")
+  private boolean hasNext;
 }
@@ -0,0 +1,47 @@
+package kr.suhsaechan.mapsy.sns.dto;
+
+import kr.suhsaechan.mapsy.common.constant.ContentStatus;
+import kr.suhsaechan.mapsy.common.util.KeysetCursor;
+import kr.suhsaechan.mapsy.sns.constant.ContentPlatform;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 회원 콘텐츠 목록 조회용 Projection
+ * - ContentMember의 keyset 컬럼(createdAt, id)과 ContentDto 컬럼만 조회
+ * - Content/Member 엔티티를 로딩하지 않음
+ */
+public record MemberContentRow(
+    UUID contentMemberId,
+    LocalDateTime contentMemberCreatedAt,
+    UUID id,
+    ContentPlatform platform,
+    ContentStatus status,
+    String platformUploader,
+    String caption,
+    String thumbnailUrl,
+    String originalUrl,
+    String title,
+    String summary,
+    LocalDateTime lastCheckedAt
+) {
+
+  public ContentDto toContentDto() {
+    return ContentDto.builder()
+        .id(id)
+        .platform(platform)
+        .status(status)
+        .platformUploader(platformUploader)
+        .caption(caption)
+        .thumbnailUrl(thumbnailUrl)
+        .originalUrl(originalUrl)
+        .title(title)
+        .summary(summary)
+        .lastCheckedAt(lastCheckedAt)
+        .build();
+  }
+
+  public KeysetCursor toCursor() {
+    return new KeysetCursor(contentMemberCreatedAt, contentMemberId);
+  }
+}
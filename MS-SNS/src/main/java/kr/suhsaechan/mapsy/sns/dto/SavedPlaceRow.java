@@ -0,0 +1,35 @@
+package kr.suhsaechan.mapsy.sns.dto;
+
+import kr.suhsaechan.mapsy.place.dto.PlaceDto;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 회원 저장 장소 목록 조회용 Projection
+ * - PlaceDto에 필요한 컬럼만 조회 (Place 엔티티를 로딩하지 않음)
+ * - photoUrls는 DB에서 array_slice로 잘라서 조회
+ */
+public record SavedPlaceRow(
+    UUID placeId,
+    String name,
+    String address,
+    BigDecimal rating,
+    Integer userRatingsTotal,
+    List<String> photoUrls,
+    String description
+) {
+
+  public PlaceDto toPlaceDto() {
+    return PlaceDto.builder()
+        .placeId(placeId)
+        .name(name)
+        .address(address)
+        .rating(rating)
+        .userRatingsTotal(userRatingsTotal)
+        .photoUrls(photoUrls != null ? photoUrls : Collections.emptyList())
+        .description(description)
+        .build();
+  }
+}
@@ -4,11 +4,15 @@ import kr.suhsaechan.mapsy.common.entity.BaseEntity;
 import kr.suhsaechan.mapsy.member.entity.Member;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedEntityGraphs;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import java.util.UUID;
@@ -27,8 +31,22 @@ import lombok.Setter;
  * 각 회원별로 ContentMember 레코드가 생성됨
  *
  * AI 분석 완료시 notified=false인 모든 ContentMember의 회원에게 알림 전송
+ *
+ * 연관관계는 모두 LAZY이며, 필요한 경우 사용처별 EntityGraph로 함께 조회
+ * - ContentMember.withMember : 알림 전송 / MemberPlace 생성 (Member 필요)
+ * - ContentMember.withContent : Content 정보가 필요한 경우
  */
 @Entity
+@NamedEntityGraphs({
+    @NamedEntityGraph(
+        name = ContentMember.GRAPH_WITH_MEMBER,
+        attributeNodes = @NamedAttributeNode("member")
+    ),
+    @NamedEntityGraph(
+        name = ContentMember.GRAPH_WITH_CONTENT,
+        attributeNodes = @NamedAttributeNode("content")
+    )
+})
 @Table(
     uniqueConstraints = {
         @UniqueConstraint(columnNames = {"content_id", "member_id"})
@@ -36,7 +54,8 @@ import lombok.Setter;
     indexes = {
         @Index(columnList = "content_id"),
         @Index(columnList = "member_id"),
-        @Index(columnList = "notified")
+        @Index(columnList = "notified"),
+        @Index(name = "idx_content_member_member_created", columnList = "member_id, created_at DESC, id DESC")
     }
 )
 @Builder
@@ -46,15 +65,18 @@ import lombok.Setter;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class ContentMember extends BaseEntity {
 
+  public static final String GRAPH_WITH_MEMBER = "ContentMember.withMember";
+  public static final String GRAPH_WITH_CONTENT = "ContentMember.withContent";
+
   @Id
   @GeneratedValue(strategy = GenerationType.UUID)
   @Column(updatable = false, nullable = false)
   private UUID id;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   private Content content;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   private Member member;
 
   // 알림 전송 여부
@@ -3,12 +3,19 @@ package kr.suhsaechan.mapsy.sns.repository;
 import kr.suhsaechan.mapsy.member.entity.Member;
 import kr.suhsaechan.mapsy.sns.entity.Content;
 import kr.suhsaechan.mapsy.sns.entity.ContentMember;
+import kr.suhsaechan.mapsy.sns.dto.MemberContentRow;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface ContentMemberRepository extends JpaRepository<ContentMember, UUID> {
 
@@ -28,24 +35,105 @@ public interface ContentMemberRepository extends JpaRepository<ContentMember, UU
   List<ContentMember> findByContentId(UUID contentId);
 
   /**
-   * Content ID로 알림 미전송된 ContentMember 조회 (Member Fetch Join으로 N+1 방지)
+   * Content의 알림 미전송 회원 ID 조회 (행 잠금)
+   * - 같은 Content의 중복 콜백은 잠금 해제(커밋)까지 대기 후 notified=true로 갱신된 행을 제외하고 조회
+   * - 같은 트랜잭션에서 markNotified로 수신 회원 선점
    */
-  @Query("SELECT cm FROM ContentMember cm " +
-      "JOIN FETCH cm.member " +
-      "WHERE cm.content.id = :contentId AND cm.notified = false")
-  List<ContentMember> findUnnotifiedMembersWithMember(@Param("contentId") UUID contentId);
+  @Query(value = "SELECT member_id FROM content_member " +
+      "WHERE content_id = :contentId AND notified = false FOR UPDATE", nativeQuery = true)
+  List<UUID> lockUnnotifiedMemberIds(@Param("contentId") UUID contentId);
+
+  /**
+   * Content의 회원 알림 전송 완료 일괄 처리 (콜백 트랜잭션에서 전송 전 선점)
+   *
+   * @param contentId Content ID
+   * @param memberIds 알림 처리할 회원 ID 목록
+   * @return 갱신된 행 수
+   */
+  @Transactional
+  @Modifying
+  @Query("UPDATE ContentMember cm SET cm.notified = true " +
+      "WHERE cm.content.id = :contentId AND cm.member.id IN :memberIds AND cm.notified = false")
+  int markNotified(@Param("contentId") UUID contentId, @Param("memberIds") Collection<UUID> memberIds);
+
+  /**
+   * Content의 회원 알림 선점 해제 (전송 실패 회원을 다음 콜백에서 재전송)
+   *
+   * @param contentId Content ID
+   * @param memberIds 전송 실패 회원 ID 목록
+   * @return 갱신된 행 수
+   */
+  @Transactional
+  @Modifying
+  @Query("UPDATE ContentMember cm SET cm.notified = false " +
+      "WHERE cm.content.id = :contentId AND cm.member.id IN :memberIds AND cm.notified = true")
+  int releaseNotified(@Param("contentId") UUID contentId, @Param("memberIds") Collection<UUID> memberIds);
 
   /**
-   * Member ID로 ContentMember 조회 (페이징 등에 활용)
+   * Member ID로 ContentMember 조회 (Content EntityGraph로 N+1 방지)
    */
+  @EntityGraph(ContentMember.GRAPH_WITH_CONTENT)
   List<ContentMember> findByMemberId(UUID memberId);
 
   /**
-   * Content로 모든 ContentMember 조회 (Member Fetch Join으로 N+1 방지)
+   * 회원 콘텐츠 목록 첫 페이지 조회 (Keyset 페이지네이션)
+   * - idx_content_member_member_created 인덱스 (member_id, created_at DESC) 사용
+   * - ContentDto 컬럼만 Projection으로 조회 (엔티티 로딩 없음)
+   *
+   * @param memberId 회원 ID
+   * @param limit    조회 개수
+   * @return MemberContentRow 목록 (ContentMember.createdAt, id 내림차순)
+   */
+  @Query("""
+    SELECT new kr.suhsaechan.mapsy.sns.dto.MemberContentRow(
+      cm.id, cm.createdAt,
+      c.id, c.platform, c.status, c.platformUploader, c.caption,
+      c.thumbnailUrl, c.originalUrl, c.title, c.summary, c.lastCheckedAt)
+    FROM ContentMember cm
+    JOIN cm.content c
+    WHERE cm.member.id = :memberId
+    ORDER BY cm.createdAt DESC, cm.id DESC
+    """)
+  List<MemberContentRow> findMemberContentRows(
+      @Param("memberId") UUID memberId,
+      Limit limit
+  );
+
+  /**
+   * 회원 콘텐츠 목록 다음 페이지 조회 (Keyset 페이지네이션)
+   * - 커서 (createdAt, id) 이후의 행만 조회하므로 OFFSET 없이 O(페이지 크기)
+   *
+   * @param memberId        회원 ID
+   * @param cursorCreatedAt 이전 페이지 마지막 행의 ContentMember.createdAt
+   * @param cursorId        이전 페이지 마지막 행의 ContentMember.id
+   * @param limit           조회 개수
+   * @return MemberContentRow 목록 (ContentMember.createdAt, id 내림차순)
+   */
+  @Query("""
+    SELECT new kr.suhsaechan.mapsy.sns.dto.MemberContentRow(
+      cm.id, cm.createdAt,
+      c.id, c.platform, c.status, c.platformUploader, c.caption,
+      c.thumbnailUrl, c.originalUrl, c.title, c.summary, c.lastCheckedAt)
+    FROM ContentMember cm
+    JOIN cm.content c
+    WHERE cm.member.id = :memberId
+    AND (cm.createdAt < :cursorCreatedAt
+      OR (cm.createdAt = :cursorCreatedAt AND cm.id < :cursorId))
+    ORDER BY cm.createdAt DESC, cm.id DESC
+    """)
+  List<MemberContentRow> findMemberContentRowsAfter(
+      @Param("memberId") UUID memberId,
+      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+      @Param("cursorId") UUID cursorId,
+      Limit limit
+  );
+
+  /**
+   * Content로 모든 ContentMember 조회 (Member EntityGraph로 N+1 방지)
    * - MemberPlace 생성 시 사용
    */
+  @EntityGraph(ContentMember.GRAPH_WITH_MEMBER)
   @Query("SELECT cm FROM ContentMember cm " +
-      "JOIN FETCH cm.member " +
       "WHERE cm.content = :content")
   List<ContentMember> findAllByContentWithMember(@Param("content") Content content);
 
@@ -1,10 +1,13 @@
 package kr.suhsaechan.mapsy.sns.repository;
 
 import kr.suhsaechan.mapsy.place.entity.Place;
+import kr.suhsaechan.mapsy.sns.dto.SavedPlaceRow;
 import kr.suhsaechan.mapsy.sns.entity.Content;
 import kr.suhsaechan.mapsy.sns.entity.ContentPlace;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -28,4 +31,28 @@ public interface ContentPlaceRepository extends JpaRepository<ContentPlace, UUID
 
   // Content와 Place 조합으로 중복 체크
   boolean existsByContentAndPlace(Content content, Place place);
+
+  // Content에 연결된 Place ID 목록 조회 (장소별 중복 체크 쿼리 대신 1회 조회)
+  @Query("SELECT cp.place.id FROM ContentPlace cp WHERE cp.content.id = :contentId")
+  Set<UUID> findPlaceIdsByContentId(@Param("contentId") UUID contentId);
+
+  /**
+   * 회원이 요청한 Content들에 연결된 Place 목록 조회 (ContentPlace 생성 최신순)
+   * - content_member → content_place → place 단일 쿼리 (Content별 반복 조회 제거)
+   * - photoUrls는 DB에서 최대 maxPhotoUrls개로 잘라서 조회
+   */
+  @Query("""
+      SELECT new kr.suhsaechan.mapsy.sns.dto.SavedPlaceRow(
+          p.id, p.name, p.address, p.rating, p.userRatingsTotal,
+          array_slice(p.photoUrls, 1, :maxPhotoUrls), p.description)
+      FROM ContentMember cm
+      JOIN ContentPlace cp ON cp.content = cm.content
+      JOIN cp.place p
+      WHERE cm.member.id = :memberId
+      ORDER BY cp.createdAt DESC, cp.id DESC
+      """)
+  List<SavedPlaceRow> findSavedPlaceRowsByMemberId(
+      @Param("memberId") UUID memberId,
+      @Param("maxPhotoUrls") int maxPhotoUrls,
+      Limit limit);
 }
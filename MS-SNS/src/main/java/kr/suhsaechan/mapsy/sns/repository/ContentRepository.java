@@ -1,7 +1,10 @@
 package kr.suhsaechan.mapsy.sns.repository;
 
+import kr.suhsaechan.mapsy.sns.dto.ContentInfoVersionRow;
 import kr.suhsaechan.mapsy.sns.entity.Content;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -13,4 +16,16 @@ public interface ContentRepository extends JpaRepository<Content, UUID> {
   // SNS URL로 Content 조회
   Optional<Content> findByOriginalUrl(String originalUrl);
 
+  // 조건부 요청(ETag/Last-Modified) 검증용 수정 시각 조회 (PK/content_id/place PK 인덱스만 사용)
+  @Query("""
+      SELECT new kr.suhsaechan.mapsy.sns.dto.ContentInfoVersionRow(
+          COALESCE(c.updatedAt, c.createdAt), MAX(p.updatedAt), COUNT(cp.id))
+      FROM Content c
+      LEFT JOIN ContentPlace cp ON cp.content = c
+      LEFT JOIN cp.place p
+      WHERE c.id = :contentId
+      GROUP BY c.id, c.updatedAt, c.createdAt
+      """)
+  Optional<ContentInfoVersionRow> findContentInfoVersion(@Param("contentId") UUID contentId);
+
 }
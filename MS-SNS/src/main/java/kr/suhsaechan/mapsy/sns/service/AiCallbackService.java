@@ -1,5 +1,6 @@
 package kr.suhsaechan.mapsy.sns.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import kr.suhsaechan.mapsy.ai.dto.AiCallbackRequest;
 import kr.suhsaechan.mapsy.ai.dto.AiCallbackRequest.PlaceDetailCallback;
 import kr.suhsaechan.mapsy.ai.dto.AiCallbackRequest.SnsInfoCallback;
@@ -8,6 +9,7 @@ import kr.suhsaechan.mapsy.ai.dto.AiCallbackResponse;
 import kr.suhsaechan.mapsy.common.constant.ContentStatus;
 import kr.suhsaechan.mapsy.common.exception.CustomException;
 import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
+import kr.suhsaechan.mapsy.common.util.TransactionUtil;
 import kr.suhsaechan.mapsy.place.constant.PlacePlatform;
 import kr.suhsaechan.mapsy.place.constant.PlaceSavedStatus;
 import kr.suhsaechan.mapsy.place.entity.MemberPlace;
@@ -17,6 +19,10 @@ import kr.suhsaechan.mapsy.place.repository.MemberPlaceRepository;
 import kr.suhsaechan.mapsy.place.repository.PlacePlatformReferenceRepository;
 import kr.suhsaechan.mapsy.place.repository.PlaceRepository;
 import kr.suhsaechan.mapsy.place.service.KeywordService;
+import kr.suhsaechan.mapsy.place.service.MemberPlaceClusterIndex;
+import kr.suhsaechan.mapsy.place.service.PlaceBusinessHourService;
+import kr.suhsaechan.mapsy.place.service.PlaceDetailCacheService;
+import kr.suhsaechan.mapsy.place.service.PlaceSpatialIndex;
 import kr.suhsaechan.mapsy.sns.entity.Content;
 import kr.suhsaechan.mapsy.sns.entity.ContentMember;
 import kr.suhsaechan.mapsy.sns.entity.ContentPlace;
@@ -34,14 +40,25 @@ import java.time.OffsetDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import kr.suhsaechan.mapsy.member.service.FcmService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import kr.suhsaechan.mapsy.member.dto.NotificationDispatchResult;
+import kr.suhsaechan.mapsy.member.service.NotificationDispatcher;
 
 /**
  * AI 서버 Webhook Callback 처리
+ * - mapsy.ai.callback : 콜백 전체 처리 시간 (커밋 포함, AiController에서 기록, result: SUCCESS, FAILED, INVALID)
+ * - mapsy.ai.callback.stage : 단계별 처리 시간 (stage: content, place_lookup, place_upsert, notification)
+ *   - notification은 커밋 후 알림 일괄 전송 시작부터 전송 완료까지
+ * - mapsy.ai.callback.places : 콜백당 저장된 장소 수
+ * - mapsy.ai.callback.place.match : 장소 중복 판정 결과 (match: naver_id, name_coordinates, new)
  *
  * @see <a href="https://github.com/MapSee-Lab/MapSy-BE/issues/16">GitHub Issue #16</a>
  */
@@ -50,14 +67,27 @@ import kr.suhsaechan.mapsy.member.service.FcmService;
 @Slf4j
 public class AiCallbackService {
 
+  public static final String CALLBACK_METRIC = "mapsy.ai.callback";
+  private static final String STAGE_METRIC = "mapsy.ai.callback.stage";
+  private static final String PLACES_METRIC = "mapsy.ai.callback.places";
+  private static final String PLACE_MATCH_METRIC = "mapsy.ai.callback.place.match";
+
   private final ContentRepository contentRepository;
   private final ContentMemberRepository contentMemberRepository;
   private final PlaceRepository placeRepository;
   private final ContentPlaceRepository contentPlaceRepository;
   private final PlacePlatformReferenceRepository placePlatformReferenceRepository;
   private final MemberPlaceRepository memberPlaceRepository;
-  private final FcmService fcmService;
+  private final MemberPlaceClusterIndex memberPlaceClusterIndex;
+  private final NotificationDispatcher notificationDispatcher;
+  private final ContentNotificationService contentNotificationService;
   private final KeywordService keywordService;
+  private final PlaceDetailCacheService placeDetailCacheService;
+  private final PlaceBusinessHourService placeBusinessHourService;
+  private final PlaceSpatialIndex placeSpatialIndex;
+  private final ContentInfoResponseCacheService contentInfoResponseCacheService;
+  private final RecentContentTimelineService recentContentTimelineService;
+  private final MeterRegistry meterRegistry;
 
   /**
    * AI 서버로부터 받은 Callback 처리
@@ -91,6 +121,10 @@ public class AiCallbackService {
       throw new CustomException(ErrorCode.INVALID_REQUEST);
     }
 
+    // 상태/메타데이터가 변경되었으므로 최근 콘텐츠 캐시 및 상세 응답 캐시 제거
+    recentContentTimelineService.evictContent(contentId);
+    contentInfoResponseCacheService.evict(contentId);
+
     log.info("AI callback processed successfully: contentId={}", contentId);
 
     return AiCallbackResponse.builder()
@@ -104,6 +138,7 @@ public class AiCallbackService {
    */
   private void processSuccessCallback(Content content, AiCallbackRequest request) {
     log.debug("Processing SUCCESS callback for contentId={}", content.getId());
+    long stageStartedAt = System.nanoTime();
 
     // statistics 로깅 (DB 저장 안 함)
     logStatistics(content.getId(), request.getStatistics());
@@ -124,6 +159,7 @@ public class AiCallbackService {
     updateContentWithSnsInfo(content, request.getSnsInfo());
 
     contentRepository.save(content);
+    stageStartedAt = recordStage("content", stageStartedAt);
 
     // Place 생성 및 Content 연결
     int placeCount = 0;
@@ -132,16 +168,28 @@ public class AiCallbackService {
       log.info("Received {} places for contentId={} (update mode: {}). Starting Place creation.",
           placeDetails.size(), content.getId(), isContentAlreadyCompleted);
 
+      // 네이버 placeId 기준 기존 장소 및 Content에 이미 연결된 장소를 일괄 조회 (장소별 조회 쿼리 방지)
+      Map<String, Place> naverPlaceMap = findPlacesByNaverPlaceIds(placeDetails);
+      Set<UUID> linkedPlaceIds = isContentAlreadyCompleted
+          ? new HashSet<>()
+          : contentPlaceRepository.findPlaceIdsByContentId(content.getId());
+      stageStartedAt = recordStage("place_lookup", stageStartedAt);
+
       List<Place> savedPlaces = new ArrayList<>();
       int position = 0;
       for (PlaceDetailCallback placeDetail : placeDetails) {
         try {
           // Place 생성 또는 조회
-          Place place = createOrGetPlaceFromPlaceDetail(placeDetail);
+          Place place = createOrGetPlaceFromPlaceDetail(placeDetail, naverPlaceMap);
           savedPlaces.add(place);
 
+          // 상세 영업시간 구조화 (요일별 영업시간 + 주간 영업 비트맵)
+          if (placeDetail.getOpenHoursDetail() != null) {
+            placeBusinessHourService.replaceBusinessHours(place);
+          }
+
           // ContentPlace 연결 (순서 포함)
-          createContentPlace(content, place, position++);
+          createContentPlace(content, place, position++, linkedPlaceIds);
 
           // 키워드 연결
           if (placeDetail.getKeywords() != null && !placeDetail.getKeywords().isEmpty()) {
@@ -156,16 +204,35 @@ public class AiCallbackService {
       }
 
       placeCount = savedPlaces.size();
+
+      // 갱신된 장소의 상세 정보 캐시 버전 증가 (커밋 후)
+      placeDetailCacheService.bumpVersions(savedPlaces.stream().map(Place::getId).toList());
+      // 생성/수정된 장소 좌표를 공간 색인에 반영 (커밋 후)
+      placeSpatialIndex.upsertPlaces(savedPlaces);
+      recordStage("place_upsert", stageStartedAt);
       log.info("Successfully saved {} out of {} places for contentId={}",
           placeCount, placeDetails.size(), content.getId());
     } else {
       log.warn("No places found in callback for contentId={}", content.getId());
     }
 
-    // 알림 전송
+    meterRegistry.summary(PLACES_METRIC).record(placeCount);
+
+    // 알림 전송 (전송 시간은 커밋 후 전송 완료 시 notification 단계로 기록)
     sendContentCompleteNotification(content, placeCount);
   }
 
+  /**
+   * 단계 처리 시간 기록
+   *
+   * @return 다음 단계 시작 시각 (System.nanoTime)
+   */
+  private long recordStage(String stage, long stageStartedAt) {
+    long now = System.nanoTime();
+    meterRegistry.timer(STAGE_METRIC, "stage", stage).record(now - stageStartedAt, TimeUnit.NANOSECONDS);
+    return now;
+  }
+
   /**
    * statistics 로깅
    */
@@ -292,23 +359,44 @@ public class AiCallbackService {
     contentRepository.save(content);
   }
 
+  /**
+   * 콜백 장소 목록의 네이버 placeId로 기존 Place 일괄 조회
+   *
+   * @return 네이버 placeId → Place (PlacePlatformReference 조회 시 Place 함께 로딩)
+   */
+  private Map<String, Place> findPlacesByNaverPlaceIds(List<PlaceDetailCallback> placeDetails) {
+    Set<String> naverPlaceIds = placeDetails.stream()
+        .map(PlaceDetailCallback::getPlaceId)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+
+    Map<String, Place> naverPlaceMap = new HashMap<>();
+    if (naverPlaceIds.isEmpty()) {
+      return naverPlaceMap;
+    }
+
+    placePlatformReferenceRepository
+        .findAllByPlacePlatformAndPlacePlatformIdIn(PlacePlatform.NAVER, naverPlaceIds)
+        .forEach(reference -> naverPlaceMap.put(reference.getPlacePlatformId(), reference.getPlace()));
+    return naverPlaceMap;
+  }
+
   /**
    * PlaceDetail로부터 Place 생성 또는 조회
    *
    * 중복 체크 순서:
-   * 1. naverPlaceId로 PlacePlatformReference 검색
+   * 1. naverPlaceId로 PlacePlatformReference 검색 (콜백 단위로 미리 일괄 조회한 naverPlaceMap 사용)
    * 2. name + 좌표로 기존 Place 검색
    * 3. 없으면 신규 생성 + PlacePlatformReference 생성
    */
-  private Place createOrGetPlaceFromPlaceDetail(PlaceDetailCallback placeDetail) {
+  private Place createOrGetPlaceFromPlaceDetail(PlaceDetailCallback placeDetail, Map<String, Place> naverPlaceMap) {
     // 1. naverPlaceId로 중복 체크
     if (placeDetail.getPlaceId() != null) {
-      Optional<PlacePlatformReference> existingRef = placePlatformReferenceRepository
-          .findByPlacePlatformAndPlacePlatformId(PlacePlatform.NAVER, placeDetail.getPlaceId());
+      Place existingPlace = naverPlaceMap.get(placeDetail.getPlaceId());
 
-      if (existingRef.isPresent()) {
-        Place existingPlace = existingRef.get().getPlace();
+      if (existingPlace != null) {
         updatePlaceFromPlaceDetail(existingPlace, placeDetail);
+        meterRegistry.counter(PLACE_MATCH_METRIC, "match", "naver_id").increment();
         log.debug("Found existing place by naverPlaceId: id={}, name={}", existingPlace.getId(), existingPlace.getName());
         return placeRepository.save(existingPlace);
       }
@@ -331,6 +419,8 @@ public class AiCallbackService {
 
         // PlacePlatformReference가 없으면 생성
         createPlacePlatformReferenceIfNotExists(existingPlace, placeDetail.getPlaceId());
+        registerNaverPlace(naverPlaceMap, placeDetail.getPlaceId(), existingPlace);
+        meterRegistry.counter(PLACE_MATCH_METRIC, "match", "name_coordinates").increment();
 
         log.debug("Found existing place by name+coords: id={}, name={}", existingPlace.getId(), existingPlace.getName());
         return placeRepository.save(existingPlace);
@@ -341,14 +431,25 @@ public class AiCallbackService {
     Place newPlace = createNewPlace(placeDetail);
     Place savedPlace = placeRepository.save(newPlace);
 
-    // PlacePlatformReference 생성
-    createPlacePlatformReferenceIfNotExists(savedPlace, placeDetail.getPlaceId());
+    // PlacePlatformReference 생성 (신규 Place이므로 존재 여부 확인 불필요)
+    createPlacePlatformReference(savedPlace, placeDetail.getPlaceId());
+    registerNaverPlace(naverPlaceMap, placeDetail.getPlaceId(), savedPlace);
+    meterRegistry.counter(PLACE_MATCH_METRIC, "match", "new").increment();
 
     log.debug("Created new place: id={}, name={}, naverPlaceId={}",
         savedPlace.getId(), savedPlace.getName(), placeDetail.getPlaceId());
     return savedPlace;
   }
 
+  /**
+   * 같은 콜백 내 동일 naverPlaceId 장소가 다시 등장할 경우 재사용하도록 등록
+   */
+  private void registerNaverPlace(Map<String, Place> naverPlaceMap, String naverPlaceId, Place place) {
+    if (naverPlaceId != null) {
+      naverPlaceMap.putIfAbsent(naverPlaceId, place);
+    }
+  }
+
   /**
    * 새 Place 엔티티 생성
    */
@@ -471,23 +572,35 @@ public class AiCallbackService {
         .findByPlaceAndPlacePlatform(place, PlacePlatform.NAVER);
 
     if (existing.isEmpty()) {
-      PlacePlatformReference reference = PlacePlatformReference.builder()
-          .place(place)
-          .placePlatform(PlacePlatform.NAVER)
-          .placePlatformId(naverPlaceId)
-          .build();
-      placePlatformReferenceRepository.save(reference);
-      log.debug("Created PlacePlatformReference: placeId={}, naverPlaceId={}", place.getId(), naverPlaceId);
+      createPlacePlatformReference(place, naverPlaceId);
     }
   }
 
+  /**
+   * PlacePlatformReference 생성
+   */
+  private void createPlacePlatformReference(Place place, String naverPlaceId) {
+    if (naverPlaceId == null) {
+      return;
+    }
+
+    PlacePlatformReference reference = PlacePlatformReference.builder()
+        .place(place)
+        .placePlatform(PlacePlatform.NAVER)
+        .placePlatformId(naverPlaceId)
+        .build();
+    placePlatformReferenceRepository.save(reference);
+    log.debug("Created PlacePlatformReference: placeId={}, naverPlaceId={}", place.getId(), naverPlaceId);
+  }
+
   /**
    * ContentPlace 연결 생성 (순서 포함)
+   *
+   * @param linkedPlaceIds Content에 이미 연결된 Place ID (콜백 시작 시 1회 조회, 연결 생성 시 추가)
    */
-  private void createContentPlace(Content content, Place place, int position) {
+  private void createContentPlace(Content content, Place place, int position, Set<UUID> linkedPlaceIds) {
     // 중복 체크
-    boolean exists = contentPlaceRepository.existsByContentAndPlace(content, place);
-    if (exists) {
+    if (!linkedPlaceIds.add(place.getId())) {
       log.debug("ContentPlace already exists: contentId={}, placeId={}", content.getId(), place.getId());
       return;
     }
@@ -508,18 +621,19 @@ public class AiCallbackService {
   private void sendContentCompleteNotification(Content content, int placeCount) {
     log.info("Sending content complete notifications for contentId={}, placeCount={}", content.getId(), placeCount);
 
-    List<ContentMember> unnotifiedMembers = contentMemberRepository.findUnnotifiedMembersWithMember(content.getId());
+    // 콜백 트랜잭션에서 수신 회원 선점 (중복 콜백은 커밋까지 대기 후 선점된 회원 제외)
+    List<UUID> memberIds = contentNotificationService.claimRecipients(content.getId());
 
-    if (unnotifiedMembers.isEmpty()) {
+    if (memberIds.isEmpty()) {
       log.info("No unnotified members found for contentId={}", content.getId());
       return;
     }
 
-    log.info("Found {} unnotified members for contentId={}", unnotifiedMembers.size(), content.getId());
+    log.info("Found {} unnotified members for contentId={}", memberIds.size(), content.getId());
 
     // 알림 데이터 구성
     Map<String, String> notificationData = new HashMap<>();
-    notificationData.put("type", "CONTENT_COMPLETE");
+    notificationData.put("type", ContentNotificationService.CONTENT_COMPLETE_TYPE);
     notificationData.put("contentId", content.getId().toString());
     notificationData.put("placeCount", String.valueOf(placeCount));
 
@@ -544,37 +658,31 @@ public class AiCallbackService {
           : "콘텐츠 분석이 완료되었습니다.";
     }
 
-    // 각 회원에게 알림 전송
-    int successCount = 0;
-    List<ContentMember> succeededMembers = new ArrayList<>();
-    for (ContentMember contentMember : unnotifiedMembers) {
-      try {
-        fcmService.sendNotificationToMember(
-            contentMember.getMember().getId(),
-            notificationTitle,
-            notificationBody,
-            notificationData,
-            content.getThumbnailUrl()
-        );
-
-        contentMember.setNotified(true);
-        succeededMembers.add(contentMember);
-        successCount++;
-
-        log.info("Notification sent successfully to memberId={} for contentId={}",
-            contentMember.getMember().getId(), content.getId());
-      } catch (Exception e) {
-        log.error("Failed to send notification to memberId={} for contentId={}: {}",
-            contentMember.getMember().getId(), content.getId(), e.getMessage());
-      }
-    }
+    // 커밋 후 전용 스레드 풀에서 일괄 전송, 완료되면 전송 실패 회원만 선점 해제
+    UUID contentId = content.getId();
+    String body = notificationBody;
+    String imageUrl = content.getThumbnailUrl();
+    TransactionUtil.runAfterCommit(() -> {
+      long dispatchStartedAt = System.nanoTime();
+      notificationDispatcher
+          .dispatch(memberIds, notificationTitle, body, notificationData, imageUrl)
+          .thenAccept(result -> {
+            recordStage("notification", dispatchStartedAt);
+            settleRecipients(contentId, memberIds, notificationTitle, body, result);
+          });
+    });
+  }
 
-    if (!succeededMembers.isEmpty()) {
-      contentMemberRepository.saveAll(succeededMembers);
+  /**
+   * 알림 전송 결과 반영 (실패 시 선점 상태 유지, 해당 회원은 재전송되지 않음)
+   */
+  private void settleRecipients(
+      UUID contentId, List<UUID> memberIds, String title, String body, NotificationDispatchResult result) {
+    try {
+      contentNotificationService.settleRecipients(contentId, memberIds, title, body, result);
+    } catch (Exception e) {
+      log.error("Failed to settle notification recipients for contentId={}: {}", contentId, e.getMessage(), e);
     }
-
-    log.info("Content complete notifications sent: {}/{} succeeded for contentId={}",
-        successCount, unnotifiedMembers.size(), content.getId());
   }
 
   /**
@@ -609,6 +717,7 @@ public class AiCallbackService {
             .build();
 
         memberPlaceRepository.save(memberPlace);
+        memberPlaceClusterIndex.addPlace(contentMember.getMember().getId(), place, PlaceSavedStatus.TEMPORARY);
         createdCount++;
 
         log.debug("MemberPlace created: id={}, memberId={}, placeId={}, status=TEMPORARY",
@@ -0,0 +1,147 @@
+package kr.suhsaechan.mapsy.sns.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kr.suhsaechan.mapsy.common.constant.ContentStatus;
+import kr.suhsaechan.mapsy.common.exception.CustomException;
+import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
+import kr.suhsaechan.mapsy.common.util.TransactionUtil;
+import kr.suhsaechan.mapsy.sns.dto.GetContentInfoResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * COMPLETED Content 상세 응답 직렬화 캐시 (로컬 Caffeine + Redis)
+ * - 직렬화된 UTF-8 JSON 바이트를 저장하여 조회/직렬화 비용 제거
+ * - 엔트리에 ETag를 함께 저장하고 현재 ETag와 일치할 때만 사용 (다른 인스턴스에서 변경된 경우에도 stale 응답 방지)
+ * - CI:{contentId} : "{etag}\n{json}"
+ * - COMPLETED 상태가 아닌 Content는 곧 변경되므로 캐시하지 않음
+ */
+@Service
+@Slf4j
+public class ContentInfoResponseCacheService {
+
+  private static final String CACHE_KEY_PREFIX = "CI:";
+  private static final char ETAG_DELIMITER = '\n';
+  private static final Duration REMOTE_TTL = Duration.ofHours(6);
+  private static final Duration LOCAL_TTL = Duration.ofMinutes(30);
+  private static final long LOCAL_MAX_WEIGHT_BYTES = 64L * 1024 * 1024;
+
+  private final ContentService contentService;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final ObjectMapper responseMapper;
+
+  private final Cache<UUID, CachedResponse> localCache = Caffeine.newBuilder()
+      .maximumWeight(LOCAL_MAX_WEIGHT_BYTES)
+      .weigher((UUID contentId, CachedResponse response) -> response.body().length)
+      .expireAfterWrite(LOCAL_TTL)
+      .build();
+
+  public ContentInfoResponseCacheService(
+      ContentService contentService,
+      StringRedisTemplate stringRedisTemplate,
+      ObjectMapper objectMapper) {
+    this.contentService = contentService;
+    this.stringRedisTemplate = stringRedisTemplate;
+    // HTTP 응답과 동일하게 날짜를 ISO 문자열로 직렬화
+    this.responseMapper = objectMapper.copy()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+  }
+
+  /**
+   * 직렬화된 Content 상세 응답 조회 (로컬 → Redis → DB 순)
+   *
+   * @param contentId 조회할 Content ID
+   * @param etag      현재 ETag (ContentService.getContentInfoValidator)
+   * @return UTF-8 JSON 바이트
+   */
+  public byte[] getSerializedContentInfo(UUID contentId, String etag) {
+    CachedResponse local = localCache.getIfPresent(contentId);
+    if (local != null && local.etag().equals(etag)) {
+      return local.body();
+    }
+
+    CachedResponse remote = readRemote(contentId);
+    if (remote != null && remote.etag().equals(etag)) {
+      localCache.put(contentId, remote);
+      return remote.body();
+    }
+
+    GetContentInfoResponse response = contentService.getContentInfo(contentId);
+    byte[] body = serialize(response);
+
+    if (response.getContent() != null && response.getContent().getStatus() == ContentStatus.COMPLETED) {
+      CachedResponse cachedResponse = new CachedResponse(etag, body);
+      localCache.put(contentId, cachedResponse);
+      writeRemote(contentId, cachedResponse);
+    }
+    return body;
+  }
+
+  /**
+   * Content 상세 응답 캐시 제거 (트랜잭션 커밋 후 반영)
+   * - AI 콜백 재처리, Content 삭제 시 호출
+   * - 다른 인스턴스의 로컬 캐시는 ETag 불일치로 자동 무시됨
+   *
+   * @param contentId Content ID
+   */
+  public void evict(UUID contentId) {
+    TransactionUtil.runAfterCommit(() -> {
+      localCache.invalidate(contentId);
+      try {
+        stringRedisTemplate.delete(CACHE_KEY_PREFIX + contentId);
+      } catch (RuntimeException e) {
+        log.warn("[ContentInfoCache] Redis 캐시 제거 실패 - contentId={}, error={}", contentId, e.getMessage());
+      }
+    });
+  }
+
+  private byte[] serialize(GetContentInfoResponse response) {
+    try {
+      return responseMapper.writeValueAsBytes(response);
+    } catch (JsonProcessingException e) {
+      log.error("Failed to serialize content info response", e);
+      throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  private CachedResponse readRemote(UUID contentId) {
+    try {
+      String value = stringRedisTemplate.opsForValue().get(CACHE_KEY_PREFIX + contentId);
+      if (value == null) {
+        return null;
+      }
+      int index = value.indexOf(ETAG_DELIMITER);
+      if (index < 0) {
+        return null;
+      }
+      return new CachedResponse(
+          value.substring(0, index),
+          value.substring(index + 1).getBytes(StandardCharsets.UTF_8));
+    } catch (RuntimeException e) {
+      log.warn("[ContentInfoCache] Redis 조회 실패 - contentId={}, error={}", contentId, e.getMessage());
+      return null;
+    }
+  }
+
+  private void writeRemote(UUID contentId, CachedResponse cachedResponse) {
+    try {
+      stringRedisTemplate.opsForValue().set(
+          CACHE_KEY_PREFIX + contentId,
+          cachedResponse.etag() + ETAG_DELIMITER + new String(cachedResponse.body(), StandardCharsets.UTF_8),
+          REMOTE_TTL);
+    } catch (RuntimeException e) {
+      log.warn("[ContentInfoCache] Redis 저장 실패 - contentId={}, error={}", contentId, e.getMessage());
+    }
+  }
+
+  private record CachedResponse(String etag, byte[] body) {
+  }
+}
@@ -0,0 +1,79 @@
+package kr.suhsaechan.mapsy.sns.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import kr.suhsaechan.mapsy.member.constant.TargetType;
+import kr.suhsaechan.mapsy.member.dto.NotificationDispatchResult;
+import kr.suhsaechan.mapsy.member.service.NotificationService;
+import kr.suhsaechan.mapsy.sns.repository.ContentMemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Content 분석 완료 알림 수신 회원 관리
+ * - 콜백 트랜잭션에서 notified=false 회원을 잠그고 notified=true로 선점 (중복 콜백의 중복 전송 방지)
+ * - 전송 완료 후 한 트랜잭션에서 전송 실패 회원의 선점 해제와 알림함 저장
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ContentNotificationService {
+
+  public static final String CONTENT_COMPLETE_TYPE = "CONTENT_COMPLETE";
+
+  private final ContentMemberRepository contentMemberRepository;
+  private final NotificationService notificationService;
+
+  /**
+   * 알림 미전송 회원 선점 (호출자 트랜잭션에서 실행, 커밋 후 전송)
+   *
+   * @param contentId Content ID
+   * @return 이번 콜백에서 알림을 전송할 회원 ID 목록
+   */
+  @Transactional
+  public List<UUID> claimRecipients(UUID contentId) {
+    List<UUID> memberIds = contentMemberRepository.lockUnnotifiedMemberIds(contentId);
+    if (!memberIds.isEmpty()) {
+      contentMemberRepository.markNotified(contentId, memberIds);
+    }
+    return memberIds;
+  }
+
+  /**
+   * 알림 전송 결과 반영 (한 기기에도 전송하지 못한 회원은 다음 콜백에서 재전송)
+   * - 1개 이상의 기기에 전송한 회원과 토큰이 없는 회원은 알림함에 알림 저장
+   * - 나머지 회원은 선점 해제 (notified=false)
+   * - 전송이 즉시 끝나면 콜백 스레드의 커밋 후 단계에서 호출되므로 항상 새 트랜잭션에서 실행
+   *
+   * @param contentId Content ID
+   * @param memberIds 선점한 회원 ID 목록
+   * @param title     알림 제목
+   * @param body      알림 본문
+   * @param result    알림 전송 결과
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void settleRecipients(
+      UUID contentId, Collection<UUID> memberIds, String title, String body, NotificationDispatchResult result) {
+    List<UUID> notifiedMemberIds = memberIds.stream()
+        .filter(memberId -> result.deliveredMemberIds().contains(memberId)
+            || result.noTokenMemberIds().contains(memberId))
+        .toList();
+    List<UUID> failedMemberIds = memberIds.stream()
+        .filter(memberId -> !notifiedMemberIds.contains(memberId))
+        .toList();
+
+    if (!failedMemberIds.isEmpty()) {
+      contentMemberRepository.releaseNotified(contentId, failedMemberIds);
+    }
+    notificationService.recordNotifications(
+        notifiedMemberIds, CONTENT_COMPLETE_TYPE, title, body, TargetType.CONTENT, contentId);
+
+    log.info("Content complete notifications sent: {}/{} succeeded for contentId={} (delivered={}, noToken={})",
+        notifiedMemberIds.size(), memberIds.size(), contentId,
+        result.deliveredMemberIds().size(), result.noTokenMemberIds().size());
+  }
+}
@@ -8,6 +8,8 @@ import kr.suhsaechan.mapsy.common.exception.CustomException;
 import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
 import kr.suhsaechan.mapsy.common.constant.ContentStatus;
 import kr.suhsaechan.mapsy.common.util.CommonUtil;
+import kr.suhsaechan.mapsy.common.util.KeysetCursor;
+import kr.suhsaechan.mapsy.common.util.ResourceValidator;
 import kr.suhsaechan.mapsy.member.entity.Member;
 import kr.suhsaechan.mapsy.member.repository.MemberRepository;
 import kr.suhsaechan.mapsy.place.dto.PlaceDto;
@@ -18,17 +20,13 @@ import kr.suhsaechan.mapsy.sns.entity.ContentPlace;
 import kr.suhsaechan.mapsy.sns.repository.ContentMemberRepository;
 import kr.suhsaechan.mapsy.sns.repository.ContentPlaceRepository;
 import kr.suhsaechan.mapsy.sns.repository.ContentRepository;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
@@ -40,6 +38,8 @@ public class ContentService {
 
   private static final int MAX_URL_LENGTH = 2048;
   private static final int MAX_PHOTO_URLS_PER_PLACE = 10;
+  private static final int MAX_PAGE_SIZE = 50;
+  private static final int MAX_SAVED_PLACES = 10;
 
   private final ContentRepository contentRepository;
   private final ContentMemberRepository contentMemberRepository;
@@ -47,6 +47,7 @@ public class ContentService {
   private final MemberRepository memberRepository;
   private final AiServerService aiServerService;
   private final CommonUtil commonUtil;
+  private final RecentContentTimelineService recentContentTimelineService;
 
   /**
    * 클라이언트로부터 장소 추출 요청 처리
@@ -86,6 +87,7 @@ public class ContentService {
             .notified(true)  // 이미 완료된 Content이므로 알림 불필요
             .build();
         contentMemberRepository.save(contentMember);
+        recentContentTimelineService.push(memberId, content.getId(), contentMember.getCreatedAt());
         log.info("Created ContentMember for existing completed Content: contentId={}, memberId={}", content.getId(), memberId);
       }
 
@@ -109,6 +111,7 @@ public class ContentService {
 
     // Content 저장
     Content savedContent = contentRepository.save(content);
+    recentContentTimelineService.evictContent(savedContent.getId());
 
     // ContentMember 생성 (중복 방지)
     if (!contentMemberRepository.existsByContentAndMember(savedContent, member)) {
@@ -118,6 +121,7 @@ public class ContentService {
           .notified(false)  // 분석 완료시 알림 전송 필요
           .build();
       contentMemberRepository.save(contentMember);
+      recentContentTimelineService.push(memberId, savedContent.getId(), contentMember.getCreatedAt());
       log.info("Created ContentMember: contentId={}, memberId={}", savedContent.getId(), memberId);
     } else {
       log.info("ContentMember already exists: contentId={}, memberId={}", savedContent.getId(), memberId);
@@ -196,116 +200,119 @@ public class ContentService {
   }
 
   /**
-   * Member가 소유한 Content 목록 조회 (최신순)
-   * - ContentMember를 통해 Member ID로 Content 페이지를 조회합니다.
-   * - createdAt 기준 내림차순 정렬 (최신순)
-   * - Place 정보는 제외하고 Content 정보만 반환
+   * Content 상세 조회 조건부 요청 검증자 조회
+   * - Content 수정 시각, 연결된 Place 최신 수정 시각, 연결 Place 수로 계산 (단일 인덱스 조회)
+   *
+   * @param contentId 조회할 Content ID
+   * @return ETag / Last-Modified 검증자
+   */
+  @Transactional(readOnly = true)
+  public ResourceValidator getContentInfoValidator(UUID contentId) {
+    return contentRepository.findContentInfoVersion(contentId)
+        .map(ContentInfoVersionRow::toValidator)
+        .orElseThrow(() -> {
+          log.error("Content not found: contentId={}", contentId);
+          return new CustomException(ErrorCode.CONTENT_NOT_FOUND);
+        });
+  }
+
+  /**
+   * Member가 소유한 Content 목록 조회 (최신순, Keyset 페이지네이션)
+   * - ContentMember (createdAt, id) 기준 내림차순 정렬 (최신 저장순)
+   * - cursor가 없으면 첫 페이지, 있으면 커서 이후 페이지 조회
+   * - Place 정보는 제외하고 Content 정보만 Projection으로 조회
+   * - pageSize + 1개를 조회하여 다음 페이지 존재 여부 판단
    *
    * @param memberId 회원 ID
+   * @param cursor   이전 응답의 nextCursor (첫 페이지면 null)
    * @param pageSize 페이지 크기
-   * @return Content 페이지 (ContentDto)
+   * @return Content 목록 및 다음 페이지 커서
    */
   @Transactional(readOnly = true)
-  public Page<ContentDto> getMemberContentPage(UUID memberId, int pageSize) {
-    // Pageable 생성 (0번 페이지, createdAt 내림차순)
-    Pageable pageable = PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt"));
-
-    // ContentMember를 통해 Member ID로 Content 조회
-    List<ContentMember> contentMembers = contentMemberRepository.findByMemberId(memberId);
-
-    // ContentMember에서 Content 추출 및 DTO 변환
-    List<ContentDto> contentDtos = contentMembers.stream()
-        .map(ContentMember::getContent)
-        .sorted((c1, c2) -> c2.getCreatedAt().compareTo(c1.getCreatedAt()))  // 최신순 정렬
-        .limit(pageSize)
-        .map(ContentDto::from)
-        .collect(Collectors.toList());
+  public GetMemberContentPageResponse getMemberContentPage(UUID memberId, String cursor, int pageSize) {
+    int size = Math.clamp(pageSize, 1, MAX_PAGE_SIZE);
+    KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+    Limit limit = Limit.of(size + 1);
+
+    // ContentMember 인덱스 (member_id, created_at DESC, id DESC)를 따라 pageSize + 1개만 조회
+    List<MemberContentRow> rows = keysetCursor == null
+        ? contentMemberRepository.findMemberContentRows(memberId, limit)
+        : contentMemberRepository.findMemberContentRowsAfter(
+            memberId, keysetCursor.createdAt(), keysetCursor.id(), limit);
+
+    boolean hasNext = rows.size() > size;
+    List<MemberContentRow> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+    List<ContentDto> contentDtos = pageRows.stream()
+        .map(MemberContentRow::toContentDto)
+        .toList();
 
-    log.info("Found {} contents for memberId={}, pageSize={}",
-        contentDtos.size(), memberId, pageSize);
+    String nextCursor = hasNext
+        ? pageRows.get(pageRows.size() - 1).toCursor().encode()
+        : null;
 
-    // PageImpl로 변환하여 반환
-    return new org.springframework.data.domain.PageImpl<>(contentDtos, pageable, contentDtos.size());
+    log.info("Found {} contents for memberId={}, pageSize={}, hasNext={}",
+        contentDtos.size(), memberId, size, hasNext);
+
+    return GetMemberContentPageResponse.builder()
+        .contents(contentDtos)
+        .nextCursor(nextCursor)
+        .hasNext(hasNext)
+        .build();
   }
 
   /**
    * 메인 화면 - 최근 SNS 콘텐츠 목록 조회
-   * - ContentMember를 통해 회원이 요청한 Content 조회
+   * - Redis 타임라인(ZREVRANGE) + ContentDto 캐시(MGET)로 조회
+   * - 캐시 미스 시 ContentMember 최신순 Projection으로 조회 후 타임라인 재구성
    */
   @Transactional(readOnly = true)
   public GetRecentContentResponse getRecentContents(UUID memberId) {
 
-    // 회원 존재 여부 확인
-    memberRepository.findById(memberId)
-        .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
-
     log.info("[Content] 최근 SNS 콘텐츠 조회 - memberId={}", memberId);
 
-    // ContentMember를 통해 최근 10개의 SNS 콘텐츠 조회
-    List<ContentMember> contentMembers = contentMemberRepository.findByMemberId(memberId);
+    List<ContentDto> cachedContents = recentContentTimelineService.findRecentContents(memberId);
+    if (cachedContents != null) {
+      return GetRecentContentResponse.builder()
+          .contents(cachedContents)
+          .build();
+    }
 
-    List<Content> contents = contentMembers.stream()
-        .map(ContentMember::getContent)
-        .sorted((c1, c2) -> c2.getCreatedAt().compareTo(c1.getCreatedAt()))
-        .limit(10)
-        .collect(Collectors.toList());
+    // 회원 존재 여부 확인
+    if (!memberRepository.existsById(memberId)) {
+      throw new CustomException(ErrorCode.MEMBER_NOT_FOUND);
+    }
+
+    // ContentMember 인덱스 (member_id, created_at DESC, id DESC)를 따라 최근 10개만 조회
+    List<MemberContentRow> rows = contentMemberRepository.findMemberContentRows(
+        memberId, Limit.of(RecentContentTimelineService.RECENT_CONTENT_SIZE));
+
+    recentContentTimelineService.rebuild(memberId, rows);
 
     return GetRecentContentResponse.builder()
-        .contents(contents.stream()
-            .map(ContentDto::from)
+        .contents(rows.stream()
+            .map(MemberContentRow::toContentDto)
             .toList())
         .build();
   }
 
   /**
    * 사용자별 저장한 장소 목록 조회 (최신순 최대 10개)
-   * - ContentMember를 통해 회원의 Content를 조회하고, 연관된 Place 반환
+   * - content_member → content_place → place 단일 쿼리로 정렬/제한 및 사진 URL 슬라이싱까지 DB에서 처리
    */
   @Transactional(readOnly = true)
   public List<PlaceDto> getSavedPlaces(UUID memberId) {
     // 회원 존재 여부 확인
-    Member member = memberRepository.findById(memberId)
-        .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
-
-    log.info("[Place] 저장 장소 목록 조회 - memberId={}", member.getId());
-
-    // ContentMember를 통해 회원의 Content ID 목록 조회
-    List<ContentMember> contentMembers = contentMemberRepository.findByMemberId(memberId);
-
-    List<UUID> contentIds = contentMembers.stream()
-        .map(cm -> cm.getContent().getId())
-        .collect(Collectors.toList());
-
-    // Content ID 목록으로 ContentPlace 조회
-    List<ContentPlace> contentPlaces = contentIds.stream()
-        .flatMap(contentId -> contentPlaceRepository.findByContentIdWithPlace(contentId).stream())
-        .sorted((cp1, cp2) -> cp2.getCreatedAt().compareTo(cp1.getCreatedAt()))
-        .limit(10)
-        .collect(Collectors.toList());
+    if (!memberRepository.existsById(memberId)) {
+      throw new CustomException(ErrorCode.MEMBER_NOT_FOUND);
+    }
 
-    // ContentPlace → Place 추출
-    List<Place> places = contentPlaces.stream()
-        .map(ContentPlace::getPlace)
-        .toList();
+    log.info("[Place] 저장 장소 목록 조회 - memberId={}", memberId);
 
-    // Entity → DTO 변환
-    return places.stream()
-        .map(place -> PlaceDto.builder()
-            .placeId(place.getId())
-            .name(place.getName())
-            .address(place.getAddress())
-            .rating(place.getRating())
-            .userRatingsTotal(place.getUserRatingsTotal())
-            .photoUrls(
-                Optional.ofNullable(place.getPhotoUrls())
-                    .map(urls -> urls.size() > MAX_PHOTO_URLS_PER_PLACE
-                        ? urls.subList(0, MAX_PHOTO_URLS_PER_PLACE)
-                        : urls)
-                    .orElse(Collections.emptyList())
-            )
-            .description(place.getDescription())
-            .build()
-        )
+    return contentPlaceRepository.findSavedPlaceRowsByMemberId(
+            memberId, MAX_PHOTO_URLS_PER_PLACE, Limit.of(MAX_SAVED_PLACES))
+        .stream()
+        .map(SavedPlaceRow::toPlaceDto)
         .toList();
   }
 }
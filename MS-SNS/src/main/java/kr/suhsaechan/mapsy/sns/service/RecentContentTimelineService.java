@@ -0,0 +1,192 @@
+package kr.suhsaechan.mapsy.sns.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.suhsaechan.mapsy.common.util.TransactionUtil;
+import kr.suhsaechan.mapsy.sns.dto.ContentDto;
+import kr.suhsaechan.mapsy.sns.dto.MemberContentRow;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 메인 화면 최근 콘텐츠 타임라인 (Redis)
+ * - RC:{memberId} : ContentMember 생성 시각을 score로 하는 Content ID Sorted Set
+ * - CT:{contentId} : ContentDto JSON 캐시 (MGET으로 일괄 조회)
+ * - 콘텐츠가 없는 회원은 빈 표시(EMPTY_MARKER, score 0)만 담은 타임라인으로 캐싱 (매 조회마다 DB 재조회 방지)
+ * - Redis 장애 시 예외를 전파하지 않고 캐시 미스로 처리 (DB 조회로 대체)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RecentContentTimelineService {
+
+  public static final int RECENT_CONTENT_SIZE = 10;
+
+  private static final String TIMELINE_KEY_PREFIX = "RC:";
+  private static final String CONTENT_KEY_PREFIX = "CT:";
+  private static final int TIMELINE_CAPACITY = 20;
+  private static final Duration TIMELINE_TTL = Duration.ofDays(7);
+  private static final Duration CONTENT_TTL = Duration.ofHours(6);
+  private static final String EMPTY_MARKER = "-";
+
+  /**
+   * 타임라인이 이미 존재할 때만 Content ID 추가 후 capacity 초과분 제거
+   * - 빈 표시는 score가 가장 낮아 capacity를 넘으면 먼저 제거됨 (그 전까지는 조회 시 제외)
+   * - 키가 없으면 추가하지 않음 (부분 타임라인이 완전한 목록으로 오인되는 것 방지, 다음 조회 시 DB에서 재구성)
+   */
+  private static final RedisScript<Long> PUSH_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('EXISTS', KEYS[1]) == 1 then "
+          + "redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2]); "
+          + "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[3]) + 1)); "
+          + "redis.call('PEXPIRE', KEYS[1], ARGV[4]); "
+          + "return 1 end "
+          + "return 0",
+      Long.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 타임라인에서 최근 콘텐츠 조회 (ZREVRANGE 1회 + MGET 1회)
+   *
+   * @param memberId 회원 ID
+   * @return 최근 콘텐츠 목록 (빈 표시만 있으면 빈 목록, 타임라인이 없거나 일부 캐시가 비어있으면 null)
+   */
+  public List<ContentDto> findRecentContents(UUID memberId) {
+    try {
+      // 빈 표시가 섞여도 RECENT_CONTENT_SIZE개를 채우도록 1개 더 조회 후 제외
+      Set<String> contentIds = stringRedisTemplate.opsForZSet()
+          .reverseRange(timelineKey(memberId), 0, RECENT_CONTENT_SIZE);
+      if (contentIds == null || contentIds.isEmpty()) {
+        return null;
+      }
+
+      List<String> contentKeys = contentIds.stream()
+          .filter(contentId -> !EMPTY_MARKER.equals(contentId))
+          .limit(RECENT_CONTENT_SIZE)
+          .map(RecentContentTimelineService::contentKey)
+          .toList();
+      if (contentKeys.isEmpty()) {
+        return List.of();
+      }
+      List<String> payloads = stringRedisTemplate.opsForValue().multiGet(contentKeys);
+      if (payloads == null || payloads.contains(null)) {
+        log.debug("[Timeline] ContentDto 캐시 누락 - memberId={}", memberId);
+        return null;
+      }
+
+      List<ContentDto> contents = new ArrayList<>(payloads.size());
+      for (String payload : payloads) {
+        contents.add(objectMapper.readValue(payload, ContentDto.class));
+      }
+      return contents;
+    } catch (JsonProcessingException | RuntimeException e) {
+      log.warn("[Timeline] 최근 콘텐츠 캐시 조회 실패 - memberId={}, error={}", memberId, e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * DB 조회 결과로 타임라인 및 ContentDto 캐시 재구성
+   * - 기존 타임라인과 합친 뒤 capacity 초과분 제거 (ZREMRANGEBYRANK)
+   * - 조회 결과가 없으면 빈 표시만 저장
+   *
+   * @param memberId 회원 ID
+   * @param rows     ContentMember 최신순 조회 결과
+   */
+  public void rebuild(UUID memberId, List<MemberContentRow> rows) {
+    try {
+      String timelineKey = timelineKey(memberId);
+      Set<TypedTuple<String>> tuples = new HashSet<>();
+      for (MemberContentRow row : rows) {
+        tuples.add(TypedTuple.of(row.id().toString(), toScore(row.contentMemberCreatedAt())));
+        cacheContent(row.toContentDto());
+      }
+      if (tuples.isEmpty()) {
+        tuples.add(TypedTuple.of(EMPTY_MARKER, 0.0));
+      }
+      stringRedisTemplate.opsForZSet().add(timelineKey, tuples);
+      stringRedisTemplate.opsForZSet().removeRange(timelineKey, 0, -(TIMELINE_CAPACITY + 1));
+      stringRedisTemplate.expire(timelineKey, TIMELINE_TTL);
+      log.debug("[Timeline] 타임라인 재구성 - memberId={}, size={}", memberId, rows.size());
+    } catch (RuntimeException e) {
+      log.warn("[Timeline] 타임라인 재구성 실패 - memberId={}, error={}", memberId, e.getMessage());
+    }
+  }
+
+  /**
+   * ContentMember 생성 시 타임라인에 Content 추가 (트랜잭션 커밋 후 반영)
+   *
+   * @param memberId  회원 ID
+   * @param contentId Content ID
+   * @param createdAt ContentMember 생성 시각
+   */
+  public void push(UUID memberId, UUID contentId, LocalDateTime createdAt) {
+    LocalDateTime savedAt = createdAt != null ? createdAt : LocalDateTime.now();
+    TransactionUtil.runAfterCommit(() -> {
+      try {
+        stringRedisTemplate.execute(
+            PUSH_IF_EXISTS_SCRIPT,
+            List.of(timelineKey(memberId)),
+            String.valueOf(toScore(savedAt)),
+            contentId.toString(),
+            String.valueOf(TIMELINE_CAPACITY),
+            String.valueOf(TIMELINE_TTL.toMillis()));
+      } catch (RuntimeException e) {
+        log.warn("[Timeline] 타임라인 추가 실패 - memberId={}, contentId={}, error={}",
+            memberId, contentId, e.getMessage());
+      }
+    });
+  }
+
+  /**
+   * Content 정보 변경 시 ContentDto 캐시 제거 (트랜잭션 커밋 후 반영)
+   *
+   * @param contentId Content ID
+   */
+  public void evictContent(UUID contentId) {
+    TransactionUtil.runAfterCommit(() -> {
+      try {
+        stringRedisTemplate.delete(contentKey(contentId));
+      } catch (RuntimeException e) {
+        log.warn("[Timeline] ContentDto 캐시 제거 실패 - contentId={}, error={}", contentId, e.getMessage());
+      }
+    });
+  }
+
+  private void cacheContent(ContentDto contentDto) {
+    try {
+      stringRedisTemplate.opsForValue().set(
+          contentKey(contentDto.getId()),
+          objectMapper.writeValueAsString(contentDto),
+          CONTENT_TTL);
+    } catch (JsonProcessingException e) {
+      log.warn("[Timeline] ContentDto 직렬화 실패 - contentId={}", contentDto.getId());
+    }
+  }
+
+  private static double toScore(LocalDateTime dateTime) {
+    return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+
+  private static String timelineKey(UUID memberId) {
+    return TIMELINE_KEY_PREFIX + memberId;
+  }
+
+  private static String contentKey(UUID contentId) {
+    return CONTENT_KEY_PREFIX + contentId;
+  }
+}
@@ -0,0 +1,44 @@
+package kr.suhsaechan.mapsy.web.config;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * JPA @Index로 표현할 수 없는 부분 인덱스 보장
+ * - Flyway는 JPA DDL(ddl-auto=update)보다 먼저 실행되므로, 빈 DB에서는 테이블이 없어 마이그레이션이 인덱스 생성을 건너뜀
+ * - JPA가 테이블을 생성한 뒤 시작 시점에 IF NOT EXISTS로 한 번 더 생성 (기존 DB에서는 마이그레이션으로 이미 존재하므로 변경 없음)
+ * - 마이그레이션: V0.3.5 (member_place), V0.3.12 (notification)
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class PartialIndexConfig {
+
+  private static final List<String> PARTIAL_INDEXES = List.of(
+      // 임시/저장 장소 목록 Keyset 페이지네이션
+      "CREATE INDEX IF NOT EXISTS idx_member_place_member_status_created "
+          + "ON public.member_place (member_id, saved_status, created_at DESC, id DESC) "
+          + "WHERE deleted_at IS NULL",
+      // 읽지 않은 알림 수
+      "CREATE INDEX IF NOT EXISTS idx_notification_recipient_unread "
+          + "ON public.notification (recipient_member_id) "
+          + "WHERE read_at IS NULL");
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void ensurePartialIndexes() {
+    for (String ddl : PARTIAL_INDEXES) {
+      try {
+        jdbcTemplate.execute(ddl);
+      } catch (RuntimeException e) {
+        log.error("[PartialIndex] 부분 인덱스 생성 실패 - ddl={}, error={}", ddl, e.getMessage(), e);
+      }
+    }
+  }
+}
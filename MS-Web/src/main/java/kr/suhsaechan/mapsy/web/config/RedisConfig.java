@@ -1,12 +1,20 @@
 package kr.suhsaechan.mapsy.web.config;
 
+import io.lettuce.core.metrics.MicrometerCommandLatencyRecorder;
+import io.lettuce.core.metrics.MicrometerOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.suhsaechan.mapsy.common.metrics.RedisCommandCountListener;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -22,11 +30,22 @@ public class RedisConfig {
   @Value("${spring.data.redis.password:}")
   private String password;
 
+  /**
+   * Lettuce 클라이언트 리소스 설정
+   * - 명령별 지연 시간/횟수를 Micrometer로 기록 (lettuce.command.completion, lettuce.command.firstresponse)
+   */
+  @Bean(destroyMethod = "shutdown")
+  public ClientResources redisClientResources(MeterRegistry meterRegistry) {
+    return ClientResources.builder()
+        .commandLatencyRecorder(new MicrometerCommandLatencyRecorder(meterRegistry, MicrometerOptions.create()))
+        .build();
+  }
+
   /**
    * Redis 연결 팩토리 설정
    */
   @Bean
-  public RedisConnectionFactory redisConnectionFactory() {
+  public RedisConnectionFactory redisConnectionFactory(ClientResources redisClientResources) {
     RedisStandaloneConfiguration config = new RedisStandaloneConfiguration();
     config.setHostName(host);
     config.setPort(port);
@@ -36,7 +55,22 @@ public class RedisConfig {
       config.setPassword(password);
     }
 
-    return new LettuceConnectionFactory(config);
+    LettuceClientConfiguration clientConfig = LettuceClientConfiguration.builder()
+        .clientResources(redisClientResources)
+        .build();
+    return new LettuceConnectionFactory(config, clientConfig);
+  }
+
+  /**
+   * 요청당 Redis 명령 수 집계 리스너 등록 (연결 팩토리 초기화 후 Lettuce 클라이언트에 추가)
+   */
+  @Bean
+  public SmartInitializingSingleton redisCommandCountListenerRegistrar(RedisConnectionFactory connectionFactory) {
+    return () -> {
+      if (connectionFactory instanceof LettuceConnectionFactory lettuceConnectionFactory) {
+        lettuceConnectionFactory.getRequiredNativeClient().addListener(new RedisCommandCountListener());
+      }
+    };
   }
 
   /**
@@ -58,4 +92,13 @@ public class RedisConfig {
     template.afterPropertiesSet();
     return template;
   }
+
+  /**
+   * StringRedisTemplate 설정
+   * - 문자열 키/값 전용 (Sorted Set 타임라인, JSON 문자열 캐시 등)
+   */
+  @Bean
+  public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
+    return new StringRedisTemplate(connectionFactory);
+  }
 }
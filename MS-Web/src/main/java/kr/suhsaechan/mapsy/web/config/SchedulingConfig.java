@@ -0,0 +1,14 @@
+package kr.suhsaechan.mapsy.web.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄 작업 활성화
+ * - 다중 인스턴스 중복 실행 방지는 각 작업에서 JobLeaseManager로 처리
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
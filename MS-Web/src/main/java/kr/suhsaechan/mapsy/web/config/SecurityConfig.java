@@ -1,12 +1,15 @@
 package kr.suhsaechan.mapsy.web.config;
 
 import kr.suhsaechan.mapsy.auth.constant.SecurityUrl;
+import kr.suhsaechan.mapsy.auth.filter.MetricsScrapeTokenFilter;
 import kr.suhsaechan.mapsy.auth.filter.TokenAuthenticationFilter;
 import kr.suhsaechan.mapsy.auth.jwt.JwtUtil;
 import kr.suhsaechan.mapsy.auth.service.CustomUserDetailsService;
+import kr.suhsaechan.mapsy.common.properties.MetricsScrapeProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -29,11 +32,36 @@ import java.util.Collections;
 public class SecurityConfig {
 
   private final JwtUtil jwtUtil;
+  private final MetricsScrapeProperties metricsScrapeProperties;
+
+  /**
+   * Actuator Security Filter Chain 설정
+   * - 헬스 체크는 공개, 나머지(prometheus 등)는 메트릭 수집 토큰(metrics.scrape.token) 인증
+   */
+  @Bean
+  @Order(1)
+  public SecurityFilterChain actuatorFilterChain(HttpSecurity http) throws Exception {
+    return http.securityMatcher(SecurityUrl.ACTUATOR_PATTERN)
+        .csrf(AbstractHttpConfigurer::disable)
+        .httpBasic(AbstractHttpConfigurer::disable)
+        .formLogin(AbstractHttpConfigurer::disable)
+        .authorizeHttpRequests(
+            (authorize) ->
+                authorize.requestMatchers("/actuator/health", "/actuator/health/**")
+                    .permitAll()
+                    .anyRequest()
+                    .hasRole(MetricsScrapeTokenFilter.ROLE))
+        .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+        .addFilterBefore(new MetricsScrapeTokenFilter(metricsScrapeProperties.getToken()),
+            UsernamePasswordAuthenticationFilter.class)
+        .build();
+  }
 
   /**
    * Security Filter Chain 설정
    */
   @Bean
+  @Order(2)
   public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
     return http.cors(cors -> cors.configurationSource(corsConfigurationSource()))
         .csrf(AbstractHttpConfigurer::disable)
@@ -43,6 +71,8 @@ public class SecurityConfig {
             (authorize) ->
                 authorize.requestMatchers(SecurityUrl.AUTH_WHITELIST.toArray(new String[0]))
                     .permitAll() // AUTH_WHITELIST URL 인증 ByPass
+                    .requestMatchers(SecurityUrl.ADMIN_PATTERNS.toArray(new String[0]))
+                    .hasRole("ADMIN") // 관리자 전용 API
                     .anyRequest()
                     .authenticated())
         .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
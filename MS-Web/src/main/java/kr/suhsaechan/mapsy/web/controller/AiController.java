@@ -7,6 +7,8 @@ import kr.suhsaechan.mapsy.common.exception.constant.ErrorCode;
 import kr.suhsaechan.mapsy.common.properties.AiServerProperties;
 import kr.suhsaechan.mapsy.common.util.CommonUtil;
 import kr.suhsaechan.mapsy.sns.service.AiCallbackService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.*;
 
 /**
  * AI 서버 Webhook Callback을 처리하는 컨트롤러
+ * - 콜백 전체 처리 시간(mapsy.ai.callback)은 트랜잭션 커밋까지 포함하도록 서비스 호출 바깥에서 기록
  */
 @RestController
 @RequiredArgsConstructor
@@ -27,6 +30,7 @@ public class AiController implements AiControllerDocs {
   private final AiCallbackService aiCallbackService;
   private final AiServerProperties aiServerProperties;
   private final CommonUtil commonUtil;
+  private final MeterRegistry meterRegistry;
 
   @PostMapping("/callback")
   @Override
@@ -42,6 +46,14 @@ public class AiController implements AiControllerDocs {
       throw new CustomException(ErrorCode.INVALID_API_KEY);
     }
 
-    return ResponseEntity.ok(aiCallbackService.processAiServerCallback(request));
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String result = "INVALID";
+    try {
+      AiCallbackResponse response = aiCallbackService.processAiServerCallback(request);
+      result = request.getResultStatus();
+      return ResponseEntity.ok(response);
+    } finally {
+      sample.stop(meterRegistry.timer(AiCallbackService.CALLBACK_METRIC, "result", result));
+    }
   }
 }
@@ -1,21 +1,21 @@
 package kr.suhsaechan.mapsy.web.controller;
 
 import kr.suhsaechan.mapsy.auth.dto.CustomUserDetails;
+import kr.suhsaechan.mapsy.common.util.ResourceValidator;
 import kr.suhsaechan.mapsy.place.dto.GetSavedPlacesResponse;
 import kr.suhsaechan.mapsy.place.dto.PlaceDto;
-import kr.suhsaechan.mapsy.sns.dto.ContentDto;
 import kr.suhsaechan.mapsy.sns.dto.GetRecentContentResponse;
-import kr.suhsaechan.mapsy.sns.dto.GetContentInfoResponse;
 import kr.suhsaechan.mapsy.sns.dto.GetMemberContentPageResponse;
 import kr.suhsaechan.mapsy.sns.dto.RequestPlaceExtractionRequest;
 import kr.suhsaechan.mapsy.sns.dto.RequestPlaceExtractionResponse;
+import kr.suhsaechan.mapsy.sns.service.ContentInfoResponseCacheService;
 import kr.suhsaechan.mapsy.sns.service.ContentService;
 import jakarta.validation.Valid;
 import java.util.UUID;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -25,6 +25,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -34,6 +35,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class ContentController implements ContentControllerDocs {
 
   private final ContentService contentService;
+  private final ContentInfoResponseCacheService contentInfoResponseCacheService;
 
   /**
    * 프론트에서 전달한 SNS URL을 받아 AI 서버에 장소 추출을 의뢰합니다.
@@ -53,40 +55,46 @@ public class ContentController implements ContentControllerDocs {
    * 단일 SNS 컨텐츠 정보 및 연관된 장소 목록 조회
    * - Content ID로 Content 정보와 연관된 Place 목록을 조회합니다.
    * - Place 목록은 position 순서대로 정렬되어 반환됩니다.
+   * - If-None-Match / If-Modified-Since 일치 시 본문 조회 없이 304 반환
+   * - COMPLETED Content는 직렬화된 응답 바이트 캐시에서 바로 응답
    */
   @GetMapping("/{contentId}")
   @Override
-  public ResponseEntity<GetContentInfoResponse> getContentInfo(
+  public ResponseEntity<byte[]> getContentInfo(
       @AuthenticationPrincipal CustomUserDetails userDetails,
-      @PathVariable UUID contentId
+      @PathVariable UUID contentId,
+      WebRequest webRequest
   ) {
-    GetContentInfoResponse response = contentService.getContentInfo(contentId);
-    return ResponseEntity.ok(response);
+    ResourceValidator validator = contentService.getContentInfoValidator(contentId);
+    if (webRequest.checkNotModified(validator.etag(), validator.lastModifiedMillis())) {
+      return null;
+    }
+
+    byte[] body = contentInfoResponseCacheService.getSerializedContentInfo(contentId, validator.etag());
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .eTag(validator.etag())
+        .lastModified(validator.lastModified())
+        .body(body);
   }
 
   /**
    * 회원의 Content 목록 조회
    * - 인증된 회원이 소유한 Content 목록을 최신순으로 조회합니다.
    * - Place 정보는 제외하고 Content 정보만 반환합니다.
+   * - cursor 기반 페이지네이션 (이전 응답의 nextCursor 전달)
    */
   @GetMapping("/member")
   @Override
   public ResponseEntity<GetMemberContentPageResponse> getMemberContentPage(
       @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam(required = false) String cursor,
       @RequestParam(required = false, defaultValue = "10") Integer pageSize
   ) {
     // Member ID 추출
     UUID memberId = userDetails.getMemberId();
 
-    // Service 호출
-    Page<ContentDto> contentPage = contentService.getMemberContentPage(memberId, pageSize);
-
-    // Response 생성
-    GetMemberContentPageResponse response = GetMemberContentPageResponse.builder()
-        .contentPage(contentPage)
-        .build();
-
-    return ResponseEntity.ok(response);
+    return ResponseEntity.ok(contentService.getMemberContentPage(memberId, cursor, pageSize));
   }
 
 
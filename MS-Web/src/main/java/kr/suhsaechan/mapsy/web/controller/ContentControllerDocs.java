@@ -9,6 +9,9 @@ import kr.suhsaechan.mapsy.place.dto.GetSavedPlacesResponse;
 import kr.suhsaechan.mapsy.sns.dto.GetRecentContentResponse;
 import kr.suhsaechan.mapsy.sns.dto.RequestPlaceExtractionResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import java.util.UUID;
 import kr.suhsaechan.suhapilog.annotation.ApiLog;
@@ -17,6 +20,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
 public interface ContentControllerDocs {
 
@@ -41,6 +45,8 @@ public interface ContentControllerDocs {
       @AuthenticationPrincipal CustomUserDetails userDetails,
       @Valid @RequestBody RequestPlaceExtractionRequest request);
 
+  @ApiLog(date = "2026.10.19", author = Author.SUHSAECHAN, issueNumber = 111, description = "COMPLETED 컨텐츠 직렬화 응답 캐시 적용")
+  @ApiLog(date = "2026.10.19", author = Author.SUHSAECHAN, issueNumber = 111, description = "단일 SNS 컨텐츠 조회 조건부 요청(ETag/Last-Modified) 지원")
   @ApiLog(date = "2025.11.23", author = Author.SUHSAECHAN, issueNumber = 111, description = "단일 SNS 컨텐츠 조회 API 추가")
   @Operation(summary = "단일 SNS 컨텐츠 정보 조회", description = """
               ## 인증(JWT): **필요**
@@ -68,46 +74,60 @@ public interface ContentControllerDocs {
               - Place 목록은 position 순서대로 정렬되어 반환됩니다.
               - Content가 존재하지 않으면 404 에러를 반환합니다.
               - 연관된 Place가 없는 경우 빈 배열을 반환합니다.
+
+              ## 조건부 요청
+              - 응답에 `ETag`, `Last-Modified` 헤더가 포함됩니다.
+              - 재조회 시 `If-None-Match`(ETag) 또는 `If-Modified-Since`를 전달하면 변경이 없을 때 본문 없이 `304 Not Modified`를 반환합니다.
+              - Content 또는 연관된 Place가 수정되거나 연관 Place 수가 바뀌면 ETag가 변경됩니다.
+
+              ## 캐시
+              - 분석이 완료된(COMPLETED) 콘텐츠는 직렬화된 응답이 서버 캐시에 저장되어 DB 조회 없이 반환됩니다.
+              - 캐시는 ETag가 일치할 때만 사용되므로 변경된 내용이 즉시 반영됩니다.
               """)
-  ResponseEntity<GetContentInfoResponse> getContentInfo(
+  @ApiResponse(responseCode = "200", content = @Content(
+      mediaType = "application/json",
+      schema = @Schema(implementation = GetContentInfoResponse.class)))
+  ResponseEntity<byte[]> getContentInfo(
       @AuthenticationPrincipal CustomUserDetails userDetails,
-      @PathVariable UUID contentId);
+      @PathVariable UUID contentId,
+      WebRequest webRequest);
 
+  @ApiLog(date = "2026.10.19", author = Author.SUHSAECHAN, issueNumber = 112, description = "회원 콘텐츠 목록 조회 Keyset(cursor) 페이지네이션 적용")
   @ApiLog(date = "2025.11.23", author = Author.SUHSAECHAN, issueNumber = 112, description = "Member가 소유한 Content 목록 조회 API 추가")
   @Operation(summary = "회원 콘텐츠 목록 조회", description = """
               ## 인증(JWT): **필요**
 
               ## 요청 파라미터
-              - **`pageSize`**: 페이지 크기 (Query Parameter, 선택, 기본값 10)
+              - **`cursor`**: 다음 페이지 커서 (Query Parameter, 선택, 이전 응답의 `nextCursor`)
+              - **`pageSize`**: 페이지 크기 (Query Parameter, 선택, 기본값 10, 최대 50)
 
               ## 반환값
-              - **`contentPage`**: Page<ContentDto>
-                - `content`: 콘텐츠 목록 (ContentDto 배열)
-                  - `id`: 콘텐츠 ID
-                  - `platform`: 플랫폼 유형 (INSTAGRAM, YOUTUBE 등)
-                  - `status`: 처리 상태 (PENDING, COMPLETED, FAILED 등)
-                  - `platformUploader`: 업로더 이름
-                  - `caption`: 캡션
-                  - `thumbnailUrl`: 썸네일 URL
-                  - `originalUrl`: 원본 SNS URL
-                  - `title`: 제목
-                  - `summary`: 요약 설명
-                  - `lastCheckedAt`: 마지막 확인 시각
-                - `totalElements`: 전체 콘텐츠 개수
-                - `totalPages`: 전체 페이지 수
-                - `number`: 현재 페이지 번호 (0부터 시작)
-                - `size`: 페이지 크기
-                - `first`: 첫 페이지 여부
-                - `last`: 마지막 페이지 여부
+              - **`contents`**: 콘텐츠 목록 (ContentDto 배열)
+                - `id`: 콘텐츠 ID
+                - `platform`: 플랫폼 유형 (INSTAGRAM, YOUTUBE 등)
+                - `status`: 처리 상태 (PENDING, COMPLETED, FAILED 등)
+                - `platformUploader`: 업로더 이름
+                - `caption`: 캡션
+                - `thumbnailUrl`: 썸네일 URL
+                - `originalUrl`: 원본 SNS URL
+                - `title`: 제목
+                - `summary`: 요약 설명
+                - `lastCheckedAt`: 마지막 확인 시각
+              - **`nextCursor`**: 다음 페이지 커서 (마지막 페이지면 null)
+              - **`hasNext`**: 다음 페이지 존재 여부
 
               ## 동작 방식
-              - 인증된 회원이 소유한 Content 목록을 최신순(createdAt DESC)으로 조회합니다.
+              - 인증된 회원이 소유한 Content 목록을 최신 저장순으로 조회합니다.
               - Place 정보는 제외하고 Content 정보만 반환합니다.
-              - 페이지 크기를 지정하지 않으면 기본 10개가 조회됩니다.
-              - 첫 페이지(0번 페이지)만 조회됩니다.
+              - `cursor` 없이 요청하면 첫 페이지, `nextCursor`를 전달하면 다음 페이지가 조회됩니다.
+              - 전체 개수(totalElements)는 제공하지 않습니다.
+
+              ## 에러코드
+              - **`INVALID_CURSOR`**: 유효하지 않은 페이지 커서입니다.
               """)
   ResponseEntity<GetMemberContentPageResponse> getMemberContentPage(
       @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam(required = false) String cursor,
       @RequestParam(required = false, defaultValue = "10") Integer pageSize);
 
 
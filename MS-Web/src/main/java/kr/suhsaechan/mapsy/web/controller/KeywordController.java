@@ -0,0 +1,92 @@
+package kr.suhsaechan.mapsy.web.controller;
+
+import kr.suhsaechan.mapsy.auth.dto.CustomUserDetails;
+import kr.suhsaechan.mapsy.place.constant.KeywordRankingType;
+import kr.suhsaechan.mapsy.place.dto.GetKeywordSuggestionsResponse;
+import kr.suhsaechan.mapsy.place.service.KeywordRankingSnapshotService;
+import kr.suhsaechan.mapsy.place.service.KeywordService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/api/keyword")
+public class KeywordController implements KeywordControllerDocs {
+
+  private final KeywordRankingSnapshotService keywordRankingSnapshotService;
+  private final KeywordService keywordService;
+
+  /**
+   * 트렌드 키워드 순위 조회
+   * - 미리 직렬화된 순위 스냅샷 페이지를 그대로 응답
+   * - cursor 기반 페이지네이션 (이전 응답의 nextCursor 전달)
+   */
+  @GetMapping("/trending")
+  @Override
+  public ResponseEntity<byte[]> getTrendingKeywords(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam(required = false) String cursor
+  ) {
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(keywordRankingSnapshotService.getSerializedPage(KeywordRankingType.TRENDING, cursor));
+  }
+
+  /**
+   * 인기 키워드 순위 조회
+   * - 미리 직렬화된 순위 스냅샷 페이지를 그대로 응답
+   * - cursor 기반 페이지네이션 (이전 응답의 nextCursor 전달)
+   */
+  @GetMapping("/popular")
+  @Override
+  public ResponseEntity<byte[]> getPopularKeywords(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam(required = false) String cursor
+  ) {
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(keywordRankingSnapshotService.getSerializedPage(KeywordRankingType.POPULAR, cursor));
+  }
+
+  /**
+   * 키워드 자동완성
+   * - 자모 분해 접두어 검색 및 초성 검색 (로컬 색인에서 응답)
+   */
+  @GetMapping("/autocomplete")
+  @Override
+  public ResponseEntity<GetKeywordSuggestionsResponse> autocompleteKeywords(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam String query,
+      @RequestParam(required = false, defaultValue = "0") Integer page,
+      @RequestParam(required = false, defaultValue = "10") Integer pageSize
+  ) {
+    return ResponseEntity.ok(GetKeywordSuggestionsResponse.builder()
+        .keywords(keywordService.searchKeywords(query, page, pageSize))
+        .build());
+  }
+
+  /**
+   * 키워드 포함 검색
+   * - 검색어가 포함된 키워드를 사용 횟수 순으로 조회, 결과가 없으면 유사 키워드로 대체
+   */
+  @GetMapping("/search")
+  @Override
+  public ResponseEntity<GetKeywordSuggestionsResponse> searchKeywords(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam String query,
+      @RequestParam(required = false, defaultValue = "0") Integer page,
+      @RequestParam(required = false, defaultValue = "20") Integer pageSize
+  ) {
+    return ResponseEntity.ok(GetKeywordSuggestionsResponse.builder()
+        .keywords(keywordService.searchKeywordsContaining(query, page, pageSize))
+        .build());
+  }
+}
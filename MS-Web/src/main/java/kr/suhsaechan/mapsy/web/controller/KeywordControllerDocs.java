@@ -0,0 +1,138 @@
+package kr.suhsaechan.mapsy.web.controller;
+
+import kr.suhsaechan.mapsy.auth.dto.CustomUserDetails;
+import kr.suhsaechan.mapsy.common.constant.Author;
+import kr.suhsaechan.mapsy.place.dto.GetKeywordRankingResponse;
+import kr.suhsaechan.mapsy.place.dto.GetKeywordSuggestionsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import kr.suhsaechan.suhapilog.annotation.ApiLog;
+import org.springframework.http.ResponseEntity;
+
+public interface KeywordControllerDocs {
+
+  @ApiLog(date = "2026.10.19", author = Author.SUHSAECHAN, issueNumber = 139, description = "트렌드 키워드 순위 스냅샷 조회 API 추가")
+  @Operation(summary = "트렌드 키워드 순위 조회", description = """
+              ## 인증(JWT): **필요**
+
+              ## 요청 파라미터
+              - **`cursor`**: 다음 페이지 커서 (Query Parameter, 선택, 이전 응답의 `nextCursor`)
+
+              ## 반환값 (GetKeywordRankingResponse)
+              - **`keywords`**: 키워드 순위 목록 (List<KeywordRankingDto>, 페이지당 20개)
+                - **`rank`**: 순위 (1부터 시작)
+                - **`keyword`**: 키워드
+                - **`count`**: 사용 횟수
+                - **`trendScore`**: 트렌드 점수 (24시간 급상승률)
+              - **`nextCursor`**: 다음 페이지 커서 (마지막 페이지면 null)
+              - **`hasNext`**: 다음 페이지 존재 여부
+
+              ## 특이사항
+              - 트렌드 점수 내림차순, 동점이면 사용 횟수 내림차순으로 정렬됩니다.
+              - 상위 500개 키워드를 매시 트렌드 점수 갱신 직후 미리 계산한 스냅샷에서 반환합니다.
+              - 커서에 스냅샷 버전이 포함되어 페이지 이동 중 스냅샷이 교체되어도 같은 순위 목록으로 이어서 조회됩니다.
+
+              ## 에러코드
+              - **`INVALID_CURSOR`**: 유효하지 않은 페이지 커서입니다.
+              """)
+  @ApiResponse(responseCode = "200", content = @Content(
+      mediaType = "application/json",
+      schema = @Schema(implementation = GetKeywordRankingResponse.class)))
+  ResponseEntity<byte[]> getTrendingKeywords(
+      CustomUserDetails userDetails,
+      String cursor
+  );
+
+  @ApiLog(date = "2026.10.19", author = Author.SUHSAECHAN, issueNumber = 139, description = "인기 키워드 순위 스냅샷 조회 API 추가")
+  @Operation(summary = "인기 키워드 순위 조회", description = """
+              ## 인증(JWT): **필요**
+
+              ## 요청 파라미터
+              - **`cursor`**: 다음 페이지 커서 (Query Parameter, 선택, 이전 응답의 `nextCursor`)
+
+              ## 반환값 (GetKeywordRankingResponse)
+              - **`keywords`**: 키워드 순위 목록 (List<KeywordRankingDto>, 페이지당 20개)
+                - **`rank`**: 순위 (1부터 시작)
+                - **`keyword`**: 키워드
+                - **`count`**: 사용 횟수
+                - **`trendScore`**: 트렌드 점수 (24시간 급상승률)
+              - **`nextCursor`**: 다음 페이지 커서 (마지막 페이지면 null)
+              - **`hasNext`**: 다음 페이지 존재 여부
+
+              ## 특이사항
+              - 사용 횟수 내림차순으로 정렬됩니다.
+              - 상위 500개 키워드를 5분마다 미리 계산한 스냅샷에서 반환합니다.
+              - 커서에 스냅샷 버전이 포함되어 페이지 이동 중 스냅샷이 교체되어도 같은 순위 목록으로 이어서 조회됩니다.
+
+              ## 에러코드
+              - **`INVALID_CURSOR`**: 유효하지 않은 페이지 커서입니다.
+              """)
+  @ApiResponse(responseCode = "200", content = @Content(
+      mediaType = "application/json",
+      schema = @Schema(implementation = GetKeywordRankingResponse.class)))
+  ResponseEntity<byte[]> getPopularKeywords(
+      CustomUserDetails userDetails,
+      String cursor
+  );
+
+  @ApiLog(date = "2026.10.19", author = Author.SUHSAECHAN, issueNumber = 146, description = "키워드 자동완성 API 추가")
+  @Operation(summary = "키워드 자동완성", description = """
+              ## 인증(JWT): **필요**
+
+              ## 요청 파라미터
+              - **`query`**: 입력 중인 검색어 (Query Parameter, 필수, 예: `강나`, `ㄱㄴㅋㅍ`)
+              - **`page`**: 페이지 번호 (Query Parameter, 선택, 기본값 0)
+              - **`pageSize`**: 페이지 크기 (Query Parameter, 선택, 기본값 10, 최대 100)
+
+              ## 반환값 (GetKeywordSuggestionsResponse)
+              - **`keywords`**: 키워드 목록 (List<KeywordSuggestionDto>, 사용 횟수 내림차순)
+                - **`keyword`**: 키워드
+                - **`count`**: 사용 횟수
+
+              ## 특이사항
+              - 입력 중인 글자를 포함한 접두어 검색을 지원합니다. (예: `강나` → `강남카페`)
+              - 초성만 입력하면 초성 검색을 합니다. (예: `ㄱㄴㅋㅍ` → `강남카페`)
+              - 첫 10개는 서버 메모리 색인에서 바로 응답하며, 이후 페이지는 DB에서 조회합니다.
+              - 사용 횟수는 최대 1분 지연되어 반영될 수 있습니다.
+
+              ## 에러코드
+              - **`KEYWORD_SEARCH_PAGE_OUT_OF_RANGE`**: 키워드 검색 결과는 상위 1000건까지만 조회할 수 있습니다.
+              """)
+  ResponseEntity<GetKeywordSuggestionsResponse> autocompleteKeywords(
+      CustomUserDetails userDetails,
+      String query,
+      Integer page,
+      Integer pageSize
+  );
+
+  @ApiLog(date = "2026.10.19", author = Author.SUHSAECHAN, issueNumber = 146, description = "키워드 포함 검색 API 추가")
+  @Operation(summary = "키워드 포함 검색", description = """
+              ## 인증(JWT): **필요**
+
+              ## 요청 파라미터
+              - **`query`**: 검색어 (Query Parameter, 필수, 키워드 중간 문자열도 검색)
+              - **`page`**: 페이지 번호 (Query Parameter, 선택, 기본값 0)
+              - **`pageSize`**: 페이지 크기 (Query Parameter, 선택, 기본값 20, 최대 100)
+
+              ## 반환값 (GetKeywordSuggestionsResponse)
+              - **`keywords`**: 키워드 목록 (List<KeywordSuggestionDto>, 사용 횟수 내림차순)
+                - **`keyword`**: 키워드
+                - **`count`**: 사용 횟수
+
+              ## 특이사항
+              - 검색어가 키워드 어디에 있어도 검색됩니다. (예: `카페` → `강남카페`, `카페투어`)
+              - 첫 페이지 결과가 없으면 철자가 비슷한 키워드를 유사도 순으로 반환합니다. (예: `강남카폐` → `강남카페`)
+              - `#`은 제거하고 대소문자를 구분하지 않습니다.
+
+              ## 에러코드
+              - **`KEYWORD_SEARCH_PAGE_OUT_OF_RANGE`**: 키워드 검색 결과는 상위 1000건까지만 조회할 수 있습니다.
+              """)
+  ResponseEntity<GetKeywordSuggestionsResponse> searchKeywords(
+      CustomUserDetails userDetails,
+      String query,
+      Integer page,
+      Integer pageSize
+  );
+}
@@ -0,0 +1,77 @@
+package kr.suhsaechan.mapsy.web.controller;
+
+import jakarta.validation.Valid;
+import kr.suhsaechan.mapsy.auth.dto.CustomUserDetails;
+import kr.suhsaechan.mapsy.member.dto.GetNotificationPageResponse;
+import kr.suhsaechan.mapsy.member.dto.NotificationUnreadCountResponse;
+import kr.suhsaechan.mapsy.member.dto.ReadNotificationsRequest;
+import kr.suhsaechan.mapsy.member.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/api/notification")
+public class NotificationController implements NotificationControllerDocs {
+
+  private final NotificationService notificationService;
+
+  /**
+   * 알림함 조회
+   * - 최신순, cursor 기반 페이지네이션 (이전 응답의 nextCursor 전달)
+   */
+  @GetMapping
+  @Override
+  public ResponseEntity<GetNotificationPageResponse> getNotifications(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false, defaultValue = "20") Integer pageSize
+  ) {
+    return ResponseEntity.ok(notificationService.getNotifications(userDetails.getMemberId(), cursor, pageSize));
+  }
+
+  /**
+   * 읽지 않은 알림 수 조회 (배지 표시용)
+   */
+  @GetMapping("/unread-count")
+  @Override
+  public ResponseEntity<NotificationUnreadCountResponse> getUnreadCount(
+      @AuthenticationPrincipal CustomUserDetails userDetails
+  ) {
+    return ResponseEntity.ok(notificationService.getUnreadCount(userDetails.getMemberId()));
+  }
+
+  /**
+   * 지정한 알림 읽음 처리
+   */
+  @PostMapping("/read")
+  @Override
+  public ResponseEntity<Void> readNotifications(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @Valid @RequestBody ReadNotificationsRequest request
+  ) {
+    notificationService.markAsRead(userDetails.getMemberId(), request.getNotificationIds());
+    return ResponseEntity.noContent().build();
+  }
+
+  /**
+   * 읽지 않은 알림 전체 읽음 처리
+   */
+  @PostMapping("/read-all")
+  @Override
+  public ResponseEntity<Void> readAllNotifications(
+      @AuthenticationPrincipal CustomUserDetails userDetails
+  ) {
+    notificationService.markAllAsRead(userDetails.getMemberId());
+    return ResponseEntity.noContent().build();
+  }
+}
@@ -0,0 +1,108 @@
+package kr.suhsaechan.mapsy.web.controller;
+
+import kr.suhsaechan.mapsy.auth.dto.CustomUserDetails;
+import kr.suhsaechan.mapsy.common.constant.Author;
+import kr.suhsaechan.mapsy.member.dto.GetNotificationPageResponse;
+import kr.suhsaechan.mapsy.member.dto.NotificationUnreadCountResponse;
+import kr.suhsaechan.mapsy.member.dto.ReadNotificationsRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import kr.suhsaechan.suhapilog.annotation.ApiLog;
+import org.springframework.http.ResponseEntity;
+
+public interface NotificationControllerDocs {
+
+  @ApiLog(date = "2026.10.19", author = Author.SUHSAECHAN, issueNumber = 144, description = "알림함 조회 API 추가")
+  @Operation(summary = "알림함 조회", description = """
+              ## 인증(JWT): **필요**
+
+              ## 요청 파라미터
+              - **`cursor`**: 다음 페이지 커서 (Query Parameter, 선택, 이전 응답의 `nextCursor`)
+              - **`pageSize`**: 페이지 크기 (Query Parameter, 선택, 기본값 20, 최대 50)
+
+              ## 반환값 (GetNotificationPageResponse)
+              - **`notifications`**: 알림 목록 (List<NotificationDto>, 최신순)
+                - **`notificationId`**: 알림 ID
+                - **`type`**: 알림 유형 (예: CONTENT_COMPLETE)
+                - **`title`**: 알림 제목
+                - **`body`**: 알림 본문
+                - **`targetType`**: 이동 대상 유형 (CONTENT, PLACE, FOLDER)
+                - **`targetId`**: 이동 대상 ID
+                - **`read`**: 읽음 여부
+                - **`readAt`**: 읽은 시각 (읽지 않았으면 null)
+                - **`createdAt`**: 알림 생성 시각
+              - **`nextCursor`**: 다음 페이지 커서 (마지막 페이지면 null)
+              - **`hasNext`**: 다음 페이지 존재 여부
+
+              ## 특이사항
+              - 푸시 알림이 발송될 때 함께 저장된 알림을 조회합니다. (푸시 토큰이 없는 회원도 저장됩니다.)
+
+              ## 에러코드
+              - **`INVALID_CURSOR`**: 유효하지 않은 페이지 커서입니다.
+              """)
+  ResponseEntity<GetNotificationPageResponse> getNotifications(
+      CustomUserDetails userDetails,
+      String cursor,
+      Integer pageSize
+  );
+
+  @ApiLog(date = "2026.10.19", author = Author.SUHSAECHAN, issueNumber = 144, description = "읽지 않은 알림 수 조회 API 추가")
+  @Operation(summary = "읽지 않은 알림 수 조회", description = """
+              ## 인증(JWT): **필요**
+
+              ## 요청 파라미터
+              - 없음
+
+              ## 반환값 (NotificationUnreadCountResponse)
+              - **`unreadCount`**: 읽지 않은 알림 수
+
+              ## 특이사항
+              - 배지 표시용으로 Redis 카운터에서 조회합니다.
+
+              ## 에러코드
+              - 없음
+              """)
+  ResponseEntity<NotificationUnreadCountResponse> getUnreadCount(
+      CustomUserDetails userDetails
+  );
+
+  @ApiLog(date = "2026.10.19", author = Author.SUHSAECHAN, issueNumber = 144, description = "알림 읽음 처리 API 추가")
+  @Operation(summary = "알림 읽음 처리", description = """
+              ## 인증(JWT): **필요**
+
+              ## 요청 파라미터 (ReadNotificationsRequest)
+              - **`notificationIds`**: 읽음 처리할 알림 ID 목록 (필수, 최대 100개)
+
+              ## 반환값
+              - 204 No Content
+
+              ## 특이사항
+              - 본인 알림 중 읽지 않은 알림만 읽음 처리합니다. (다른 회원의 알림 ID나 이미 읽은 알림은 무시)
+
+              ## 에러코드
+              - **`INVALID_INPUT_VALUE`**: 유효하지 않은 입력값입니다.
+              """)
+  ResponseEntity<Void> readNotifications(
+      CustomUserDetails userDetails,
+      ReadNotificationsRequest request
+  );
+
+  @ApiLog(date = "2026.10.19", author = Author.SUHSAECHAN, issueNumber = 144, description = "알림 전체 읽음 처리 API 추가")
+  @Operation(summary = "알림 전체 읽음 처리", description = """
+              ## 인증(JWT): **필요**
+
+              ## 요청 파라미터
+              - 없음
+
+              ## 반환값
+              - 204 No Content
+
+              ## 특이사항
+              - 읽지 않은 알림을 모두 읽음 처리하고 읽지 않은 알림 수를 0으로 초기화합니다.
+
+              ## 에러코드
+              - 없음
+              """)
+  ResponseEntity<Void> readAllNotifications(
+      CustomUserDetails userDetails
+  );
+}
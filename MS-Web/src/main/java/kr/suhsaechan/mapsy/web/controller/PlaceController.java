@@ -1,23 +1,41 @@
 package kr.suhsaechan.mapsy.web.controller;
 
 import kr.suhsaechan.mapsy.auth.dto.CustomUserDetails;
+import kr.suhsaechan.mapsy.common.util.ContentNegotiationUtil;
+import kr.suhsaechan.mapsy.common.util.ResourceValidator;
+import kr.suhsaechan.mapsy.place.constant.PlaceSavedStatus;
+import kr.suhsaechan.mapsy.place.dto.GetNearbyPlacesResponse;
+import kr.suhsaechan.mapsy.place.dto.GetPlaceClustersResponse;
 import kr.suhsaechan.mapsy.place.dto.GetSavedPlacesResponse;
 import kr.suhsaechan.mapsy.place.dto.GetTemporaryPlacesResponse;
 import kr.suhsaechan.mapsy.place.dto.PlaceDetailDto;
 import kr.suhsaechan.mapsy.place.dto.SavePlaceResponse;
+import kr.suhsaechan.mapsy.place.dto.SearchKeywordPlacesResponse;
+import kr.suhsaechan.mapsy.place.service.KeywordService;
+import kr.suhsaechan.mapsy.place.service.MemberPlaceMarkerService;
 import kr.suhsaechan.mapsy.place.service.MemberPlaceService;
+import kr.suhsaechan.mapsy.place.service.NearbyPlaceService;
 import kr.suhsaechan.mapsy.place.service.PlaceService;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -25,8 +43,17 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/place")
 public class PlaceController implements PlaceControllerDocs {
 
+  private static final MediaType PROTOBUF_MEDIA_TYPE =
+      MediaType.parseMediaType(MemberPlaceMarkerService.PROTOBUF_MEDIA_TYPE);
+
+  // 첫 번째 형식(JSON)이 기본 응답 형식
+  private static final List<MediaType> MARKER_MEDIA_TYPES = List.of(MediaType.APPLICATION_JSON, PROTOBUF_MEDIA_TYPE);
+
   private final PlaceService placeService;
   private final MemberPlaceService memberPlaceService;
+  private final KeywordService keywordService;
+  private final NearbyPlaceService nearbyPlaceService;
+  private final MemberPlaceMarkerService memberPlaceMarkerService;
 
   /**
    * 장소 세부정보 조회
@@ -34,31 +61,51 @@ public class PlaceController implements PlaceControllerDocs {
    * - Google Place ID 등 플랫폼 참조 정보
    * - 영업시간
    * - 추가 미디어
+   * - If-None-Match / If-Modified-Since 일치 시 본문 조회 없이 304 반환
    */
   @GetMapping("/{placeId}")
   @Override
   public ResponseEntity<PlaceDetailDto> getPlaceDetail(
       @AuthenticationPrincipal CustomUserDetails userDetails,
-      @PathVariable UUID placeId
+      @PathVariable UUID placeId,
+      WebRequest webRequest
   ) {
+    ResourceValidator validator = placeService.getPlaceDetailValidator(placeId);
+    boolean notModified = validator.hasEtag()
+        ? webRequest.checkNotModified(validator.etag(), validator.lastModifiedMillis())
+        : webRequest.checkNotModified(validator.lastModifiedMillis());
+    if (notModified) {
+      return null;
+    }
+
     PlaceDetailDto response = placeService.getPlaceDetail(placeId);
-    return ResponseEntity.ok(response);
+    ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+        .lastModified(validator.lastModified());
+    if (validator.hasEtag()) {
+      builder.eTag(validator.etag());
+    }
+    return builder.body(response);
   }
 
   /**
    * 임시 저장 장소 목록 조회
    * - AI 분석으로 자동 생성된 장소들
    * - 사용자가 아직 저장 여부를 결정하지 않은 상태
+   * - cursor 기반 페이지네이션 (이전 응답의 nextCursor 전달)
    */
   @GetMapping("/temporary")
   @Override
   public ResponseEntity<GetTemporaryPlacesResponse> getTemporaryPlaces(
-      @AuthenticationPrincipal CustomUserDetails userDetails
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false, defaultValue = "20") Integer pageSize
   ) {
     log.info("Get temporary places request from member: {}", userDetails.getMemberId());
 
     GetTemporaryPlacesResponse response = memberPlaceService.getTemporaryPlaces(
-        userDetails.getMemberId()
+        userDetails.getMemberId(),
+        cursor,
+        pageSize
     );
 
     return ResponseEntity.ok(response);
@@ -67,16 +114,21 @@ public class PlaceController implements PlaceControllerDocs {
   /**
    * 저장한 장소 목록 조회
    * - 사용자가 명시적으로 저장한 장소들
+   * - cursor 기반 페이지네이션 (이전 응답의 nextCursor 전달)
    */
   @GetMapping("/saved")
   @Override
   public ResponseEntity<GetSavedPlacesResponse> getSavedPlaces(
-      @AuthenticationPrincipal CustomUserDetails userDetails
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false, defaultValue = "20") Integer pageSize
   ) {
     log.info("Get saved places request from member: {}", userDetails.getMemberId());
 
     GetSavedPlacesResponse response = memberPlaceService.getSavedPlaces(
-        userDetails.getMemberId()
+        userDetails.getMemberId(),
+        cursor,
+        pageSize
     );
 
     return ResponseEntity.ok(response);
@@ -124,4 +176,147 @@ public class PlaceController implements PlaceControllerDocs {
 
     return ResponseEntity.noContent().build();
   }
+
+  /**
+   * 키워드 조합 장소 검색
+   * - all(AND) / any(OR) / not(NOT) 키워드 조합
+   * - 일치 키워드 수와 키워드 희소도 기준 관련도 순 정렬
+   */
+  @GetMapping("/search/keywords")
+  @Override
+  public ResponseEntity<SearchKeywordPlacesResponse> searchPlacesByKeywords(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam(required = false) List<String> all,
+      @RequestParam(required = false) List<String> any,
+      @RequestParam(required = false) List<String> not,
+      @RequestParam(required = false, defaultValue = "0") Integer page,
+      @RequestParam(required = false, defaultValue = "20") Integer pageSize
+  ) {
+    log.info("Search places by keywords request from member: {}", userDetails.getMemberId());
+
+    SearchKeywordPlacesResponse response = keywordService.searchPlacesByKeywords(
+        all,
+        any,
+        not,
+        page,
+        pageSize
+    );
+
+    return ResponseEntity.ok(response);
+  }
+
+  /**
+   * 반경 내 장소 조회
+   * - 중심 좌표에서 radius(m) 이내 장소를 가까운 순으로 조회
+   * - 업종, 최소 별점, 영업 중 필터
+   */
+  @GetMapping("/nearby")
+  @Override
+  public ResponseEntity<GetNearbyPlacesResponse> getNearbyPlaces(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam Double latitude,
+      @RequestParam Double longitude,
+      @RequestParam(required = false, defaultValue = "1000") Integer radius,
+      @RequestParam(required = false) String businessType,
+      @RequestParam(required = false) BigDecimal minRating,
+      @RequestParam(required = false, defaultValue = "false") Boolean openNow,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt,
+      @RequestParam(required = false, defaultValue = "50") Integer limit
+  ) {
+    GetNearbyPlacesResponse response = nearbyPlaceService.getPlacesWithinRadius(
+        latitude,
+        longitude,
+        radius,
+        businessType,
+        minRating,
+        Boolean.TRUE.equals(openNow) ? LocalDateTime.now() : openAt,
+        limit
+    );
+
+    return ResponseEntity.ok(response);
+  }
+
+  /**
+   * 지도 영역 내 장소 조회
+   * - 지도 화면 영역(남서/북동 좌표) 안의 장소를 영역 중심에서 가까운 순으로 조회
+   * - 업종, 최소 별점, 영업 중 필터
+   */
+  @GetMapping("/viewport")
+  @Override
+  public ResponseEntity<GetNearbyPlacesResponse> getViewportPlaces(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam Double minLatitude,
+      @RequestParam Double minLongitude,
+      @RequestParam Double maxLatitude,
+      @RequestParam Double maxLongitude,
+      @RequestParam(required = false) String businessType,
+      @RequestParam(required = false) BigDecimal minRating,
+      @RequestParam(required = false, defaultValue = "false") Boolean openNow,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt,
+      @RequestParam(required = false, defaultValue = "100") Integer limit
+  ) {
+    GetNearbyPlacesResponse response = nearbyPlaceService.getPlacesInViewport(
+        minLatitude,
+        minLongitude,
+        maxLatitude,
+        maxLongitude,
+        businessType,
+        minRating,
+        Boolean.TRUE.equals(openNow) ? LocalDateTime.now() : openAt,
+        limit
+    );
+
+    return ResponseEntity.ok(response);
+  }
+
+  /**
+   * 회원 장소 마커 클러스터 조회
+   * - 지도 영역과 줌 레벨 기준으로 임시/저장 장소를 격자 클러스터로 집계
+   * - 전체 장소 목록 대신 화면에 표시할 클러스터만 전송
+   */
+  @GetMapping("/clusters")
+  @Override
+  public ResponseEntity<GetPlaceClustersResponse> getPlaceClusters(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam Double minLatitude,
+      @RequestParam Double minLongitude,
+      @RequestParam Double maxLatitude,
+      @RequestParam Double maxLongitude,
+      @RequestParam Integer zoom,
+      @RequestParam(required = false) PlaceSavedStatus savedStatus
+  ) {
+    GetPlaceClustersResponse response = memberPlaceService.getPlaceClusters(
+        userDetails.getMemberId(),
+        minLatitude,
+        minLongitude,
+        maxLatitude,
+        maxLongitude,
+        zoom,
+        savedStatus
+    );
+
+    return ResponseEntity.ok(response);
+  }
+
+  /**
+   * 회원 장소 지도 마커 조회
+   * - Accept 헤더의 q 값에 따라 Protobuf 바이너리 또는 JSON 응답 (application/x-protobuf가 JSON보다 선호될 때만 Protobuf)
+   * - 마커 표시에 필요한 필드(ID, 이름, 좌표, 업종, 저장 상태)만 전송
+   */
+  @GetMapping("/markers")
+  @Override
+  public ResponseEntity<byte[]> getPlaceMarkers(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam(required = false) PlaceSavedStatus savedStatus,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
+  ) {
+    MediaType contentType = ContentNegotiationUtil.select(accept, MARKER_MEDIA_TYPES);
+    boolean protobuf = contentType.equals(PROTOBUF_MEDIA_TYPE);
+    byte[] body = memberPlaceMarkerService.getSerializedMarkers(userDetails.getMemberId(), savedStatus, protobuf);
+
+    return ResponseEntity.ok()
+        .contentType(contentType)
+        .varyBy(HttpHeaders.ACCEPT)
+        .body(body);
+  }
 }
@@ -2,17 +2,30 @@ package kr.suhsaechan.mapsy.web.controller;
 
 import kr.suhsaechan.mapsy.auth.dto.CustomUserDetails;
 import kr.suhsaechan.mapsy.common.constant.Author;
+import kr.suhsaechan.mapsy.place.constant.PlaceSavedStatus;
+import kr.suhsaechan.mapsy.place.dto.GetNearbyPlacesResponse;
+import kr.suhsaechan.mapsy.place.dto.GetPlaceClustersResponse;
+import kr.suhsaechan.mapsy.place.dto.GetPlaceMarkersResponse;
 import kr.suhsaechan.mapsy.place.dto.GetSavedPlacesResponse;
 import kr.suhsaechan.mapsy.place.dto.GetTemporaryPlacesResponse;
 import kr.suhsaechan.mapsy.place.dto.PlaceDetailDto;
 import kr.suhsaechan.mapsy.place.dto.SavePlaceResponse;
+import kr.suhsaechan.mapsy.place.dto.SearchKeywordPlacesResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 import kr.suhsaechan.suhapilog.annotation.ApiLog;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 
 public interface PlaceControllerDocs {
 
+  @ApiLog(date = "2026.10.19", author = Author.SUHSAECHAN, issueNumber = 36, description = "장소 상세 정보 조회 조건부 요청(ETag/Last-Modified) 지원")
   @ApiLog(date = "2025.10.25", author = Author.SUHSAECHAN, issueNumber = 36, description = "장소 상세 정보 조회 API 추가")
   @Operation(summary = "장소 세부정보 조회", description = """
               ## 인증(JWT): **필요**
@@ -44,44 +57,66 @@ public interface PlaceControllerDocs {
               - Google Place ID를 포함한 플랫폼 참조 정보를 제공합니다.
               - 영업시간과 추가 미디어 정보가 포함됩니다.
 
+              ## 조건부 요청
+              - 응답에 `ETag`, `Last-Modified` 헤더가 포함됩니다. (캐시 버전을 확인할 수 없으면 `ETag` 없이 `Last-Modified`만 포함)
+              - 재조회 시 `If-None-Match`(ETag) 또는 `If-Modified-Since`를 전달하면 변경이 없을 때 본문 없이 `304 Not Modified`를 반환합니다.
+
               ## 에러코드
               - **`PLACE_NOT_FOUND`**: 장소를 찾을 수 없습니다.
               """)
   ResponseEntity<PlaceDetailDto> getPlaceDetail(
       CustomUserDetails userDetails,
-      UUID placeId
+      UUID placeId,
+      WebRequest webRequest
   );
 
+  @ApiLog(date = "2026.10.19", author = Author.SUHSAECHAN, issueNumber = 103, description = "임시 저장 장소 목록 Projection 조회 및 cursor 페이지네이션 적용")
   @ApiLog(date = "2025.11.24", author = Author.SUHSAECHAN, issueNumber = 103, description = "임시 저장 장소 목록 조회 API 추가")
   @Operation(summary = "임시 저장 장소 목록 조회", description = """
               ## 인증(JWT): **필요**
 
+              ## 요청 파라미터
+              - **`cursor`**: 다음 페이지 커서 (Query Parameter, 선택, 이전 응답의 `nextCursor`)
+              - **`pageSize`**: 페이지 크기 (Query Parameter, 선택, 기본값 20, 최대 100)
+
               ## 반환값 (GetTemporaryPlacesResponse)
               - **`places`**: 임시 저장 장소 목록 (List<PlaceDto>)
                 - **`placeId`**: 장소 ID
                 - **`name`**: 장소명
                 - **`address`**: 주소
                 - **`rating`**: 별점 (0.0 ~ 5.0)
-                - **`photoUrls`**: 사진 URL 배열
+                - **`userRatingsTotal`**: 리뷰 수
+                - **`photoUrls`**: 사진 URL 배열 (최대 10개)
                 - **`description`**: 장소 요약 설명
+              - **`nextCursor`**: 다음 페이지 커서 (마지막 페이지면 null)
+              - **`hasNext`**: 다음 페이지 존재 여부
 
               ## 특이사항
               - AI 분석으로 자동 생성된 장소들을 조회합니다.
               - 사용자가 아직 저장 여부를 결정하지 않은 상태입니다.
               - 최신순으로 정렬되어 반환됩니다.
+              - `cursor` 없이 요청하면 첫 페이지, `nextCursor`를 전달하면 다음 페이지가 조회됩니다.
 
               ## 에러코드
               - **`MEMBER_NOT_FOUND`**: 회원을 찾을 수 없습니다.
+              - **`INVALID_CURSOR`**: 유효하지 않은 페이지 커서입니다.
               """)
   ResponseEntity<GetTemporaryPlacesResponse> getTemporaryPlaces(
-      CustomUserDetails userDetails
+      CustomUserDetails userDetails,
+      String cursor,
+      Integer pageSize
   );
 
+  @ApiLog(date = "2026.10.19", author = Author.SUHSAECHAN, issueNumber = 103, description = "저장한 장소 목록 Projection 조회 및 cursor 페이지네이션 적용")
   @ApiLog(date = "2025.01.15", author = Author.SUHSAECHAN, issueNumber = 129, description = "저장한 장소 목록 조회 API 응답에 userRatingsTotal 필드 추가")
   @ApiLog(date = "2025.11.24", author = Author.SUHSAECHAN, issueNumber = 103, description = "저장한 장소 목록 조회 API 추가")
   @Operation(summary = "저장한 장소 목록 조회", description = """
               ## 인증(JWT): **필요**
 
+              ## 요청 파라미터
+              - **`cursor`**: 다음 페이지 커서 (Query Parameter, 선택, 이전 응답의 `nextCursor`)
+              - **`pageSize`**: 페이지 크기 (Query Parameter, 선택, 기본값 20, 최대 100)
+
               ## 반환값 (GetSavedPlacesResponse)
               - **`places`**: 저장한 장소 목록 (List<PlaceDto>)
                 - **`placeId`**: 장소 ID
@@ -89,19 +124,25 @@ public interface PlaceControllerDocs {
                 - **`address`**: 주소
                 - **`rating`**: 별점 (0.0 ~ 5.0)
                 - **`userRatingsTotal`**: 리뷰 수
-                - **`photoUrls`**: 사진 URL 배열
+                - **`photoUrls`**: 사진 URL 배열 (최대 10개)
                 - **`description`**: 장소 요약 설명
+              - **`nextCursor`**: 다음 페이지 커서 (마지막 페이지면 null)
+              - **`hasNext`**: 다음 페이지 존재 여부
 
               ## 특이사항
               - 사용자가 명시적으로 저장한 장소들을 조회합니다.
               - 최신순으로 정렬되어 반환됩니다.
               - `/api/content/place/saved`와는 다른 MemberPlace 기반 조회입니다.
+              - `cursor` 없이 요청하면 첫 페이지, `nextCursor`를 전달하면 다음 페이지가 조회됩니다.
 
               ## 에러코드
               - **`MEMBER_NOT_FOUND`**: 회원을 찾을 수 없습니다.
+              - **`INVALID_CURSOR`**: 유효하지 않은 페이지 커서입니다.
               """)
   ResponseEntity<GetSavedPlacesResponse> getSavedPlaces(
-      CustomUserDetails userDetails
+      CustomUserDetails userDetails,
+      String cursor,
+      Integer pageSize
   );
 
   @ApiLog(date = "2025.11.24", author = Author.SUHSAECHAN, issueNumber = 103, description = "장소 저장 API 추가")
@@ -156,4 +197,223 @@ public interface PlaceControllerDocs {
       CustomUserDetails userDetails,
       UUID placeId
   );
+
+  @ApiLog(date = "2026.10.19", author = Author.SUHSAECHAN, issueNumber = 138, description = "키워드 역색인 기반 키워드 조합 장소 검색 API 추가")
+  @Operation(summary = "키워드 조합 장소 검색", description = """
+              ## 인증(JWT): **필요**
+
+              ## 요청 파라미터
+              - **`all`**: 모두 포함해야 하는 키워드 목록 (Query Parameter, 선택, 쉼표 구분 또는 반복 전달)
+              - **`any`**: 하나 이상 포함해야 하는 키워드 목록 (Query Parameter, 선택)
+              - **`not`**: 포함하면 안 되는 키워드 목록 (Query Parameter, 선택)
+              - **`page`**: 페이지 번호 (Query Parameter, 선택, 기본값 0)
+              - **`pageSize`**: 페이지 크기 (Query Parameter, 선택, 기본값 20, 최대 100)
+
+              ## 반환값 (SearchKeywordPlacesResponse)
+              - **`places`**: 검색된 장소 목록 (List<PlaceDto>, 관련도 내림차순)
+              - **`totalCount`**: 조건에 일치하는 전체 장소 수
+              - **`page`**: 현재 페이지 번호
+              - **`hasNext`**: 다음 페이지 존재 여부
+
+              ## 특이사항
+              - `all`과 `any` 중 하나 이상은 입력해야 합니다.
+              - `all`이 있으면 `all` 키워드를 모두 가진 장소, 없으면 `any` 키워드 중 하나 이상을 가진 장소가 검색됩니다.
+              - `all`이 있을 때 `any` 키워드는 관련도 순위에만 반영됩니다.
+              - 일치한 키워드가 많을수록, 드문 키워드가 일치할수록 상위에 노출됩니다.
+              - 키워드는 `#` 제거, 소문자 변환 후 비교합니다.
+              - 검색 결과는 상위 1000건까지 페이지로 조회할 수 있습니다.
+              - 최근 연결된 키워드는 다른 서버 인스턴스에 최대 10분 후 반영됩니다.
+
+              ## 에러코드
+              - **`KEYWORD_SEARCH_QUERY_REQUIRED`**: 검색 키워드(all 또는 any)를 하나 이상 입력해야 합니다.
+              - **`INVALID_INPUT_VALUE`**: 키워드는 최대 20개까지 입력할 수 있습니다.
+              - **`KEYWORD_SEARCH_PAGE_OUT_OF_RANGE`**: 키워드 검색 결과는 상위 1000건까지만 조회할 수 있습니다.
+              - **`KEYWORD_SEARCH_INDEX_NOT_READY`**: 키워드 검색 색인을 준비 중입니다.
+              """)
+  ResponseEntity<SearchKeywordPlacesResponse> searchPlacesByKeywords(
+      CustomUserDetails userDetails,
+      List<String> all,
+      List<String> any,
+      List<String> not,
+      Integer page,
+      Integer pageSize
+  );
+
+  @ApiLog(date = "2026.10.19", author = Author.SUHSAECHAN, issueNumber = 143, description = "반경 내 장소 조회 영업 중 필터(openNow, openAt) 추가")
+  @ApiLog(date = "2026.10.19", author = Author.SUHSAECHAN, issueNumber = 140, description = "격자 셀 기반 반경 내 장소 조회 API 추가")
+  @Operation(summary = "반경 내 장소 조회", description = """
+              ## 인증(JWT): **필요**
+
+              ## 요청 파라미터
+              - **`latitude`**: 중심 위도 (Query Parameter, 필수)
+              - **`longitude`**: 중심 경도 (Query Parameter, 필수)
+              - **`radius`**: 반경 (m, Query Parameter, 선택, 기본값 1000, 최대 10000)
+              - **`businessType`**: 업종 (Query Parameter, 선택, 일치하는 업종만 조회)
+              - **`minRating`**: 최소 별점 (Query Parameter, 선택)
+              - **`openNow`**: 현재 영업 중인 장소만 조회 (Query Parameter, 선택, 기본값 false)
+              - **`openAt`**: 해당 시각에 영업 중인 장소만 조회 (Query Parameter, 선택, ISO-8601 형식 예: 2026-10-19T19:30:00, `openNow`가 true면 무시)
+              - **`limit`**: 최대 결과 수 (Query Parameter, 선택, 기본값 50, 최대 200)
+
+              ## 반환값 (GetNearbyPlacesResponse)
+              - **`places`**: 장소 목록 (List<NearbyPlaceDto>, 가까운 순)
+                - **`placeId`**: 장소 ID
+                - **`name`**: 장소명
+                - **`address`**: 주소
+                - **`latitude`**, **`longitude`**: 좌표
+                - **`businessType`**: 업종
+                - **`rating`**: 별점 (0.0 ~ 5.0)
+                - **`userRatingsTotal`**: 리뷰 수
+                - **`photoUrls`**: 사진 URL 배열 (최대 10개)
+                - **`distanceMeters`**: 중심 좌표로부터의 거리 (m)
+              - **`truncated`**: 결과가 `limit`개로 잘렸는지 여부 (true면 반경 내 장소가 더 있을 수 있음)
+
+              ## 특이사항
+              - 거리는 구면 거리(haversine)로 계산합니다.
+              - 반경 안의 장소 중 가까운 `limit`개만 반환합니다.
+              - 영업 중 필터는 AI 분석으로 받은 요일별 영업시간을 15분 단위로 판단하며, 영업시간 정보가 없는 장소는 제외됩니다.
+
+              ## 에러코드
+              - **`INVALID_COORDINATE`**: 유효하지 않은 위도/경도입니다.
+              - **`INVALID_INPUT_VALUE`**: 반경은 1m 이상이어야 합니다.
+              - **`NEARBY_SEARCH_AREA_TOO_LARGE`**: 검색 반경 또는 지도 영역이 너무 넓습니다.
+              """)
+  ResponseEntity<GetNearbyPlacesResponse> getNearbyPlaces(
+      CustomUserDetails userDetails,
+      Double latitude,
+      Double longitude,
+      Integer radius,
+      String businessType,
+      BigDecimal minRating,
+      Boolean openNow,
+      LocalDateTime openAt,
+      Integer limit
+  );
+
+  @ApiLog(date = "2026.10.19", author = Author.SUHSAECHAN, issueNumber = 143, description = "지도 영역 내 장소 조회 영업 중 필터(openNow, openAt) 추가")
+  @ApiLog(date = "2026.10.19", author = Author.SUHSAECHAN, issueNumber = 140, description = "격자 셀 기반 지도 영역 내 장소 조회 API 추가")
+  @Operation(summary = "지도 영역 내 장소 조회", description = """
+              ## 인증(JWT): **필요**
+
+              ## 요청 파라미터
+              - **`minLatitude`**, **`minLongitude`**: 지도 영역 남서쪽 좌표 (Query Parameter, 필수)
+              - **`maxLatitude`**, **`maxLongitude`**: 지도 영역 북동쪽 좌표 (Query Parameter, 필수)
+              - **`businessType`**: 업종 (Query Parameter, 선택, 일치하는 업종만 조회)
+              - **`minRating`**: 최소 별점 (Query Parameter, 선택)
+              - **`openNow`**: 현재 영업 중인 장소만 조회 (Query Parameter, 선택, 기본값 false)
+              - **`openAt`**: 해당 시각에 영업 중인 장소만 조회 (Query Parameter, 선택, ISO-8601 형식 예: 2026-10-19T19:30:00, `openNow`가 true면 무시)
+              - **`limit`**: 최대 결과 수 (Query Parameter, 선택, 기본값 100, 최대 200)
+
+              ## 반환값 (GetNearbyPlacesResponse)
+              - **`places`**: 장소 목록 (List<NearbyPlaceDto>, 영역 중심에서 가까운 순)
+                - **`distanceMeters`**: 영역 중심으로부터의 거리 (m)
+                - 나머지 필드는 반경 내 장소 조회와 동일
+              - **`truncated`**: 결과가 `limit`개로 잘렸는지 여부 (true면 확대하면 더 많은 장소가 표시될 수 있음)
+
+              ## 특이사항
+              - 지도 영역은 위도/경도 각각 최대 0.2도(약 20km)까지 조회할 수 있습니다.
+              - 영역 안의 장소가 `limit`개보다 많으면 영역 중심에 가까운 장소부터 반환합니다.
+              - 영업 중 필터는 AI 분석으로 받은 요일별 영업시간을 15분 단위로 판단하며, 영업시간 정보가 없는 장소는 제외됩니다.
+
+              ## 에러코드
+              - **`INVALID_COORDINATE`**: 유효하지 않은 위도/경도입니다. (남서쪽 좌표가 북동쪽 좌표보다 큰 경우 포함)
+              - **`NEARBY_SEARCH_AREA_TOO_LARGE`**: 검색 반경 또는 지도 영역이 너무 넓습니다.
+              """)
+  ResponseEntity<GetNearbyPlacesResponse> getViewportPlaces(
+      CustomUserDetails userDetails,
+      Double minLatitude,
+      Double minLongitude,
+      Double maxLatitude,
+      Double maxLongitude,
+      String businessType,
+      BigDecimal minRating,
+      Boolean openNow,
+      LocalDateTime openAt,
+      Integer limit
+  );
+
+  @ApiLog(date = "2026.10.19", author = Author.SUHSAECHAN, issueNumber = 141, description = "줌 레벨별 회원 장소 마커 클러스터 조회 API 추가")
+  @Operation(summary = "회원 장소 마커 클러스터 조회", description = """
+              ## 인증(JWT): **필요**
+
+              ## 요청 파라미터
+              - **`minLatitude`**, **`minLongitude`**: 지도 영역 남서쪽 좌표 (Query Parameter, 필수)
+              - **`maxLatitude`**, **`maxLongitude`**: 지도 영역 북동쪽 좌표 (Query Parameter, 필수)
+              - **`zoom`**: 지도 줌 레벨 (Query Parameter, 필수, 0 ~ 22)
+              - **`savedStatus`**: 저장 상태 (Query Parameter, 선택, `TEMPORARY` 또는 `SAVED`, 생략 시 전체)
+
+              ## 반환값 (GetPlaceClustersResponse)
+              - **`zoom`**: 클러스터링에 적용된 줌 레벨
+              - **`clusters`**: 지도 영역과 겹치는 클러스터 목록 (List<PlaceClusterDto>, 장소 수 내림차순)
+                - **`count`**: 클러스터에 포함된 장소 수
+                - **`latitude`**, **`longitude`**: 클러스터 중심 좌표 (포함된 장소 좌표 평균)
+                - **`placeId`**: 대표 장소 ID (별점이 가장 높은 장소)
+                - **`name`**: 대표 장소명
+                - **`photoUrl`**: 대표 장소 사진 URL (없으면 null)
+
+              ## 특이사항
+              - 화면 기준 약 64px 격자 단위로 장소를 묶습니다. 줌 레벨이 낮을수록 넓은 범위가 하나의 클러스터가 됩니다.
+              - 줌 레벨 17 이상에서는 장소마다 `count`가 1인 클러스터로 반환합니다.
+              - 지도 영역 경계에 걸친 클러스터도 포함되므로, 중심 좌표가 영역 밖일 수 있습니다.
+              - 장소 상세 정보가 필요하면 `placeId`로 장소 세부정보 조회 API를 호출합니다.
+
+              ## 에러코드
+              - **`INVALID_COORDINATE`**: 유효하지 않은 위도/경도입니다. (남서쪽 좌표가 북동쪽 좌표보다 큰 경우 포함)
+              - **`INVALID_INPUT_VALUE`**: 줌 레벨은 0 ~ 22 사이여야 합니다.
+              """)
+  ResponseEntity<GetPlaceClustersResponse> getPlaceClusters(
+      CustomUserDetails userDetails,
+      Double minLatitude,
+      Double minLongitude,
+      Double maxLatitude,
+      Double maxLongitude,
+      Integer zoom,
+      PlaceSavedStatus savedStatus
+  );
+
+  @ApiLog(date = "2026.10.19", author = Author.SUHSAECHAN, issueNumber = 142, description = "Accept 협상 기반 회원 장소 지도 마커 조회 API 추가 (JSON / Protobuf)")
+  @Operation(summary = "회원 장소 지도 마커 조회", description = """
+              ## 인증(JWT): **필요**
+
+              ## 요청 파라미터
+              - **`savedStatus`**: 저장 상태 (Query Parameter, 선택, `TEMPORARY` 또는 `SAVED`, 생략 시 전체)
+              - **`Accept`**: 응답 형식 (Header, 선택, q 값 기준으로 `application/x-protobuf`가 JSON보다 선호되면 바이너리, 그 외 JSON. `*/*`, `application/*`만 있으면 JSON, `q=0`인 형식은 선택하지 않음)
+
+              ## 반환값 (JSON: GetPlaceMarkersResponse)
+              - **`markers`**: 마커 목록 (List<PlaceMarkerDto>)
+                - **`placeId`**: 장소 ID
+                - **`name`**: 장소명
+                - **`latitude`**, **`longitude`**: 좌표
+                - **`businessType`**: 업종
+                - **`savedStatus`**: 저장 상태 (`TEMPORARY` / `SAVED`)
+
+              ## 반환값 (Protobuf: application/x-protobuf)
+              ```
+              message PlaceMarkers {
+                repeated string categories = 1;                // 업종 사전
+                bytes place_ids = 2;                           // 장소 ID (16바이트 big-endian × 마커 수)
+                repeated sint64 latitude_deltas = 3 [packed];  // 위도 × 1e6, 직전 마커와의 차이 (첫 마커는 0 기준)
+                repeated sint64 longitude_deltas = 4 [packed]; // 경도 × 1e6, 직전 마커와의 차이 (첫 마커는 0 기준)
+                repeated uint32 category_indexes = 5 [packed]; // categories 인덱스 + 1 (0 = 업종 없음)
+                repeated uint32 saved_statuses = 6 [packed];   // 0 = TEMPORARY, 1 = SAVED
+                repeated string names = 7;                     // 장소명
+              }
+              ```
+
+              ## 특이사항
+              - 지도 화면의 마커 표시용 API로, 사진/설명 등 상세 필드는 포함하지 않습니다.
+              - Protobuf 응답의 i번째 마커 좌표는 `latitude_deltas`/`longitude_deltas`의 0 ~ i번째 값을 누적한 뒤 1e6으로 나눈 값입니다.
+              - Protobuf 응답은 좌표 차분이 작아지도록 지리적으로 가까운 순서(Z-order)로 정렬되며, JSON 응답의 순서와 다를 수 있습니다.
+              - 응답에 `Vary: Accept` 헤더가 포함됩니다.
+
+              ## 에러코드
+              - 없음
+              """)
+  @ApiResponse(responseCode = "200", content = {
+      @Content(mediaType = "application/json", schema = @Schema(implementation = GetPlaceMarkersResponse.class)),
+      @Content(mediaType = "application/x-protobuf", schema = @Schema(type = "string", format = "binary"))})
+  ResponseEntity<byte[]> getPlaceMarkers(
+      CustomUserDetails userDetails,
+      PlaceSavedStatus savedStatus,
+      String accept
+  );
 }
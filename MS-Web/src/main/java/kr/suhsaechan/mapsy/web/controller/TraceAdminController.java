@@ -0,0 +1,57 @@
+package kr.suhsaechan.mapsy.web.controller;
+
+import jakarta.validation.Valid;
+import kr.suhsaechan.mapsy.common.dto.MethodTraceResponse;
+import kr.suhsaechan.mapsy.common.dto.UpdateMethodTraceRequest;
+import kr.suhsaechan.mapsy.common.logging.MethodTraceRecorder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/api/admin/trace")
+public class TraceAdminController implements TraceAdminControllerDocs {
+
+  private final MethodTraceRecorder methodTraceRecorder;
+
+  /**
+   * 메소드 추적 설정 및 메소드별 실행 통계 조회
+   */
+  @GetMapping
+  @Override
+  public ResponseEntity<MethodTraceResponse> getTrace(
+      @RequestParam(required = false, defaultValue = "50") Integer limit
+  ) {
+    return ResponseEntity.ok(methodTraceRecorder.getTrace(limit));
+  }
+
+  /**
+   * 메소드 추적 설정 변경 (계층별 on/off, 샘플링 비율, 느린 호출 기준)
+   */
+  @PatchMapping
+  @Override
+  public ResponseEntity<MethodTraceResponse> updateTrace(
+      @Valid @RequestBody UpdateMethodTraceRequest request
+  ) {
+    return ResponseEntity.ok(methodTraceRecorder.updateSettings(request));
+  }
+
+  /**
+   * 메소드별 실행 통계 초기화
+   */
+  @DeleteMapping("/stats")
+  @Override
+  public ResponseEntity<Void> resetStats() {
+    methodTraceRecorder.reset();
+    return ResponseEntity.noContent().build();
+  }
+}
@@ -0,0 +1,82 @@
+package kr.suhsaechan.mapsy.web.controller;
+
+import kr.suhsaechan.mapsy.common.constant.Author;
+import kr.suhsaechan.mapsy.common.dto.MethodTraceResponse;
+import kr.suhsaechan.mapsy.common.dto.UpdateMethodTraceRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import kr.suhsaechan.suhapilog.annotation.ApiLog;
+import org.springframework.http.ResponseEntity;
+
+public interface TraceAdminControllerDocs {
+
+  @ApiLog(date = "2026.10.19", author = Author.SUHSAECHAN, issueNumber = 145, description = "메소드 추적 통계 조회 API 추가")
+  @Operation(summary = "메소드 추적 설정 및 통계 조회", description = """
+              ## 인증(JWT): **필요** (ROLE_ADMIN)
+
+              ## 요청 파라미터
+              - **`limit`**: 조회할 최대 메소드 수 (Query Parameter, 선택, 기본값 50, 최대 500)
+
+              ## 반환값 (MethodTraceResponse)
+              - **`instanceId`**: 응답한 서버 인스턴스 ID
+              - **`controllerEnabled`** / **`serviceEnabled`** / **`repositoryEnabled`**: 계층별 추적 여부
+              - **`sampleRate`**: 호출 트리 샘플링 비율 (0.0 ~ 1.0)
+              - **`slowThresholdMillis`**: 느린 호출 트리 기준 (ms)
+              - **`methods`**: 메소드별 통계 (List<MethodTraceStatDto>, 총 실행 시간 내림차순)
+                - **`method`**: 클래스.메소드
+                - **`layer`**: 계층 (CONTROLLER, SERVICE, REPOSITORY)
+                - **`count`** / **`errorCount`**: 호출 수 / 예외로 끝난 호출 수
+                - **`totalMillis`** / **`avgMillis`** / **`maxMillis`**: 총 / 평균 / 최대 실행 시간 (ms)
+                - **`p50Millis`** / **`p95Millis`** / **`p99Millis`**: 백분위 실행 시간 (히스토그램 버킷 상한, ms)
+
+              ## 특이사항
+              - 통계는 서버 인스턴스별 메모리에 누적되며 재시작 시 초기화됩니다. (`instanceId`로 응답한 인스턴스 확인)
+
+              ## 에러코드
+              - 없음 (ROLE_ADMIN이 아니면 403)
+              """)
+  ResponseEntity<MethodTraceResponse> getTrace(
+      Integer limit
+  );
+
+  @ApiLog(date = "2026.10.19", author = Author.SUHSAECHAN, issueNumber = 145, description = "메소드 추적 설정 변경 API 추가")
+  @Operation(summary = "메소드 추적 설정 변경", description = """
+              ## 인증(JWT): **필요** (ROLE_ADMIN)
+
+              ## 요청 파라미터 (UpdateMethodTraceRequest, null인 항목은 유지)
+              - **`controllerEnabled`** / **`serviceEnabled`** / **`repositoryEnabled`**: 계층별 추적 여부 (선택)
+              - **`sampleRate`**: 호출 트리 샘플링 비율 (선택, 0.0 ~ 1.0)
+              - **`slowThresholdMillis`**: 느린 호출 트리 기준 (선택, ms, 0 이상)
+
+              ## 반환값 (MethodTraceResponse)
+              - 변경 후 설정 (`methods`는 빈 목록, `instanceId`는 요청을 받은 인스턴스)
+
+              ## 특이사항
+              - 요청을 받은 인스턴스에 즉시 반영되고, 다른 인스턴스에는 Redis 공유 설정을 통해 10초 이내 반영됩니다.
+              - 느린 호출 트리와 예상하지 못한 예외로 끝난 호출 트리는 샘플링과 무관하게 항상 WARN 로그로 남습니다.
+              - 비즈니스 예외(CustomException)로 끝난 호출 트리는 정상 호출과 같이 샘플링합니다.
+
+              ## 에러코드
+              - 없음 (ROLE_ADMIN이 아니면 403)
+              """)
+  ResponseEntity<MethodTraceResponse> updateTrace(
+      UpdateMethodTraceRequest request
+  );
+
+  @ApiLog(date = "2026.10.19", author = Author.SUHSAECHAN, issueNumber = 145, description = "메소드 추적 통계 초기화 API 추가")
+  @Operation(summary = "메소드 추적 통계 초기화", description = """
+              ## 인증(JWT): **필요** (ROLE_ADMIN)
+
+              ## 요청 파라미터
+              - 없음
+
+              ## 반환값
+              - 204 No Content
+
+              ## 특이사항
+              - 요청을 받은 서버 인스턴스의 누적 통계만 초기화합니다. (로그에 인스턴스 ID 기록)
+
+              ## 에러코드
+              - 없음 (ROLE_ADMIN이 아니면 403)
+              """)
+  ResponseEntity<Void> resetStats();
+}
@@ -0,0 +1,37 @@
+-- ===================================================================
+-- Flyway Migration: V0.3.10
+-- Description: 영업 중 필터용 place.open_hours_bitmap 컬럼 추가
+--              (BusinessHoursUtil과 동일한 비트 배치: 요일 인덱스(월 0) * 96 + 15분 슬롯, get_bit로 조회)
+--              기존 장소는 다음 AI 콜백에서 영업시간을 다시 받을 때 채워짐
+-- Author: MapSee Team
+-- Date: 2026-10-19
+-- ===================================================================
+
+DO
+$$
+    BEGIN
+        IF EXISTS (SELECT 1
+                   FROM information_schema.tables
+                   WHERE table_schema = 'public'
+                     AND table_name = 'place') THEN
+
+            -- open_hours_bitmap 컬럼 추가
+            IF NOT EXISTS (SELECT 1
+                           FROM information_schema.columns
+                           WHERE table_schema = 'public'
+                             AND table_name = 'place'
+                             AND column_name = 'open_hours_bitmap') THEN
+                ALTER TABLE public.place
+                    ADD COLUMN open_hours_bitmap BYTEA;
+
+                COMMENT ON COLUMN public.place.open_hours_bitmap IS '주간 영업 비트맵 (7일 × 96개 15분 슬롯, 84바이트)';
+                RAISE NOTICE 'Added column place.open_hours_bitmap';
+            ELSE
+                RAISE NOTICE 'Column place.open_hours_bitmap already exists';
+            END IF;
+
+        ELSE
+            RAISE NOTICE 'place table does not exist. Skipping migration. JPA will create the table with the column.';
+        END IF;
+    END
+$$;
@@ -0,0 +1,32 @@
+-- ===================================================================
+-- Flyway Migration: V0.3.11
+-- Description: 오래 사용되지 않은 FCM 토큰 정리용 fcm_token.last_used_at 인덱스 생성
+-- Author: MapSee Team
+-- Date: 2026-10-19
+-- ===================================================================
+
+DO
+$$
+    BEGIN
+        IF EXISTS (SELECT 1
+                   FROM information_schema.tables
+                   WHERE table_schema = 'public'
+                     AND table_name = 'fcm_token') THEN
+
+            IF NOT EXISTS (SELECT 1
+                           FROM pg_indexes
+                           WHERE schemaname = 'public'
+                             AND tablename = 'fcm_token'
+                             AND indexname = 'idx_fcm_token_last_used_at') THEN
+                CREATE INDEX idx_fcm_token_last_used_at
+                    ON public.fcm_token (last_used_at);
+                RAISE NOTICE 'Created index idx_fcm_token_last_used_at';
+            ELSE
+                RAISE NOTICE 'Index idx_fcm_token_last_used_at already exists';
+            END IF;
+
+        ELSE
+            RAISE NOTICE 'fcm_token table does not exist. Skipping migration. JPA will create the table with the index.';
+        END IF;
+    END
+$$;
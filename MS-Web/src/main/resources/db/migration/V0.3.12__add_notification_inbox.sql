@@ -0,0 +1,64 @@
+-- ===================================================================
+-- Flyway Migration: V0.3.12
+-- Description: 알림함 조회용 notification.body 컬럼 추가 및 인덱스 생성
+--              - idx_notification_recipient_created : 회원별 최신순 Keyset 페이지네이션
+--              - idx_notification_recipient_unread  : 읽지 않은 알림 수 재계산 (Redis 카운터 미스 시)
+-- Author: MapSee Team
+-- Date: 2026-10-19
+-- ===================================================================
+
+DO
+$$
+    BEGIN
+        IF EXISTS (SELECT 1
+                   FROM information_schema.tables
+                   WHERE table_schema = 'public'
+                     AND table_name = 'notification') THEN
+
+            -- body 컬럼 추가
+            IF NOT EXISTS (SELECT 1
+                           FROM information_schema.columns
+                           WHERE table_schema = 'public'
+                             AND table_name = 'notification'
+                             AND column_name = 'body') THEN
+                ALTER TABLE public.notification
+                    ADD COLUMN body VARCHAR(500);
+
+                COMMENT ON COLUMN public.notification.body IS '알림 본문';
+                RAISE NOTICE 'Added column notification.body';
+            ELSE
+                RAISE NOTICE 'Column notification.body already exists';
+            END IF;
+
+            -- 회원별 최신순 인덱스
+            IF NOT EXISTS (SELECT 1
+                           FROM pg_indexes
+                           WHERE schemaname = 'public'
+                             AND tablename = 'notification'
+                             AND indexname = 'idx_notification_recipient_created') THEN
+                CREATE INDEX idx_notification_recipient_created
+                    ON public.notification (recipient_member_id, created_at DESC, id DESC);
+                RAISE NOTICE 'Created index idx_notification_recipient_created';
+            ELSE
+                RAISE NOTICE 'Index idx_notification_recipient_created already exists';
+            END IF;
+
+            -- 읽지 않은 알림 부분 인덱스
+            IF NOT EXISTS (SELECT 1
+                           FROM pg_indexes
+                           WHERE schemaname = 'public'
+                             AND tablename = 'notification'
+                             AND indexname = 'idx_notification_recipient_unread') THEN
+                CREATE INDEX idx_notification_recipient_unread
+                    ON public.notification (recipient_member_id)
+                    WHERE read_at IS NULL;
+                RAISE NOTICE 'Created index idx_notification_recipient_unread';
+            ELSE
+                RAISE NOTICE 'Index idx_notification_recipient_unread already exists';
+            END IF;
+
+        ELSE
+            RAISE NOTICE 'notification table does not exist. Skipping migration. JPA will create the table with the column and index.';
+        END IF;
+    END
+$$;
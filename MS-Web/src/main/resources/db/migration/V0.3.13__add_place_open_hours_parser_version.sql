@@ -0,0 +1,37 @@
+-- ===================================================================
+-- Flyway Migration: V0.3.13
+-- Description: 영업시간 백필용 place.open_hours_parser_version 컬럼 추가
+--              (영업시간을 마지막으로 파싱한 BusinessHoursUtil.PARSER_VERSION, NULL이면 아직 파싱하지 않음)
+--              기존 장소는 PlaceBusinessHourBackfillScheduler가 open_hours_detail을 다시 파싱하여 채움
+-- Author: MapSee Team
+-- Date: 2026-10-19
+-- ===================================================================
+
+DO
+$$
+    BEGIN
+        IF EXISTS (SELECT 1
+                   FROM information_schema.tables
+                   WHERE table_schema = 'public'
+                     AND table_name = 'place') THEN
+
+            -- open_hours_parser_version 컬럼 추가
+            IF NOT EXISTS (SELECT 1
+                           FROM information_schema.columns
+                           WHERE table_schema = 'public'
+                             AND table_name = 'place'
+                             AND column_name = 'open_hours_parser_version') THEN
+                ALTER TABLE public.place
+                    ADD COLUMN open_hours_parser_version INTEGER;
+
+                COMMENT ON COLUMN public.place.open_hours_parser_version IS '영업시간을 마지막으로 파싱한 파서 버전 (NULL이면 백필 대상)';
+                RAISE NOTICE 'Added column place.open_hours_parser_version';
+            ELSE
+                RAISE NOTICE 'Column place.open_hours_parser_version already exists';
+            END IF;
+
+        ELSE
+            RAISE NOTICE 'place table does not exist. Skipping migration. JPA will create the table with the column.';
+        END IF;
+    END
+$$;
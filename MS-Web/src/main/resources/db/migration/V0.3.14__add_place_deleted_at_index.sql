@@ -0,0 +1,33 @@
+-- ===================================================================
+-- Flyway Migration: V0.3.14
+-- Description: 키워드 역색인 삭제 동기화용 place.deleted_at 인덱스 추가
+-- Author: MapSee Team
+-- Date: 2026-10-19
+-- ===================================================================
+
+-- place (deleted_at) 인덱스 생성
+DO
+$$
+    BEGIN
+        IF EXISTS (SELECT 1
+                   FROM information_schema.tables
+                   WHERE table_schema = 'public'
+                     AND table_name = 'place') THEN
+
+            IF NOT EXISTS (SELECT 1
+                           FROM pg_indexes
+                           WHERE schemaname = 'public'
+                             AND tablename = 'place'
+                             AND indexname = 'idx_place_deleted_at') THEN
+                CREATE INDEX idx_place_deleted_at
+                    ON public.place (deleted_at);
+                RAISE NOTICE 'Created index idx_place_deleted_at';
+            ELSE
+                RAISE NOTICE 'Index idx_place_deleted_at already exists';
+            END IF;
+
+        ELSE
+            RAISE NOTICE 'place table does not exist. Skipping migration. JPA will create the table with the index.';
+        END IF;
+    END
+$$;
@@ -0,0 +1,33 @@
+-- ===================================================================
+-- Flyway Migration: V0.3.4
+-- Description: 회원 콘텐츠 목록 Keyset 페이지네이션용 복합 인덱스 추가
+-- Author: MapSee Team
+-- Date: 2026-10-19
+-- ===================================================================
+
+-- content_member (member_id, created_at DESC, id DESC) 인덱스 생성
+DO
+$$
+    BEGIN
+        IF EXISTS (SELECT 1
+                   FROM information_schema.tables
+                   WHERE table_schema = 'public'
+                     AND table_name = 'content_member') THEN
+
+            IF NOT EXISTS (SELECT 1
+                           FROM pg_indexes
+                           WHERE schemaname = 'public'
+                             AND tablename = 'content_member'
+                             AND indexname = 'idx_content_member_member_created') THEN
+                CREATE INDEX idx_content_member_member_created
+                    ON public.content_member (member_id, created_at DESC, id DESC);
+                RAISE NOTICE 'Created index idx_content_member_member_created';
+            ELSE
+                RAISE NOTICE 'Index idx_content_member_member_created already exists';
+            END IF;
+
+        ELSE
+            RAISE NOTICE 'content_member table does not exist. Skipping migration. JPA will create the table with the index.';
+        END IF;
+    END
+$$;
@@ -0,0 +1,34 @@
+-- ===================================================================
+-- Flyway Migration: V0.3.5
+-- Description: 임시/저장 장소 목록 Keyset 페이지네이션용 부분 인덱스 추가
+-- Author: MapSee Team
+-- Date: 2026-10-19
+-- ===================================================================
+
+-- member_place (member_id, saved_status, created_at DESC, id DESC) WHERE deleted_at IS NULL 인덱스 생성
+DO
+$$
+    BEGIN
+        IF EXISTS (SELECT 1
+                   FROM information_schema.tables
+                   WHERE table_schema = 'public'
+                     AND table_name = 'member_place') THEN
+
+            IF NOT EXISTS (SELECT 1
+                           FROM pg_indexes
+                           WHERE schemaname = 'public'
+                             AND tablename = 'member_place'
+                             AND indexname = 'idx_member_place_member_status_created') THEN
+                CREATE INDEX idx_member_place_member_status_created
+                    ON public.member_place (member_id, saved_status, created_at DESC, id DESC)
+                    WHERE deleted_at IS NULL;
+                RAISE NOTICE 'Created index idx_member_place_member_status_created';
+            ELSE
+                RAISE NOTICE 'Index idx_member_place_member_status_created already exists';
+            END IF;
+
+        ELSE
+            RAISE NOTICE 'member_place table does not exist. Skipping migration.';
+        END IF;
+    END
+$$;
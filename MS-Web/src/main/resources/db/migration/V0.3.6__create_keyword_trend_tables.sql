@@ -0,0 +1,71 @@
+-- ===================================================================
+-- Flyway Migration: V0.3.6
+-- Description: 키워드 트렌드 배치용 테이블 추가 (keyword_count_buckets, job_lease)
+-- Author: MapSee Team
+-- Date: 2026-10-19
+-- ===================================================================
+
+-- 1. keyword_count_buckets 테이블 생성 (시간 단위 키워드 사용 횟수 스냅샷)
+DO
+$$
+    BEGIN
+        IF NOT EXISTS (SELECT 1
+                       FROM information_schema.tables
+                       WHERE table_schema = 'public'
+                         AND table_name = 'keyword_count_buckets') THEN
+
+            -- 직전 스냅샷 이후 count가 변경된 키워드만 저장하므로 행 수는 변경된 키워드 수에 비례
+            CREATE TABLE public.keyword_count_buckets
+            (
+                keyword_id   UUID                     NOT NULL,
+                bucket_start TIMESTAMP WITH TIME ZONE NOT NULL,
+                count        INTEGER                  NOT NULL,
+
+                -- 키워드별 최근 스냅샷 조회 (LATERAL ... ORDER BY bucket_start DESC LIMIT 1)
+                CONSTRAINT pk_keyword_count_buckets PRIMARY KEY (keyword_id, bucket_start)
+            );
+
+            -- 보관 기간 지난 스냅샷 삭제용 인덱스
+            CREATE INDEX idx_keyword_count_buckets_bucket_start
+                ON public.keyword_count_buckets (bucket_start);
+
+            IF EXISTS (SELECT 1
+                       FROM information_schema.tables
+                       WHERE table_schema = 'public'
+                         AND table_name = 'keywords') THEN
+                ALTER TABLE public.keyword_count_buckets
+                    ADD CONSTRAINT fk_keyword_count_buckets_keyword FOREIGN KEY (keyword_id)
+                        REFERENCES public.keywords (id) ON DELETE CASCADE;
+            END IF;
+
+            RAISE NOTICE 'Created keyword_count_buckets table with indexes';
+        ELSE
+            RAISE NOTICE 'keyword_count_buckets table already exists. Skipping creation.';
+        END IF;
+    END
+$$;
+
+-- 2. job_lease 테이블 생성 (다중 인스턴스 스케줄 작업 리스)
+DO
+$$
+    BEGIN
+        IF NOT EXISTS (SELECT 1
+                       FROM information_schema.tables
+                       WHERE table_schema = 'public'
+                         AND table_name = 'job_lease') THEN
+
+            CREATE TABLE public.job_lease
+            (
+                name        VARCHAR(100)             NOT NULL,
+                owner       VARCHAR(255)             NOT NULL,
+                lease_until TIMESTAMP WITH TIME ZONE NOT NULL,
+
+                CONSTRAINT pk_job_lease PRIMARY KEY (name)
+            );
+
+            RAISE NOTICE 'Created job_lease table';
+        ELSE
+            RAISE NOTICE 'job_lease table already exists. Skipping creation.';
+        END IF;
+    END
+$$;
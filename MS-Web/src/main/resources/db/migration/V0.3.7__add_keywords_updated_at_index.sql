@@ -0,0 +1,33 @@
+-- ===================================================================
+-- Flyway Migration: V0.3.7
+-- Description: 키워드 자동완성 색인 증분 동기화용 updated_at 인덱스 추가
+-- Author: MapSee Team
+-- Date: 2026-10-19
+-- ===================================================================
+
+-- keywords (updated_at) 인덱스 생성
+DO
+$$
+    BEGIN
+        IF EXISTS (SELECT 1
+                   FROM information_schema.tables
+                   WHERE table_schema = 'public'
+                     AND table_name = 'keywords') THEN
+
+            IF NOT EXISTS (SELECT 1
+                           FROM pg_indexes
+                           WHERE schemaname = 'public'
+                             AND tablename = 'keywords'
+                             AND indexname = 'idx_keywords_updated_at') THEN
+                CREATE INDEX idx_keywords_updated_at
+                    ON public.keywords (updated_at);
+                RAISE NOTICE 'Created index idx_keywords_updated_at';
+            ELSE
+                RAISE NOTICE 'Index idx_keywords_updated_at already exists';
+            END IF;
+
+        ELSE
+            RAISE NOTICE 'keywords table does not exist. Skipping migration. JPA will create the table with the index.';
+        END IF;
+    END
+$$;
@@ -0,0 +1,38 @@
+-- ===================================================================
+-- Flyway Migration: V0.3.8
+-- Description: 키워드 부분 문자열/유사도 검색용 pg_trgm GIN 인덱스 추가
+-- Author: MapSee Team
+-- Date: 2026-10-19
+-- ===================================================================
+
+-- 1. pg_trgm 확장 설치
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- 2. keywords (keyword gin_trgm_ops) 인덱스 생성
+-- LIKE '%검색어%' 및 유사도 연산자(%)에서 사용 (기존 B-tree 인덱스는 접두어 검색만 지원)
+-- 한글 트라이그램은 DB LC_CTYPE이 C가 아닌 경우(예: ko_KR.UTF-8, en_US.UTF-8)에만 생성됨
+DO
+$$
+    BEGIN
+        IF EXISTS (SELECT 1
+                   FROM information_schema.tables
+                   WHERE table_schema = 'public'
+                     AND table_name = 'keywords') THEN
+
+            IF NOT EXISTS (SELECT 1
+                           FROM pg_indexes
+                           WHERE schemaname = 'public'
+                             AND tablename = 'keywords'
+                             AND indexname = 'idx_keywords_keyword_trgm') THEN
+                CREATE INDEX idx_keywords_keyword_trgm
+                    ON public.keywords USING gin (keyword gin_trgm_ops);
+                RAISE NOTICE 'Created index idx_keywords_keyword_trgm';
+            ELSE
+                RAISE NOTICE 'Index idx_keywords_keyword_trgm already exists';
+            END IF;
+
+        ELSE
+            RAISE NOTICE 'keywords table does not exist. Skipping migration.';
+        END IF;
+    END
+$$;
@@ -0,0 +1,57 @@
+-- ===================================================================
+-- Flyway Migration: V0.3.9
+-- Description: 반경/영역 검색용 place.grid_cell 컬럼 추가, 기존 장소 백필 및 인덱스 생성
+--              (GeoGridUtil과 동일한 계산식: 0.005도 격자, 위도 인덱스 * 72000 + 경도 인덱스)
+-- Author: MapSee Team
+-- Date: 2026-10-19
+-- ===================================================================
+
+DO
+$$
+    BEGIN
+        IF EXISTS (SELECT 1
+                   FROM information_schema.tables
+                   WHERE table_schema = 'public'
+                     AND table_name = 'place') THEN
+
+            -- grid_cell 컬럼 추가
+            IF NOT EXISTS (SELECT 1
+                           FROM information_schema.columns
+                           WHERE table_schema = 'public'
+                             AND table_name = 'place'
+                             AND column_name = 'grid_cell') THEN
+                ALTER TABLE public.place
+                    ADD COLUMN grid_cell BIGINT;
+
+                COMMENT ON COLUMN public.place.grid_cell IS '0.005도 격자 셀 번호 (반경/영역 검색용)';
+                RAISE NOTICE 'Added column place.grid_cell';
+            ELSE
+                RAISE NOTICE 'Column place.grid_cell already exists';
+            END IF;
+
+            -- 기존 장소 백필
+            UPDATE public.place
+            SET grid_cell = LEAST(GREATEST(FLOOR((latitude + 90) / 0.005), 0), 35999) * 72000
+                + LEAST(GREATEST(FLOOR((longitude + 180) / 0.005), 0), 71999)
+            WHERE grid_cell IS NULL
+              AND latitude IS NOT NULL
+              AND longitude IS NOT NULL;
+
+            -- grid_cell 인덱스 생성
+            IF NOT EXISTS (SELECT 1
+                           FROM pg_indexes
+                           WHERE schemaname = 'public'
+                             AND tablename = 'place'
+                             AND indexname = 'idx_place_grid_cell') THEN
+                CREATE INDEX idx_place_grid_cell
+                    ON public.place (grid_cell);
+                RAISE NOTICE 'Created index idx_place_grid_cell';
+            ELSE
+                RAISE NOTICE 'Index idx_place_grid_cell already exists';
+            END IF;
+
+        ELSE
+            RAISE NOTICE 'place table does not exist. Skipping migration. JPA will create the table with the column and index.';
+        END IF;
+    END
+$$;
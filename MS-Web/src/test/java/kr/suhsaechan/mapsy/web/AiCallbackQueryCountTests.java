@@ -0,0 +1,160 @@
+package kr.suhsaechan.mapsy.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import kr.suhsaechan.mapsy.ai.dto.AiCallbackRequest;
+import kr.suhsaechan.mapsy.ai.dto.AiCallbackRequest.PlaceDetailCallback;
+import kr.suhsaechan.mapsy.common.constant.ContentStatus;
+import kr.suhsaechan.mapsy.member.dto.NotificationDispatchResult;
+import kr.suhsaechan.mapsy.member.entity.Member;
+import kr.suhsaechan.mapsy.member.repository.MemberRepository;
+import kr.suhsaechan.mapsy.member.service.NotificationDispatcher;
+import kr.suhsaechan.mapsy.sns.entity.Content;
+import kr.suhsaechan.mapsy.sns.entity.ContentMember;
+import kr.suhsaechan.mapsy.sns.repository.ContentMemberRepository;
+import kr.suhsaechan.mapsy.sns.repository.ContentRepository;
+import kr.suhsaechan.mapsy.sns.service.AiCallbackService;
+import kr.suhsaechan.mapsy.web.support.QueryCountInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * AI 콜백 SQL 실행 횟수 회귀 테스트
+ * - 테스트 트랜잭션 없이 실행하여 콜백 트랜잭션을 실제로 커밋 (커밋 후 작업의 SQL까지 집계)
+ * - 알림 전송은 즉시 완료되는 Mock으로 대체하여 전송 결과 반영(알림함 저장)도 같은 스레드에서 집계
+ * - 장소 수가 다른 두 콜백의 SQL 수 차이로 장소당 SQL 수를 구하고, 고정/장소당 SQL 수를 측정값과 일치하도록 고정
+ * - 커밋된 테스트 데이터는 테스트 종료 후 삭제
+ */
+@SpringBootTest(properties =
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "kr.suhsaechan.mapsy.web.support.QueryCountInspector")
+class AiCallbackQueryCountTests {
+
+  private static final int SMALL_PLACE_COUNT = 2;
+  private static final int LARGE_PLACE_COUNT = 6;
+
+  /**
+   * 장소 수와 무관한 SQL
+   * - Content 조회, 네이버 placeId 일괄 조회, 연결 장소 ID 조회, Content UPDATE
+   * - 알림 대상 잠금 조회, ContentMember UPDATE (알림 선점), 알림함 INSERT (커밋 후)
+   * - 모든 장소가 공유하는 키워드 INSERT (첫 장소에서 1회)
+   */
+  private static final long FIXED_QUERIES = 8;
+
+  /**
+   * 장소당 SQL
+   * - name+좌표 조회, Place/PlacePlatformReference/ContentPlace INSERT
+   * - 키워드 일괄 조회, 연결 키워드 ID 조회, 장소별 키워드 INSERT, PlaceKeyword INSERT (키워드 2개)
+   */
+  private static final long QUERIES_PER_PLACE = 9;
+
+  @Autowired private MemberRepository memberRepository;
+  @Autowired private ContentRepository contentRepository;
+  @Autowired private ContentMemberRepository contentMemberRepository;
+  @Autowired private AiCallbackService aiCallbackService;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @MockitoBean private NotificationDispatcher notificationDispatcher;
+
+  private Member member;
+  private final List<UUID> contentIds = new ArrayList<>();
+  private final List<String> keywordPrefixes = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    member = memberRepository.save(Member.builder()
+        .email("query-count-" + UUID.randomUUID() + "@mapsy.test")
+        .name("query-count")
+        .build());
+
+    // 토큰이 없는 회원으로 즉시 전송 완료
+    when(notificationDispatcher.dispatch(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+      Collection<UUID> memberIds = invocation.getArgument(0);
+      return CompletableFuture.completedFuture(
+          new NotificationDispatchResult(Set.of(), Set.copyOf(memberIds), Set.of(), 0, 0, 0));
+    });
+  }
+
+  @AfterEach
+  void tearDown() {
+    for (UUID contentId : contentIds) {
+      List<UUID> placeIds = jdbcTemplate.queryForList(
+          "SELECT place_id FROM content_place WHERE content_id = ?", UUID.class, contentId);
+      jdbcTemplate.update("DELETE FROM content_place WHERE content_id = ?", contentId);
+      for (UUID placeId : placeIds) {
+        jdbcTemplate.update("DELETE FROM place_keywords WHERE place_id = ?", placeId);
+        jdbcTemplate.update("DELETE FROM place_platform_reference WHERE place_id = ?", placeId);
+        jdbcTemplate.update("DELETE FROM place WHERE id = ?", placeId);
+      }
+      jdbcTemplate.update("DELETE FROM content_member WHERE content_id = ?", contentId);
+      jdbcTemplate.update("DELETE FROM content WHERE id = ?", contentId);
+    }
+    for (String keywordPrefix : keywordPrefixes) {
+      jdbcTemplate.update("DELETE FROM keywords WHERE keyword LIKE ?", keywordPrefix + "%");
+    }
+    jdbcTemplate.update("DELETE FROM notification WHERE recipient_member_id = ?", member.getId());
+    memberRepository.deleteById(member.getId());
+  }
+
+  @Test
+  void AI_콜백_처리() {
+    long small = countCallbackQueries(SMALL_PLACE_COUNT);
+    long large = countCallbackQueries(LARGE_PLACE_COUNT);
+
+    long perPlace = (large - small) / (LARGE_PLACE_COUNT - SMALL_PLACE_COUNT);
+    long fixed = small - perPlace * SMALL_PLACE_COUNT;
+
+    assertThat(perPlace).isEqualTo(QUERIES_PER_PLACE);
+    assertThat(fixed).isEqualTo(FIXED_QUERIES);
+    assertThat(large).isEqualTo(FIXED_QUERIES + QUERIES_PER_PLACE * LARGE_PLACE_COUNT);
+  }
+
+  /**
+   * 새 장소 placeCount개(장소마다 공유 키워드 1개 + 장소별 키워드 1개)를 담은 콜백의 SQL 수
+   */
+  private long countCallbackQueries(int placeCount) {
+    Content content = contentRepository.save(Content.builder()
+        .originalUrl("https://www.instagram.com/p/" + UUID.randomUUID())
+        .status(ContentStatus.PENDING)
+        .build());
+    contentMemberRepository.save(ContentMember.builder()
+        .content(content)
+        .member(member)
+        .notified(false)
+        .build());
+    contentIds.add(content.getId());
+
+    String suffix = UUID.randomUUID().toString();
+    keywordPrefixes.add("qc-" + suffix);
+    List<PlaceDetailCallback> placeDetails = new ArrayList<>();
+    for (int i = 0; i < placeCount; i++) {
+      placeDetails.add(PlaceDetailCallback.builder()
+          .placeId("query-count-" + suffix + "-" + i)
+          .name("query-count-callback-" + suffix + "-" + i)
+          .latitude(36.0 + i * 0.001)
+          .longitude(128.0 + i * 0.001)
+          .keywords(List.of("#qc-" + suffix + "-a", "#qc-" + suffix + "-" + i))
+          .build());
+    }
+    AiCallbackRequest request = AiCallbackRequest.builder()
+        .contentId(content.getId())
+        .resultStatus("SUCCESS")
+        .placeDetails(placeDetails)
+        .build();
+
+    return QueryCountInspector.count(() -> aiCallbackService.processAiServerCallback(request));
+  }
+}
@@ -0,0 +1,144 @@
+package kr.suhsaechan.mapsy.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import kr.suhsaechan.mapsy.common.util.BusinessHoursUtil;
+import kr.suhsaechan.mapsy.common.util.BusinessHoursUtil.DailyHours;
+import kr.suhsaechan.mapsy.common.util.BusinessHoursUtil.ParsedBusinessHours;
+import org.junit.jupiter.api.Test;
+
+/**
+ * BusinessHoursUtil 영업시간 파싱/비트맵 검증 (DB 없이 실행)
+ * - 기준 주: 2026-10-19(월) ~ 2026-10-25(일)
+ */
+class BusinessHoursUtilTests {
+
+  @Test
+  void closedLineAppliesOnlyToNamedDays() {
+    ParsedBusinessHours parsed = BusinessHoursUtil.parse(List.of("화~일 11:00-21:00", "매주 월요일 휴무"));
+
+    assertThat(parsed).isNotNull();
+    assertThat(isOpen(parsed, 19, 12, 0)).isFalse();
+    for (int day = 20; day <= 25; day++) {
+      assertThat(isOpen(parsed, day, 12, 0)).as("10/%d 12:00", day).isTrue();
+      assertThat(isOpen(parsed, day, 21, 0)).as("10/%d 21:00", day).isFalse();
+    }
+    assertThat(parsed.days()).extracting(DailyHours::dayOfWeek)
+        .containsExactly(DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY, DayOfWeek.FRIDAY,
+            DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+  }
+
+  @Test
+  void closedLineWithoutDayIsIgnored() {
+    ParsedBusinessHours parsed = BusinessHoursUtil.parse(List.of("매일 10:00 - 20:00", "공휴일 휴무"));
+
+    assertThat(parsed).isNotNull();
+    for (int day = 19; day <= 25; day++) {
+      assertThat(isOpen(parsed, day, 10, 0)).as("10/%d 10:00", day).isTrue();
+    }
+    assertThat(parsed.days()).hasSize(7);
+  }
+
+  @Test
+  void closedDayPrefixAndMentionedRange() {
+    ParsedBusinessHours parsed = BusinessHoursUtil.parse(
+        List.of("매일 09:00-18:00", "토요일 휴무", "정기휴무 (매주 월~화)"));
+
+    assertThat(parsed).isNotNull();
+    assertThat(parsed.days()).extracting(DailyHours::dayOfWeek)
+        .containsExactly(DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY, DayOfWeek.FRIDAY, DayOfWeek.SUNDAY);
+  }
+
+  @Test
+  void dayRanges() {
+    ParsedBusinessHours parsed = BusinessHoursUtil.parse(List.of("월~수 09:00-18:00", "금~월 12:00-22:00"));
+
+    assertThat(parsed).isNotNull();
+    // 월요일은 두 줄 모두 해당 (09:00 ~ 22:00)
+    assertThat(isOpen(parsed, 19, 9, 0)).isTrue();
+    assertThat(isOpen(parsed, 19, 21, 45)).isTrue();
+    assertThat(isOpen(parsed, 20, 9, 0)).isTrue();
+    assertThat(isOpen(parsed, 22, 9, 0)).isFalse();
+    assertThat(isOpen(parsed, 23, 11, 45)).isFalse();
+    assertThat(isOpen(parsed, 23, 12, 0)).isTrue();
+    assertThat(isOpen(parsed, 25, 21, 45)).isTrue();
+    assertThat(isOpen(parsed, 25, 22, 0)).isFalse();
+    assertThat(parsed.days()).contains(
+        new DailyHours(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(22, 0)),
+        new DailyHours(DayOfWeek.SATURDAY, LocalTime.of(12, 0), LocalTime.of(22, 0)));
+    assertThat(parsed.days()).extracting(DailyHours::dayOfWeek).doesNotContain(DayOfWeek.THURSDAY);
+  }
+
+  @Test
+  void breakTimeIsExcludedFromBitmapOnly() {
+    ParsedBusinessHours parsed = BusinessHoursUtil.parse(
+        List.of("평일 11:30 - 21:00", "15:00 - 17:00 브레이크타임", "주말 12:00 - 20:00"));
+
+    assertThat(parsed).isNotNull();
+    assertThat(isOpen(parsed, 19, 14, 45)).isTrue();
+    assertThat(isOpen(parsed, 19, 15, 0)).isFalse();
+    assertThat(isOpen(parsed, 19, 16, 45)).isFalse();
+    assertThat(isOpen(parsed, 19, 17, 0)).isTrue();
+    assertThat(isOpen(parsed, 24, 15, 30)).isTrue();
+    assertThat(parsed.days()).contains(
+        new DailyHours(DayOfWeek.MONDAY, LocalTime.of(11, 30), LocalTime.of(21, 0)));
+  }
+
+  @Test
+  void overnightHoursSpillIntoNextDay() {
+    ParsedBusinessHours parsed = BusinessHoursUtil.parse(List.of("목 18:00 - 02:00", "일 20:00 - 26:00"));
+
+    assertThat(parsed).isNotNull();
+    assertThat(isOpen(parsed, 22, 23, 45)).isTrue();
+    assertThat(isOpen(parsed, 23, 1, 45)).isTrue();
+    assertThat(isOpen(parsed, 23, 2, 0)).isFalse();
+    // 일요일 영업이 월요일 새벽으로 이어짐
+    assertThat(isOpen(parsed, 19, 1, 30)).isTrue();
+    assertThat(isOpen(parsed, 19, 2, 0)).isFalse();
+    assertThat(parsed.days()).containsExactly(
+        new DailyHours(DayOfWeek.THURSDAY, LocalTime.of(18, 0), LocalTime.of(2, 0)),
+        new DailyHours(DayOfWeek.SUNDAY, LocalTime.of(20, 0), LocalTime.of(2, 0)));
+  }
+
+  @Test
+  void closedDayKeepsPreviousNightSpillover() {
+    ParsedBusinessHours parsed = BusinessHoursUtil.parse(List.of("매일 18:00 - 03:00", "화 휴무"));
+
+    assertThat(parsed).isNotNull();
+    // 월요일 영업이 화요일 새벽까지 이어지고, 화요일 저녁 영업은 없음
+    assertThat(isOpen(parsed, 20, 2, 30)).isTrue();
+    assertThat(isOpen(parsed, 20, 19, 0)).isFalse();
+    assertThat(isOpen(parsed, 21, 2, 30)).isFalse();
+    assertThat(isOpen(parsed, 21, 19, 0)).isTrue();
+  }
+
+  @Test
+  void allDayHours() {
+    ParsedBusinessHours parsed = BusinessHoursUtil.parse(List.of("24시간 영업"));
+
+    assertThat(parsed).isNotNull();
+    byte[] fullWeek = new byte[BusinessHoursUtil.BITMAP_BYTES];
+    Arrays.fill(fullWeek, (byte) 0xFF);
+    assertThat(parsed.bitmap()).containsExactly(fullWeek);
+    assertThat(parsed.days()).hasSize(7)
+        .allMatch(day -> day.openTime().equals(LocalTime.MIDNIGHT) && day.closeTime().equals(LocalTime.MIDNIGHT));
+  }
+
+  @Test
+  void unrecognizedInputReturnsNull() {
+    assertThat(BusinessHoursUtil.parse(null)).isNull();
+    assertThat(BusinessHoursUtil.parse(List.of())).isNull();
+    assertThat(BusinessHoursUtil.parse(List.of("영업시간 정보 없음", " "))).isNull();
+    assertThat(BusinessHoursUtil.parse(List.of("공휴일 휴무"))).isNull();
+  }
+
+  private boolean isOpen(ParsedBusinessHours parsed, int dayOfMonth, int hour, int minute) {
+    int slot = BusinessHoursUtil.slotOf(LocalDateTime.of(2026, 10, dayOfMonth, hour, minute));
+    return BusinessHoursUtil.isOpen(parsed.bitmap(), slot);
+  }
+}
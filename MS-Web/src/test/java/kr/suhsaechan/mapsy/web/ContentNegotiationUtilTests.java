@@ -0,0 +1,42 @@
+package kr.suhsaechan.mapsy.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import kr.suhsaechan.mapsy.common.util.ContentNegotiationUtil;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.http.MediaType;
+
+/**
+ * 회원 장소 마커 API의 Accept 협상 (JSON 기본, Protobuf 선택) 검증
+ */
+class ContentNegotiationUtilTests {
+
+  private static final MediaType PROTOBUF = MediaType.parseMediaType("application/x-protobuf");
+  private static final List<MediaType> PRODUCIBLE = List.of(MediaType.APPLICATION_JSON, PROTOBUF);
+
+  @ParameterizedTest
+  @CsvSource(delimiter = '|', nullValues = "NULL", value = {
+      "NULL                                                | application/json",
+      "''                                                  | application/json",
+      "not a media type;;                                  | application/json",
+      "text/html                                           | application/json",
+      "*/*                                                 | application/json",
+      "application/*                                       | application/json",
+      "application/x-protobuf                              | application/x-protobuf",
+      "application/x-protobuf;q=0                          | application/json",
+      "application/x-protobuf;q=0, */*                     | application/json",
+      "application/x-protobuf;q=0.5, application/json      | application/json",
+      "application/x-protobuf, application/json;q=0.9      | application/x-protobuf",
+      "application/json, application/x-protobuf            | application/json",
+      "*/*;q=0.1, application/x-protobuf                   | application/x-protobuf",
+      "application/*;q=0.2, application/x-protobuf;q=0.8   | application/x-protobuf",
+      "application/x-protobuf;q=0.3, application/*;q=0.9   | application/json",
+      "application/json;q=0, application/x-protobuf;q=0.1  | application/x-protobuf"
+  })
+  void selectsByQualityAndSpecificity(String accept, String expected) {
+    assertThat(ContentNegotiationUtil.select(accept, PRODUCIBLE))
+        .isEqualTo(MediaType.parseMediaType(expected));
+  }
+}
@@ -0,0 +1,175 @@
+package kr.suhsaechan.mapsy.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntSupplier;
+import java.util.stream.IntStream;
+import kr.suhsaechan.mapsy.member.entity.Member;
+import kr.suhsaechan.mapsy.member.repository.MemberRepository;
+import kr.suhsaechan.mapsy.place.constant.PlaceSavedStatus;
+import kr.suhsaechan.mapsy.place.dto.GetSavedPlacesResponse;
+import kr.suhsaechan.mapsy.place.dto.PlaceDto;
+import kr.suhsaechan.mapsy.place.entity.MemberPlace;
+import kr.suhsaechan.mapsy.place.entity.Place;
+import kr.suhsaechan.mapsy.place.repository.MemberPlaceRepository;
+import kr.suhsaechan.mapsy.place.repository.PlaceRepository;
+import kr.suhsaechan.mapsy.place.service.MemberPlaceService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 저장 장소 목록 조회 벤치마크 (Place 전체 Fetch Join vs 목록 컬럼 Projection + 커서 페이지네이션)
+ * - MAPSY_BENCHMARK=true 일 때만 실행 (DB 필요, 테스트 데이터는 트랜잭션 롤백으로 정리)
+ * - 회원 1명에 PLACE_COUNT개의 상세 컬럼이 채워진 장소를 저장한 뒤 전체 목록을 조회
+ * - 행 폭 : pg_column_size로 Place 전체 행과 Projection 컬럼의 평균 바이트 수 비교
+ * - 할당량 : 조회 스레드의 할당 바이트(com.sun.management.ThreadMXBean) 비교
+ */
+@Slf4j
+@SpringBootTest
+@Transactional
+@EnabledIfEnvironmentVariable(named = "MAPSY_BENCHMARK", matches = "true")
+class MemberPlaceListBenchmarkTests {
+
+  private static final int PLACE_COUNT = 3_000;
+  private static final int PAGE_SIZE = 100;
+  private static final int ROUNDS = 5;
+
+  @Autowired private EntityManager entityManager;
+  @Autowired private MemberRepository memberRepository;
+  @Autowired private PlaceRepository placeRepository;
+  @Autowired private MemberPlaceRepository memberPlaceRepository;
+  @Autowired private MemberPlaceService memberPlaceService;
+
+  private Member member;
+
+  @BeforeEach
+  void setUp() {
+    member = memberRepository.save(Member.builder()
+        .email("place-list-benchmark-" + UUID.randomUUID() + "@mapsy.test")
+        .name("place-list-benchmark")
+        .build());
+
+    List<String> photoUrls = IntStream.range(0, 10)
+        .mapToObj(i -> "https://img.mapsy.test/place/" + UUID.randomUUID() + "/" + i + ".jpg")
+        .toList();
+    for (int i = 0; i < PLACE_COUNT; i++) {
+      Place place = placeRepository.save(Place.builder()
+          .name("benchmark-place-" + i)
+          .address("서울특별시 중구 세종대로 " + i)
+          .latitude(BigDecimal.valueOf(37.5 + (i % 1000) * 0.0001))
+          .longitude(BigDecimal.valueOf(127.0 + (i / 1000) * 0.0001))
+          .description("서울역 인근, 공부하기 좋은 카페. ".repeat(10))
+          .directionsText("서울역 1번 출구에서 직진 후 오른쪽 골목으로 200m. ".repeat(10))
+          .photoUrls(photoUrls)
+          .types(List.of("cafe", "restaurant", "bakery"))
+          .amenities(List.of("주차", "와이파이", "단체석", "포장", "배달"))
+          .menuInfo(List.of("아메리카노 4,500원", "카페라떼 5,000원", "크루아상 3,800원"))
+          .tvAppearances(List.of("생활의 달인 2024.03.01", "맛있는 녀석들 2023.11.12"))
+          .openHoursDetail(List.of("월 10:00 - 22:00", "화 10:00 - 22:00", "수 10:00 - 22:00",
+              "목 10:00 - 22:00", "금 10:00 - 23:00", "토 11:00 - 23:00", "일 휴무"))
+          .build());
+
+      memberPlaceRepository.save(MemberPlace.builder()
+          .member(member)
+          .place(place)
+          .savedStatus(PlaceSavedStatus.SAVED)
+          .build());
+    }
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  void savedPlaceListRowWidthAndAllocation() {
+    Object[] widths = (Object[]) entityManager.createNativeQuery("""
+            SELECT avg(pg_column_size(p.*)),
+                   avg(pg_column_size(ROW(mp.id, mp.created_at, p.id, p.name, p.address, p.rating,
+                       p.user_ratings_total, p.photo_urls[1:10], p.description)))
+            FROM member_place mp
+            JOIN place p ON p.id = mp.place_id
+            WHERE mp.member_id = :memberId
+            """)
+        .setParameter("memberId", member.getId())
+        .getSingleResult();
+    double fullRowBytes = ((Number) widths[0]).doubleValue();
+    double projectionRowBytes = ((Number) widths[1]).doubleValue();
+
+    // JIT 워밍업
+    fetchAllWithFetchJoin();
+    fetchAllWithProjection();
+
+    long fetchJoinBytes = 0;
+    long projectionBytes = 0;
+    long fetchJoinNanos = 0;
+    long projectionNanos = 0;
+    for (int round = 0; round < ROUNDS; round++) {
+      long[] fetchJoin = measure(this::fetchAllWithFetchJoin);
+      long[] projection = measure(this::fetchAllWithProjection);
+      fetchJoinBytes += fetchJoin[0];
+      fetchJoinNanos += fetchJoin[1];
+      projectionBytes += projection[0];
+      projectionNanos += projection[1];
+    }
+
+    log.info("[Benchmark] places={}, row width full={}B projection={}B, "
+            + "allocated fetchJoin={}KB projection={}KB, time fetchJoin={}ms projection={}ms (avg of {} rounds)",
+        PLACE_COUNT, Math.round(fullRowBytes), Math.round(projectionRowBytes),
+        fetchJoinBytes / ROUNDS / 1024, projectionBytes / ROUNDS / 1024,
+        fetchJoinNanos / ROUNDS / 1_000_000, projectionNanos / ROUNDS / 1_000_000, ROUNDS);
+
+    assertThat(projectionRowBytes).isLessThan(fullRowBytes);
+    assertThat(projectionBytes).isLessThan(fetchJoinBytes);
+  }
+
+  /**
+   * 기존 방식: Place 전체 Fetch Join 후 PlaceDto 변환
+   */
+  private int fetchAllWithFetchJoin() {
+    List<PlaceDto> places = memberPlaceRepository
+        .findByMemberAndSavedStatusWithPlace(member, PlaceSavedStatus.SAVED).stream()
+        .map(memberPlace -> PlaceDto.from(memberPlace.getPlace()))
+        .toList();
+    return places.size();
+  }
+
+  /**
+   * 현재 방식: 목록 컬럼 Projection을 커서로 끝까지 조회
+   */
+  private int fetchAllWithProjection() {
+    List<PlaceDto> places = new ArrayList<>();
+    String cursor = null;
+    do {
+      GetSavedPlacesResponse page = memberPlaceService.getSavedPlaces(member.getId(), cursor, PAGE_SIZE);
+      places.addAll(page.getPlaces());
+      cursor = page.getNextCursor();
+    } while (cursor != null);
+    return places.size();
+  }
+
+  /**
+   * @return [할당 바이트, 소요 나노초]
+   */
+  private long[] measure(IntSupplier fetch) {
+    com.sun.management.ThreadMXBean threadBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    entityManager.clear();
+    long allocatedBefore = threadBean.getCurrentThreadAllocatedBytes();
+    long startedAt = System.nanoTime();
+    int fetched = fetch.getAsInt();
+    long elapsed = System.nanoTime() - startedAt;
+    long allocated = threadBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+    assertThat(fetched).isEqualTo(PLACE_COUNT);
+    return new long[] {allocated, elapsed};
+  }
+}
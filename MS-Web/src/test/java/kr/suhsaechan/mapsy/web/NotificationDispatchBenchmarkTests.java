@@ -0,0 +1,106 @@
+package kr.suhsaechan.mapsy.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import kr.suhsaechan.mapsy.member.dto.FcmTokenRow;
+import kr.suhsaechan.mapsy.member.dto.NotificationDispatchResult;
+import kr.suhsaechan.mapsy.member.dto.PushMessage;
+import kr.suhsaechan.mapsy.member.repository.FcmTokenRepository;
+import kr.suhsaechan.mapsy.member.service.InMemoryPushGateway;
+import kr.suhsaechan.mapsy.member.service.NotificationDispatcher;
+import kr.suhsaechan.mapsy.member.service.PushMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * 대량 알림 발송 처리량 벤치마크 (InMemoryPushGateway 기준, DB/Firebase 없이 실행)
+ * - MAPSY_BENCHMARK=true 일 때만 실행 (예: MAPSY_BENCHMARK=true ./gradlew :MS-Web:test --tests '*NotificationDispatchBenchmarkTests')
+ * - 회원당 토큰 TOKENS_PER_MEMBER개, 전체 토큰의 약 1%는 UNREGISTERED
+ * - NotificationDispatcher(500개 멀티캐스트 배치 병렬 전송)와 회원별 순차 전송(기존 방식)의 회원/초를 비교
+ */
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "MAPSY_BENCHMARK", matches = "true")
+class NotificationDispatchBenchmarkTests {
+
+  private static final long LATENCY_MILLIS = 20;
+  private static final int TOKENS_PER_MEMBER = 2;
+  private static final int UNREGISTERED_EVERY = 100;
+  private static final int SEQUENTIAL_SAMPLE_MEMBERS = 200;
+  private static final PushMessage MESSAGE = new PushMessage(
+      "콘텐츠 분석 완료", "저장한 콘텐츠의 장소 분석이 완료되었습니다.", Map.of("type", "CONTENT_COMPLETE"), null);
+
+  @Test
+  void dispatchThroughput_1k() throws Exception {
+    runBenchmark(1_000);
+  }
+
+  @Test
+  void dispatchThroughput_5k() throws Exception {
+    runBenchmark(5_000);
+  }
+
+  @Test
+  void dispatchThroughput_20k() throws Exception {
+    runBenchmark(20_000);
+  }
+
+  private void runBenchmark(int memberCount) throws Exception {
+    List<UUID> memberIds = new ArrayList<>(memberCount);
+    List<FcmTokenRow> tokens = new ArrayList<>(memberCount * TOKENS_PER_MEMBER);
+    int unregisteredCount = 0;
+    for (int i = 0; i < memberCount; i++) {
+      UUID memberId = UUID.randomUUID();
+      memberIds.add(memberId);
+      for (int device = 0; device < TOKENS_PER_MEMBER; device++) {
+        boolean unregistered = tokens.size() % UNREGISTERED_EVERY == 0;
+        String prefix = unregistered ? InMemoryPushGateway.UNREGISTERED_TOKEN_PREFIX : "token-";
+        tokens.add(new FcmTokenRow(UUID.randomUUID(), memberId, prefix + UUID.randomUUID()));
+        unregisteredCount += unregistered ? 1 : 0;
+      }
+    }
+
+    FcmTokenRepository fcmTokenRepository = mock(FcmTokenRepository.class);
+    when(fcmTokenRepository.findTokenRowsByMemberIdIn(anyCollection())).thenReturn(tokens);
+    InMemoryPushGateway gateway = new InMemoryPushGateway(LATENCY_MILLIS, 0.0, 0.0, 0.0);
+    NotificationDispatcher dispatcher = new NotificationDispatcher(
+        fcmTokenRepository, gateway, new PushMetrics(new SimpleMeterRegistry()));
+
+    long startedAt = System.nanoTime();
+    NotificationDispatchResult result = dispatcher
+        .dispatch(memberIds, MESSAGE.title(), MESSAGE.body(), MESSAGE.data(), MESSAGE.imageUrl())
+        .get(5, TimeUnit.MINUTES);
+    double dispatchSeconds = (System.nanoTime() - startedAt) / 1e9;
+
+    // 기존 방식: 회원마다 토큰 조회 후 멀티캐스트 1회 (표본 회원 수만 측정)
+    int sampleSize = Math.min(SEQUENTIAL_SAMPLE_MEMBERS, memberCount);
+    startedAt = System.nanoTime();
+    for (int i = 0; i < sampleSize; i++) {
+      List<String> memberTokens = tokens.subList(i * TOKENS_PER_MEMBER, (i + 1) * TOKENS_PER_MEMBER).stream()
+          .map(FcmTokenRow::fcmToken)
+          .toList();
+      gateway.sendMulticast(MESSAGE, memberTokens);
+    }
+    double sequentialSeconds = (System.nanoTime() - startedAt) / 1e9;
+
+    double dispatchRate = memberCount / dispatchSeconds;
+    double sequentialRate = sampleSize / sequentialSeconds;
+    log.info("[Benchmark] members={}, tokens={}, dispatcher {} members/s ({}s), sequential {} members/s, speedup x{}",
+        memberCount, tokens.size(), Math.round(dispatchRate), String.format("%.2f", dispatchSeconds),
+        Math.round(sequentialRate), String.format("%.1f", dispatchRate / sequentialRate));
+
+    assertThat(result.successCount() + result.failureCount()).isEqualTo(tokens.size());
+    assertThat(result.invalidTokenCount()).isEqualTo(unregisteredCount);
+    assertThat(result.deliveredMemberIds()).hasSize(memberCount);
+    assertThat(dispatchRate).isGreaterThan(sequentialRate);
+  }
+}
@@ -0,0 +1,278 @@
+package kr.suhsaechan.mapsy.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import kr.suhsaechan.mapsy.place.dto.PlaceKeywordRow;
+import kr.suhsaechan.mapsy.place.repository.PlaceKeywordRepository;
+import kr.suhsaechan.mapsy.place.repository.PlaceRepository;
+import kr.suhsaechan.mapsy.place.service.PlaceKeywordIndex;
+import kr.suhsaechan.mapsy.place.service.PlaceKeywordIndex.Hits;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.Limit;
+
+/**
+ * PlaceKeywordIndex 무작위 검증 (DB 없이 실행)
+ * - 초기 적재 후 키워드 연결/삭제를 무작위로 반복하며 all(AND)/any(OR)/not(NOT) 검색 결과를 전수 탐색(brute force) 결과와 비교
+ * - 순위(희소도 합), 상위 k개 선택, 동점 시 색인 순번 순서, 전체 일치 수를 모두 검사
+ * - 재적재 도중 변경을 끼워 넣어 기존 색인(복사 후 교체)과 재적재 완료 후 색인(변경 재반영)을 모두 검사
+ * - 삭제 경로: removePlace 즉시 제외, DB에서만 삭제 후 syncDeletions로 제외
+ */
+class PlaceKeywordIndexRandomizedTests {
+
+  private static final int INITIAL_PLACES = 6_000;
+  private static final int VOCABULARY = 200;
+  private static final int ROUNDS = 30;
+  private static final int MAX_CHANGES_PER_ROUND = 400;
+  private static final int QUERIES_PER_ROUND = 30;
+
+  // DB 상태 (삭제되지 않은 장소의 키워드, 삭제된 장소)
+  private final TreeMap<UUID, Set<String>> activePlaces = new TreeMap<>();
+  private final List<UUID> activeIds = new ArrayList<>();
+  private final Set<UUID> deletedPlaces = new HashSet<>();
+
+  // 재적재 중 적재된 행, 첫 배치 적재 직후 실행할 변경
+  private final List<PlaceKeywordRow> loadedRows = new ArrayList<>();
+  private final AtomicReference<Runnable> duringLoad = new AtomicReference<>();
+
+  @ParameterizedTest
+  @ValueSource(longs = {1L, 7L, 42L})
+  void searchMatchesBruteForceAcrossChanges(long seed) {
+    Random random = new Random(seed);
+    for (int i = 0; i < INITIAL_PLACES; i++) {
+      // 일부 장소는 키워드 없이 저장
+      Set<String> keywords = random.nextInt(20) == 0 ? new TreeSet<>() : randomKeywords(random);
+      UUID id = new UUID(random.nextLong(), random.nextLong());
+      activePlaces.put(id, keywords);
+      activeIds.add(id);
+    }
+
+    PlaceKeywordIndex index = new PlaceKeywordIndex(placeRepository(), placeKeywordRepository());
+    assertThat(index.search(List.of("k1"), List.of(), List.of(), 10)).isNull();
+    Model model = rebuild(index, random, List.of());
+    assertMatches(index, model, random);
+
+    for (int round = 0; round < ROUNDS; round++) {
+      if (random.nextInt(4) == 0) {
+        // 재적재 도중 변경 (기존 색인에 즉시 반영되고, 새 색인에는 적재 완료 후 다시 반영)
+        Model previous = model;
+        List<Consumer<Model>> pending = new ArrayList<>();
+        duringLoad.set(() -> {
+          applyChanges(index, previous, random, pending);
+          assertMatches(index, previous, random);
+        });
+        model = rebuild(index, random, pending);
+        assertThat(duringLoad.get()).isNull();
+      } else {
+        applyChanges(index, model, random, null);
+      }
+
+      index.syncDeletions();
+      deletedPlaces.forEach(model::remove);
+      assertMatches(index, model, random);
+    }
+  }
+
+  /**
+   * 재적재 후 색인과 같은 상태의 모델 생성 (적재된 행 순서대로 순번 부여 후 재적재 중 변경 재반영)
+   */
+  private Model rebuild(PlaceKeywordIndex index, Random random, List<Consumer<Model>> pending) {
+    loadedRows.clear();
+    index.rebuild();
+
+    Model rebuilt = new Model();
+    loadedRows.forEach(row -> rebuilt.add(row.placeId(), List.of(row.keyword())));
+    pending.forEach(change -> change.accept(rebuilt));
+    return rebuilt;
+  }
+
+  /**
+   * 무작위 변경 (새 장소 / 기존 장소 키워드 추가 / removePlace 삭제 / DB에서만 삭제)
+   */
+  private void applyChanges(PlaceKeywordIndex index, Model model, Random random, List<Consumer<Model>> pending) {
+    int changes = 1 + random.nextInt(MAX_CHANGES_PER_ROUND);
+    for (int i = 0; i < changes; i++) {
+      int operation = random.nextInt(10);
+      if (operation < 4 || activeIds.isEmpty()) {
+        UUID id = new UUID(random.nextLong(), random.nextLong());
+        Set<String> keywords = randomKeywords(random);
+        activePlaces.put(id, new TreeSet<>(keywords));
+        activeIds.add(id);
+        index.addKeywords(id, keywords);
+        record(model, pending, target -> target.add(id, keywords));
+      } else if (operation < 6) {
+        UUID id = activeIds.get(random.nextInt(activeIds.size()));
+        Set<String> keywords = randomKeywords(random);
+        activePlaces.get(id).addAll(keywords);
+        index.addKeywords(id, keywords);
+        record(model, pending, target -> target.add(id, keywords));
+      } else {
+        UUID id = activeIds.remove(random.nextInt(activeIds.size()));
+        activePlaces.remove(id);
+        deletedPlaces.add(id);
+        if (operation < 8) {
+          index.removePlace(id);
+          record(model, pending, target -> target.remove(id));
+        }
+      }
+    }
+  }
+
+  private void record(Model model, List<Consumer<Model>> pending, Consumer<Model> change) {
+    change.accept(model);
+    if (pending != null) {
+      pending.add(change);
+    }
+  }
+
+  private void assertMatches(PlaceKeywordIndex index, Model model, Random random) {
+    for (int query = 0; query < QUERIES_PER_ROUND; query++) {
+      List<String> all = randomTerms(random, random.nextInt(3));
+      List<String> any = randomTerms(random, all.isEmpty() ? 1 + random.nextInt(4) : random.nextInt(3));
+      List<String> none = randomTerms(random, random.nextInt(3));
+      int limit = 1 + random.nextInt(random.nextBoolean() ? 20 : 1_000);
+
+      Hits actual = index.search(all, any, none, limit);
+      Hits expected = model.search(all, any, none, limit);
+
+      assertThat(actual).as("all=%s, any=%s, none=%s, limit=%d", all, any, none, limit).isNotNull();
+      assertThat(actual.totalCount())
+          .as("all=%s, any=%s, none=%s", all, any, none)
+          .isEqualTo(expected.totalCount());
+      assertThat(actual.placeIds())
+          .as("all=%s, any=%s, none=%s, limit=%d", all, any, none, limit)
+          .containsExactlyElementsOf(expected.placeIds());
+    }
+  }
+
+  /**
+   * 앞쪽 키워드일수록 자주 등장 (희소도 차이와 동점이 모두 생기도록)
+   */
+  private String randomKeyword(Random random) {
+    double skew = random.nextDouble();
+    return "k" + (int) (VOCABULARY * skew * skew);
+  }
+
+  private Set<String> randomKeywords(Random random) {
+    Set<String> keywords = new TreeSet<>();
+    int count = 1 + random.nextInt(6);
+    for (int i = 0; i < count; i++) {
+      keywords.add(randomKeyword(random));
+    }
+    return keywords;
+  }
+
+  private List<String> randomTerms(Random random, int count) {
+    Set<String> terms = new LinkedHashSet<>();
+    for (int i = 0; i < count; i++) {
+      // 색인에 없는 키워드도 섞음
+      terms.add(random.nextInt(15) == 0 ? "missing" : randomKeyword(random));
+    }
+    return List.copyOf(terms);
+  }
+
+  private PlaceRepository placeRepository() {
+    PlaceRepository placeRepository = mock(PlaceRepository.class);
+    when(placeRepository.findActiveIdsAfter(any(), any())).thenAnswer(invocation -> {
+      UUID cursor = invocation.getArgument(0);
+      Limit limit = invocation.getArgument(1);
+      return activePlaces.tailMap(cursor, false).keySet().stream()
+          .limit(limit.max())
+          .toList();
+    });
+    when(placeRepository.findIdsDeletedSince(any())).thenAnswer(invocation -> List.copyOf(deletedPlaces));
+    return placeRepository;
+  }
+
+  private PlaceKeywordRepository placeKeywordRepository() {
+    PlaceKeywordRepository placeKeywordRepository = mock(PlaceKeywordRepository.class);
+    when(placeKeywordRepository.findKeywordRowsByPlaceIdIn(any())).thenAnswer(invocation -> {
+      Collection<UUID> placeIds = invocation.getArgument(0);
+      List<PlaceKeywordRow> rows = new ArrayList<>();
+      for (UUID placeId : placeIds) {
+        activePlaces.get(placeId).forEach(keyword -> rows.add(new PlaceKeywordRow(placeId, keyword)));
+      }
+      loadedRows.addAll(rows);
+      Runnable change = duringLoad.getAndSet(null);
+      if (change != null) {
+        change.run();
+      }
+      return rows;
+    });
+    return placeKeywordRepository;
+  }
+
+  /**
+   * 전수 탐색 모델 (색인과 같은 규칙)
+   * - 순번은 처음 색인된 순서, 삭제된 장소는 다음 재적재 전까지 키워드별 장소 수(희소도)에 남음
+   */
+  private static final class Model {
+
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final Map<String, Set<UUID>> postings = new HashMap<>();
+    private final Set<UUID> live = new HashSet<>();
+
+    void add(UUID placeId, Collection<String> keywords) {
+      ordinals.putIfAbsent(placeId, ordinals.size());
+      keywords.forEach(keyword -> postings.computeIfAbsent(keyword, key -> new HashSet<>()).add(placeId));
+      live.add(placeId);
+    }
+
+    void remove(UUID placeId) {
+      live.remove(placeId);
+    }
+
+    Hits search(List<String> all, List<String> any, List<String> none, int limit) {
+      List<UUID> candidates = live.stream()
+          .filter(placeId -> all.isEmpty()
+              ? any.stream().anyMatch(keyword -> has(keyword, placeId))
+              : all.stream().allMatch(keyword -> has(keyword, placeId)))
+          .filter(placeId -> none.stream().noneMatch(keyword -> has(keyword, placeId)))
+          .toList();
+
+      Set<String> terms = new LinkedHashSet<>(all);
+      terms.addAll(any);
+      double placeCount = live.size();
+      Map<UUID, Float> scores = new HashMap<>();
+      for (UUID placeId : candidates) {
+        float score = 0;
+        for (String term : terms) {
+          int documentFrequency = postings.getOrDefault(term, Set.of()).size();
+          if (documentFrequency > 0 && has(term, placeId)) {
+            score += (float) Math.log1p(placeCount / documentFrequency);
+          }
+        }
+        scores.put(placeId, score);
+      }
+
+      List<UUID> ranked = candidates.stream()
+          .sorted(Comparator.comparing((UUID placeId) -> scores.get(placeId)).reversed()
+              .thenComparing(ordinals::get))
+          .limit(limit)
+          .toList();
+      return new Hits(ranked, candidates.size());
+    }
+
+    private boolean has(String keyword, UUID placeId) {
+      return postings.getOrDefault(keyword, Set.of()).contains(placeId);
+    }
+  }
+}
@@ -0,0 +1,125 @@
+package kr.suhsaechan.mapsy.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import kr.suhsaechan.mapsy.place.dto.GetNearbyPlacesResponse;
+import kr.suhsaechan.mapsy.place.entity.Place;
+import kr.suhsaechan.mapsy.place.repository.PlaceRepository;
+import kr.suhsaechan.mapsy.place.service.NearbyPlaceService;
+import kr.suhsaechan.mapsy.place.service.PlaceSpatialIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 반경 검색 벤치마크 (PlaceSpatialIndex + PK 조회 vs 격자 셀 SQL 조회)
+ * - MAPSY_BENCHMARK=true 일 때만 실행 (DB 필요, 테스트 데이터는 트랜잭션 롤백으로 정리)
+ * - 서울 주변에 PLACE_COUNT개 장소를 저장하고 색인을 재적재한 뒤 같은 질의를 두 경로로 실행
+ * - 격자 조회 경로는 minRating=0 필터로 강제 (저장한 장소는 모두 별점이 있어 결과 대상은 같음)
+ */
+@Slf4j
+@SpringBootTest
+@Transactional
+@EnabledIfEnvironmentVariable(named = "MAPSY_BENCHMARK", matches = "true")
+class PlaceSpatialIndexBenchmarkTests {
+
+  private static final int PLACE_COUNT = 20_000;
+  private static final int SAVE_BATCH_SIZE = 1_000;
+  private static final int QUERY_COUNT = 500;
+  private static final int RADIUS_METERS = 1_000;
+  private static final int LIMIT = 50;
+
+  @Autowired private EntityManager entityManager;
+  @Autowired private PlaceRepository placeRepository;
+  @Autowired private NearbyPlaceService nearbyPlaceService;
+  @Autowired private PlaceSpatialIndex placeSpatialIndex;
+
+  @BeforeEach
+  void setUp() {
+    Random random = new Random(42);
+    List<Place> places = new ArrayList<>(SAVE_BATCH_SIZE);
+    for (int i = 0; i < PLACE_COUNT; i++) {
+      places.add(Place.builder()
+          .name("spatial-benchmark-" + i)
+          .address("서울특별시")
+          .latitude(BigDecimal.valueOf(37.45 + random.nextDouble() * 0.2).setScale(7, RoundingMode.HALF_UP))
+          .longitude(BigDecimal.valueOf(126.85 + random.nextDouble() * 0.3).setScale(7, RoundingMode.HALF_UP))
+          .rating(BigDecimal.valueOf(random.nextInt(51), 1))
+          .build());
+      if (places.size() == SAVE_BATCH_SIZE) {
+        placeRepository.saveAll(places);
+        entityManager.flush();
+        entityManager.clear();
+        places.clear();
+      }
+    }
+    placeRepository.saveAll(places);
+    entityManager.flush();
+    entityManager.clear();
+
+    // 테스트 트랜잭션 안에서 재적재하여 저장한 장소를 색인에 포함
+    placeSpatialIndex.rebuild();
+  }
+
+  @AfterTransaction
+  void reloadIndex() {
+    // 롤백된 장소를 색인에서 제거
+    placeSpatialIndex.rebuild();
+  }
+
+  @Test
+  void radiusSearchIndexVsGridScan() {
+    double[][] centers = new double[QUERY_COUNT][];
+    Random random = new Random(7);
+    for (int i = 0; i < QUERY_COUNT; i++) {
+      centers[i] = new double[] {37.47 + random.nextDouble() * 0.16, 126.88 + random.nextDouble() * 0.24};
+    }
+
+    // JIT/커넥션 워밍업
+    for (int i = 0; i < 50; i++) {
+      search(centers[i], null);
+      search(centers[i], BigDecimal.ZERO);
+    }
+
+    long indexNanos = 0;
+    long gridNanos = 0;
+    long indexResults = 0;
+    long gridResults = 0;
+    for (double[] center : centers) {
+      long startedAt = System.nanoTime();
+      indexResults += search(center, null).getPlaces().size();
+      indexNanos += System.nanoTime() - startedAt;
+
+      startedAt = System.nanoTime();
+      gridResults += search(center, BigDecimal.ZERO).getPlaces().size();
+      gridNanos += System.nanoTime() - startedAt;
+    }
+
+    double indexMicros = indexNanos / 1_000.0 / QUERY_COUNT;
+    double gridMicros = gridNanos / 1_000.0 / QUERY_COUNT;
+    log.info("[Benchmark] places={}, queries={}, radius={}m, limit={}, index {}us/query (results {}), "
+            + "grid scan {}us/query (results {}), speedup x{}",
+        PLACE_COUNT, QUERY_COUNT, RADIUS_METERS, LIMIT, Math.round(indexMicros), indexResults,
+        Math.round(gridMicros), gridResults, String.format("%.1f", gridMicros / indexMicros));
+
+    assertThat(indexResults).isPositive();
+    assertThat(indexMicros).isLessThan(gridMicros);
+  }
+
+  private GetNearbyPlacesResponse search(double[] center, BigDecimal minRating) {
+    entityManager.clear();
+    return nearbyPlaceService.getPlacesWithinRadius(
+        center[0], center[1], RADIUS_METERS, null, minRating, null, LIMIT);
+  }
+}
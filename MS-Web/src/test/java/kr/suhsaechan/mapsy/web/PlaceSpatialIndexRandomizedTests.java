@@ -0,0 +1,174 @@
+package kr.suhsaechan.mapsy.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import kr.suhsaechan.mapsy.common.util.GeoGridUtil;
+import kr.suhsaechan.mapsy.place.dto.PlaceCoordinateRow;
+import kr.suhsaechan.mapsy.place.entity.Place;
+import kr.suhsaechan.mapsy.place.repository.PlaceRepository;
+import kr.suhsaechan.mapsy.place.service.PlaceSpatialIndex;
+import kr.suhsaechan.mapsy.place.service.PlaceSpatialIndex.Neighbor;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.Limit;
+
+/**
+ * PlaceSpatialIndex 무작위 검증 (DB 없이 실행)
+ * - 초기 적재 후 추가/이동/삭제를 무작위로 반복하며 k-최근접/반경 검색 결과를 전수 탐색(brute force) 결과와 비교
+ * - 변경 누적량이 MAX_DELTA를 여러 번 넘도록 하여 압축 전/중/후 스냅샷을 모두 검사 (라운드마다 압축 완료를 기다리거나 기다리지 않음)
+ */
+class PlaceSpatialIndexRandomizedTests {
+
+  private static final int INITIAL_PLACES = 20_000;
+  private static final int ROUNDS = 40;
+  private static final int MAX_CHANGES_PER_ROUND = 1_500;
+  private static final int QUERIES_PER_ROUND = 30;
+
+  @ParameterizedTest
+  @ValueSource(longs = {1L, 7L, 42L})
+  void nearestMatchesBruteForceAcrossChanges(long seed) throws Exception {
+    Random random = new Random(seed);
+    Map<UUID, double[]> truth = new HashMap<>();
+    for (int i = 0; i < INITIAL_PLACES; i++) {
+      truth.put(new UUID(random.nextLong(), random.nextLong()), randomCoordinate(random));
+    }
+
+    PlaceRepository placeRepository = mock(PlaceRepository.class);
+    List<PlaceCoordinateRow> initialRows = truth.entrySet().stream()
+        .map(entry -> new PlaceCoordinateRow(entry.getKey(),
+            BigDecimal.valueOf(entry.getValue()[0]), BigDecimal.valueOf(entry.getValue()[1])))
+        .sorted(Comparator.comparing(PlaceCoordinateRow::id))
+        .toList();
+    when(placeRepository.findCoordinateRowsAfter(any(), any())).thenAnswer(invocation -> {
+      UUID cursor = invocation.getArgument(0);
+      Limit limit = invocation.getArgument(1);
+      return initialRows.stream()
+          .filter(row -> row.id().compareTo(cursor) > 0)
+          .limit(limit.max())
+          .toList();
+    });
+
+    PlaceSpatialIndex index = new PlaceSpatialIndex(placeRepository);
+    assertThat(index.nearest(37.5, 127.0, 1_000, 10)).isNull();
+    index.rebuild();
+    assertMatches(index, truth, random);
+
+    List<UUID> ids = new ArrayList<>(truth.keySet());
+    for (int round = 0; round < ROUNDS; round++) {
+      List<Place> upserts = new ArrayList<>();
+      int changes = 1 + random.nextInt(MAX_CHANGES_PER_ROUND);
+      for (int i = 0; i < changes; i++) {
+        int operation = random.nextInt(10);
+        if (operation < 4 || ids.isEmpty()) {
+          // 새 장소
+          UUID id = new UUID(random.nextLong(), random.nextLong());
+          double[] coordinate = randomCoordinate(random);
+          truth.put(id, coordinate);
+          ids.add(id);
+          upserts.add(place(id, coordinate));
+        } else if (operation < 7) {
+          // 기존 장소 좌표 이동
+          UUID id = ids.get(random.nextInt(ids.size()));
+          double[] coordinate = randomCoordinate(random);
+          truth.put(id, coordinate);
+          upserts.add(place(id, coordinate));
+        } else {
+          // 삭제 (soft delete된 장소 upsert 또는 removePlace)
+          UUID id = ids.remove(random.nextInt(ids.size()));
+          double[] coordinate = truth.remove(id);
+          if (operation == 7) {
+            Place deleted = place(id, coordinate);
+            deleted.softDelete("test");
+            upserts.add(deleted);
+          } else {
+            // 앞서 모은 변경이 삭제 뒤에 반영되지 않도록 먼저 반영
+            index.upsertPlaces(upserts);
+            upserts.clear();
+            index.removePlace(id);
+          }
+        }
+      }
+      index.upsertPlaces(upserts);
+
+      if (random.nextBoolean()) {
+        awaitCompaction(index);
+      }
+      assertMatches(index, truth, random);
+    }
+
+    awaitCompaction(index);
+    assertMatches(index, truth, random);
+  }
+
+  private void assertMatches(PlaceSpatialIndex index, Map<UUID, double[]> truth, Random random) {
+    for (int query = 0; query < QUERIES_PER_ROUND; query++) {
+      double[] center = randomCoordinate(random);
+      double radius = 50 + random.nextDouble() * 20_000;
+      int limit = 1 + random.nextInt(random.nextBoolean() ? 20 : 500);
+
+      List<Neighbor> actual = index.nearest(center[0], center[1], radius, limit);
+      List<Map.Entry<UUID, Double>> expected = bruteForce(truth, center, radius, limit);
+
+      assertThat(actual).extracting(Neighbor::placeId)
+          .as("center=(%f, %f), radius=%f, limit=%d", center[0], center[1], radius, limit)
+          .containsExactlyElementsOf(expected.stream().map(Map.Entry::getKey).toList());
+      for (int i = 0; i < actual.size(); i++) {
+        assertThat(actual.get(i).distanceMeters())
+            .isCloseTo(expected.get(i).getValue(), offset(0.01));
+      }
+    }
+  }
+
+  /**
+   * 전수 탐색 (haversine 거리, 같은 거리는 없다고 가정)
+   */
+  private List<Map.Entry<UUID, Double>> bruteForce(Map<UUID, double[]> truth, double[] center, double radius,
+      int limit) {
+    return truth.entrySet().stream()
+        .map(entry -> Map.entry(entry.getKey(),
+            GeoGridUtil.distanceMeters(center[0], center[1], entry.getValue()[0], entry.getValue()[1])))
+        .filter(entry -> entry.getValue() <= radius)
+        .sorted(Map.Entry.comparingByValue())
+        .limit(limit)
+        .toList();
+  }
+
+  /**
+   * 서울 주변에 밀집 + 일부는 전 세계에 분산
+   */
+  private double[] randomCoordinate(Random random) {
+    if (random.nextInt(10) == 0) {
+      return new double[] {-80 + random.nextDouble() * 160, -180 + random.nextDouble() * 360};
+    }
+    return new double[] {37.4 + random.nextDouble() * 0.3, 126.8 + random.nextDouble() * 0.4};
+  }
+
+  private Place place(UUID id, double[] coordinate) {
+    return Place.builder()
+        .id(id)
+        .name("place-" + id)
+        .latitude(BigDecimal.valueOf(coordinate[0]))
+        .longitude(BigDecimal.valueOf(coordinate[1]))
+        .build();
+  }
+
+  private void awaitCompaction(PlaceSpatialIndex index) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (index.isRebuilding() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(5);
+    }
+    assertThat(index.isRebuilding()).isFalse();
+  }
+}
@@ -0,0 +1,243 @@
+package kr.suhsaechan.mapsy.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import kr.suhsaechan.mapsy.common.util.ProtobufWriter;
+import kr.suhsaechan.mapsy.place.constant.PlaceSavedStatus;
+import kr.suhsaechan.mapsy.place.dto.MemberPlaceMarkerRow;
+import kr.suhsaechan.mapsy.place.repository.MemberPlaceRepository;
+import kr.suhsaechan.mapsy.place.service.MemberPlaceMarkerService;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ProtobufWriter 인코딩 → wire format 디코딩 왕복 검증 (DB 없이 실행)
+ * - 테스트 전용 최소 디코더(WireReader)로 varint/ZigZag/length-delimited 필드를 다시 읽어 원래 값과 비교
+ * - MemberPlaceMarkerService의 Protobuf 응답을 스키마대로 복원하여 조회 결과(Projection)와 비교
+ */
+class ProtobufWriterRoundTripTests {
+
+  @Test
+  void varintAndZigZagRoundTrip() {
+    long[] values = {0, 1, 127, 128, 300, 16_383, 16_384, Integer.MAX_VALUE, 1L << 35, Long.MAX_VALUE, -1, Long.MIN_VALUE};
+    ProtobufWriter writer = new ProtobufWriter(1);
+    for (long value : values) {
+      writer.writeVarint(1, value);
+      writer.writeVarint(2, ProtobufWriter.zigZag(value));
+    }
+
+    WireReader reader = new WireReader(writer.toByteArray());
+    for (long value : values) {
+      assertThat(reader.readTag()).containsExactly(1, 0);
+      assertThat(reader.readVarint()).isEqualTo(value);
+      assertThat(reader.readTag()).containsExactly(2, 0);
+      assertThat(WireReader.unZigZag(reader.readVarint())).isEqualTo(value);
+    }
+    assertThat(reader.hasRemaining()).isFalse();
+    assertThat(writer.size()).isEqualTo(writer.toByteArray().length);
+  }
+
+  @Test
+  void lengthDelimitedAndNestedRoundTrip() {
+    ProtobufWriter packed = new ProtobufWriter(1);
+    long[] packedValues = {0, -1, 1, -64, 64, 1_000_000, -1_000_000};
+    for (long value : packedValues) {
+      packed.writeRawVarint(ProtobufWriter.zigZag(value));
+    }
+    String longText = "긴 문자열 ".repeat(100);
+
+    ProtobufWriter writer = new ProtobufWriter(1);
+    writer.writeString(1, "카페");
+    writer.writeString(2, null);
+    writer.writeString(3, longText);
+    writer.writeMessage(4, packed);
+    writer.writeBytes(5, new byte[] {9, 8, 7, 6}, 2);
+
+    WireReader reader = new WireReader(writer.toByteArray());
+    assertThat(reader.readTag()).containsExactly(1, 2);
+    assertThat(reader.readString()).isEqualTo("카페");
+    assertThat(reader.readTag()).containsExactly(2, 2);
+    assertThat(reader.readString()).isEmpty();
+    assertThat(reader.readTag()).containsExactly(3, 2);
+    assertThat(reader.readString()).isEqualTo(longText);
+    assertThat(reader.readTag()).containsExactly(4, 2);
+    WireReader packedReader = new WireReader(reader.readBytes());
+    for (long value : packedValues) {
+      assertThat(WireReader.unZigZag(packedReader.readVarint())).isEqualTo(value);
+    }
+    assertThat(packedReader.hasRemaining()).isFalse();
+    assertThat(reader.readTag()).containsExactly(5, 2);
+    assertThat(reader.readBytes()).containsExactly(9, 8);
+    assertThat(reader.hasRemaining()).isFalse();
+  }
+
+  @Test
+  void placeMarkersRoundTrip() {
+    Random random = new Random(42);
+    String[] businessTypes = {"카페", "음식점", "베이커리", null, ""};
+    List<MemberPlaceMarkerRow> rows = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      double latitude = random.nextInt(20) == 0 ? -90 + random.nextDouble() * 180 : 37.4 + random.nextDouble() * 0.3;
+      double longitude = random.nextInt(20) == 0 ? -180 + random.nextDouble() * 360 : 126.8 + random.nextDouble() * 0.4;
+      rows.add(new MemberPlaceMarkerRow(
+          new UUID(random.nextLong(), random.nextLong()),
+          random.nextBoolean() ? PlaceSavedStatus.SAVED : PlaceSavedStatus.TEMPORARY,
+          "장소 " + i,
+          BigDecimal.valueOf(latitude).setScale(6, RoundingMode.HALF_UP),
+          BigDecimal.valueOf(longitude).setScale(6, RoundingMode.HALF_UP),
+          businessTypes[random.nextInt(businessTypes.length)]));
+    }
+
+    MemberPlaceRepository memberPlaceRepository = mock(MemberPlaceRepository.class);
+    when(memberPlaceRepository.findMarkerRows(any(), any())).thenReturn(rows);
+    MemberPlaceMarkerService service = new MemberPlaceMarkerService(memberPlaceRepository, new ObjectMapper());
+
+    byte[] body = service.getSerializedMarkers(UUID.randomUUID(), null, true);
+
+    List<MemberPlaceMarkerRow> decoded = decodeMarkers(body);
+    List<MemberPlaceMarkerRow> expected = rows.stream()
+        .map(row -> new MemberPlaceMarkerRow(row.placeId(), row.savedStatus(), row.name(),
+            row.latitude(), row.longitude(),
+            row.businessType() == null || row.businessType().isBlank() ? null : row.businessType()))
+        .toList();
+    assertThat(decoded).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  @Test
+  void emptyPlaceMarkers() {
+    MemberPlaceRepository memberPlaceRepository = mock(MemberPlaceRepository.class);
+    when(memberPlaceRepository.findMarkerRows(any(), any())).thenReturn(List.of());
+    MemberPlaceMarkerService service = new MemberPlaceMarkerService(memberPlaceRepository, new ObjectMapper());
+
+    assertThat(service.getSerializedMarkers(UUID.randomUUID(), null, true)).isEmpty();
+  }
+
+  /**
+   * MemberPlaceMarkerService의 PlaceMarkers 스키마 복원
+   */
+  private List<MemberPlaceMarkerRow> decodeMarkers(byte[] body) {
+    List<String> categories = new ArrayList<>();
+    List<String> names = new ArrayList<>();
+    byte[] placeIds = new byte[0];
+    byte[] latitudeDeltas = new byte[0];
+    byte[] longitudeDeltas = new byte[0];
+    byte[] categoryIndexes = new byte[0];
+    byte[] savedStatuses = new byte[0];
+
+    WireReader reader = new WireReader(body);
+    while (reader.hasRemaining()) {
+      int[] tag = reader.readTag();
+      assertThat(tag[1]).isEqualTo(2);
+      switch (tag[0]) {
+        case 1 -> categories.add(reader.readString());
+        case 2 -> placeIds = reader.readBytes();
+        case 3 -> latitudeDeltas = reader.readBytes();
+        case 4 -> longitudeDeltas = reader.readBytes();
+        case 5 -> categoryIndexes = reader.readBytes();
+        case 6 -> savedStatuses = reader.readBytes();
+        case 7 -> names.add(reader.readString());
+        default -> throw new AssertionError("unknown field " + tag[0]);
+      }
+    }
+
+    int count = placeIds.length / 16;
+    WireReader latitudes = new WireReader(latitudeDeltas);
+    WireReader longitudes = new WireReader(longitudeDeltas);
+    WireReader categoryReader = new WireReader(categoryIndexes);
+    WireReader statusReader = new WireReader(savedStatuses);
+    List<MemberPlaceMarkerRow> markers = new ArrayList<>(count);
+    long latitude = 0;
+    long longitude = 0;
+    for (int i = 0; i < count; i++) {
+      latitude += WireReader.unZigZag(latitudes.readVarint());
+      longitude += WireReader.unZigZag(longitudes.readVarint());
+      int categoryIndex = (int) categoryReader.readVarint();
+      PlaceSavedStatus savedStatus = statusReader.readVarint() == 1 ? PlaceSavedStatus.SAVED : PlaceSavedStatus.TEMPORARY;
+      markers.add(new MemberPlaceMarkerRow(
+          readUuid(placeIds, i * 16),
+          savedStatus,
+          names.get(i),
+          BigDecimal.valueOf(latitude, 6),
+          BigDecimal.valueOf(longitude, 6),
+          categoryIndex == 0 ? null : categories.get(categoryIndex - 1)));
+    }
+    assertThat(names).hasSize(count);
+    assertThat(latitudes.hasRemaining() || longitudes.hasRemaining()
+        || categoryReader.hasRemaining() || statusReader.hasRemaining()).isFalse();
+    return markers;
+  }
+
+  private UUID readUuid(byte[] bytes, int offset) {
+    long high = 0;
+    long low = 0;
+    for (int i = 0; i < 8; i++) {
+      high = (high << 8) | (bytes[offset + i] & 0xFF);
+      low = (low << 8) | (bytes[offset + 8 + i] & 0xFF);
+    }
+    return new UUID(high, low);
+  }
+
+  /**
+   * 테스트 전용 최소 wire format 디코더 (varint, length-delimited)
+   */
+  private static final class WireReader {
+
+    private final byte[] bytes;
+    private int position;
+
+    WireReader(byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    static long unZigZag(long value) {
+      return (value >>> 1) ^ -(value & 1);
+    }
+
+    boolean hasRemaining() {
+      return position < bytes.length;
+    }
+
+    /**
+     * @return [필드 번호, wire type]
+     */
+    int[] readTag() {
+      long tag = readVarint();
+      return new int[] {(int) (tag >>> 3), (int) (tag & 0x7)};
+    }
+
+    long readVarint() {
+      long value = 0;
+      for (int shift = 0; shift < 64; shift += 7) {
+        byte b = bytes[position++];
+        value |= (long) (b & 0x7F) << shift;
+        if ((b & 0x80) == 0) {
+          return value;
+        }
+      }
+      throw new AssertionError("malformed varint");
+    }
+
+    byte[] readBytes() {
+      int length = Math.toIntExact(readVarint());
+      ByteArrayOutputStream out = new ByteArrayOutputStream(length);
+      out.write(bytes, position, length);
+      position += length;
+      return out.toByteArray();
+    }
+
+    String readString() {
+      return new String(readBytes(), StandardCharsets.UTF_8);
+    }
+  }
+}
@@ -0,0 +1,174 @@
+package kr.suhsaechan.mapsy.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import kr.suhsaechan.mapsy.common.constant.ContentStatus;
+import kr.suhsaechan.mapsy.member.entity.Member;
+import kr.suhsaechan.mapsy.member.repository.MemberRepository;
+import kr.suhsaechan.mapsy.place.constant.PlaceSavedStatus;
+import kr.suhsaechan.mapsy.place.entity.MemberPlace;
+import kr.suhsaechan.mapsy.place.entity.Place;
+import kr.suhsaechan.mapsy.place.repository.MemberPlaceRepository;
+import kr.suhsaechan.mapsy.place.repository.PlaceRepository;
+import kr.suhsaechan.mapsy.place.service.MemberPlaceService;
+import kr.suhsaechan.mapsy.place.service.PlaceService;
+import kr.suhsaechan.mapsy.sns.entity.Content;
+import kr.suhsaechan.mapsy.sns.entity.ContentMember;
+import kr.suhsaechan.mapsy.sns.entity.ContentPlace;
+import kr.suhsaechan.mapsy.sns.repository.ContentMemberRepository;
+import kr.suhsaechan.mapsy.sns.repository.ContentPlaceRepository;
+import kr.suhsaechan.mapsy.sns.repository.ContentRepository;
+import kr.suhsaechan.mapsy.sns.service.ContentService;
+import kr.suhsaechan.mapsy.web.support.QueryCountInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 엔드포인트/콜백별 SQL 실행 횟수 회귀 테스트
+ * - 각 테스트는 컨트롤러가 호출하는 서비스 메서드 조합을 그대로 실행하여 SQL 수를 측정
+ * - 허용 SQL 수를 초과하면 실패 (EAGER 연관관계, N+1 재발 방지)
+ * - 테스트 데이터는 트랜잭션 롤백으로 정리
+ * - AI 콜백은 커밋 후 작업까지 집계해야 하므로 AiCallbackQueryCountTests에서 별도 측정
+ */
+@SpringBootTest(properties =
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "kr.suhsaechan.mapsy.web.support.QueryCountInspector")
+@Transactional
+class QueryCountRegressionTests {
+
+  private static final int PLACE_COUNT = 5;
+
+  @Autowired private EntityManager entityManager;
+  @Autowired private MemberRepository memberRepository;
+  @Autowired private ContentRepository contentRepository;
+  @Autowired private ContentMemberRepository contentMemberRepository;
+  @Autowired private ContentPlaceRepository contentPlaceRepository;
+  @Autowired private PlaceRepository placeRepository;
+  @Autowired private MemberPlaceRepository memberPlaceRepository;
+  @Autowired private ContentService contentService;
+  @Autowired private PlaceService placeService;
+  @Autowired private MemberPlaceService memberPlaceService;
+
+  private Member member;
+  private Content content;
+  private List<Place> places;
+
+  @BeforeEach
+  void setUp() {
+    member = memberRepository.save(Member.builder()
+        .email("query-count-" + UUID.randomUUID() + "@mapsy.test")
+        .name("query-count")
+        .build());
+
+    content = contentRepository.save(Content.builder()
+        .originalUrl("https://www.instagram.com/p/" + UUID.randomUUID())
+        .status(ContentStatus.COMPLETED)
+        .build());
+
+    contentMemberRepository.save(ContentMember.builder()
+        .content(content)
+        .member(member)
+        .notified(true)
+        .build());
+
+    places = new ArrayList<>();
+    for (int i = 0; i < PLACE_COUNT; i++) {
+      Place place = placeRepository.save(Place.builder()
+          .name("query-count-place-" + i)
+          .latitude(BigDecimal.valueOf(37.5 + i * 0.001))
+          .longitude(BigDecimal.valueOf(127.0 + i * 0.001))
+          .build());
+      places.add(place);
+
+      contentPlaceRepository.save(ContentPlace.builder()
+          .content(content)
+          .place(place)
+          .position(i)
+          .build());
+
+      memberPlaceRepository.save(MemberPlace.builder()
+          .member(member)
+          .place(place)
+          .savedStatus(i % 2 == 0 ? PlaceSavedStatus.SAVED : PlaceSavedStatus.TEMPORARY)
+          .sourceContentId(content.getId())
+          .build());
+    }
+
+    flushAndClear();
+  }
+
+  @Test
+  void 회원_콘텐츠_목록_조회() {
+    long count = QueryCountInspector.count(
+        () -> contentService.getMemberContentPage(member.getId(), null, 20));
+
+    assertThat(count).isLessThanOrEqualTo(1);
+  }
+
+  @Test
+  void 최근_콘텐츠_조회() {
+    long count = QueryCountInspector.count(
+        () -> contentService.getRecentContents(member.getId()));
+
+    assertThat(count).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void 콘텐츠_저장_장소_조회() {
+    long count = QueryCountInspector.count(
+        () -> contentService.getSavedPlaces(member.getId()));
+
+    assertThat(count).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void 콘텐츠_상세_조회() {
+    long count = QueryCountInspector.count(() -> {
+      contentService.getContentInfoValidator(content.getId());
+      contentService.getContentInfo(content.getId());
+    });
+
+    assertThat(count).isLessThanOrEqualTo(3);
+  }
+
+  @Test
+  void 장소_상세_조회() {
+    UUID placeId = places.get(0).getId();
+
+    long count = QueryCountInspector.count(() -> {
+      placeService.getPlaceDetailValidator(placeId);
+      placeService.getPlaceDetail(placeId);
+    });
+
+    assertThat(count).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void 저장_장소_목록_조회() {
+    long count = QueryCountInspector.count(
+        () -> memberPlaceService.getSavedPlaces(member.getId(), null, 20));
+
+    assertThat(count).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void 임시_저장_장소_목록_조회() {
+    long count = QueryCountInspector.count(
+        () -> memberPlaceService.getTemporaryPlaces(member.getId(), null, 20));
+
+    assertThat(count).isLessThanOrEqualTo(2);
+  }
+
+  private void flushAndClear() {
+    entityManager.flush();
+    entityManager.clear();
+  }
+}
@@ -0,0 +1,46 @@
+package kr.suhsaechan.mapsy.web.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 테스트용 SQL 실행 횟수 측정기
+ * - Hibernate StatementInspector로 등록되어 준비되는 모든 SQL을 현재 스레드 기준으로 집계
+ * - count() 블록 안에서 실행된 SQL만 집계하므로 테스트 데이터 준비 쿼리는 제외됨
+ *
+ * 등록: spring.jpa.properties.hibernate.session_factory.statement_inspector=kr.suhsaechan.mapsy.web.support.QueryCountInspector
+ */
+public class QueryCountInspector implements StatementInspector {
+
+  private static final ThreadLocal<long[]> COUNTER = new ThreadLocal<>();
+
+  @Override
+  public String inspect(String sql) {
+    long[] counter = COUNTER.get();
+    if (counter != null) {
+      counter[0]++;
+    }
+    return sql;
+  }
+
+  /**
+   * 작업 실행 중 발생한 SQL 수 측정
+   *
+   * @param task 측정할 작업
+   * @return 실행된 SQL 수
+   */
+  public static long count(Runnable task) {
+    long[] counter = new long[1];
+    long[] previous = COUNTER.get();
+    COUNTER.set(counter);
+    try {
+      task.run();
+      return counter[0];
+    } finally {
+      if (previous != null) {
+        COUNTER.set(previous);
+      } else {
+        COUNTER.remove();
+      }
+    }
+  }
+}